@@ -22,13 +22,19 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.moeaframework.algorithm.Checkpoints;
 import org.moeaframework.core.Algorithm;
+import org.moeaframework.core.FrameworkException;
 import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.PRNG;
 import org.moeaframework.core.Problem;
 import org.moeaframework.core.TerminationCondition;
 import org.moeaframework.core.spi.AlgorithmFactory;
@@ -89,6 +95,12 @@ import org.moeaframework.util.progress.ProgressListener;
  *       .withCheckpointFile(new File("example.state"))
  *       .run();
  * </pre>
+ * <p>
+ * When running multiple seeds with {@link #runSeeds(int)}, independent seeds
+ * can also run concurrently using {@link #withSeedParallelism(int)}, which is
+ * preferable for problems that are cheap to evaluate.  Each seed uses its own
+ * problem instance and random stream, so the results are identical regardless
+ * of the number of seeds running concurrently.
  */
 public class Executor extends ProblemBuilder {
 	
@@ -107,6 +119,11 @@ public class Executor extends ProblemBuilder {
 	 */
 	private int numberOfThreads;
 	
+	/**
+	 * The number of seeds run concurrently by {@link #runSeeds(int)}.
+	 */
+	private int seedParallelism;
+	
 	/**
 	 * The executor service for distributing jobs; or {@code null} if
 	 * distribution is local.
@@ -165,6 +182,7 @@ public class Executor extends ProblemBuilder {
 		progress = new ProgressHelper(this);
 		properties = new TypedProperties();
 		numberOfThreads = 1;
+		seedParallelism = 1;
 		terminationConditions = new ArrayList<TerminationCondition>();
 	}
 	
@@ -317,6 +335,28 @@ public class Executor extends ProblemBuilder {
 		return distributeOn(Runtime.getRuntime().availableProcessors());
 	}
 	
+	/**
+	 * Enables {@link #runSeeds(int)} to run up to the specified number of
+	 * seeds concurrently.  Unlike {@link #distributeOn(int)}, which only
+	 * distributes the solution evaluations within each seed, this runs
+	 * entire seeds in parallel.  Seeds still run sequentially when using a
+	 * problem instance, an instrumenter, or custom termination conditions,
+	 * since these can not be shared between concurrent seeds.
+	 * 
+	 * @param seedParallelism the number of seeds run concurrently
+	 * @return a reference to this executor
+	 * @throws IllegalArgumentException if {@code seedParallelism <= 0}
+	 */
+	public Executor withSeedParallelism(int seedParallelism) {
+		if (seedParallelism <= 0) {
+			throw new IllegalArgumentException("invalid seed parallelism");
+		}
+		
+		this.seedParallelism = seedParallelism;
+		
+		return this;
+	}
+	
 	/**
 	 * Sets the checkpoint file where the algorithm state is stored.  This
 	 * method must be invoked in order to enable checkpoints.
@@ -698,6 +738,12 @@ public class Executor extends ProblemBuilder {
 	 * returning the individual end-of-run approximation sets.  If the run
 	 * is canceled, the list contains any complete seeds that finished prior
 	 * to cancellation.
+	 * <p>
+	 * Each seed uses its own random stream, split from the current
+	 * {@link PRNG} source by {@link PRNG#split()} before any seed starts.
+	 * Thus, the results depend only on the state of {@code PRNG} when this
+	 * method is called, and are identical regardless of the
+	 * {@link #withSeedParallelism(int) seed parallelism}.
 	 * 
 	 * @param numberOfSeeds the number of seeds to run
 	 * @return the individual end-of-run approximation sets
@@ -713,18 +759,26 @@ public class Executor extends ProblemBuilder {
 		
 		int maxEvaluations = properties.getInt("maxEvaluations", -1);
 		long maxTime = properties.getLong("maxTime", -1);
-		List<NondominatedPopulation> results =
-				new ArrayList<NondominatedPopulation>();
+		Random[] streams = new Random[numberOfSeeds];
+		
+		for (int i = 0; i < numberOfSeeds; i++) {
+			streams[i] = PRNG.split();
+		}
 		
 		progress.start(numberOfSeeds, maxEvaluations, maxTime);
 		
-		for (int i = 0; i < numberOfSeeds && !isCanceled.get(); i++) {
-			NondominatedPopulation result = runSingleSeed(i+1, numberOfSeeds,
-					createTerminationCondition());
+		List<NondominatedPopulation> results = null;
+		
+		if ((seedParallelism > 1) && (numberOfSeeds > 1) &&
+				isSeedParallelismSupported()) {
+			results = runSeedsInParallel(streams);
+		} else {
+			results = new ArrayList<NondominatedPopulation>();
 			
-			results.add(result);
-				
-			progress.nextSeed();
+			for (int i = 0; i < numberOfSeeds && !isCanceled.get(); i++) {
+				results.add(runSeed(i+1, streams));
+				progress.finishSeed(i+1);
+			}
 		}
 		
 		progress.stop();
@@ -732,6 +786,131 @@ public class Executor extends ProblemBuilder {
 		return results;
 	}
 	
+	/**
+	 * Returns {@code true} if seeds can run concurrently with the current
+	 * settings; {@code false} otherwise, in which case a warning is displayed.
+	 * 
+	 * @return {@code true} if seeds can run concurrently with the current
+	 *         settings; {@code false} otherwise
+	 */
+	private boolean isSeedParallelismSupported() {
+		String reason = null;
+		
+		if (problemInstance != null) {
+			reason = "a problem instance";
+		} else if (instrumenter != null) {
+			reason = "an instrumenter";
+		} else if (!terminationConditions.isEmpty()) {
+			reason = "custom termination conditions";
+		}
+		
+		if (reason == null) {
+			return true;
+		} else {
+			System.err.println("seed parallelism not supported when using " +
+					reason + ", running seeds sequentially");
+			return false;
+		}
+	}
+	
+	/**
+	 * Runs the seeds concurrently, using up to {@code seedParallelism}
+	 * threads.  Seeds that are canceled before completing are excluded from
+	 * the results.
+	 * 
+	 * @param streams the random stream for each seed
+	 * @return the end-of-run approximation sets of the completed seeds, in
+	 *         order
+	 */
+	private List<NondominatedPopulation> runSeedsInParallel(
+			final Random[] streams) {
+		ExecutorService executor = Executors.newFixedThreadPool(
+				Math.min(seedParallelism, streams.length));
+		List<Future<NondominatedPopulation>> futures =
+				new ArrayList<Future<NondominatedPopulation>>();
+		List<NondominatedPopulation> results =
+				new ArrayList<NondominatedPopulation>();
+		RuntimeException failure = null;
+		
+		try {
+			for (int i = 0; i < streams.length; i++) {
+				final int seed = i+1;
+				
+				futures.add(executor.submit(
+						new Callable<NondominatedPopulation>() {
+
+					@Override
+					public NondominatedPopulation call() {
+						if (isCanceled.get()) {
+							return null;
+						}
+						
+						NondominatedPopulation result = runSeed(seed, streams);
+						
+						if (result != null) {
+							progress.finishSeed(seed);
+						}
+						
+						return result;
+					}
+					
+				}));
+			}
+			
+			// wait for all seeds, even after a failure, so every problem is
+			// closed before returning
+			for (Future<NondominatedPopulation> future : futures) {
+				try {
+					NondominatedPopulation result = future.get();
+					
+					if (result != null) {
+						results.add(result);
+					}
+				} catch (ExecutionException e) {
+					if (failure == null) {
+						isCanceled.set(true);
+						failure = e.getCause() instanceof RuntimeException ?
+								(RuntimeException)e.getCause() :
+								new FrameworkException(e.getCause());
+					}
+				} catch (InterruptedException e) {
+					isCanceled.set(true);
+					Thread.currentThread().interrupt();
+					break;
+				}
+			}
+		} finally {
+			executor.shutdown();
+		}
+		
+		if (failure != null) {
+			throw failure;
+		}
+		
+		return results;
+	}
+	
+	/**
+	 * Runs a single seed using its own random stream.
+	 * 
+	 * @param seed the current seed being run, such that
+	 *        {@code 1 <= seed <= streams.length}
+	 * @param streams the random stream for each seed
+	 * @return the end-of-run approximation set; or {@code null} if canceled
+	 */
+	private NondominatedPopulation runSeed(int seed, Random[] streams) {
+		Random previousRandom = PRNG.getThreadRandom();
+		
+		try {
+			PRNG.setThreadRandom(streams[seed-1]);
+			
+			return runSingleSeed(seed, streams.length,
+					createTerminationCondition());
+		} finally {
+			PRNG.setThreadRandom(previousRandom);
+		}
+	}
+	
 	/**
 	 * Runs this executor with its configured settings.
 	 * 
@@ -747,7 +926,7 @@ public class Executor extends ProblemBuilder {
 		
 		NondominatedPopulation result = runSingleSeed(1, 1, createTerminationCondition());
 		
-		progress.nextSeed();
+		progress.finishSeed(1);
 		progress.stop();
 		
 		return result;
@@ -825,7 +1004,8 @@ public class Executor extends ProblemBuilder {
 						}
 						
 						algorithm.step();
-						progress.setCurrentNFE(algorithm.getNumberOfEvaluations());
+						progress.setCurrentNFE(seed,
+								algorithm.getNumberOfEvaluations());
 					}
 
 					result.addAll(algorithm.getResult());
@@ -24,9 +24,11 @@ import java.lang.reflect.InvocationTargetException;
 import org.apache.commons.lang3.reflect.ConstructorUtils;
 import org.moeaframework.core.EpsilonBoxDominanceArchive;
 import org.moeaframework.core.FrameworkException;
+import org.moeaframework.core.IndexedNondominatedPopulation;
 import org.moeaframework.core.NondominatedPopulation;
-import org.moeaframework.core.PopulationIO;
 import org.moeaframework.core.Problem;
+import org.moeaframework.core.ReferenceSetCache;
+import org.moeaframework.core.Settings;
 import org.moeaframework.core.comparator.ParetoDominanceComparator;
 import org.moeaframework.core.spi.ProblemFactory;
 
@@ -225,13 +227,20 @@ class ProblemBuilder {
 	/**
 	 * Returns an empty non-dominated population or &epsilon;-box dominance
 	 * archive, depending on whether the {@code epsilon} field is set.  This is
-	 * the archive used to store the reference set.
+	 * the archive used to store the reference set.  The non-dominated
+	 * population is an {@link IndexedNondominatedPopulation} if
+	 * {@link Settings#useIndexedArchive()} is enabled.
 	 * 
 	 * @return an empty non-dominated population or &epsilon;-box dominance
 	 *         archive, depending on whether the {@code epsilon} field is set.
 	 */
 	NondominatedPopulation newArchive() {
 		if (epsilon == null) {
+			if (Settings.useIndexedArchive()) {
+				return new IndexedNondominatedPopulation(
+						new ParetoDominanceComparator());
+			}
+			
 			return new NondominatedPopulation(new ParetoDominanceComparator());
 		} else {
 			return new EpsilonBoxDominanceArchive(epsilon);
@@ -278,8 +287,8 @@ class ProblemBuilder {
 			}
 		} else {
 			try {
-				referenceSet.addAll(PopulationIO.readObjectives(
-						referenceSetFile));
+				referenceSet.addAll(ReferenceSetCache.getReferenceSet(
+						referenceSetFile.getPath(), referenceSetFile));
 			} catch (IOException e) {
 				throw new IllegalArgumentException(
 						"unable to load reference set", e);
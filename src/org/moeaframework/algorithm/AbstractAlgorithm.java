@@ -19,10 +19,14 @@ package org.moeaframework.algorithm;
 
 import java.io.NotSerializableException;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.moeaframework.core.Algorithm;
+import org.moeaframework.core.BatchProblem;
 import org.moeaframework.core.Problem;
+import org.moeaframework.core.Settings;
 import org.moeaframework.core.Solution;
 
 /**
@@ -30,6 +34,8 @@ import org.moeaframework.core.Solution;
  * {@link Algorithm} methods. All method extending this class must use the
  * {@link #evaluate} method to evaluate a solution. This is mandatory to ensure
  * the {@link #getNumberOfEvaluations()} method returns the correct result.
+ * Solutions may also be evaluated together with {@link #evaluateAll}, which
+ * passes them to the problem in batches if it is a {@link BatchProblem}.
  * <p>
  * Subclasses should avoid overriding the {@link #step()} method and instead
  * override the {@link #initialize()} and {@link #iterate()} methods
@@ -71,18 +77,52 @@ public abstract class AbstractAlgorithm implements Algorithm {
 
 	/**
 	 * Evaluates the specified solutions. This method calls
-	 * {@link #evaluate(Solution)} on each of the solutions. Subclasses should
-	 * prefer calling this method over {@code evaluate} whenever possible,
-	 * as this ensures the solutions can be evaluated in parallel.
+	 * {@link #evaluate(Solution)} on each of the solutions, unless the
+	 * problem is a {@link BatchProblem}, in which case the solutions are
+	 * evaluated in batches of at most {@link Settings#getBatchSize()}
+	 * solutions.  Subclasses should prefer calling this method over
+	 * {@code evaluate} whenever possible, as this ensures the solutions can
+	 * be evaluated in parallel or in batches.
 	 * 
 	 * @param solutions the solutions to evaluate
 	 */
 	public void evaluateAll(Iterable<Solution> solutions) {
-		for (Solution solution : solutions) {
-			evaluate(solution);
+		if (problem instanceof BatchProblem) {
+			int batchSize = Settings.getBatchSize();
+			List<Solution> batch = new ArrayList<Solution>();
+			
+			for (Solution solution : solutions) {
+				batch.add(solution);
+				
+				if (batch.size() == batchSize) {
+					evaluateBatch(batch);
+					batch.clear();
+				}
+			}
+			
+			if (!batch.isEmpty()) {
+				evaluateBatch(batch);
+			}
+		} else {
+			for (Solution solution : solutions) {
+				evaluate(solution);
+			}
 		}
 	}
 	
+	/**
+	 * Evaluates the solutions in a single call to
+	 * {@link BatchProblem#evaluateAll(Solution[])}, counting each solution as
+	 * one evaluation.
+	 * 
+	 * @param batch the solutions to evaluate
+	 */
+	private void evaluateBatch(List<Solution> batch) {
+		((BatchProblem)problem).evaluateAll(
+				batch.toArray(new Solution[batch.size()]));
+		numberOfEvaluations += batch.size();
+	}
+	
 	/**
 	 * Evaluates the specified solutions.  This method is equivalent to
 	 * {@code evaluateAll(Arrays.asList(solutions))}.
@@ -22,12 +22,14 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.moeaframework.algorithm.ParallelReproduction.ParentSelector;
 import org.moeaframework.core.EvolutionaryAlgorithm;
 import org.moeaframework.core.Initialization;
 import org.moeaframework.core.NondominatedPopulation;
 import org.moeaframework.core.Population;
 import org.moeaframework.core.Problem;
 import org.moeaframework.core.Solution;
+import org.moeaframework.core.Variation;
 
 /**
  * Abstract class providing default implementations for several
@@ -56,6 +58,12 @@ public abstract class AbstractEvolutionaryAlgorithm extends AbstractAlgorithm
 	 */
 	protected final Initialization initialization;
 
+	/**
+	 * The stage generating offspring in parallel, or {@code null} if
+	 * offspring are generated sequentially.
+	 */
+	private ParallelReproduction parallelReproduction;
+
 	/**
 	 * Constructs an abstract evolutionary algorithm.
 	 * 
@@ -73,6 +81,63 @@ public abstract class AbstractEvolutionaryAlgorithm extends AbstractAlgorithm
 		this.initialization = initialization;
 	}
 
+	/**
+	 * Sets the stage generating offspring in parallel.  Only algorithms
+	 * generating offspring with {@link #reproduce} or otherwise documenting
+	 * support for this stage are affected.  Enabling this stage changes the
+	 * offspring produced from a given seed, but the offspring do not depend
+	 * on the number of threads.  The stage is closed when this algorithm
+	 * terminates, so a stage that created its own pool must not be shared
+	 * with other algorithms.
+	 * 
+	 * @param parallelReproduction the stage generating offspring in
+	 *        parallel, or {@code null} to generate offspring sequentially
+	 */
+	public void setParallelReproduction(
+			ParallelReproduction parallelReproduction) {
+		this.parallelReproduction = parallelReproduction;
+	}
+
+	/**
+	 * Returns the stage generating offspring in parallel.
+	 * 
+	 * @return the stage generating offspring in parallel, or {@code null} if
+	 *         offspring are generated sequentially
+	 */
+	public ParallelReproduction getParallelReproduction() {
+		return parallelReproduction;
+	}
+
+	/**
+	 * Generates at least the given number of offspring by repeatedly
+	 * selecting parents and evolving them.  If a
+	 * {@link #setParallelReproduction parallel reproduction stage} is set,
+	 * the offspring are generated by
+	 * {@link ParallelReproduction#reproduce}.  Otherwise, each slot is
+	 * selected and evolved in turn on the calling thread.
+	 * 
+	 * @param variation the variation operator
+	 * @param selector the selector of the parents of each offspring slot
+	 * @param numberOfOffspring the minimum number of offspring
+	 * @return the offspring, in slot order
+	 */
+	protected Population reproduce(Variation variation,
+			ParentSelector selector, int numberOfOffspring) {
+		if (parallelReproduction != null) {
+			return parallelReproduction.reproduce(variation, selector,
+					numberOfOffspring);
+		}
+
+		Population offspring = new Population();
+		int slot = 0;
+
+		while (offspring.size() < numberOfOffspring) {
+			offspring.addAll(variation.evolve(selector.select(slot++)));
+		}
+
+		return offspring;
+	}
+
 	@Override
 	public NondominatedPopulation getResult() {
 		Population population = getPopulation();
@@ -114,6 +179,15 @@ public abstract class AbstractEvolutionaryAlgorithm extends AbstractAlgorithm
 		return population;
 	}
 
+	@Override
+	public void terminate() {
+		super.terminate();
+
+		if (parallelReproduction != null) {
+			parallelReproduction.close();
+		}
+	}
+
 	@Override
 	public Serializable getState() throws NotSerializableException {
 		if (!isInitialized()) {
@@ -0,0 +1,339 @@
+/* Copyright 2009-2020 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.moeaframework.core.FrameworkException;
+import org.moeaframework.core.Solution;
+import org.moeaframework.util.distributed.DistributedProblem;
+
+/**
+ * Evaluates the offspring of a steady-state algorithm asynchronously.  Rather
+ * than waiting for each offspring to be evaluated before generating the next,
+ * the algorithm submits offspring until {@link #isFull()} and then integrates
+ * whichever offspring finishes evaluation first, as in the master-worker
+ * implementation of the Borg MOEA.  This keeps every worker of a
+ * {@link DistributedProblem} busy even when evaluation times vary.  If the
+ * problem is not distributed, each offspring is evaluated when submitted and
+ * integrated in the order submitted.
+ * <p>
+ * Since offspring are integrated in the order their evaluations complete,
+ * asynchronous runs are not reproducible from the seed alone.  The order
+ * offspring were integrated is therefore recorded by
+ * {@link #getIntegrationOrder()}.  Passing this order to
+ * {@link #setReplayOrder(int[])} on a new run with the same seed, problem,
+ * and maximum number of pending evaluations reproduces the recorded run
+ * exactly, whether or not the problem is distributed.
+ * <p>
+ * Offspring still pending when the algorithm terminates are discarded, but
+ * count towards the number of evaluations.  Pending offspring are also not
+ * included in the algorithm's state.  This class is not thread safe.
+ * 
+ * @param <T> the type of context stored with each offspring
+ */
+public class AsynchronousEvaluator<T> {
+
+	/**
+	 * An offspring submitted for evaluation.
+	 * 
+	 * @param <T> the type of context stored with the offspring
+	 */
+	public static class Offspring<T> {
+
+		/**
+		 * The position of this offspring in the order of submission.
+		 */
+		private final int index;
+
+		/**
+		 * The offspring.
+		 */
+		private final Solution solution;
+
+		/**
+		 * The context provided by the algorithm when submitting this
+		 * offspring.
+		 */
+		private final T context;
+
+		/**
+		 * The future tracking the evaluation of this offspring, or
+		 * {@code null} if the offspring was evaluated when submitted.
+		 */
+		private Future<Solution> future;
+
+		/**
+		 * Constructs a new offspring.
+		 * 
+		 * @param index the position of the offspring in the order of
+		 *        submission
+		 * @param solution the offspring
+		 * @param context the context provided by the algorithm
+		 */
+		Offspring(int index, Solution solution, T context) {
+			super();
+			this.index = index;
+			this.solution = solution;
+			this.context = context;
+		}
+
+		/**
+		 * Returns the position of this offspring in the order of submission,
+		 * starting at {@code 0}.
+		 * 
+		 * @return the position of this offspring in the order of submission
+		 */
+		public int getIndex() {
+			return index;
+		}
+
+		/**
+		 * Returns the offspring.
+		 * 
+		 * @return the offspring
+		 */
+		public Solution getSolution() {
+			return solution;
+		}
+
+		/**
+		 * Returns the context provided by the algorithm when submitting this
+		 * offspring.
+		 * 
+		 * @return the context provided by the algorithm
+		 */
+		public T getContext() {
+			return context;
+		}
+
+	}
+
+	/**
+	 * The algorithm whose offspring are evaluated.
+	 */
+	private final AbstractAlgorithm algorithm;
+
+	/**
+	 * The number of offspring kept in flight.
+	 */
+	private final int maxPendingEvaluations;
+
+	/**
+	 * The futures of the offspring whose evaluation completed.
+	 */
+	private final BlockingQueue<Future<Solution>> completionQueue;
+
+	/**
+	 * The pending offspring by their position in the order of submission.
+	 */
+	private final Map<Integer, Offspring<T>> pending;
+
+	/**
+	 * The pending offspring by the future tracking their evaluation.
+	 */
+	private final Map<Future<Solution>, Offspring<T>> futures;
+
+	/**
+	 * The positions of the integrated offspring in the order of submission,
+	 * listed in the order the offspring were integrated.
+	 */
+	private final List<Integer> integrationOrder;
+
+	/**
+	 * The integration order being replayed, or {@code null} if offspring are
+	 * integrated as their evaluations complete.
+	 */
+	private int[] replayOrder;
+
+	/**
+	 * The number of offspring submitted.
+	 */
+	private int numberOfSubmissions;
+
+	/**
+	 * Constructs a new asynchronous evaluator for the offspring of the given
+	 * algorithm.
+	 * 
+	 * @param algorithm the algorithm whose offspring are evaluated
+	 * @param maxPendingEvaluations the number of offspring kept in flight,
+	 *        typically the number of workers
+	 * @throws IllegalArgumentException if {@code maxPendingEvaluations} is
+	 *         less than {@code 1}
+	 */
+	public AsynchronousEvaluator(AbstractAlgorithm algorithm,
+			int maxPendingEvaluations) {
+		super();
+
+		if (maxPendingEvaluations < 1) {
+			throw new IllegalArgumentException(
+					"maxPendingEvaluations must be at least 1");
+		}
+
+		this.algorithm = algorithm;
+		this.maxPendingEvaluations = maxPendingEvaluations;
+
+		completionQueue = new LinkedBlockingQueue<Future<Solution>>();
+		pending = new LinkedHashMap<Integer, Offspring<T>>();
+		futures = new HashMap<Future<Solution>, Offspring<T>>();
+		integrationOrder = new ArrayList<Integer>();
+	}
+
+	/**
+	 * Returns the number of offspring kept in flight.
+	 * 
+	 * @return the number of offspring kept in flight
+	 */
+	public int getMaxPendingEvaluations() {
+		return maxPendingEvaluations;
+	}
+
+	/**
+	 * Returns the number of offspring submitted but not yet integrated.
+	 * 
+	 * @return the number of offspring submitted but not yet integrated
+	 */
+	public int getNumberOfPendingEvaluations() {
+		return pending.size();
+	}
+
+	/**
+	 * Returns {@code true} if the maximum number of offspring are in flight
+	 * and the algorithm should integrate an offspring before submitting more;
+	 * {@code false} otherwise.  Algorithms producing several offspring at once
+	 * may exceed the maximum by submitting all of them.
+	 * 
+	 * @return {@code true} if the maximum number of offspring are in flight;
+	 *         {@code false} otherwise
+	 */
+	public boolean isFull() {
+		return pending.size() >= maxPendingEvaluations;
+	}
+
+	/**
+	 * Starts evaluating the offspring.  The evaluation is counted towards the
+	 * algorithm's number of evaluations.
+	 * 
+	 * @param solution the offspring
+	 * @param context the context returned with the offspring by
+	 *        {@link #next()}, such as the subproblem that produced the
+	 *        offspring
+	 */
+	public void submit(Solution solution, T context) {
+		Offspring<T> offspring = new Offspring<T>(numberOfSubmissions++,
+				solution, context);
+
+		if (algorithm.problem instanceof DistributedProblem) {
+			offspring.future = ((DistributedProblem)algorithm.problem).evaluate(
+					solution, completionQueue);
+			futures.put(offspring.future, offspring);
+		} else {
+			algorithm.problem.evaluate(solution);
+		}
+
+		algorithm.numberOfEvaluations++;
+		pending.put(offspring.getIndex(), offspring);
+	}
+
+	/**
+	 * Returns the next offspring to integrate, waiting until the evaluation
+	 * of any pending offspring completes.  If replaying a recorded run, the
+	 * offspring is instead chosen by the replayed integration order.
+	 * 
+	 * @return the next offspring to integrate
+	 * @throws IllegalStateException if no offspring are pending
+	 * @throws FrameworkException if the replayed integration order does not
+	 *         match this run or the thread was interrupted while waiting
+	 */
+	public Offspring<T> next() {
+		if (pending.isEmpty()) {
+			throw new IllegalStateException("no pending evaluations");
+		}
+
+		Offspring<T> offspring = null;
+		int position = integrationOrder.size();
+
+		if ((replayOrder != null) && (position < replayOrder.length)) {
+			offspring = pending.remove(replayOrder[position]);
+
+			if (offspring == null) {
+				throw new FrameworkException("offspring " +
+						replayOrder[position] + " is not pending, replay " +
+						"requires the same seed and settings");
+			}
+
+			// the stale completion is skipped when it reaches the queue
+			futures.remove(offspring.future);
+		} else if (!(algorithm.problem instanceof DistributedProblem)) {
+			Iterator<Offspring<T>> iterator = pending.values().iterator();
+			offspring = iterator.next();
+			iterator.remove();
+		} else {
+			try {
+				while (offspring == null) {
+					offspring = futures.remove(completionQueue.take());
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new FrameworkException(e);
+			}
+
+			pending.remove(offspring.getIndex());
+		}
+
+		integrationOrder.add(offspring.getIndex());
+		return offspring;
+	}
+
+	/**
+	 * Returns the positions of the integrated offspring in the order of
+	 * submission, listed in the order the offspring were integrated.
+	 * 
+	 * @return the order the offspring were integrated
+	 */
+	public int[] getIntegrationOrder() {
+		int[] result = new int[integrationOrder.size()];
+
+		for (int i = 0; i < result.length; i++) {
+			result[i] = integrationOrder.get(i);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Replays a recorded integration order, as returned by
+	 * {@link #getIntegrationOrder()}.  Once the recorded order is exhausted,
+	 * offspring are again integrated as their evaluations complete.
+	 * 
+	 * @param replayOrder the recorded integration order, or {@code null} to
+	 *        integrate offspring as their evaluations complete
+	 */
+	public void setReplayOrder(int[] replayOrder) {
+		this.replayOrder = replayOrder == null ? null : replayOrder.clone();
+	}
+
+}
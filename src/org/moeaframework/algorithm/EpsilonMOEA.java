@@ -39,6 +39,10 @@ import org.moeaframework.core.comparator.ParetoDominanceComparator;
  * evolved per step, and uses an &epsilon;-dominance archive to maintain a
  * well-spread set of Pareto-optimal solutions.
  * <p>
+ * Being steady-state, the &epsilon;-MOEA can also keep several offspring in
+ * flight and integrate each as its evaluation completes.  See
+ * {@link #setMaxPendingEvaluations(int)}.
+ * <p>
  * References:
  * <ol>
  *   <li>Deb et al. "A Fast Multi-Objective Evolutionary Algorithm for Finding
@@ -63,6 +67,12 @@ public class EpsilonMOEA extends AbstractEvolutionaryAlgorithm implements
 	 */
 	private final Variation variation;
 
+	/**
+	 * The asynchronous evaluator, or {@code null} if each offspring is
+	 * evaluated before generating the next.
+	 */
+	private AsynchronousEvaluator<Void> asynchronousEvaluator;
+
 	/**
 	 * Constructs the &epsilon;-MOEA algorithm with the specified components.
 	 * 
@@ -102,8 +112,68 @@ public class EpsilonMOEA extends AbstractEvolutionaryAlgorithm implements
 		this.dominanceComparator = dominanceComparator;
 	}
 
+	/**
+	 * Sets the number of offspring kept in flight by evaluating them
+	 * asynchronously with an {@link AsynchronousEvaluator}, which is most
+	 * useful when the problem is a {@code DistributedProblem}.  A value of
+	 * {@code 0}, the default, evaluates each offspring before generating the
+	 * next.
+	 * 
+	 * @param maxPendingEvaluations the number of offspring kept in flight, or
+	 *        {@code 0} to evaluate each offspring before generating the next
+	 * @throws AlgorithmInitializationException if the algorithm has already
+	 *         been initialized
+	 */
+	public void setMaxPendingEvaluations(int maxPendingEvaluations) {
+		if (isInitialized()) {
+			throw new AlgorithmInitializationException(this, 
+					"algorithm already initialized");
+		}
+
+		if (maxPendingEvaluations > 0) {
+			asynchronousEvaluator = new AsynchronousEvaluator<Void>(this,
+					maxPendingEvaluations);
+		} else {
+			asynchronousEvaluator = null;
+		}
+	}
+
+	/**
+	 * Returns the asynchronous evaluator, which records the order offspring
+	 * are integrated and can replay a recorded order.
+	 * 
+	 * @return the asynchronous evaluator, or {@code null} if each offspring
+	 *         is evaluated before generating the next
+	 */
+	public AsynchronousEvaluator<?> getAsynchronousEvaluator() {
+		return asynchronousEvaluator;
+	}
+
 	@Override
 	public void iterate() {
+		if (asynchronousEvaluator == null) {
+			for (Solution child : generateOffspring()) {
+				evaluate(child);
+				integrate(child);
+			}
+		} else {
+			while (!asynchronousEvaluator.isFull()) {
+				for (Solution child : generateOffspring()) {
+					asynchronousEvaluator.submit(child, null);
+				}
+			}
+
+			integrate(asynchronousEvaluator.next().getSolution());
+		}
+	}
+
+	/**
+	 * Selects parents from the population and archive and returns the
+	 * offspring produced by the variation operator.
+	 * 
+	 * @return the offspring
+	 */
+	private Solution[] generateOffspring() {
 		Solution[] parents = null;
 		
 		if (archive.size() <= 1) {
@@ -116,13 +186,17 @@ public class EpsilonMOEA extends AbstractEvolutionaryAlgorithm implements
 		
 		PRNG.shuffle(parents);
 
-		Solution[] children = variation.evolve(parents);
+		return variation.evolve(parents);
+	}
 
-		for (Solution child : children) {
-			evaluate(child);
-			addToPopulation(child);
-			archive.add(child);
-		}
+	/**
+	 * Adds the evaluated offspring to the population and archive.
+	 * 
+	 * @param child the evaluated offspring
+	 */
+	private void integrate(Solution child) {
+		addToPopulation(child);
+		archive.add(child);
 	}
 
 	/**
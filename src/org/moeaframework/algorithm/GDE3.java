@@ -80,13 +80,32 @@ public class GDE3 extends AbstractEvolutionaryAlgorithm {
 		Population children = new Population();
 		int populationSize = population.size();
 
+		ParallelReproduction parallelReproduction = getParallelReproduction();
+
 		//generate children
-		for (int i = 0; i < populationSize; i++) {
-			selection.setCurrentIndex(i);
+		if (parallelReproduction == null) {
+			for (int i = 0; i < populationSize; i++) {
+				selection.setCurrentIndex(i);
+
+				Solution[] parents = selection.select(variation.getArity(),
+						population);
+				children.add(variation.evolve(parents)[0]);
+			}
+		} else {
+			//select all parents before evolving them in parallel
+			Solution[][] parents = new Solution[populationSize][];
 
-			Solution[] parents = selection.select(variation.getArity(),
-					population);
-			children.add(variation.evolve(parents)[0]);
+			for (int i = 0; i < populationSize; i++) {
+				selection.setCurrentIndex(i);
+				parents[i] = selection.select(variation.getArity(), population);
+			}
+
+			Solution[][] evolved = parallelReproduction.evolve(variation,
+					parents);
+
+			for (int i = 0; i < populationSize; i++) {
+				children.add(evolved[i][0]);
+			}
 		}
 		
 		//evaluate children
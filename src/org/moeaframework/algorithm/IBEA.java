@@ -17,6 +17,7 @@
  */
 package org.moeaframework.algorithm;
 
+import org.moeaframework.algorithm.ParallelReproduction.ParentSelector;
 import org.moeaframework.core.Initialization;
 import org.moeaframework.core.NondominatedPopulation;
 import org.moeaframework.core.Population;
@@ -96,16 +97,17 @@ public class IBEA extends AbstractEvolutionaryAlgorithm {
 
 	@Override
 	protected void iterate() {
-		Population offspring = new Population();
 		int populationSize = population.size();
-		
-		while (offspring.size() < populationSize) {
-			Solution[] parents = selection.select(variation.getArity(),
-					population);
-			Solution[] children = variation.evolve(parents);
+		ParentSelector selector = new ParentSelector() {
 
-			offspring.addAll(children);
-		}
+			@Override
+			public Solution[] select(int slot) {
+				return selection.select(variation.getArity(), population);
+			}
+
+		};
+
+		Population offspring = reproduce(variation, selector, populationSize);
 		
 		evaluateAll(offspring);
 		population.addAll(offspring);
@@ -44,6 +44,10 @@ import org.moeaframework.util.weights.WeightGenerator;
  * specification from [1] as well as the utility-based search extension from
  * [2].
  * <p>
+ * Since each offspring only updates the neighborhood of its subproblem,
+ * MOEA/D can also keep several offspring in flight and integrate each as its
+ * evaluation completes.  See {@link #setMaxPendingEvaluations(int)}.
+ * <p>
  * References:
  * <ol>
  * <li>Li, H. and Zhang, Q. "Multiobjective Optimization problems with
@@ -280,6 +284,12 @@ public class MOEAD extends AbstractAlgorithm {
 	 * The current generation number.
 	 */
 	private int generation;
+
+	/**
+	 * The asynchronous evaluator, or {@code null} if each offspring is
+	 * evaluated before generating the next.
+	 */
+	private AsynchronousEvaluator<List<Integer>> asynchronousEvaluator;
 	
 	/**
 	 * Constructs the MOEA/D algorithm with the specified components.  This
@@ -389,6 +399,43 @@ public class MOEAD extends AbstractAlgorithm {
 				variation, delta, eta, -1);
 	}
 
+	/**
+	 * Sets the number of offspring kept in flight by evaluating them
+	 * asynchronously with an {@link AsynchronousEvaluator}, which is most
+	 * useful when the problem is a {@code DistributedProblem}.  A value of
+	 * {@code 0}, the default, evaluates each offspring before generating the
+	 * next.
+	 * 
+	 * @param maxPendingEvaluations the number of offspring kept in flight, or
+	 *        {@code 0} to evaluate each offspring before generating the next
+	 * @throws AlgorithmInitializationException if the algorithm has already
+	 *         been initialized
+	 */
+	public void setMaxPendingEvaluations(int maxPendingEvaluations) {
+		if (isInitialized()) {
+			throw new AlgorithmInitializationException(this, 
+					"algorithm already initialized");
+		}
+
+		if (maxPendingEvaluations > 0) {
+			asynchronousEvaluator = new AsynchronousEvaluator<List<Integer>>(this,
+					maxPendingEvaluations);
+		} else {
+			asynchronousEvaluator = null;
+		}
+	}
+
+	/**
+	 * Returns the asynchronous evaluator, which records the order offspring
+	 * are integrated and can replay a recorded order.
+	 * 
+	 * @return the asynchronous evaluator, or {@code null} if each offspring
+	 *         is evaluated before generating the next
+	 */
+	public AsynchronousEvaluator<?> getAsynchronousEvaluator() {
+		return asynchronousEvaluator;
+	}
+
 	@Override
 	public void initialize() {
 		super.initialize();
@@ -671,6 +718,16 @@ public class MOEAD extends AbstractAlgorithm {
 		for (Integer index : indices) {
 			List<Integer> matingIndices = getMatingIndices(index);
 
+			if (asynchronousEvaluator != null) {
+				while (asynchronousEvaluator.isFull()) {
+					AsynchronousEvaluator.Offspring<List<Integer>> offspring =
+							asynchronousEvaluator.next();
+					updateIdealPoint(offspring.getSolution());
+					updateSolution(offspring.getSolution(),
+							offspring.getContext());
+				}
+			}
+
 			Solution[] parents = new Solution[variation.getArity()];
 			parents[0] = population.get(index).getSolution();
 			
@@ -695,9 +752,13 @@ public class MOEAD extends AbstractAlgorithm {
 			Solution[] offspring = variation.evolve(parents);
 
 			for (Solution child : offspring) {
-				evaluate(child);
-				updateIdealPoint(child);
-				updateSolution(child, matingIndices);
+				if (asynchronousEvaluator == null) {
+					evaluate(child);
+					updateIdealPoint(child);
+					updateSolution(child, matingIndices);
+				} else {
+					asynchronousEvaluator.submit(child, matingIndices);
+				}
 			}
 		}
 
@@ -357,7 +357,7 @@ public class MSOPSRankedPopulation extends Population {
 		});
 		
 		for (int i = 0; i < P; i++) {
-			get(indices[i]).setAttribute(RANK_ATTRIBUTE, i);
+			get(indices[i]).setIntAttribute(RANK_ATTRIBUTE, i);
 		}
 	}
 
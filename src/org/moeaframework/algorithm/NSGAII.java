@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 
+import org.moeaframework.algorithm.ParallelReproduction.ParentSelector;
 import org.moeaframework.core.EpsilonBoxDominanceArchive;
 import org.moeaframework.core.EpsilonBoxEvolutionaryAlgorithm;
 import org.moeaframework.core.Initialization;
@@ -88,56 +89,30 @@ public class NSGAII extends AbstractEvolutionaryAlgorithm implements
 	public void iterate() {
 		NondominatedSortingPopulation population = getPopulation();
 		EpsilonBoxDominanceArchive archive = getArchive();
-		Population offspring = new Population();
 		int populationSize = population.size();
+		ParentSelector selector = null;
 
 		if (selection == null) {
 			// recreate the original NSGA-II implementation using binary
 			// tournament selection without replacement; this version works by
 			// maintaining a pool of candidate parents.
-			LinkedList<Solution> pool = new LinkedList<Solution>();
-			
-			DominanceComparator comparator = new ChainedComparator(
-					new ParetoDominanceComparator(),
-					new CrowdingComparator());
-			
-			while (offspring.size() < populationSize) {
-				// ensure the pool has enough solutions
-				while (pool.size() < 2*variation.getArity()) {
-					List<Solution> poolAdditions = new ArrayList<Solution>();
-					
-					for (Solution solution : population) {
-						poolAdditions.add(solution);
-					}
-					
-					PRNG.shuffle(poolAdditions);
-					pool.addAll(poolAdditions);
-				}
-				
-				// select the parents using a binary tournament
-				Solution[] parents = new Solution[variation.getArity()];
-				
-				for (int i = 0; i < parents.length; i++) {
-					parents[i] = TournamentSelection.binaryTournament(
-							pool.removeFirst(),
-							pool.removeFirst(),
-							comparator);
-				}
-				
-				// evolve the children
-				offspring.addAll(variation.evolve(parents));
-			}
+			selector = new TournamentPool(population);
 		} else {
 			// run NSGA-II using selection with replacement; this version allows
 			// using custom selection operators
-			while (offspring.size() < populationSize) {
-				Solution[] parents = selection.select(variation.getArity(),
-						population);
+			selector = new ParentSelector() {
 
-				offspring.addAll(variation.evolve(parents));
-			}
+				@Override
+				public Solution[] select(int slot) {
+					return selection.select(variation.getArity(), population);
+				}
+
+			};
 		}
 
+		// evolve the children
+		Population offspring = reproduce(variation, selector, populationSize);
+
 		evaluateAll(offspring);
 
 		if (archive != null) {
@@ -158,4 +133,72 @@ public class NSGAII extends AbstractEvolutionaryAlgorithm implements
 		return (NondominatedSortingPopulation)super.getPopulation();
 	}
 
+	/**
+	 * Selects parents using binary tournament selection without replacement,
+	 * replicating the behavior of the original NSGA-II implementation.  The
+	 * tournaments draw from a pool of candidate parents, which is refilled
+	 * with a shuffled copy of the population whenever it runs low.
+	 */
+	private class TournamentPool implements ParentSelector {
+
+		/**
+		 * The population.
+		 */
+		private final Population population;
+
+		/**
+		 * The candidate parents.
+		 */
+		private final LinkedList<Solution> pool;
+
+		/**
+		 * The comparator used by the tournaments.
+		 */
+		private final DominanceComparator comparator;
+
+		/**
+		 * Constructs a new, empty pool of candidate parents drawn from the
+		 * given population.
+		 * 
+		 * @param population the population
+		 */
+		public TournamentPool(Population population) {
+			super();
+			this.population = population;
+
+			pool = new LinkedList<Solution>();
+			comparator = new ChainedComparator(
+					new ParetoDominanceComparator(),
+					new CrowdingComparator());
+		}
+
+		@Override
+		public Solution[] select(int slot) {
+			// ensure the pool has enough solutions
+			while (pool.size() < 2*variation.getArity()) {
+				List<Solution> poolAdditions = new ArrayList<Solution>();
+				
+				for (Solution solution : population) {
+					poolAdditions.add(solution);
+				}
+				
+				PRNG.shuffle(poolAdditions);
+				pool.addAll(poolAdditions);
+			}
+			
+			// select the parents using a binary tournament
+			Solution[] parents = new Solution[variation.getArity()];
+			
+			for (int i = 0; i < parents.length; i++) {
+				parents[i] = TournamentSelection.binaryTournament(
+						pool.removeFirst(),
+						pool.removeFirst(),
+						comparator);
+			}
+			
+			return parents;
+		}
+
+	}
+
 }
@@ -110,16 +110,16 @@ public class PAES extends AbstractEvolutionaryAlgorithm {
 	 */
 	public Solution test(Solution parent, Solution offspring) {
 		AdaptiveGridArchive archive = getArchive();
-		int parentIndex = archive.findIndex(parent);
-		int offspringIndex = archive.findIndex(offspring);
+		int parentDensity = archive.getDensity(parent);
+		int offspringDensity = archive.getDensity(offspring);
 		
-		if (parentIndex == -1) {
+		if (parentDensity == -1) {
 			// the parent is no longer in the archive
 			return offspring;
-		} else if (offspringIndex == -1) {
+		} else if (offspringDensity == -1) {
 			// the offspring is no longer in the archive
 			return parent;
-		} else if (archive.getDensity(parentIndex) > archive.getDensity(offspringIndex)) {
+		} else if (parentDensity > offspringDensity) {
 			// the offspring is in a less dense region
 			return offspring;
 		} else {
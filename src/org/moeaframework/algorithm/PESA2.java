@@ -19,11 +19,9 @@ package org.moeaframework.algorithm;
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.NoSuchElementException;
 
 import org.apache.commons.math3.util.ArithmeticUtils;
 import org.moeaframework.core.AdaptiveGridArchive;
@@ -66,6 +64,17 @@ public class PESA2 extends AbstractEvolutionaryAlgorithm {
 	 * This enables PESA2's region-based selection.
 	 */
 	protected Map<Integer, List<Solution>> gridMap;
+	
+	/**
+	 * The grid map whose entries are stored in {@link #gridEntries}.
+	 */
+	private Map<Integer, List<Solution>> entriesMap;
+	
+	/**
+	 * The entries of the grid map, in iteration order, so region-based
+	 * selection can draw an entry without iterating over the map.
+	 */
+	private List<Entry<Integer, List<Solution>>> gridEntries;
 
 	/**
 	 * Constructs a new PESA2 instance.
@@ -117,7 +126,9 @@ public class PESA2 extends AbstractEvolutionaryAlgorithm {
 	/**
 	 * Returns a mapping from grid index to the solutions occupying that grid
 	 * index.  The key is the grid index, and the value is the list of solutions
-	 * occupying that index.
+	 * occupying that index.  If the grid has too many cells to be indexed by
+	 * an {@code int}, the key is instead the position of the grid cell in
+	 * {@link AdaptiveGridArchive#getOccupiedCells()}.
 	 * 
 	 * @return a mapping from grid index to the solutions occupying that grid
 	 *         index
@@ -126,6 +137,14 @@ public class PESA2 extends AbstractEvolutionaryAlgorithm {
 		AdaptiveGridArchive archive = getArchive();
 		Map<Integer, List<Solution>> result = new HashMap<Integer, List<Solution>>();
 		
+		if (!archive.isIndexable()) {
+			for (List<Solution> solutions : archive.getOccupiedCells()) {
+				result.put(result.size(), solutions);
+			}
+			
+			return result;
+		}
+		
 		for (Solution solution : archive) {
 			int index = archive.findIndex(solution);
 			List<Solution> solutions = result.get(index);
@@ -173,20 +192,14 @@ public class PESA2 extends AbstractEvolutionaryAlgorithm {
 		 * @return the randomly selected map entry
 		 */
 		protected Entry<Integer, List<Solution>> draw() {
-			int index = PRNG.nextInt(gridMap.size());
-			Iterator<Entry<Integer, List<Solution>>> iterator = gridMap.entrySet().iterator();
-			
-			while (iterator.hasNext()) {
-				Entry<Integer, List<Solution>> entry = iterator.next();
-				
-				if (index == 0) {
-					return entry;
-				} else {
-					index--;
-				}
+			// cache the entries until the grid map is replaced
+			if (entriesMap != gridMap) {
+				gridEntries = new ArrayList<Entry<Integer, List<Solution>>>(
+						gridMap.entrySet());
+				entriesMap = gridMap;
 			}
 			
-			throw new NoSuchElementException();
+			return gridEntries.get(PRNG.nextInt(gridEntries.size()));
 		}
 		
 		/**
@@ -195,15 +208,17 @@ public class PESA2 extends AbstractEvolutionaryAlgorithm {
 		 * @return the selected solution
 		 */
 		protected Solution select() {
-			AdaptiveGridArchive archive = getArchive();
 			Entry<Integer, List<Solution>> entry1 = draw();
 			Entry<Integer, List<Solution>> entry2 = draw();
 			Entry<Integer, List<Solution>> selection = entry1;
 			
 			// pick the grid index with smaller density
 			if (entry1 != entry2) {
-				if ((archive.getDensity(entry2.getKey()) < archive.getDensity(entry1.getKey())) ||
-						(archive.getDensity(entry2.getKey()) == archive.getDensity(entry1.getKey()) && PRNG.nextBoolean())) {	
+				int density1 = entry1.getValue().size();
+				int density2 = entry2.getValue().size();
+				
+				if ((density2 < density1) ||
+						(density2 == density1 && PRNG.nextBoolean())) {
 					selection = entry2;
 				}
 			}
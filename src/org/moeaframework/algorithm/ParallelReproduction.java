@@ -0,0 +1,304 @@
+/* Copyright 2009-2020 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm;
+
+import java.io.Closeable;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Population;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.Variation;
+
+/**
+ * Generates offspring in parallel using a fork-join pool.  Each call to
+ * {@link Variation#evolve(Solution[])} fills one offspring slot.  The parents
+ * of every slot are selected on the calling thread, in slot order, and each
+ * slot is given its own source of randomness split from {@link PRNG} by
+ * {@link PRNG#split()}.  The slots are then evolved in parallel, with each
+ * slot drawing only from its own stream.  Since neither the parents nor the
+ * streams depend on which thread evolves a slot, the offspring are identical
+ * regardless of the number of threads.  They do, however, differ from the
+ * offspring generated without this class, which interleaves selection and
+ * variation on a single stream.
+ * <p>
+ * The variation operator is invoked concurrently, so it must not modify any
+ * shared state.  The operators provided by this framework, other than the
+ * adaptive operators, satisfy this requirement.
+ * <p>
+ * A pool created by this class is shut down by {@link #close()}, which
+ * {@link AbstractEvolutionaryAlgorithm} invokes when the algorithm
+ * terminates.  Pools supplied by the caller are never shut down.
+ */
+public class ParallelReproduction implements Closeable {
+
+	/**
+	 * Selects the parents of each offspring slot.
+	 */
+	public static interface ParentSelector {
+
+		/**
+		 * Returns the parents of the given offspring slot.  This method is
+		 * called on the thread generating the offspring, once per slot and in
+		 * increasing slot order.
+		 * 
+		 * @param slot the index of the offspring slot
+		 * @return the parents of the offspring slot
+		 */
+		public Solution[] select(int slot);
+
+	}
+
+	/**
+	 * The pool evolving the offspring slots.
+	 */
+	private final ForkJoinPool pool;
+
+	/**
+	 * {@code true} if the pool was created by this class and is shut down
+	 * when closed; {@code false} otherwise.
+	 */
+	private final boolean isPoolOwner;
+
+	/**
+	 * Constructs a new parallel reproduction stage using the common
+	 * fork-join pool.
+	 */
+	public ParallelReproduction() {
+		this(ForkJoinPool.commonPool(), false);
+	}
+
+	/**
+	 * Constructs a new parallel reproduction stage using a new fork-join pool
+	 * with the given number of threads.  The pool is shut down when this
+	 * stage is closed.
+	 * 
+	 * @param parallelism the number of threads
+	 * @throws IllegalArgumentException if {@code parallelism} is less than
+	 *         {@code 1}
+	 */
+	public ParallelReproduction(int parallelism) {
+		this(new ForkJoinPool(parallelism), true);
+	}
+
+	/**
+	 * Constructs a new parallel reproduction stage using the given fork-join
+	 * pool.  The pool is not shut down when this stage is closed.
+	 * 
+	 * @param pool the pool evolving the offspring slots
+	 */
+	public ParallelReproduction(ForkJoinPool pool) {
+		this(pool, false);
+	}
+
+	/**
+	 * Constructs a new parallel reproduction stage using the given fork-join
+	 * pool.
+	 * 
+	 * @param pool the pool evolving the offspring slots
+	 * @param isPoolOwner {@code true} if the pool is shut down when this
+	 *        stage is closed; {@code false} otherwise
+	 */
+	private ParallelReproduction(ForkJoinPool pool, boolean isPoolOwner) {
+		super();
+		this.pool = pool;
+		this.isPoolOwner = isPoolOwner;
+	}
+
+	/**
+	 * Returns the pool evolving the offspring slots.
+	 * 
+	 * @return the pool evolving the offspring slots
+	 */
+	public ForkJoinPool getPool() {
+		return pool;
+	}
+
+	/**
+	 * Shuts down the pool if it was created by this stage, allowing its
+	 * threads to exit.  No offspring can be generated afterwards.  Pools
+	 * supplied by the caller are left running.
+	 */
+	@Override
+	public void close() {
+		if (isPoolOwner) {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Evolves the given parents, one slot per array of parents.  The streams
+	 * of the slots are split from {@link PRNG} in slot order before any slot
+	 * is evolved.
+	 * 
+	 * @param variation the variation operator
+	 * @param parents the parents of each offspring slot
+	 * @return the offspring of each slot, in the same order as the parents
+	 */
+	public Solution[][] evolve(Variation variation, Solution[][] parents) {
+		Random[] streams = new Random[parents.length];
+		Solution[][] offspring = new Solution[parents.length][];
+
+		for (int i = 0; i < parents.length; i++) {
+			streams[i] = PRNG.split();
+		}
+
+		if (parents.length > 0) {
+			pool.invoke(new EvolveTask(variation, parents, streams, offspring,
+					0, parents.length));
+		}
+
+		return offspring;
+	}
+
+	/**
+	 * Generates at least the given number of offspring, matching the loop
+	 * <pre>
+	 *   while (offspring.size() &lt; numberOfOffspring) {
+	 *     offspring.addAll(variation.evolve(selector.select(slot++)));
+	 *   }
+	 * </pre>
+	 * except that the slots are evolved in parallel.  As the number of
+	 * offspring produced by each slot is not known in advance, the slots are
+	 * generated in rounds.  The first round contains a single slot, and each
+	 * subsequent round contains enough slots to produce the remaining
+	 * offspring assuming each slot produces as many offspring as the first.
+	 * 
+	 * @param variation the variation operator
+	 * @param selector the selector of the parents of each offspring slot
+	 * @param numberOfOffspring the minimum number of offspring
+	 * @return the offspring, in slot order
+	 */
+	public Population reproduce(Variation variation, ParentSelector selector,
+			int numberOfOffspring) {
+		Population result = new Population();
+		int slot = 0;
+		int offspringPerSlot = 0;
+
+		while (result.size() < numberOfOffspring) {
+			int remaining = numberOfOffspring - result.size();
+			int slots = offspringPerSlot == 0 ? 1 :
+					(remaining + offspringPerSlot - 1) / offspringPerSlot;
+			Solution[][] parents = new Solution[slots][];
+
+			for (int i = 0; i < slots; i++) {
+				parents[i] = selector.select(slot++);
+			}
+
+			Solution[][] offspring = evolve(variation, parents);
+
+			for (int i = 0; i < slots; i++) {
+				result.addAll(offspring[i]);
+			}
+
+			if (offspringPerSlot == 0) {
+				offspringPerSlot = Math.max(1, offspring[0].length);
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Fork-join task evolving a range of offspring slots, recursively
+	 * splitting the range until it contains a single slot.
+	 */
+	private static class EvolveTask extends RecursiveAction {
+
+		private static final long serialVersionUID = -5281539380658004361L;
+
+		/**
+		 * The variation operator.
+		 */
+		private final Variation variation;
+
+		/**
+		 * The parents of each offspring slot.
+		 */
+		private final Solution[][] parents;
+
+		/**
+		 * The source of randomness of each offspring slot.
+		 */
+		private final Random[] streams;
+
+		/**
+		 * The offspring of each slot, filled in by this task.
+		 */
+		private final Solution[][] offspring;
+
+		/**
+		 * The first slot, inclusive.
+		 */
+		private final int from;
+
+		/**
+		 * The last slot, exclusive.
+		 */
+		private final int to;
+
+		/**
+		 * Constructs a new task evolving a range of offspring slots.
+		 * 
+		 * @param variation the variation operator
+		 * @param parents the parents of each offspring slot
+		 * @param streams the source of randomness of each offspring slot
+		 * @param offspring the offspring of each slot, filled in by this task
+		 * @param from the first slot, inclusive
+		 * @param to the last slot, exclusive
+		 */
+		public EvolveTask(Variation variation, Solution[][] parents,
+				Random[] streams, Solution[][] offspring, int from, int to) {
+			super();
+			this.variation = variation;
+			this.parents = parents;
+			this.streams = streams;
+			this.offspring = offspring;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= 1) {
+				// the task may run on the calling thread, so restore its source
+				Random previous = PRNG.getThreadRandom();
+
+				try {
+					for (int i = from; i < to; i++) {
+						PRNG.setThreadRandom(streams[i]);
+						offspring[i] = variation.evolve(parents[i]);
+					}
+				} finally {
+					PRNG.setThreadRandom(previous);
+				}
+			} else {
+				int mid = (from + to) >>> 1;
+
+				invokeAll(new EvolveTask(variation, parents, streams,
+								offspring, from, mid),
+						new EvolveTask(variation, parents, streams,
+								offspring, mid, to));
+			}
+		}
+
+	}
+
+}
@@ -598,11 +598,11 @@ public class ReferencePointNondominatedSortingPopulation extends NondominatedSor
 			// remove all solutions past the last front
 			sort(new RankComparator());
 
-			int maxRank = (Integer)super.get(size-1).getAttribute(RANK_ATTRIBUTE);
+			int maxRank = super.get(size-1).getIntAttribute(RANK_ATTRIBUTE);
 			Population front = new Population();
 
 			for (int i = 0; i < size(); i++) {
-				int rank = (Integer)get(i).getAttribute(RANK_ATTRIBUTE);
+				int rank = get(i).getIntAttribute(RANK_ATTRIBUTE);
 				
 				if (rank > maxRank) {
 					front.add(get(i));
@@ -625,7 +625,7 @@ public class ReferencePointNondominatedSortingPopulation extends NondominatedSor
 			front = new Population();
 
 			for (int i = 0; i < size(); i++) {
-				int rank = (Integer)get(i).getAttribute(RANK_ATTRIBUTE);
+				int rank = get(i).getIntAttribute(RANK_ATTRIBUTE);
 
 				if (rank == maxRank) {
 					front.add(get(i));
@@ -20,9 +20,11 @@ package org.moeaframework.algorithm;
 import java.io.Serializable;
 import java.util.Comparator;
 
-import org.moeaframework.core.FastNondominatedSorting;
 import org.moeaframework.core.FitnessEvaluator;
+import org.moeaframework.core.IncrementalNondominatedSorting;
 import org.moeaframework.core.Initialization;
+import org.moeaframework.core.NondominatedSorting;
+import org.moeaframework.core.NondominatedSortingPopulation;
 import org.moeaframework.core.Population;
 import org.moeaframework.core.Problem;
 import org.moeaframework.core.Selection;
@@ -38,6 +40,14 @@ import org.moeaframework.core.operator.TournamentSelection;
  * Implementation of the S-metric Selection MOEA (SMS-MOEA).  The S metric is
  * also known as the hypervolume indicator.
  * <p>
+ * Since each iteration inserts and removes a single solution, the population
+ * uses {@link IncrementalNondominatedSorting} to update the ranks of only the
+ * affected fronts.
+ * <p>
+ * Being steady-state, the SMS-EMOA can also keep several offspring in flight
+ * and integrate each as its evaluation completes.  See
+ * {@link #setMaxPendingEvaluations(int)}.
+ * <p>
  * References:
  * <ol>
  *   <li>Emmerich, M., N. Beume, and B. Naujoks (2007).  An EMO Algorithm Using
@@ -62,6 +72,12 @@ public class SMSEMOA extends AbstractEvolutionaryAlgorithm {
 	 */
 	private Variation variation;
 
+	/**
+	 * The asynchronous evaluator, or {@code null} if each offspring is
+	 * evaluated before generating the next.
+	 */
+	private AsynchronousEvaluator<Void> asynchronousEvaluator;
+
 	/**
 	 * Constructs a new SMS-EMOA instance.
 	 * 
@@ -73,7 +89,8 @@ public class SMSEMOA extends AbstractEvolutionaryAlgorithm {
 	public SMSEMOA(Problem problem, Initialization initialization,
 			Variation variation, FitnessEvaluator fitnessEvaluator) {
 		super(problem,
-				new Population(),
+				new NondominatedSortingPopulation(
+						new IncrementalNondominatedSorting()),
 				null,
 				initialization);
 		this.variation = variation;
@@ -88,13 +105,48 @@ public class SMSEMOA extends AbstractEvolutionaryAlgorithm {
 		}
 	}
 
+	/**
+	 * Sets the number of offspring kept in flight by evaluating them
+	 * asynchronously with an {@link AsynchronousEvaluator}, which is most
+	 * useful when the problem is a {@code DistributedProblem}.  A value of
+	 * {@code 0}, the default, evaluates each offspring before generating the
+	 * next.
+	 * 
+	 * @param maxPendingEvaluations the number of offspring kept in flight, or
+	 *        {@code 0} to evaluate each offspring before generating the next
+	 * @throws AlgorithmInitializationException if the algorithm has already
+	 *         been initialized
+	 */
+	public void setMaxPendingEvaluations(int maxPendingEvaluations) {
+		if (isInitialized()) {
+			throw new AlgorithmInitializationException(this, 
+					"algorithm already initialized");
+		}
+
+		if (maxPendingEvaluations > 0) {
+			asynchronousEvaluator = new AsynchronousEvaluator<Void>(this,
+					maxPendingEvaluations);
+		} else {
+			asynchronousEvaluator = null;
+		}
+	}
+
+	/**
+	 * Returns the asynchronous evaluator, which records the order offspring
+	 * are integrated and can replay a recorded order.
+	 * 
+	 * @return the asynchronous evaluator, or {@code null} if each offspring
+	 *         is evaluated before generating the next
+	 */
+	public AsynchronousEvaluator<?> getAsynchronousEvaluator() {
+		return asynchronousEvaluator;
+	}
+
 	@Override
 	protected void initialize() {
+		// the population ranks the solutions as they are added
 		super.initialize();
 		
-		// rank the solutions
-		new FastNondominatedSorting().evaluate(population);
-		
 		if (fitnessEvaluator != null) {
 			fitnessEvaluator.evaluate(population);
 		}
@@ -102,15 +154,41 @@ public class SMSEMOA extends AbstractEvolutionaryAlgorithm {
 
 	@Override
 	protected void iterate() {
-		int populationSize = population.size();
+		if (asynchronousEvaluator == null) {
+			Solution offspring = generateOffspring();
+			evaluate(offspring);
+			integrate(offspring);
+		} else {
+			while (!asynchronousEvaluator.isFull()) {
+				asynchronousEvaluator.submit(generateOffspring(), null);
+			}
+			
+			integrate(asynchronousEvaluator.next().getSolution());
+		}
+	}
+	
+	/**
+	 * Selects parents from the population and returns the first offspring
+	 * produced by the variation operator.
+	 * 
+	 * @return the offspring
+	 */
+	private Solution generateOffspring() {
 		Solution[] parents = selection.select(variation.getArity(), population);
-		Solution[] offspring = variation.evolve(parents);
-		
-		evaluate(offspring[0]);
-		population.add(offspring[0]);
+		return variation.evolve(parents)[0];
+	}
+	
+	/**
+	 * Adds the evaluated offspring to the population and removes the worst
+	 * solution.
+	 * 
+	 * @param offspring the evaluated offspring
+	 */
+	private void integrate(Solution offspring) {
+		int populationSize = population.size();
 		
-		// rank the solutions and remove the worst
-		new FastNondominatedSorting().evaluate(population);
+		// adding the offspring updates the ranks, then remove the worst
+		population.add(offspring);
 		
 		if (fitnessEvaluator == null) {
 			population.truncate(populationSize, 
@@ -131,8 +209,8 @@ public class SMSEMOA extends AbstractEvolutionaryAlgorithm {
 		int rank = 0;
 		
 		for (Solution solution : population) {
-			int solutionRank = (Integer)solution.getAttribute(
-					FastNondominatedSorting.RANK_ATTRIBUTE);
+			int solutionRank = solution.getIntAttribute(
+					NondominatedSorting.RANK_ATTRIBUTE);
 			
 			if (solutionRank > rank) {
 				front.clear();
@@ -143,7 +221,8 @@ public class SMSEMOA extends AbstractEvolutionaryAlgorithm {
 				front.add(solution);
 			}
 			
-			solution.setAttribute(FitnessEvaluator.FITNESS_ATTRIBUTE, 0.0);
+			solution.setDoubleAttribute(FitnessEvaluator.FITNESS_ATTRIBUTE,
+					0.0);
 		}
 		
 		fitnessEvaluator.evaluate(front);
@@ -26,6 +26,7 @@ import java.util.ListIterator;
 
 import org.apache.commons.math3.util.KthSelector;
 import org.apache.commons.math3.util.Pair;
+import org.moeaframework.algorithm.ParallelReproduction.ParentSelector;
 import org.moeaframework.core.FitnessEvaluator;
 import org.moeaframework.core.Initialization;
 import org.moeaframework.core.Population;
@@ -119,16 +120,18 @@ public class SPEA2 extends AbstractEvolutionaryAlgorithm {
 	@Override
 	protected void iterate() {
 		// mating and selection to generate offspring
-		Population offspring = new Population();
 		int populationSize = population.size();
+		ParentSelector selector = new ParentSelector() {
 
-		while (offspring.size() < numberOfOffspring) {
-			Solution[] parents = selection.select(variation.getArity(),
-					population);
-			Solution[] children = variation.evolve(parents);
+			@Override
+			public Solution[] select(int slot) {
+				return selection.select(variation.getArity(), population);
+			}
 
-			offspring.addAll(children);
-		}
+		};
+
+		Population offspring = reproduce(variation, selector,
+				numberOfOffspring);
 
 		// evaluate the offspring
 		evaluateAll(offspring);
@@ -157,7 +160,7 @@ public class SPEA2 extends AbstractEvolutionaryAlgorithm {
 		
 		while (iterator.hasNext()) {
 			Solution solution = iterator.next();
-			double fitness = (Double)solution.getAttribute(
+			double fitness = solution.getDoubleAttribute(
 					FitnessEvaluator.FITNESS_ATTRIBUTE);
 			
 			if (fitness < 1.0) {
@@ -404,7 +407,8 @@ public class SPEA2 extends AbstractEvolutionaryAlgorithm {
 			
 			// assign fitness attribute to solutions
 			for (int i = 0; i < population.size(); i++) {
-				population.get(i).setAttribute(FITNESS_ATTRIBUTE, fitness[i]);
+				population.get(i).setDoubleAttribute(FITNESS_ATTRIBUTE,
+						fitness[i]);
 			}
 		}
 
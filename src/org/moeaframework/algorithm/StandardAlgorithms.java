@@ -36,6 +36,7 @@ import org.moeaframework.core.Algorithm;
 import org.moeaframework.core.EpsilonBoxDominanceArchive;
 import org.moeaframework.core.FitnessEvaluator;
 import org.moeaframework.core.FrameworkException;
+import org.moeaframework.core.IndexedNondominatedPopulation;
 import org.moeaframework.core.Initialization;
 import org.moeaframework.core.NondominatedPopulation;
 import org.moeaframework.core.NondominatedSortingPopulation;
@@ -43,6 +44,7 @@ import org.moeaframework.core.PRNG;
 import org.moeaframework.core.Population;
 import org.moeaframework.core.Problem;
 import org.moeaframework.core.Selection;
+import org.moeaframework.core.Settings;
 import org.moeaframework.core.Solution;
 import org.moeaframework.core.Variable;
 import org.moeaframework.core.Variation;
@@ -91,7 +93,8 @@ import org.moeaframework.util.weights.RandomGenerator;
  *     <td>CMA-ES</td>
  *     <td>Real</td>
  *     <td>{@code lambda, cc, cs, damps, ccov, ccovsep, sigma,
- *         diagonalIterations, indicator, initialSearchPoint}</td>
+ *         diagonalIterations, indicator, initialSearchPoint,
+ *         indexedArchive}</td>
  *   </tr>
  *   <tr>
  *     <td>DBEA</td>
@@ -105,7 +108,8 @@ import org.moeaframework.util.weights.RandomGenerator;
  *     <td>eMOEA</td>
  *     <td>Any</td>
  *     <td>{@code populationSize, epsilon, sbx.rate,
- *         sbx.distributionIndex, pm.rate, pm.distributionIndex}</td>
+ *         sbx.distributionIndex, pm.rate, pm.distributionIndex,
+ *         maxPendingEvaluations}</td>
  *   </tr>
  *   <tr>
  *     <td>eNSGAII</td>
@@ -113,25 +117,26 @@ import org.moeaframework.util.weights.RandomGenerator;
  *     <td>{@code populationSize, epsilon, sbx.rate,
  *         sbx.distributionIndex, pm.rate, pm.distributionIndex, 
  *         injectionRate, windowSize, maxWindowSize, minimumPopulationSize,
- *         maximumPopulationSize}</td>
+ *         maximumPopulationSize, reproductionThreads}</td>
  *   </tr>
  *   <tr>
  *     <td>GDE3</td>
  *     <td>Real</td>
- *     <td>{@code populationSize, de.crossoverRate, de.stepSize}</td>
+ *     <td>{@code populationSize, de.crossoverRate, de.stepSize,
+ *         reproductionThreads}</td>
  *   </tr>
  *   <tr>
  *     <td>IBEA</td>
  *     <td>Any</td>
  *     <td>{@code populationSize, sbx.rate, sbx.distributionIndex, pm.rate,
- *         pm.distributionIndex, indicator}</td>
+ *         pm.distributionIndex, indicator, reproductionThreads}</td>
  *   </tr>
  *   <tr>
  *     <td>MOEAD</td>
  *     <td>Real</td>
  *     <td>{@code populationSize, de.crossoverRate, de.stepSize, pm.rate,
  *         pm.distributionIndex, neighborhoodSize, delta, eta, 
- *         updateUtility}</td>
+ *         updateUtility, maxPendingEvaluations}</td>
  *   </tr>
  *   <tr>
  *     <td>MSOPS</td>
@@ -143,13 +148,15 @@ import org.moeaframework.util.weights.RandomGenerator;
  *     <td>NSGAII</td>
  *     <td>Any</td>
  *     <td>{@code populationSize, sbx.rate, sbx.distributionIndex,
- *         pm.rate, pm.distributionIndex, withReplacement}</td>
+ *         pm.rate, pm.distributionIndex, withReplacement,
+ *         reproductionThreads}</td>
  *   </tr>
  *   <tr>
  *     <td>NSGAIII</td>
  *     <td>Any</td>
  *     <td>{@code populationSize, divisions, sbx.rate, sbx.distributionIndex,
- *         pm.rate, pm.distributionIndex} (for the two-layer approach, replace
+ *         pm.rate, pm.distributionIndex, reproductionThreads} (for the
+ *         two-layer approach, replace
  *         {@code divisions} by {@code divisionsOuter} and
  *         {@code divisionsInner})</td>
  *   </tr>
@@ -173,7 +180,7 @@ import org.moeaframework.util.weights.RandomGenerator;
  *   <tr>
  *     <td>Random</td>
  *     <td>Any</td>
- *     <td>{@code populationSize, epsilon}</td>
+ *     <td>{@code populationSize, epsilon, indexedArchive}</td>
  *   </tr>
  *   <tr>
  *     <td>RVEA</td>
@@ -194,13 +201,14 @@ import org.moeaframework.util.weights.RandomGenerator;
  *     <td>SMS-EMOA</td>
  *     <td>Any</td>
  *     <td>{@code populationSize, offset, sbx.rate, sbx.distributionIndex,
- *         pm.rate, pm.distributionIndex}</td>
+ *         pm.rate, pm.distributionIndex, maxPendingEvaluations}</td>
  *   </tr>
  *   <tr>
  *     <td>SPEA2</td>
  *     <td>Any</td>
  *     <td>{@code populationSize, offspringSize, k, sbx.rate,
- *         sbx.distributionIndex, pm.rate, pm.distributionIndex}</td>
+ *         sbx.distributionIndex, pm.rate, pm.distributionIndex,
+ *         reproductionThreads}</td>
  *   </tr>
  *   <tr>
  *     <td>VEGA</td>
@@ -244,6 +252,20 @@ import org.moeaframework.util.weights.RandomGenerator;
  * the result.  For example, you can create the algorithm {@code RSO(GA)} to
  * run the single-objective genetic algorithm ({@code GA}) multiple times.  The
  * {@code instances} property controls the number of repeated runs.
+ * <p>
+ * The steady-state algorithms {@code eMOEA}, {@code MOEAD}, and
+ * {@code SMS-EMOA} support the {@code maxPendingEvaluations} property, which
+ * keeps the given number of offspring in flight and integrates each as its
+ * evaluation completes.  This is intended for distributed evaluations, where
+ * it is typically set to the number of workers.  See
+ * {@link AsynchronousEvaluator}.
+ * <p>
+ * The generational algorithms {@code eNSGAII}, {@code GDE3}, {@code IBEA},
+ * {@code NSGAII}, {@code NSGAIII}, and {@code SPEA2} support the
+ * {@code reproductionThreads} property, which generates the offspring of
+ * each generation in parallel using the given number of threads.  The
+ * results are reproducible for any number of threads, but differ from the
+ * results when this property is not set.  See {@link ParallelReproduction}.
  */
 public class StandardAlgorithms extends AlgorithmProvider {
 
@@ -352,6 +374,24 @@ public class StandardAlgorithms extends AlgorithmProvider {
 		
 		return true;
 	}
+	
+	/**
+	 * Returns a new unbounded non-dominated archive.  If the
+	 * {@code indexedArchive} property is {@code true}, defaulting to
+	 * {@link Settings#useIndexedArchive()}, the archive is an
+	 * {@link IndexedNondominatedPopulation}.
+	 * 
+	 * @param properties the properties for customizing the archive
+	 * @return a new unbounded non-dominated archive
+	 */
+	private NondominatedPopulation newArchive(TypedProperties properties) {
+		if (properties.getBoolean("indexedArchive",
+				Settings.useIndexedArchive())) {
+			return new IndexedNondominatedPopulation();
+		} else {
+			return new NondominatedPopulation();
+		}
+	}
 
 	/**
 	 * Returns a new {@link eMOEA} instance.
@@ -383,6 +423,9 @@ public class StandardAlgorithms extends AlgorithmProvider {
 
 		EpsilonMOEA emoea = new EpsilonMOEA(problem, population, archive,
 				selection, variation, initialization, comparator);
+		
+		emoea.setMaxPendingEvaluations(
+				(int)properties.getDouble("maxPendingEvaluations", 0));
 
 		return emoea;
 	}
@@ -415,8 +458,12 @@ public class StandardAlgorithms extends AlgorithmProvider {
 		Variation variation = OperatorFactory.getInstance().getVariation(null, 
 				properties, problem);
 
-		return new NSGAII(problem, population, null, selection, variation,
-				initialization);
+		NSGAII algorithm = new NSGAII(problem, population, null, selection,
+				variation, initialization);
+
+		setParallelReproduction(algorithm, properties);
+
+		return algorithm;
 	}
 	
 	/**
@@ -533,8 +580,12 @@ public class StandardAlgorithms extends AlgorithmProvider {
 		Variation variation = OperatorFactory.getInstance().getVariation(null, 
 				properties, problem);
 
-		return new NSGAII(problem, population, null, selection, variation,
-				initialization);
+		NSGAII algorithm = new NSGAII(problem, population, null, selection,
+				variation, initialization);
+
+		setParallelReproduction(algorithm, properties);
+
+		return algorithm;
 	}
 
 	/**
@@ -594,6 +645,9 @@ public class StandardAlgorithms extends AlgorithmProvider {
 				properties.getDouble("delta", 0.9),
 				eta,
 				(int)properties.getDouble("updateUtility", -1));
+		
+		algorithm.setMaxPendingEvaluations(
+				(int)properties.getDouble("maxPendingEvaluations", 0));
 
 		return algorithm;
 	}
@@ -628,8 +682,12 @@ public class StandardAlgorithms extends AlgorithmProvider {
 		DifferentialEvolutionVariation variation = (DifferentialEvolutionVariation)OperatorFactory
 				.getInstance().getVariation("de", properties, problem);
 
-		return new GDE3(problem, population, comparator, selection, variation,
-				initialization);
+		GDE3 algorithm = new GDE3(problem, population, comparator, selection,
+				variation, initialization);
+
+		setParallelReproduction(algorithm, properties);
+
+		return algorithm;
 	}
 
 	/**
@@ -665,6 +723,8 @@ public class StandardAlgorithms extends AlgorithmProvider {
 		NSGAII nsgaii = new NSGAII(problem, population, archive, selection,
 				variation, initialization);
 
+		setParallelReproduction(nsgaii, properties);
+
 		AdaptiveTimeContinuation algorithm = new AdaptiveTimeContinuation(
 				nsgaii,
 				properties.getInt("windowSize", 100),
@@ -706,7 +766,7 @@ public class StandardAlgorithms extends AlgorithmProvider {
 		FitnessEvaluator fitnessEvaluator = null;
 		
 		if (problem.getNumberOfObjectives() == 1) {
-			archive = new NondominatedPopulation();
+			archive = newArchive(properties);
 		} else {
 			archive = new EpsilonBoxDominanceArchive(
 					properties.getDoubleArray("epsilon", 
@@ -745,7 +805,12 @@ public class StandardAlgorithms extends AlgorithmProvider {
 		Variation variation = OperatorFactory.getInstance().getVariation(null, 
 				properties, problem);
 
-		return new SPEA2(problem, initialization, variation, offspringSize, k);
+		SPEA2 algorithm = new SPEA2(problem, initialization, variation,
+				offspringSize, k);
+
+		setParallelReproduction(algorithm, properties);
+
+		return algorithm;
 	}
 	
 	/**
@@ -876,8 +941,30 @@ public class StandardAlgorithms extends AlgorithmProvider {
 					indicator);
 		}
 
-		return new IBEA(problem, null, initialization, variation,
+		IBEA algorithm = new IBEA(problem, null, initialization, variation,
 				fitnessEvaluator);
+
+		setParallelReproduction(algorithm, properties);
+
+		return algorithm;
+	}
+
+	/**
+	 * Generates the offspring of the given algorithm in parallel if the
+	 * {@code reproductionThreads} property is set.
+	 * 
+	 * @param algorithm the algorithm
+	 * @param properties the properties for customizing the algorithm
+	 */
+	private void setParallelReproduction(
+			AbstractEvolutionaryAlgorithm algorithm,
+			TypedProperties properties) {
+		int threads = (int)properties.getDouble("reproductionThreads", 0);
+
+		if (threads > 0) {
+			algorithm.setParallelReproduction(new ParallelReproduction(
+					threads));
+		}
 	}
 	
 	/**
@@ -905,8 +992,13 @@ public class StandardAlgorithms extends AlgorithmProvider {
 					problem, offset);
 		}
 
-		return new SMSEMOA(problem, initialization, variation,
+		SMSEMOA algorithm = new SMSEMOA(problem, initialization, variation,
 				fitnessEvaluator);
+		
+		algorithm.setMaxPendingEvaluations(
+				(int)properties.getDouble("maxPendingEvaluations", 0));
+
+		return algorithm;
 	}
 	
 	/**
@@ -1095,7 +1187,7 @@ public class StandardAlgorithms extends AlgorithmProvider {
 					properties.getDoubleArray("epsilon", new double[] {
 							EpsilonHelper.getEpsilon(problem) }));
 		} else {
-			archive = new NondominatedPopulation();
+			archive = newArchive(properties);
 		}
 		
 		return new RandomSearch(problem, generator, archive);
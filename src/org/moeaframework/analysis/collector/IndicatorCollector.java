@@ -20,9 +20,15 @@ package org.moeaframework.analysis.collector;
 import org.moeaframework.core.Algorithm;
 import org.moeaframework.core.EpsilonBoxDominanceArchive;
 import org.moeaframework.core.Indicator;
+import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.indicator.IncrementalIndicator;
 
 /**
- * Collects performance indicator values from an {@link Algorithm}.
+ * Collects performance indicator values from an {@link Algorithm}.  The
+ * indicator is tracked with an {@link IncrementalIndicator}, so samples where
+ * the result of the algorithm has not changed require no computation, and
+ * the inverted generational distance is updated by deltas when only a few
+ * solutions changed.
  */
 public class IndicatorCollector implements Collector {
 
@@ -43,6 +49,12 @@ public class IndicatorCollector implements Collector {
 	 */
 	private final EpsilonBoxDominanceArchive archive;
 	
+	/**
+	 * The incremental tracker of the performance indicator; or {@code null}
+	 * if this collector has not yet been attached.
+	 */
+	private final IncrementalIndicator tracker;
+	
 	/**
 	 * Constructs an unattached collector for recording performance indicator
 	 * values from an algorithm.
@@ -84,20 +96,26 @@ public class IndicatorCollector implements Collector {
 		this.indicator = indicator;
 		this.archive = archive;
 		this.algorithm = algorithm;
+		
+		tracker = algorithm == null ? null : IncrementalIndicator.of(indicator);
 	}
 
 	@Override
 	public void collect(Accumulator accumulator) {
+		NondominatedPopulation result = algorithm.getResult();
+		double value;
+		
+		// the tracker returns the previous value if the solutions are the same
 		if (archive == null) {
-			accumulator.add(indicator.getClass().getSimpleName(),
-					indicator.evaluate(algorithm.getResult()));
+			value = tracker.evaluate(result);
 		} else {
 			archive.clear();
-			archive.addAll(algorithm.getResult());
+			archive.addAll(result);
 			
-			accumulator.add(indicator.getClass().getSimpleName(),
-					indicator.evaluate(archive));
+			value = tracker.evaluate(archive);
 		}
+		
+		accumulator.add(indicator.getClass().getSimpleName(), value);
 	}
 
 	@Override
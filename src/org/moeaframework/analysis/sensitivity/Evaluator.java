@@ -29,8 +29,8 @@ import org.moeaframework.core.Algorithm;
 import org.moeaframework.core.FrameworkException;
 import org.moeaframework.core.NondominatedPopulation;
 import org.moeaframework.core.PRNG;
-import org.moeaframework.core.PopulationIO;
 import org.moeaframework.core.Problem;
+import org.moeaframework.core.ReferenceSetCache;
 import org.moeaframework.core.indicator.QualityIndicator;
 import org.moeaframework.core.spi.AlgorithmFactory;
 import org.moeaframework.core.spi.ProblemFactory;
@@ -227,10 +227,10 @@ public class Evaluator extends CommandLineUtility {
 
 						// load reference set and create the quality indicator
 						if (commandLine.hasOption("reference")) {
-							referenceSet = new NondominatedPopulation(
-									PopulationIO.readObjectives(new File(
-											commandLine.getOptionValue(
-													"reference"))));
+							String fileName = commandLine.getOptionValue(
+									"reference");
+							referenceSet = ReferenceSetCache.getReferenceSet(
+									fileName, new File(fileName));
 						} else {
 							referenceSet = ProblemFactory.getInstance()
 									.getReferenceSet(commandLine.getOptionValue(
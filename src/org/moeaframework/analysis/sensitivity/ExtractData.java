@@ -29,8 +29,8 @@ import org.apache.commons.cli.Options;
 import org.moeaframework.core.FrameworkException;
 import org.moeaframework.core.Indicator;
 import org.moeaframework.core.NondominatedPopulation;
-import org.moeaframework.core.PopulationIO;
 import org.moeaframework.core.Problem;
+import org.moeaframework.core.ReferenceSetCache;
 import org.moeaframework.core.indicator.AdditiveEpsilonIndicator;
 import org.moeaframework.core.indicator.Contribution;
 import org.moeaframework.core.indicator.GenerationalDistance;
@@ -295,9 +295,9 @@ public class ExtractData extends CommandLineUtility {
 		//load the reference set
 		if (referenceSet == null) {
 			if (commandLine.hasOption("reference")) {
-				referenceSet = new NondominatedPopulation(
-						PopulationIO.readObjectives(new File(
-								commandLine.getOptionValue("reference"))));
+				String fileName = commandLine.getOptionValue("reference");
+				referenceSet = ReferenceSetCache.getReferenceSet(fileName,
+						new File(fileName));
 			} else {
 				referenceSet = ProblemFactory.getInstance().getReferenceSet(
 						commandLine.getOptionValue("problem"));
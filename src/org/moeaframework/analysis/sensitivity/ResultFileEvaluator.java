@@ -25,8 +25,8 @@ import org.apache.commons.cli.OptionGroup;
 import org.apache.commons.cli.Options;
 import org.moeaframework.core.FrameworkException;
 import org.moeaframework.core.NondominatedPopulation;
-import org.moeaframework.core.PopulationIO;
 import org.moeaframework.core.Problem;
+import org.moeaframework.core.ReferenceSetCache;
 import org.moeaframework.core.Solution;
 import org.moeaframework.core.indicator.QualityIndicator;
 import org.moeaframework.core.spi.ProblemFactory;
@@ -156,9 +156,9 @@ public class ResultFileEvaluator extends CommandLineUtility {
 
 		// load reference set and create the quality indicator
 		if (commandLine.hasOption("reference")) {
-			referenceSet = new NondominatedPopulation(PopulationIO
-					.readObjectives(new File(commandLine
-							.getOptionValue("reference"))));
+			String fileName = commandLine.getOptionValue("reference");
+			referenceSet = ReferenceSetCache.getReferenceSet(fileName,
+					new File(fileName));
 		} else {
 			referenceSet = ProblemFactory.getInstance().getReferenceSet(
 					commandLine.getOptionValue("problem"));
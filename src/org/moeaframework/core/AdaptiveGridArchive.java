@@ -17,8 +17,14 @@
  */
 package org.moeaframework.core;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.math3.exception.MathArithmeticException;
 import org.apache.commons.math3.util.ArithmeticUtils;
@@ -30,10 +36,13 @@ import org.moeaframework.core.comparator.ParetoDominanceComparator;
  * the size of the archive exceeds a specified capacity, a solution from the
  * most crowded grid cell is selected and removed from the archive.
  * <p>
- * This implementation currently stores the density of each grid cell in an
- * array.  As such, {@code pow(numberOfDivisions, numberOfObjectives)} can not
- * exceed the storage capacity of an array, or {@code pow(2, 32)}.  We may
- * consider at some point using sparse arrays to remove this limitation.
+ * The grid is sparse; only the cells containing at least one solution are
+ * stored, in a hash map keyed by the cell's coordinates.  The cell containing
+ * each solution is computed once, when the grid is adapted or the solution is
+ * added, and the occupied cells are kept in a max-heap ordered by density.
+ * Consequently, the number of divisions and objectives are not limited by the
+ * size of an array, and finding the densest cell does not require scanning
+ * the archive.
  * <p>
  * References:
  * <ol>
@@ -73,9 +82,38 @@ public class AdaptiveGridArchive extends NondominatedPopulation {
 	protected double[] maximum;
 
 	/**
-	 * The number of solutions in each grid cell.
+	 * {@code true} if the grid cells can be numbered by an {@code int}, as
+	 * required by {@link #findIndex(Solution)}; {@code false} otherwise.
 	 */
-	protected int[] density;
+	private final boolean indexable;
+
+	/**
+	 * The members of this archive, in the same order as the solutions.
+	 */
+	private final List<Member> members;
+
+	/**
+	 * The occupied grid cells, keyed by their coordinates.
+	 */
+	private final Map<Cell, Cell> cells;
+
+	/**
+	 * The occupied grid cells, stored as a max-heap ordered by density.
+	 */
+	private final List<Cell> heap;
+
+	/**
+	 * The sequence number assigned to the next member.  Sequence numbers
+	 * increase in the same order as the solutions in this archive.
+	 */
+	private long nextSequence;
+
+	/**
+	 * {@code true} if a solution on the lower or upper bounds was removed
+	 * since the grid was last adapted, in which case the bounds may be larger
+	 * than necessary; {@code false} otherwise.
+	 */
+	private boolean staleBounds;
 
 	/**
 	 * Constructs an adaptive grid archive with the specified capacity with the
@@ -85,9 +123,6 @@ public class AdaptiveGridArchive extends NondominatedPopulation {
 	 * @param problem the problem for which this archive is used
 	 * @param numberOfDivisions the number of divisions this archive uses to
 	 *        split each objective
-	 * @throws FrameworkException if
-	 *         {@code pow(numberOfDivisions, numberOfObjectives)} exceeds the
-	 *         storage capacity of an array
 	 */
 	public AdaptiveGridArchive(int capacity, Problem problem,
 			int numberOfDivisions) {
@@ -99,17 +134,22 @@ public class AdaptiveGridArchive extends NondominatedPopulation {
 
 		minimum = new double[problem.getNumberOfObjectives()];
 		maximum = new double[problem.getNumberOfObjectives()];
+		members = new ArrayList<Member>();
+		cells = new HashMap<Cell, Cell>();
+		heap = new ArrayList<Cell>();
 		
-		// guard against integer overflow
+		// check if the cells can be numbered without integer overflow
+		boolean indexable = true;
+
 		try {
-			density = new int[ArithmeticUtils.pow(
-					numberOfDivisions,
-					problem.getNumberOfObjectives())];
+			ArithmeticUtils.pow(numberOfDivisions,
+					problem.getNumberOfObjectives());
 		} catch (MathArithmeticException e) {
-			throw new FrameworkException("number of divisions (bisections) " +
-					"too large for adaptive grid archive", e);
+			indexable = false;
 		}
 
+		this.indexable = indexable;
+
 		adaptGrid();
 	}
 
@@ -132,6 +172,19 @@ public class AdaptiveGridArchive extends NondominatedPopulation {
 		return numberOfDivisions;
 	}
 
+	/**
+	 * Returns {@code true} if the grid cells can be numbered by an
+	 * {@code int}, as required by {@link #findIndex(Solution)},
+	 * {@link #getDensity(int)} and {@link #findDensestCell()}; {@code false}
+	 * otherwise.
+	 * 
+	 * @return {@code true} if the grid cells can be numbered by an
+	 *         {@code int}; {@code false} otherwise
+	 */
+	public boolean isIndexable() {
+		return indexable;
+	}
+
 	/**
 	 * Returns the problem for which this archive is used.
 	 * 
@@ -162,26 +215,26 @@ public class AdaptiveGridArchive extends NondominatedPopulation {
 		
 		// if archive is empty, add the candidate
 		if (isEmpty()) {
-			super.forceAddWithoutCheck(solution);
+			forceAddWithoutCheck(solution);
 			adaptGrid();
 			return true;
 		}
 		
 		// temporarily add the candidate solution
-		super.forceAddWithoutCheck(solution);
-		int index = findIndex(solution);
+		forceAddWithoutCheck(solution);
+		Member member = members.get(members.size() - 1);
+		int[] coordinates = findCoordinates(solution);
 		
-		if (index < 0) {
+		if (coordinates == null) {
 			adaptGrid();
-			index = findIndex(solution);
 		} else {
-			density[index]++;
+			addToCell(member, coordinates);
 		}
 		
 		if (size() <= capacity) {
 			// if archive is not exceeding capacity, keep the candidate
 			return true;
-		} else if (density[index] == density[findDensestCell()]) {
+		} else if (member.cell.getDensity() == heap.get(0).getDensity()) {
 			// if the candidate is in the most dense cell, reject the candidate
 			remove(solution);
 			return false;
@@ -193,62 +246,116 @@ public class AdaptiveGridArchive extends NondominatedPopulation {
 		}
 	}
 
+	/**
+	 * Adds the solution to this archive without updating the grid.  The
+	 * caller must place the new member in its grid cell.
+	 */
 	@Override
-	public void remove(int index) {
-		int gridIndex = findIndex(get(index));
+	protected boolean forceAddWithoutCheck(Solution newSolution) {
+		members.add(new Member(newSolution, nextSequence++));
+		return super.forceAddWithoutCheck(newSolution);
+	}
 
+	@Override
+	public void remove(int index) {
+		Member member = members.remove(index);
 		super.remove(index);
 
-		if (density[gridIndex] > 1) {
-			density[gridIndex]--;
-		} else {
+		Cell cell = member.cell;
+		boolean onBounds = isOnBounds(member.solution);
+
+		if (cell.getDensity() > 1) {
+			cell.members.remove(member);
+			siftDown(cell.heapIndex);
+			staleBounds |= onBounds;
+		} else if (staleBounds || onBounds) {
+			// the bounds may shrink
 			adaptGrid();
+		} else {
+			// the bounds are unchanged, so only the empty cell is removed
+			cell.members.remove(member);
+			cells.remove(cell);
+			removeFromHeap(cell);
 		}
 	}
 
 	@Override
 	public boolean remove(Solution solution) {
-		boolean removed = super.remove(solution);
+		int index = indexOf(solution);
 
-		if (removed) {
-			int index = findIndex(solution);
-			
-			if (density[index] > 1) {
-				density[index]--;
-			} else {
-				adaptGrid();
-			}
+		if (index < 0) {
+			return false;
 		}
 
-		return removed;
+		remove(index);
+		return true;
 	}
 
 	@Override
 	public void clear() {
 		super.clear();
+		members.clear();
 		adaptGrid();
 	}
 	
 	/**
-	 * Returns the index of the grid cell with the largest density.
+	 * Replaces the solution at the given index, but only if the new solution
+	 * is non-dominated, and adapts the grid.
+	 */
+	@Override
+	public void replace(int index, Solution newSolution) {
+		super.replace(index, newSolution);
+		resetMembers();
+	}
+
+	/**
+	 * Sorts the solutions in this archive and adapts the grid.
+	 */
+	@Override
+	public void sort(Comparator<? super Solution> comparator) {
+		super.sort(comparator);
+		resetMembers();
+	}
+
+	/**
+	 * Truncates this archive and adapts the grid.
+	 */
+	@Override
+	public void truncate(int size, Comparator<? super Solution> comparator) {
+		super.truncate(size, comparator);
+		resetMembers();
+	}
+
+	/**
+	 * Recreates the members after the solutions in this archive are reordered
+	 * or replaced, and adapts the grid.
+	 */
+	private void resetMembers() {
+		members.clear();
+
+		for (Solution solution : this) {
+			members.add(new Member(solution, nextSequence++));
+		}
+
+		adaptGrid();
+	}
+
+	/**
+	 * Returns the index of the grid cell with the largest density, or
+	 * {@code -1} if this archive is empty.  If multiple cells have the same
+	 * density, the cell containing the solution appearing first in this
+	 * archive is returned.
 	 * 
 	 * @return the index of the grid cell with the largest density
+	 * @throws FrameworkException if the grid cells can not be numbered by an
+	 *         {@code int}
 	 */
 	protected int findDensestCell() {
-		int index = -1;
-		int value = -1;
-		
-		for (int i = 0; i < size(); i++) {
-			int tempIndex = findIndex(get(i));
-			int tempValue = density[tempIndex];
-			
-			if (tempValue > value) {
-				value = tempValue;
-				index = tempIndex;
-			}
+		if (heap.isEmpty()) {
+			return -1;
 		}
 		
-		return index;
+		return toIndex(heap.get(0).coordinates);
 	}
 
 	/**
@@ -259,19 +366,11 @@ public class AdaptiveGridArchive extends NondominatedPopulation {
 	 * @return a solution residing in the densest grid cell
 	 */
 	protected Solution pickSolutionFromDensestCell() {
-		Solution solution = null;
-		int value = -1;
-
-		for (int i = 0; i < size(); i++) {
-			int tempValue = density[findIndex(get(i))];
-
-			if (tempValue > value) {
-				solution = get(i);
-				value = tempValue;
-			}
+		if (heap.isEmpty()) {
+			return null;
 		}
 
-		return solution;
+		return heap.get(0).members.get(0).solution;
 	}
 
 	/**
@@ -281,38 +380,42 @@ public class AdaptiveGridArchive extends NondominatedPopulation {
 	protected void adaptGrid() {
 		Arrays.fill(minimum, Double.POSITIVE_INFINITY);
 		Arrays.fill(maximum, Double.NEGATIVE_INFINITY);
-		Arrays.fill(density, 0);
+		cells.clear();
+		heap.clear();
+		staleBounds = false;
 
-		for (Solution solution : this) {
-			for (int i = 0; i < problem.getNumberOfObjectives(); i++) {
-				minimum[i] = Math.min(minimum[i], solution.getObjective(i));
-				maximum[i] = Math.max(maximum[i], solution.getObjective(i));
-			}
+		if (!isEmpty()) {
+			ObjectiveMatrix matrix = getObjectiveMatrix();
+
+			System.arraycopy(matrix.getMinimum(false), 0, minimum, 0,
+					minimum.length);
+			System.arraycopy(matrix.getMaximum(false), 0, maximum, 0,
+					maximum.length);
 		}
 
-		for (Solution solution : this) {
-			density[findIndex(solution)]++;
+		for (Member member : members) {
+			addToCell(member, findCoordinates(member.solution));
 		}
 	}
 
 	/**
-	 * Returns the index of the specified solution in this adaptive grid
-	 * archive, or {@code -1} if the solution is not within the current lower
-	 * and upper bounds.
+	 * Returns the coordinates of the grid cell containing the solution, or
+	 * {@code null} if the solution is not within the current lower and upper
+	 * bounds.
 	 * 
-	 * @param solution the specified solution
-	 * @return the index of the specified solution in this adaptive grid
-	 *         archive, or {@code -1} if the solution is not within the current
-	 *         lower and upper bounds
+	 * @param solution the solution
+	 * @return the coordinates of the grid cell containing the solution, or
+	 *         {@code null} if the solution is not within the current lower and
+	 *         upper bounds
 	 */
-	public int findIndex(Solution solution) {
-		int index = 0;
+	private int[] findCoordinates(Solution solution) {
+		int[] coordinates = new int[problem.getNumberOfObjectives()];
 
-		for (int i = 0; i < problem.getNumberOfObjectives(); i++) {
+		for (int i = 0; i < coordinates.length; i++) {
 			double value = solution.getObjective(i);
 
 			if ((value < minimum[i]) || (value > maximum[i])) {
-				return -1;
+				return null;
 			} else {
 				int tempIndex = (int)(numberOfDivisions * 
 						((value - minimum[i]) / (maximum[i] - minimum[i])));
@@ -322,21 +425,411 @@ public class AdaptiveGridArchive extends NondominatedPopulation {
 					tempIndex--;
 				}
 
-				index += tempIndex * ArithmeticUtils.pow(numberOfDivisions, i);
+				coordinates[i] = tempIndex;
 			}
 		}
 
-		return index;
+		return coordinates;
 	}
 	
 	/**
-	 * Returns the density of the solution at the given index.
+	 * Returns {@code true} if any objective of the solution equals the
+	 * current lower or upper bound; {@code false} otherwise.
 	 * 
-	 * @param index the solution index
-	 * @return the density of the solution at the given index
+	 * @param solution the solution
+	 * @return {@code true} if any objective of the solution equals the
+	 *         current lower or upper bound; {@code false} otherwise
+	 */
+	private boolean isOnBounds(Solution solution) {
+		for (int i = 0; i < minimum.length; i++) {
+			double value = solution.getObjective(i);
+
+			if ((value <= minimum[i]) || (value >= maximum[i])) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns the index of the specified solution in this adaptive grid
+	 * archive, or {@code -1} if the solution is not within the current lower
+	 * and upper bounds.  The index of the cell with coordinates {@code c} is
+	 * {@code sum(c[i] * pow(numberOfDivisions, i))}.
+	 * 
+	 * @param solution the specified solution
+	 * @return the index of the specified solution in this adaptive grid
+	 *         archive, or {@code -1} if the solution is not within the current
+	 *         lower and upper bounds
+	 * @throws FrameworkException if the grid cells can not be numbered by an
+	 *         {@code int}; use {@link #getDensity(Solution)} instead
+	 */
+	public int findIndex(Solution solution) {
+		int[] coordinates = findCoordinates(solution);
+
+		if (coordinates == null) {
+			return -1;
+		}
+
+		return toIndex(coordinates);
+	}
+
+	/**
+	 * Returns the index of the grid cell with the given coordinates.
+	 * 
+	 * @param coordinates the coordinates of the grid cell
+	 * @return the index of the grid cell
+	 * @throws FrameworkException if the grid cells can not be numbered by an
+	 *         {@code int}
+	 */
+	private int toIndex(int[] coordinates) {
+		if (!indexable) {
+			throw new FrameworkException("number of divisions (bisections) " +
+					"too large to index the adaptive grid archive");
+		}
+
+		return Cell.hash(coordinates, numberOfDivisions);
+	}
+
+	/**
+	 * Returns the density of the grid cell at the given index.
+	 * 
+	 * @param index the index of the grid cell
+	 * @return the density of the grid cell at the given index
+	 * @throws FrameworkException if the grid cells can not be numbered by an
+	 *         {@code int}; use {@link #getDensity(Solution)} instead
 	 */
 	public int getDensity(int index) {
-		return density[index];
+		if (!indexable) {
+			throw new FrameworkException("number of divisions (bisections) " +
+					"too large to index the adaptive grid archive");
+		}
+
+		int[] coordinates = new int[problem.getNumberOfObjectives()];
+
+		for (int i = 0; i < coordinates.length; i++) {
+			coordinates[i] = index % numberOfDivisions;
+			index /= numberOfDivisions;
+		}
+
+		Cell cell = cells.get(new Cell(coordinates, numberOfDivisions));
+		return cell == null ? 0 : cell.getDensity();
+	}
+
+	/**
+	 * Returns the density of the grid cell containing the solution, or
+	 * {@code -1} if the solution is not within the current lower and upper
+	 * bounds.
+	 * 
+	 * @param solution the solution
+	 * @return the density of the grid cell containing the solution, or
+	 *         {@code -1} if the solution is not within the current lower and
+	 *         upper bounds
+	 */
+	public int getDensity(Solution solution) {
+		int[] coordinates = findCoordinates(solution);
+
+		if (coordinates == null) {
+			return -1;
+		}
+
+		Cell cell = cells.get(new Cell(coordinates, numberOfDivisions));
+		return cell == null ? 0 : cell.getDensity();
+	}
+
+	/**
+	 * Returns the solutions in each occupied grid cell.  The cells are ordered
+	 * by the first solution they contain, and the solutions in each cell are
+	 * ordered as they appear in this archive.  Modifying the returned lists
+	 * does not modify this archive.
+	 * 
+	 * @return the solutions in each occupied grid cell
+	 */
+	public List<List<Solution>> getOccupiedCells() {
+		List<Cell> orderedCells = new ArrayList<Cell>(heap);
+		List<List<Solution>> result = new ArrayList<List<Solution>>();
+
+		Collections.sort(orderedCells, new Comparator<Cell>() {
+
+			@Override
+			public int compare(Cell cell1, Cell cell2) {
+				return Long.compare(cell1.getFirstSequence(),
+						cell2.getFirstSequence());
+			}
+
+		});
+
+		for (Cell cell : orderedCells) {
+			List<Solution> solutions = new ArrayList<Solution>(
+					cell.getDensity());
+
+			for (Member member : cell.members) {
+				solutions.add(member.solution);
+			}
+
+			result.add(solutions);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Adds the member to the grid cell with the given coordinates, creating
+	 * the cell if it is not occupied.
+	 * 
+	 * @param member the member
+	 * @param coordinates the coordinates of the grid cell
+	 */
+	private void addToCell(Member member, int[] coordinates) {
+		Cell key = new Cell(coordinates, numberOfDivisions);
+		Cell cell = cells.get(key);
+
+		if (cell == null) {
+			cell = key;
+			cells.put(cell, cell);
+			cell.members.add(member);
+			cell.heapIndex = heap.size();
+			heap.add(cell);
+		} else {
+			cell.members.add(member);
+		}
+
+		member.cell = cell;
+		siftUp(cell.heapIndex);
+	}
+
+	/**
+	 * Removes the cell from the heap.
+	 * 
+	 * @param cell the cell
+	 */
+	private void removeFromHeap(Cell cell) {
+		int index = cell.heapIndex;
+		Cell last = heap.remove(heap.size() - 1);
+
+		if (last != cell) {
+			heap.set(index, last);
+			last.heapIndex = index;
+			siftDown(index);
+			siftUp(last.heapIndex);
+		}
+	}
+
+	/**
+	 * Moves the cell at the given heap index towards the root until its
+	 * parent is denser.
+	 * 
+	 * @param index the heap index
+	 */
+	private void siftUp(int index) {
+		Cell cell = heap.get(index);
+
+		while (index > 0) {
+			int parentIndex = (index - 1) / 2;
+			Cell parent = heap.get(parentIndex);
+
+			if (!cell.isDenserThan(parent)) {
+				break;
+			}
+
+			heap.set(index, parent);
+			parent.heapIndex = index;
+			index = parentIndex;
+		}
+
+		heap.set(index, cell);
+		cell.heapIndex = index;
+	}
+
+	/**
+	 * Moves the cell at the given heap index towards the leaves until its
+	 * children are less dense.
+	 * 
+	 * @param index the heap index
+	 */
+	private void siftDown(int index) {
+		Cell cell = heap.get(index);
+		int size = heap.size();
+
+		while (true) {
+			int childIndex = 2 * index + 1;
+
+			if (childIndex >= size) {
+				break;
+			}
+
+			if ((childIndex + 1 < size) &&
+					heap.get(childIndex + 1).isDenserThan(heap.get(childIndex))) {
+				childIndex++;
+			}
+
+			Cell child = heap.get(childIndex);
+
+			if (!child.isDenserThan(cell)) {
+				break;
+			}
+
+			heap.set(index, child);
+			child.heapIndex = index;
+			index = childIndex;
+		}
+
+		heap.set(index, cell);
+		cell.heapIndex = index;
+	}
+
+	/**
+	 * A solution in this archive along with its grid cell.
+	 */
+	private static class Member {
+
+		/**
+		 * The solution.
+		 */
+		private final Solution solution;
+
+		/**
+		 * The sequence number of this member, which orders the members in the
+		 * same way as the solutions in the archive.
+		 */
+		private final long sequence;
+
+		/**
+		 * The grid cell containing the solution.
+		 */
+		private Cell cell;
+
+		/**
+		 * Constructs a new member.
+		 * 
+		 * @param solution the solution
+		 * @param sequence the sequence number of this member
+		 */
+		public Member(Solution solution, long sequence) {
+			super();
+			this.solution = solution;
+			this.sequence = sequence;
+		}
+
+	}
+
+	/**
+	 * An occupied grid cell.  Two cells are equal if they have the same
+	 * coordinates.
+	 */
+	private static class Cell {
+
+		/**
+		 * The coordinates of this cell.
+		 */
+		private final int[] coordinates;
+
+		/**
+		 * The cached hash code, which equals the index of this cell when the
+		 * cells can be numbered by an {@code int}.
+		 */
+		private final int hashCode;
+
+		/**
+		 * The members in this cell, ordered by their sequence number.
+		 */
+		private final List<Member> members;
+
+		/**
+		 * The position of this cell in the heap.
+		 */
+		private int heapIndex;
+
+		/**
+		 * Constructs an empty cell with the given coordinates.
+		 * 
+		 * @param coordinates the coordinates of this cell
+		 * @param numberOfDivisions the number of divisions along each
+		 *        objective
+		 */
+		public Cell(int[] coordinates, int numberOfDivisions) {
+			super();
+			this.coordinates = coordinates;
+			this.hashCode = hash(coordinates, numberOfDivisions);
+			this.members = new ArrayList<Member>(1);
+		}
+
+		/**
+		 * Returns {@code sum(coordinates[i] * pow(numberOfDivisions, i))},
+		 * which overflows if the cells can not be numbered by an {@code int}.
+		 * 
+		 * @param coordinates the coordinates of the cell
+		 * @param numberOfDivisions the number of divisions along each
+		 *        objective
+		 * @return the index of the cell
+		 */
+		public static int hash(int[] coordinates, int numberOfDivisions) {
+			int index = 0;
+			int weight = 1;
+
+			for (int i = 0; i < coordinates.length; i++) {
+				index += coordinates[i] * weight;
+				weight *= numberOfDivisions;
+			}
+
+			return index;
+		}
+
+		/**
+		 * Returns the number of members in this cell.
+		 * 
+		 * @return the number of members in this cell
+		 */
+		public int getDensity() {
+			return members.size();
+		}
+
+		/**
+		 * Returns the sequence number of the first member in this cell.
+		 * 
+		 * @return the sequence number of the first member in this cell
+		 */
+		public long getFirstSequence() {
+			return members.get(0).sequence;
+		}
+
+		/**
+		 * Returns {@code true} if this cell should be closer to the root of the
+		 * heap than the other cell; {@code false} otherwise.  Denser cells
+		 * come first, with ties broken by the first member in each cell.
+		 * 
+		 * @param other the other cell
+		 * @return {@code true} if this cell should be closer to the root of the
+		 *         heap than the other cell; {@code false} otherwise
+		 */
+		public boolean isDenserThan(Cell other) {
+			int density = getDensity();
+			int otherDensity = other.getDensity();
+
+			if (density != otherDensity) {
+				return density > otherDensity;
+			} else {
+				return getFirstSequence() < other.getFirstSequence();
+			}
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj == this) {
+				return true;
+			} else if ((obj == null) || (obj.getClass() != getClass())) {
+				return false;
+			} else {
+				return Arrays.equals(coordinates, ((Cell)obj).coordinates);
+			}
+		}
+
 	}
 
 }
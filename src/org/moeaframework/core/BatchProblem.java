@@ -0,0 +1,42 @@
+/* Copyright 2009-2020 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core;
+
+/**
+ * Interface for problems that can evaluate several solutions together more
+ * efficiently than one at a time, such as vectorized numeric code, a batched
+ * remote call, or an external simulator accepting a file of designs.
+ * <p>
+ * Algorithms extending {@code AbstractAlgorithm} pass the solutions given to
+ * {@code evaluateAll} to {@link #evaluateAll(Solution[])}, split into batches
+ * of at most {@link Settings#getBatchSize()} solutions.  Each solution still
+ * counts as one evaluation.  {@link #evaluate(Solution)} must continue to
+ * work for solutions evaluated individually.
+ */
+public interface BatchProblem extends Problem {
+
+	/**
+	 * Evaluates the solutions, updating each solution's objectives in place.
+	 * The result must be the same as calling {@link #evaluate(Solution)} on
+	 * each solution.
+	 * 
+	 * @param solutions the solutions to be evaluated
+	 */
+	public void evaluateAll(Solution[] solutions);
+
+}
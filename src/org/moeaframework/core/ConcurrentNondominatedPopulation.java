@@ -0,0 +1,366 @@
+/* Copyright 2009-2020 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * A thread-safe non-dominated population that can be shared by multiple
+ * threads, such as parallel runs or evaluation workers feeding a single
+ * archive.  All operations are forwarded to an underlying archive, which may
+ * be any {@link NondominatedPopulation}, including the
+ * {@link EpsilonBoxDominanceArchive} and {@link AdaptiveGridArchive}.
+ * <p>
+ * Access is guarded by a read-write lock.  Adding a solution is optimistic:
+ * the new solution is first checked against the archive while holding the
+ * shared read lock, and only solutions that may be accepted acquire the
+ * exclusive write lock.  Since most candidates are rejected once a search
+ * begins to converge, threads adding solutions rarely block one another.  The
+ * read-only check is supported by the {@link IndexedNondominatedPopulation}
+ * and, when using the default comparator, the
+ * {@link EpsilonBoxDominanceArchive}.  Other archives are still thread-safe,
+ * but every call to {@code add} acquires the write lock.
+ * <p>
+ * Iterators operate on a snapshot of the archive taken when the iterator is
+ * created, and never throw {@link java.util.ConcurrentModificationException}.
+ * Consequently, the iterator does not reflect solutions added or removed after
+ * its creation.  Methods accepting an index, such as {@link #get(int)}, are
+ * only meaningful if no other thread is modifying the archive.
+ */
+public class ConcurrentNondominatedPopulation extends NondominatedPopulation {
+
+	/**
+	 * The underlying archive storing the solutions.
+	 */
+	private final NondominatedPopulation archive;
+
+	/**
+	 * The lock guarding access to the underlying archive.
+	 */
+	private final ReadWriteLock lock;
+
+	/**
+	 * Constructs an empty, thread-safe non-dominated population using the
+	 * Pareto dominance relation.
+	 */
+	public ConcurrentNondominatedPopulation() {
+		this(new IndexedNondominatedPopulation());
+	}
+
+	/**
+	 * Constructs a thread-safe non-dominated population backed by the given
+	 * archive.  The archive must not be accessed directly after constructing
+	 * this population.
+	 *
+	 * @param archive the underlying archive storing the solutions
+	 */
+	public ConcurrentNondominatedPopulation(NondominatedPopulation archive) {
+		super(archive.getComparator(), archive.duplicateMode);
+		this.archive = archive;
+
+		lock = new ReentrantReadWriteLock();
+	}
+
+	@Override
+	public boolean add(Solution newSolution) {
+		lock.readLock().lock();
+
+		try {
+			if (archive.isRejected(newSolution)) {
+				return false;
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+
+		lock.writeLock().lock();
+
+		try {
+			return archive.add(newSolution);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public void replace(int index, Solution newSolution) {
+		lock.writeLock().lock();
+
+		try {
+			archive.replace(index, newSolution);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	protected boolean forceAddWithoutCheck(Solution newSolution) {
+		lock.writeLock().lock();
+
+		try {
+			return archive.forceAddWithoutCheck(newSolution);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	protected void forceReplaceWithoutCheck(int index, Solution newSolution) {
+		lock.writeLock().lock();
+
+		try {
+			archive.forceReplaceWithoutCheck(index, newSolution);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	boolean isRejected(Solution newSolution) {
+		lock.readLock().lock();
+
+		try {
+			return archive.isRejected(newSolution);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public Solution get(int index) {
+		lock.readLock().lock();
+
+		try {
+			return archive.get(index);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public void remove(int index) {
+		lock.writeLock().lock();
+
+		try {
+			archive.remove(index);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public boolean remove(Solution solution) {
+		lock.writeLock().lock();
+
+		try {
+			return archive.remove(solution);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public int indexOf(Solution solution) {
+		lock.readLock().lock();
+
+		try {
+			return archive.indexOf(solution);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public boolean contains(Solution solution) {
+		lock.readLock().lock();
+
+		try {
+			return archive.contains(solution);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public void clear() {
+		lock.writeLock().lock();
+
+		try {
+			archive.clear();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public boolean isEmpty() {
+		lock.readLock().lock();
+
+		try {
+			return archive.isEmpty();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public int size() {
+		lock.readLock().lock();
+
+		try {
+			return archive.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public void sort(Comparator<? super Solution> comparator) {
+		lock.writeLock().lock();
+
+		try {
+			archive.sort(comparator);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public void truncate(int size, Comparator<? super Solution> comparator) {
+		lock.writeLock().lock();
+
+		try {
+			archive.truncate(size, comparator);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Returns a snapshot of the objective values of the solutions in this
+	 * population.  The write lock is held since the underlying archive caches
+	 * the snapshot.
+	 */
+	@Override
+	public ObjectiveMatrix getObjectiveMatrix() {
+		lock.writeLock().lock();
+
+		try {
+			return archive.getObjectiveMatrix();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Returns the solutions currently in this population.  The returned
+	 * array is a copy and is not modified by subsequent changes to this
+	 * population.
+	 *
+	 * @return the solutions currently in this population
+	 */
+	public Solution[] getSnapshot() {
+		lock.readLock().lock();
+
+		try {
+			Solution[] snapshot = new Solution[archive.size()];
+
+			for (int i = 0; i < snapshot.length; i++) {
+				snapshot[i] = archive.get(i);
+			}
+
+			return snapshot;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Returns an iterator over a snapshot of the solutions in this population.
+	 * The iterator's {@code remove} method removes the solution from this
+	 * population.
+	 */
+	@Override
+	public Iterator<Solution> iterator() {
+		return new SnapshotIterator(getSnapshot());
+	}
+
+	/**
+	 * Iterator over a snapshot of the solutions in this population.
+	 */
+	private class SnapshotIterator implements Iterator<Solution> {
+
+		/**
+		 * The solutions in this population when the iterator was created.
+		 */
+		private final Solution[] snapshot;
+
+		/**
+		 * The index of the next solution to return.
+		 */
+		private int nextIndex;
+
+		/**
+		 * {@code true} if the last solution returned by {@code next} can be
+		 * removed; {@code false} otherwise.
+		 */
+		private boolean canRemove;
+
+		/**
+		 * Constructs an iterator over the given snapshot.
+		 *
+		 * @param snapshot the solutions in this population
+		 */
+		public SnapshotIterator(Solution[] snapshot) {
+			super();
+			this.snapshot = snapshot;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return nextIndex < snapshot.length;
+		}
+
+		@Override
+		public Solution next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+
+			canRemove = true;
+			return snapshot[nextIndex++];
+		}
+
+		@Override
+		public void remove() {
+			if (!canRemove) {
+				throw new IllegalStateException();
+			}
+
+			canRemove = false;
+			ConcurrentNondominatedPopulation.this.remove(
+					snapshot[nextIndex - 1]);
+		}
+
+	}
+
+}
@@ -0,0 +1,702 @@
+/* Copyright 2009-2020 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import org.moeaframework.core.comparator.AggregateConstraintComparator;
+import org.moeaframework.core.comparator.DominanceComparator;
+import org.moeaframework.core.comparator.ParetoDominanceComparator;
+import org.moeaframework.core.comparator.ParetoObjectiveComparator;
+
+/**
+ * Divide-and-conquer non-dominated sorting algorithm for dominance depth
+ * ranking.  Assigns the {@code rank} and {@code crowdingDistance} attributes to
+ * solutions, producing the same ranks as {@link NondominatedSorting} and
+ * {@link FastNondominatedSorting}.  Requires O(N log^(M-1) N) operations, and
+ * for two objectives reduces to an O(N log N) sweep.
+ * <p>
+ * The divide-and-conquer strategy relies on the structure of the Pareto
+ * dominance relation, and is therefore only applied when this sorting operator
+ * uses a {@link ParetoDominanceComparator} or a
+ * {@link ParetoObjectiveComparator}.  Any other dominance comparator falls back
+ * to the O(MN^2) implementation in {@link FastNondominatedSorting}.  Constraint
+ * violations are handled by ranking each group of equally-violated solutions
+ * separately, with groups ordered by their aggregate constraint violation.
+ * <p>
+ * References:
+ * <ol>
+ * <li>Jensen, M. T. (2003).  "Reducing the Run-Time Complexity of
+ * Multiobjective EAs: The NSGA-II and Other Algorithms."  IEEE Transactions on
+ * Evolutionary Computation, 7(5):503-515.
+ * <li>Buzdalov, M. and Shalyto, A. (2014).  "A Provably Asymptotically Fast
+ * Version of the Generalized Jensen Algorithm for Non-dominated Sorting."
+ * Parallel Problem Solving from Nature - PPSN XIII, pp. 528-537.
+ * </ol>
+ */
+public class DivideAndConquerNondominatedSorting extends
+FastNondominatedSorting {
+
+	/**
+	 * Constructs a divide-and-conquer non-dominated sorting operator using
+	 * Pareto dominance.
+	 */
+	public DivideAndConquerNondominatedSorting() {
+		super();
+	}
+
+	/**
+	 * Constructs a divide-and-conquer non-dominated sorting operator using the
+	 * specified dominance comparator.  Dominance comparators other than
+	 * {@link ParetoDominanceComparator} and {@link ParetoObjectiveComparator}
+	 * fall back to fast non-dominated sorting.
+	 *
+	 * @param comparator the dominance comparator
+	 */
+	public DivideAndConquerNondominatedSorting(DominanceComparator comparator) {
+		super(comparator);
+	}
+
+	@Override
+	public void evaluate(Population population) {
+		boolean constrained;
+
+		if (comparator.getClass() == ParetoDominanceComparator.class) {
+			constrained = true;
+		} else if (comparator.getClass() == ParetoObjectiveComparator.class) {
+			constrained = false;
+		} else {
+			super.evaluate(population);
+			return;
+		}
+
+		int N = population.size();
+
+		if (N == 0) {
+			return;
+		}
+
+		int[] ranks = computeRanks(population, constrained);
+
+		// assign ranks and group solutions into fronts, preserving the order
+		// of solutions in the population
+		int maxRank = 0;
+
+		for (int i = 0; i < N; i++) {
+			population.get(i).setIntAttribute(RANK_ATTRIBUTE, ranks[i]);
+			maxRank = Math.max(maxRank, ranks[i]);
+		}
+
+		Population[] fronts = new Population[maxRank + 1];
+
+		for (int i = 0; i <= maxRank; i++) {
+			fronts[i] = new Population();
+		}
+
+		for (int i = 0; i < N; i++) {
+			fronts[ranks[i]].add(population.get(i));
+		}
+
+		for (Population front : fronts) {
+			updateCrowdingDistance(front);
+		}
+	}
+
+	/**
+	 * Computes the rank of each solution in the population.
+	 *
+	 * @param population the population
+	 * @param constrained {@code true} if solutions are first compared by their
+	 *        aggregate constraint violation; {@code false} otherwise
+	 * @return the rank of each solution, indexed by its position in the
+	 *         population
+	 */
+	private int[] computeRanks(Population population, boolean constrained) {
+		final int N = population.size();
+		final int M = population.get(0).getNumberOfObjectives();
+
+		// each row stores the constraint violation, the objectives and the
+		// index of the solution in the population
+		double[][] rows = new double[N][M + 2];
+
+		for (int i = 0; i < N; i++) {
+			Solution solution = population.get(i);
+
+			rows[i][0] = constrained ?
+					AggregateConstraintComparator.getConstraints(solution) :
+					0.0;
+
+			for (int j = 0; j < M; j++) {
+				rows[i][j + 1] = solution.getObjective(j);
+			}
+
+			rows[i][M + 1] = i;
+		}
+
+		Arrays.sort(rows, new Comparator<double[]>() {
+
+			@Override
+			public int compare(double[] row1, double[] row2) {
+				return compareRows(row1, row2, 0, M + 1);
+			}
+
+		});
+
+		int[] ranks = new int[N];
+		int base = 0;
+		int start = 0;
+
+		while (start < N) {
+			// collect solutions with the same constraint violation
+			int end = start + 1;
+
+			while ((end < N) &&
+					(Double.compare(rows[start][0], rows[end][0]) == 0)) {
+				end++;
+			}
+
+			// merge duplicate objective vectors, which never dominate one
+			// another and therefore share the same rank
+			double[][] points = new double[end - start][];
+			int[] unique = new int[end - start];
+			int size = 0;
+
+			for (int i = start; i < end; i++) {
+				if ((i == start) ||
+						(compareRows(rows[i - 1], rows[i], 1, M + 1) != 0)) {
+					points[size++] = Arrays.copyOfRange(rows[i], 1, M + 1);
+				}
+
+				unique[i - start] = size - 1;
+			}
+
+			Ranker ranker = new Ranker(Arrays.copyOf(points, size));
+			int[] localRanks = ranker.rank();
+			int maxRank = 0;
+
+			for (int i = start; i < end; i++) {
+				int rank = localRanks[unique[i - start]];
+				ranks[(int)rows[i][M + 1]] = base + rank;
+				maxRank = Math.max(maxRank, rank);
+			}
+
+			base += maxRank + 1;
+			start = end;
+		}
+
+		return ranks;
+	}
+
+	/**
+	 * Lexicographically compares the specified columns of two rows.
+	 *
+	 * @param row1 the first row
+	 * @param row2 the second row
+	 * @param from the first column compared, inclusive
+	 * @param to the last column compared, exclusive
+	 * @return a negative integer, zero, or a positive integer if the first row
+	 *         is less than, equal to, or greater than the second row
+	 */
+	private static int compareRows(double[] row1, double[] row2, int from,
+			int to) {
+		for (int i = from; i < to; i++) {
+			int flag = Double.compare(row1[i], row2[i]);
+
+			if (flag != 0) {
+				return flag;
+			}
+		}
+
+		return 0;
+	}
+
+	/**
+	 * Ranks a set of distinct, lexicographically sorted points using the
+	 * generalized Jensen divide-and-conquer scheme.  Sets of points are
+	 * represented by sorted arrays of indices, so that index order is also
+	 * lexicographical order.
+	 */
+	private static class Ranker {
+
+		/**
+		 * The distinct points in lexicographical order.
+		 */
+		private final double[][] points;
+
+		/**
+		 * The rank of each point.
+		 */
+		private final int[] ranks;
+
+		/**
+		 * The position of each point's second objective value among all
+		 * distinct second objective values.
+		 */
+		private final int[] positions;
+
+		/**
+		 * Fenwick tree storing the maximum rank for each prefix of second
+		 * objective positions, used by the two-objective sweeps.
+		 */
+		private final int[] tree;
+
+		/**
+		 * Constructs a new ranker for the given points.
+		 *
+		 * @param points the distinct points in lexicographical order
+		 */
+		public Ranker(double[][] points) {
+			super();
+			this.points = points;
+
+			int n = points.length;
+			ranks = new int[n];
+			positions = new int[n];
+
+			if (points[0].length > 1) {
+				double[] values = new double[n];
+
+				for (int i = 0; i < n; i++) {
+					values[i] = points[i][1];
+				}
+
+				Arrays.sort(values);
+
+				int size = 0;
+
+				for (int i = 0; i < n; i++) {
+					if ((size == 0) ||
+							(Double.compare(values[size - 1], values[i]) != 0)) {
+						values[size++] = values[i];
+					}
+				}
+
+				for (int i = 0; i < n; i++) {
+					positions[i] = Arrays.binarySearch(values, 0, size,
+							points[i][1]);
+				}
+
+				tree = new int[size + 1];
+				Arrays.fill(tree, -1);
+			} else {
+				tree = null;
+			}
+		}
+
+		/**
+		 * Computes and returns the rank of each point.
+		 *
+		 * @return the rank of each point
+		 */
+		public int[] rank() {
+			int[] all = new int[points.length];
+
+			for (int i = 0; i < all.length; i++) {
+				all[i] = i;
+			}
+
+			helperA(all, points[0].length - 1);
+			return ranks;
+		}
+
+		/**
+		 * Ranks the points in {@code S} considering objectives {@code 0}
+		 * through {@code k}.  All points in {@code S} share the same values for
+		 * objectives greater than {@code k}, and all contributions from points
+		 * outside of {@code S} have already been applied.
+		 *
+		 * @param S the set of points
+		 * @param k the last objective considered
+		 */
+		private void helperA(int[] S, int k) {
+			int n = S.length;
+
+			if (n < 2) {
+				return;
+			} else if (k == 0) {
+				for (int i = 1; i < n; i++) {
+					update(S[i], ranks[S[i - 1]]);
+				}
+			} else if (n == 2) {
+				if (dominates(S[0], S[1], k)) {
+					update(S[1], ranks[S[0]]);
+				}
+			} else if (k == 1) {
+				sweepA(S);
+			} else if (Double.compare(min(S, k), max(S, k)) == 0) {
+				helperA(S, k - 1);
+			} else {
+				double median = median(S, k);
+				int[] L = split(S, k, median, -1);
+				int[] M = split(S, k, median, 0);
+				int[] H = split(S, k, median, 1);
+
+				helperA(L, k);
+				helperB(L, M, k - 1);
+				helperA(M, k - 1);
+				helperB(merge(L, M), H, k - 1);
+				helperA(H, k);
+			}
+		}
+
+		/**
+		 * Updates the ranks of points in {@code H} with the contributions from
+		 * points in {@code L}, considering objectives {@code 0} through
+		 * {@code k}.  The ranks of points in {@code L} are final, and points in
+		 * {@code L} are no worse than points in {@code H} for objectives
+		 * greater than {@code k}.
+		 *
+		 * @param L the set of points with final ranks
+		 * @param H the set of points being updated
+		 * @param k the last objective considered
+		 */
+		private void helperB(int[] L, int[] H, int k) {
+			if ((L.length == 0) || (H.length == 0)) {
+				return;
+			} else if ((L.length == 1) || (H.length == 1)) {
+				for (int h : H) {
+					for (int l : L) {
+						if (dominates(l, h, k)) {
+							update(h, ranks[l]);
+						}
+					}
+				}
+			} else if (k == 1) {
+				sweepB(L, H);
+			} else if (Double.compare(max(L, k), min(H, k)) <= 0) {
+				helperB(L, H, k - 1);
+			} else if (Double.compare(min(L, k), max(H, k)) <= 0) {
+				double median = median(merge(L, H), k);
+				int[] LL = split(L, k, median, -1);
+				int[] LM = split(L, k, median, 0);
+				int[] LH = split(L, k, median, 1);
+				int[] HL = split(H, k, median, -1);
+				int[] HM = split(H, k, median, 0);
+				int[] HH = split(H, k, median, 1);
+
+				helperB(LL, HL, k);
+				helperB(LH, HH, k);
+				helperB(merge(LL, LM), merge(HM, HH), k - 1);
+			}
+		}
+
+		/**
+		 * Ranks the points in {@code S} considering only the first two
+		 * objectives.
+		 *
+		 * @param S the set of points
+		 */
+		private void sweepA(int[] S) {
+			for (int s : S) {
+				update(s, query(positions[s]));
+				insert(positions[s], ranks[s]);
+			}
+
+			for (int s : S) {
+				clear(positions[s]);
+			}
+		}
+
+		/**
+		 * Updates the ranks of points in {@code H} with the contributions from
+		 * points in {@code L}, considering only the first two objectives.
+		 *
+		 * @param L the set of points with final ranks
+		 * @param H the set of points being updated
+		 */
+		private void sweepB(int[] L, int[] H) {
+			int i = 0;
+
+			for (int h : H) {
+				while ((i < L.length) && (L[i] < h)) {
+					insert(positions[L[i]], ranks[L[i]]);
+					i++;
+				}
+
+				update(h, query(positions[h]));
+			}
+
+			for (int j = 0; j < i; j++) {
+				clear(positions[L[j]]);
+			}
+		}
+
+		/**
+		 * Ensures the rank of a point exceeds the rank of a point dominating
+		 * it.
+		 *
+		 * @param index the index of the dominated point
+		 * @param rank the rank of the dominating point, or {@code -1} if no
+		 *        such point exists
+		 */
+		private void update(int index, int rank) {
+			if (rank + 1 > ranks[index]) {
+				ranks[index] = rank + 1;
+			}
+		}
+
+		/**
+		 * Returns {@code true} if the first point is no worse than the second
+		 * point in objectives {@code 0} through {@code k}.
+		 *
+		 * @param index1 the index of the first point
+		 * @param index2 the index of the second point
+		 * @param k the last objective considered
+		 * @return {@code true} if the first point is no worse than the second
+		 *         point in objectives {@code 0} through {@code k}
+		 */
+		private boolean dominates(int index1, int index2, int k) {
+			double[] point1 = points[index1];
+			double[] point2 = points[index2];
+
+			for (int i = 0; i <= k; i++) {
+				if (Double.compare(point1[i], point2[i]) > 0) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		/**
+		 * Records a point with the given rank in the Fenwick tree.
+		 *
+		 * @param position the second objective position of the point
+		 * @param rank the rank of the point
+		 */
+		private void insert(int position, int rank) {
+			for (int i = position + 1; i < tree.length; i += i & -i) {
+				tree[i] = Math.max(tree[i], rank);
+			}
+		}
+
+		/**
+		 * Returns the maximum rank of all recorded points whose second
+		 * objective position is less than or equal to the given position.
+		 *
+		 * @param position the second objective position
+		 * @return the maximum rank, or {@code -1} if no such point exists
+		 */
+		private int query(int position) {
+			int result = -1;
+
+			for (int i = position + 1; i > 0; i -= i & -i) {
+				result = Math.max(result, tree[i]);
+			}
+
+			return result;
+		}
+
+		/**
+		 * Removes all points recorded at the given position from the Fenwick
+		 * tree.
+		 *
+		 * @param position the second objective position
+		 */
+		private void clear(int position) {
+			for (int i = position + 1; i < tree.length; i += i & -i) {
+				tree[i] = -1;
+			}
+		}
+
+		/**
+		 * Returns the minimum value of objective {@code k} in the set.
+		 *
+		 * @param S the set of points
+		 * @param k the objective
+		 * @return the minimum value of objective {@code k} in the set
+		 */
+		private double min(int[] S, int k) {
+			double result = points[S[0]][k];
+
+			for (int s : S) {
+				if (Double.compare(points[s][k], result) < 0) {
+					result = points[s][k];
+				}
+			}
+
+			return result;
+		}
+
+		/**
+		 * Returns the maximum value of objective {@code k} in the set.
+		 *
+		 * @param S the set of points
+		 * @param k the objective
+		 * @return the maximum value of objective {@code k} in the set
+		 */
+		private double max(int[] S, int k) {
+			double result = points[S[0]][k];
+
+			for (int s : S) {
+				if (Double.compare(points[s][k], result) > 0) {
+					result = points[s][k];
+				}
+			}
+
+			return result;
+		}
+
+		/**
+		 * Returns the median value of objective {@code k} in the set.  At most
+		 * half of the points are strictly less than and strictly greater than
+		 * the returned value.
+		 *
+		 * @param S the set of points
+		 * @param k the objective
+		 * @return the median value of objective {@code k} in the set
+		 */
+		private double median(int[] S, int k) {
+			double[] values = new double[S.length];
+
+			for (int i = 0; i < S.length; i++) {
+				values[i] = points[S[i]][k];
+			}
+
+			return select(values, values.length / 2);
+		}
+
+		/**
+		 * Returns the subset of points whose value for objective {@code k} is
+		 * less than, equal to, or greater than the given value.
+		 *
+		 * @param S the set of points
+		 * @param k the objective
+		 * @param value the value being compared against
+		 * @param sign {@code -1}, {@code 0}, or {@code 1} to select points that
+		 *        are less than, equal to, or greater than the value
+		 * @return the subset of points
+		 */
+		private int[] split(int[] S, int k, double value, int sign) {
+			int[] result = new int[S.length];
+			int size = 0;
+
+			for (int s : S) {
+				if (Integer.signum(Double.compare(points[s][k], value)) ==
+						sign) {
+					result[size++] = s;
+				}
+			}
+
+			return Arrays.copyOf(result, size);
+		}
+
+	}
+
+	/**
+	 * Merges two sorted arrays of indices.
+	 *
+	 * @param S1 the first sorted array
+	 * @param S2 the second sorted array
+	 * @return the sorted union of both arrays
+	 */
+	private static int[] merge(int[] S1, int[] S2) {
+		int[] result = new int[S1.length + S2.length];
+		int i = 0;
+		int j = 0;
+		int k = 0;
+
+		while ((i < S1.length) && (j < S2.length)) {
+			result[k++] = (S1[i] < S2[j]) ? S1[i++] : S2[j++];
+		}
+
+		while (i < S1.length) {
+			result[k++] = S1[i++];
+		}
+
+		while (j < S2.length) {
+			result[k++] = S2[j++];
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns the k-th smallest value, using the ordering defined by
+	 * {@link Double#compare(double, double)}.  The array is reordered in the
+	 * process.  The pivot selection is deterministic so this method does not
+	 * consume random numbers.
+	 *
+	 * @param values the values
+	 * @param k the zero-based position of the value to select
+	 * @return the k-th smallest value
+	 */
+	private static double select(double[] values, int k) {
+		int left = 0;
+		int right = values.length - 1;
+
+		while (left < right) {
+			double pivot = medianOfThree(values[left],
+					values[(left + right) >>> 1], values[right]);
+			int i = left;
+			int j = right;
+
+			while (i <= j) {
+				while (Double.compare(values[i], pivot) < 0) {
+					i++;
+				}
+
+				while (Double.compare(values[j], pivot) > 0) {
+					j--;
+				}
+
+				if (i <= j) {
+					double temp = values[i];
+					values[i] = values[j];
+					values[j] = temp;
+					i++;
+					j--;
+				}
+			}
+
+			if (k <= j) {
+				right = j;
+			} else if (k >= i) {
+				left = i;
+			} else {
+				return values[k];
+			}
+		}
+
+		return values[k];
+	}
+
+	/**
+	 * Returns the median of three values.
+	 *
+	 * @param a the first value
+	 * @param b the second value
+	 * @param c the third value
+	 * @return the median of three values
+	 */
+	private static double medianOfThree(double a, double b, double c) {
+		if (Double.compare(a, b) > 0) {
+			double temp = a;
+			a = b;
+			b = temp;
+		}
+
+		if (Double.compare(b, c) > 0) {
+			b = c;
+		}
+
+		return Double.compare(a, b) > 0 ? a : b;
+	}
+
+}
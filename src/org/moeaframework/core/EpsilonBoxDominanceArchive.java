@@ -17,8 +17,15 @@
  */
 package org.moeaframework.core;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 
+import org.moeaframework.core.comparator.AggregateConstraintComparator;
 import org.moeaframework.core.comparator.EpsilonBoxDominanceComparator;
 
 /**
@@ -28,6 +35,17 @@ import org.moeaframework.core.comparator.EpsilonBoxDominanceComparator;
  * conditions hold [1].  In addition, this archive also tracks 
  * &epsilon;-progress [2] by counting the number of &epsilon;-box improvements.
  * <p>
+ * When using the {@link EpsilonBoxDominanceComparator}, the &epsilon;-box
+ * index of each solution is computed once when the solution is added.  A hash
+ * map from the &epsilon;-box index to the solution occupying that box resolves
+ * solutions in the same box in constant time, and an {@link NDTree} over the
+ * &epsilon;-box indices finds dominated and dominating boxes without comparing
+ * against every solution.  The contents of this archive are identical to
+ * comparing the new solution against every member with the comparator, which
+ * is still used for subclasses of the comparator.  The only difference is the
+ * order: a solution replacing the occupant of its &epsilon;-box takes the
+ * occupant's position instead of being moved to the end of this archive.
+ * <p>
  * References:
  * <ol>
  *   <li>Laumanns, M. et al.  "Combining Convergence and Diversity in
@@ -51,6 +69,36 @@ public class EpsilonBoxDominanceArchive extends NondominatedPopulation {
 	 */
 	private int numberOfDominatingImprovements;
 
+	/**
+	 * {@code true} if the &epsilon;-box indices are used to find the dominated
+	 * and dominating solutions; {@code false} if each new solution is compared
+	 * against every member using the comparator.
+	 */
+	private final boolean indexed;
+
+	/**
+	 * Maps each occupied &epsilon;-box to the box storing the occupant, or
+	 * {@code null} if this archive is not indexed.
+	 */
+	private final Map<Box, Box> boxes;
+
+	/**
+	 * The ND-Tree indexing the occupied &epsilon;-boxes, or {@code null} if
+	 * this archive is not indexed.
+	 */
+	private final NDTree<Box> tree;
+
+	/**
+	 * The box of each solution in this archive, in the same order as the
+	 * solutions, or {@code null} if this archive is not indexed.
+	 */
+	private final List<Box> members;
+
+	/**
+	 * The constraint violation shared by all solutions in this archive.
+	 */
+	private double constraintViolation;
+
 	/**
 	 * Constructs an empty &epsilon;-box dominance archive using an additive
 	 * &epsilon;-box dominance comparator with the specified &epsilon;.
@@ -59,7 +107,7 @@ public class EpsilonBoxDominanceArchive extends NondominatedPopulation {
 	 *        dominance comparator
 	 */
 	public EpsilonBoxDominanceArchive(double epsilon) {
-		super(new EpsilonBoxDominanceComparator(epsilon));
+		this(new EpsilonBoxDominanceComparator(epsilon));
 	}
 
 	/**
@@ -73,7 +121,7 @@ public class EpsilonBoxDominanceArchive extends NondominatedPopulation {
 	 */
 	public EpsilonBoxDominanceArchive(double epsilon,
 			Iterable<? extends Solution> iterable) {
-		super(new EpsilonBoxDominanceComparator(epsilon), iterable);
+		this(new EpsilonBoxDominanceComparator(epsilon), iterable);
 	}
 	
 	/**
@@ -84,7 +132,7 @@ public class EpsilonBoxDominanceArchive extends NondominatedPopulation {
 	 *        dominance comparator
 	 */
 	public EpsilonBoxDominanceArchive(double[] epsilon) {
-		super(new EpsilonBoxDominanceComparator(epsilon));
+		this(new EpsilonBoxDominanceComparator(epsilon));
 	}
 	
 	/**
@@ -98,7 +146,7 @@ public class EpsilonBoxDominanceArchive extends NondominatedPopulation {
 	 */
 	public EpsilonBoxDominanceArchive(double[] epsilon,
 			Iterable<? extends Solution> iterable) {
-		super(new EpsilonBoxDominanceComparator(epsilon), iterable);
+		this(new EpsilonBoxDominanceComparator(epsilon), iterable);
 	}
 
 	/**
@@ -110,6 +158,18 @@ public class EpsilonBoxDominanceArchive extends NondominatedPopulation {
 	 */
 	public EpsilonBoxDominanceArchive(EpsilonBoxDominanceComparator comparator) {
 		super(comparator);
+		
+		indexed = comparator.getClass() == EpsilonBoxDominanceComparator.class;
+		
+		if (indexed) {
+			boxes = new HashMap<Box, Box>();
+			tree = new NDTree<Box>();
+			members = new ArrayList<Box>();
+		} else {
+			boxes = null;
+			tree = null;
+			members = null;
+		}
 	}
 
 	/**
@@ -123,11 +183,16 @@ public class EpsilonBoxDominanceArchive extends NondominatedPopulation {
 	 */
 	public EpsilonBoxDominanceArchive(EpsilonBoxDominanceComparator comparator,
 			Iterable<? extends Solution> iterable) {
-		super(comparator, iterable);
+		this(comparator);
+		addAll(iterable);
 	}
 
 	@Override
 	public boolean add(Solution newSolution) {
+		if (indexed) {
+			return addIndexed(newSolution);
+		}
+		
 		Iterator<Solution> iterator = iterator();
 
 		boolean same = false;
@@ -161,6 +226,234 @@ public class EpsilonBoxDominanceArchive extends NondominatedPopulation {
 		return forceAddWithoutCheck(newSolution);
 	}
 
+	/**
+	 * Adds the solution using the &epsilon;-box indices, producing the same
+	 * result as {@link #add(Solution)} without comparing the new solution
+	 * against every member.
+	 * 
+	 * @param newSolution the new solution
+	 * @return {@code true} if the new solution was added; {@code false}
+	 *         otherwise
+	 */
+	private boolean addIndexed(Solution newSolution) {
+		double violation = AggregateConstraintComparator.getConstraints(
+				newSolution);
+		
+		if (isEmpty()) {
+			constraintViolation = violation;
+		} else {
+			int flag = Double.compare(violation, constraintViolation);
+			
+			if (flag > 0) {
+				return false;
+			} else if (flag < 0) {
+				// every member is dominated by the new solution
+				clear();
+				constraintViolation = violation;
+				numberOfImprovements++;
+				numberOfDominatingImprovements++;
+				
+				return append(new Box(newSolution));
+			}
+		}
+		
+		Box box = new Box(newSolution);
+		Box occupant = boxes.get(box);
+		
+		if (occupant != null) {
+			// keep the solution nearest the corner of the box
+			if (Double.compare(box.distance, occupant.distance) >= 0) {
+				return false;
+			}
+			
+			// take the occupant's position in this archive
+			boxes.remove(occupant);
+			tree.remove(occupant);
+			box.index = occupant.index;
+			members.set(box.index, box);
+			index(box);
+			forceReplaceWithoutCheck(box.index, newSolution);
+			return true;
+		} else if (tree.isDominated(box)) {
+			return false;
+		} else {
+			List<Box> dominated = tree.removeDominated(box);
+			
+			if (!dominated.isEmpty()) {
+				removeFromPopulation(dominated);
+				numberOfDominatingImprovements++;
+			}
+			
+			numberOfImprovements++;
+		}
+		
+		return append(box);
+	}
+	
+	@Override
+	boolean isRejected(Solution newSolution) {
+		if (!indexed || isEmpty()) {
+			return false;
+		}
+		
+		int flag = Double.compare(
+				AggregateConstraintComparator.getConstraints(newSolution),
+				constraintViolation);
+		
+		if (flag != 0) {
+			return flag > 0;
+		}
+		
+		Box box = new Box(newSolution);
+		Box occupant = boxes.get(box);
+		
+		if (occupant != null) {
+			return Double.compare(box.distance, occupant.distance) >= 0;
+		} else {
+			return tree.isDominated(box);
+		}
+	}
+	
+	/**
+	 * Adds the box to the hash map and ND-Tree.
+	 * 
+	 * @param box the box
+	 */
+	private void index(Box box) {
+		boxes.put(box, box);
+		tree.add(box);
+	}
+	
+	/**
+	 * Adds the solution occupying the box to the end of this archive and
+	 * indexes the box.
+	 * 
+	 * @param box the box
+	 * @return {@code true} if this archive was modified as a result of this
+	 *         operation
+	 */
+	private boolean append(Box box) {
+		box.index = members.size();
+		members.add(box);
+		index(box);
+		return forceAddWithoutCheck(box.solution);
+	}
+	
+	/**
+	 * Removes the solutions occupying the given boxes from this archive,
+	 * preserving the order of the remaining solutions.  The boxes must already
+	 * be removed from the ND-Tree.
+	 * 
+	 * @param removed the boxes whose occupants are removed
+	 */
+	private void removeFromPopulation(List<Box> removed) {
+		for (Box box : removed) {
+			boxes.remove(box);
+			box.index = -1;
+		}
+		
+		Iterator<Box> iterator = members.iterator();
+		int index = 0;
+		
+		while (iterator.hasNext()) {
+			Box box = iterator.next();
+			
+			if (box.index < 0) {
+				iterator.remove();
+				super.remove(index);
+			} else {
+				box.index = index++;
+			}
+		}
+	}
+	
+	@Override
+	public void remove(int index) {
+		super.remove(index);
+		
+		if (indexed) {
+			Box box = members.remove(index);
+			boxes.remove(box);
+			tree.remove(box);
+			
+			for (int i = index; i < members.size(); i++) {
+				members.get(i).index = i;
+			}
+		}
+	}
+	
+	@Override
+	public boolean remove(Solution solution) {
+		int index = indexOf(solution);
+		
+		if (index < 0) {
+			return false;
+		}
+		
+		remove(index);
+		return true;
+	}
+	
+	@Override
+	public void clear() {
+		super.clear();
+		
+		if (indexed) {
+			boxes.clear();
+			tree.clear();
+			members.clear();
+		}
+	}
+	
+	/**
+	 * Replaces the solution at the given index using the comparator, then
+	 * rebuilds the &epsilon;-box indices.
+	 */
+	@Override
+	public void replace(int index, Solution newSolution) {
+		super.replace(index, newSolution);
+		rebuild();
+	}
+	
+	/**
+	 * Sorts the solutions in this archive and rebuilds the &epsilon;-box
+	 * indices.
+	 */
+	@Override
+	public void sort(Comparator<? super Solution> comparator) {
+		super.sort(comparator);
+		rebuild();
+	}
+	
+	/**
+	 * Truncates this archive and rebuilds the &epsilon;-box indices.
+	 */
+	@Override
+	public void truncate(int size, Comparator<? super Solution> comparator) {
+		super.truncate(size, comparator);
+		rebuild();
+	}
+	
+	/**
+	 * Rebuilds the &epsilon;-box indices from the solutions in this archive.
+	 */
+	private void rebuild() {
+		if (indexed) {
+			boxes.clear();
+			tree.clear();
+			members.clear();
+			
+			for (Solution solution : this) {
+				Box box = new Box(solution);
+				constraintViolation = AggregateConstraintComparator
+						.getConstraints(solution);
+				box.index = members.size();
+				members.add(box);
+				index(box);
+			}
+		}
+	}
+
 	/**
 	 * Returns the &epsilon;-box dominance comparator used by this archive.
 	 * 
@@ -190,5 +483,75 @@ public class EpsilonBoxDominanceArchive extends NondominatedPopulation {
 	public int getNumberOfDominatingImprovements() {
 		return numberOfDominatingImprovements;
 	}
+	
+	/**
+	 * The &epsilon;-box occupied by a solution in this archive.  Two boxes are
+	 * equal if they have the same &epsilon;-box index, regardless of the
+	 * solution.
+	 */
+	private class Box extends NDTree.Entry {
+		
+		/**
+		 * The solution occupying this box.
+		 */
+		private final Solution solution;
+		
+		/**
+		 * The squared distance from the solution to the corner of this box.
+		 */
+		private final double distance;
+		
+		/**
+		 * The cached hash code of the &epsilon;-box index.
+		 */
+		private final int hashCode;
+		
+		/**
+		 * The index of the solution in this archive.
+		 */
+		private int index;
+		
+		/**
+		 * Constructs the &epsilon;-box occupied by the solution.
+		 * 
+		 * @param solution the solution
+		 */
+		public Box(Solution solution) {
+			super(new double[solution.getNumberOfObjectives()]);
+			this.solution = solution;
+			
+			EpsilonBoxDominanceComparator comparator = getComparator();
+			double distance = 0.0;
+			
+			for (int i = 0; i < point.length; i++) {
+				double epsilon = comparator.getEpsilon(i);
+				double objective = solution.getObjective(i);
+				double index = Math.floor(objective / epsilon);
+				
+				point[i] = index;
+				distance += Math.pow(objective - index * epsilon, 2.0);
+			}
+			
+			this.distance = distance;
+			this.hashCode = Arrays.hashCode(point);
+		}
+		
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+		
+		@Override
+		public boolean equals(Object obj) {
+			if (obj == this) {
+				return true;
+			} else if ((obj == null) || (obj.getClass() != getClass())) {
+				return false;
+			} else {
+				return Arrays.equals(point, ((Box)obj).point);
+			}
+		}
+		
+	}
 
 }
@@ -17,8 +17,8 @@
  */
 package org.moeaframework.core;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import org.moeaframework.core.comparator.DominanceComparator;
 
@@ -31,6 +31,12 @@ import org.moeaframework.core.comparator.DominanceComparator;
  * implementation except on edge cases (e.g., for N solutions there are N
  * fronts).
  * <p>
+ * The dominance relations are stored in packed bit sets, requiring N^2/4
+ * bytes of memory.  For large populations, the pairwise comparisons can
+ * optionally be split across all available processors.  The ranks and
+ * crowding distances do not depend on whether the comparisons are performed
+ * in parallel, but the dominance comparator must then be thread-safe.
+ * <p>
  * [1] does not discuss how to handle duplicate solutions.  A straightforward
  * interpretation is that duplicate solutions should have the worst crowding
  * distance (and hence are truncated/pruned from the population first).
@@ -43,12 +49,30 @@ import org.moeaframework.core.comparator.DominanceComparator;
  * </ol>
  */
 public class FastNondominatedSorting extends NondominatedSorting {
+	
+	/**
+	 * The minimum population size before the comparisons are performed in
+	 * parallel.
+	 */
+	private static final int PARALLEL_THRESHOLD = 1000;
+	
+	/**
+	 * The number of rows compared by each parallel task.
+	 */
+	private static final int ROWS_PER_TASK = 16;
+	
+	/**
+	 * {@code true} if the pairwise comparisons are performed in parallel for
+	 * large populations; {@code false} otherwise.
+	 */
+	private final boolean parallel;
 
 	/**
 	 * Constructs a fast non-dominated sorting operator using Pareto dominance.
 	 */
 	public FastNondominatedSorting() {
 		super();
+		parallel = Settings.useParallelNondominatedSorting();
 	}
 
 	/**
@@ -58,75 +82,100 @@ public class FastNondominatedSorting extends NondominatedSorting {
 	 * @param comparator the dominance comparator
 	 */
 	public FastNondominatedSorting(DominanceComparator comparator) {
+		this(comparator, Settings.useParallelNondominatedSorting());
+	}
+	
+	/**
+	 * Constructs a fast non-dominated sorting operator using the specified
+	 * dominance comparator.
+	 * 
+	 * @param comparator the dominance comparator, which must be thread-safe
+	 *        if {@code parallel} is {@code true}
+	 * @param parallel {@code true} if the pairwise comparisons are performed
+	 *        in parallel for large populations; {@code false} otherwise
+	 */
+	public FastNondominatedSorting(DominanceComparator comparator,
+			boolean parallel) {
 		super(comparator);
+		this.parallel = parallel;
 	}
 
 	@Override
 	public void evaluate(Population population) {
 		int N = population.size();
+		int words = (N + 63) >>> 6;
+		Solution[] solutions = new Solution[N];
+		
+		for (int i = 0; i < N; i++) {
+			solutions[i] = population.get(i);
+		}
 		
-		// precompute the dominance relations
-		int[][] dominanceChecks = new int[N][N];
+		// precompute the dominance relations for the upper triangle, where
+		// row i only records the relations with solutions j > i
+		long[][] dominates = new long[N][words];
+		long[][] dominatedBy = new long[N][words];
 		
+		if (parallel && (N >= PARALLEL_THRESHOLD)) {
+			ForkJoinPool.commonPool().invoke(new CompareTask(solutions,
+					dominates, dominatedBy, 0, N));
+		} else {
+			compareRows(solutions, dominates, dominatedBy, 0, N);
+		}
+		
+		// mirror the relations into the lower triangle, so that row i 
+		// records the solutions that s_i dominates and that dominate s_i
 		for (int i = 0; i < N; i++) {
-			Solution si = population.get(i);
+			for (int j = nextSetBit(dominates[i], i + 1); j >= 0;
+					j = nextSetBit(dominates[i], j + 1)) {
+				dominatedBy[j][i >>> 6] |= 1L << i;
+			}
 			
-			for (int j = i+1; j < N; j++) {
-				if (i != j) {
-					Solution sj = population.get(j);
-					
-					dominanceChecks[i][j] = comparator.compare(si, sj);
-					dominanceChecks[j][i] = -dominanceChecks[i][j];
-				}
+			for (int j = nextSetBit(dominatedBy[i], i + 1); j >= 0;
+					j = nextSetBit(dominatedBy[i], j + 1)) {
+				dominates[j][i >>> 6] |= 1L << i;
 			}
 		}
 		
-		// compute for each solution s_i the solutions s_j that it dominates
-		// and the number of times it is dominated
+		// compute for each solution s_i the number of times it is dominated
 		int[] dominatedCounts = new int[N];
-		List<List<Integer>> dominatesList = new ArrayList<List<Integer>>();
-		List<Integer> currentFront = new ArrayList<Integer>();
-		
+		int[] currentFront = new int[N];
+		int currentSize = 0;
 		
 		for (int i = 0; i < N; i++) {
-			List<Integer> dominates = new ArrayList<Integer>();
 			int dominatedCount = 0;
 			
-			for (int j = 0; j < N; j++) {
-				if (i != j) {
-					if (dominanceChecks[i][j] < 0) {
-						dominates.add(j);
-					} else if (dominanceChecks[j][i] < 0) {
-						dominatedCount += 1;
-					}
-				}
+			for (long word : dominatedBy[i]) {
+				dominatedCount += Long.bitCount(word);
 			}
 			
 			if (dominatedCount == 0) {
-				currentFront.add(i);
+				currentFront[currentSize++] = i;
 			}
 			
-			dominatesList.add(dominates);
 			dominatedCounts[i] = dominatedCount;
 		}
 		
 		// assign ranks
+		int[] nextFront = new int[N];
 		int rank = 0;
 		
-		while (!currentFront.isEmpty()) {
-			List<Integer> nextFront = new ArrayList<Integer>();
+		while (currentSize > 0) {
+			int nextSize = 0;
 			Population solutionsInFront = new Population();
 			
-			for (int i = 0; i < currentFront.size(); i++) {
-				Solution solution = population.get(currentFront.get(i));
-				solution.setAttribute(RANK_ATTRIBUTE, rank);
+			for (int i = 0; i < currentSize; i++) {
+				Solution solution = solutions[currentFront[i]];
+				solution.setIntAttribute(RANK_ATTRIBUTE, rank);
 				
 				// update the dominated counts as compute next front
-				for (Integer j : dominatesList.get(currentFront.get(i))) {
+				long[] row = dominates[currentFront[i]];
+				
+				for (int j = nextSetBit(row, 0); j >= 0;
+						j = nextSetBit(row, j + 1)) {
 					dominatedCounts[j] -= 1;
 					
 					if (dominatedCounts[j] == 0) {
-						nextFront.add(j);
+						nextFront[nextSize++] = j;
 					}
 				}
 				
@@ -136,8 +185,144 @@ public class FastNondominatedSorting extends NondominatedSorting {
 			updateCrowdingDistance(solutionsInFront);
 			
 			rank += 1;
+			
+			int[] temp = currentFront;
 			currentFront = nextFront;
+			nextFront = temp;
+			currentSize = nextSize;
+		}
+	}
+	
+	/**
+	 * Compares the solutions in rows {@code from} (inclusive) through
+	 * {@code to} (exclusive) with all solutions having a larger index.  Only
+	 * the bit sets for these rows are modified, so disjoint row ranges can be
+	 * processed concurrently.
+	 * 
+	 * @param solutions the solutions
+	 * @param dominates the bit sets recording the solutions dominated by each
+	 *        solution
+	 * @param dominatedBy the bit sets recording the solutions dominating each
+	 *        solution
+	 * @param from the first row, inclusive
+	 * @param to the last row, exclusive
+	 */
+	private void compareRows(Solution[] solutions, long[][] dominates,
+			long[][] dominatedBy, int from, int to) {
+		for (int i = from; i < to; i++) {
+			Solution si = solutions[i];
+			
+			for (int j = i+1; j < solutions.length; j++) {
+				int flag = comparator.compare(si, solutions[j]);
+				
+				if (flag < 0) {
+					dominates[i][j >>> 6] |= 1L << j;
+				} else if (flag > 0) {
+					dominatedBy[i][j >>> 6] |= 1L << j;
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Returns the index of the first bit that is set on or after the given
+	 * index, or {@code -1} if no such bit exists.
+	 * 
+	 * @param bits the packed bit set
+	 * @param fromIndex the index to start checking from, inclusive
+	 * @return the index of the next set bit, or {@code -1} if no such bit
+	 *         exists
+	 */
+	private static int nextSetBit(long[] bits, int fromIndex) {
+		int index = fromIndex >>> 6;
+		
+		if (index >= bits.length) {
+			return -1;
+		}
+		
+		long word = bits[index] & (-1L << fromIndex);
+		
+		while (true) {
+			if (word != 0) {
+				return (index << 6) + Long.numberOfTrailingZeros(word);
+			}
+			
+			if (++index == bits.length) {
+				return -1;
+			}
+			
+			word = bits[index];
 		}
 	}
+	
+	/**
+	 * Fork-join task comparing a range of rows, recursively splitting the
+	 * range until it contains at most {@value #ROWS_PER_TASK} rows.
+	 */
+	private class CompareTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 4727469447218716155L;
+
+		/**
+		 * The solutions.
+		 */
+		private final Solution[] solutions;
+		
+		/**
+		 * The bit sets recording the solutions dominated by each solution.
+		 */
+		private final long[][] dominates;
+		
+		/**
+		 * The bit sets recording the solutions dominating each solution.
+		 */
+		private final long[][] dominatedBy;
+		
+		/**
+		 * The first row, inclusive.
+		 */
+		private final int from;
+		
+		/**
+		 * The last row, exclusive.
+		 */
+		private final int to;
+
+		/**
+		 * Constructs a new task comparing a range of rows.
+		 * 
+		 * @param solutions the solutions
+		 * @param dominates the bit sets recording the solutions dominated by
+		 *        each solution
+		 * @param dominatedBy the bit sets recording the solutions dominating
+		 *        each solution
+		 * @param from the first row, inclusive
+		 * @param to the last row, exclusive
+		 */
+		public CompareTask(Solution[] solutions, long[][] dominates,
+				long[][] dominatedBy, int from, int to) {
+			super();
+			this.solutions = solutions;
+			this.dominates = dominates;
+			this.dominatedBy = dominatedBy;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= ROWS_PER_TASK) {
+				compareRows(solutions, dominates, dominatedBy, from, to);
+			} else {
+				int mid = (from + to) >>> 1;
+				
+				invokeAll(new CompareTask(solutions, dominates, dominatedBy,
+								from, mid),
+						new CompareTask(solutions, dominates, dominatedBy,
+								mid, to));
+			}
+		}
+		
+	}
 
 }
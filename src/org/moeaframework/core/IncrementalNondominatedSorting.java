@@ -0,0 +1,332 @@
+/* Copyright 2009-2020 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import org.moeaframework.core.comparator.DominanceComparator;
+
+/**
+ * Incremental non-dominated sorting algorithm for dominance depth ranking.
+ * In addition to sorting an entire population with
+ * {@link #evaluate(Population)}, this implementation remembers the fronts and
+ * supports inserting or removing a single solution with {@link #add(Solution)}
+ * and {@link #remove(Solution)}.  Only the fronts affected by the change are
+ * updated, and the crowding distance is recomputed only for those fronts.
+ * This makes the implementation well suited for steady-state algorithms, such
+ * as {@link org.moeaframework.algorithm.SMSEMOA}, that insert and remove one
+ * solution at a time.
+ * <p>
+ * Since this class maintains state between calls, each instance should be
+ * used with only one population.  The solutions in the population must not be
+ * modified while tracked by this instance.
+ * <p>
+ * The ranks always match those assigned by {@link FastNondominatedSorting},
+ * but the members of each front may be kept in a different order.  Since the
+ * crowding distance of solutions with equal objective values depends on this
+ * order, the crowding distances of such solutions can differ.
+ * <p>
+ * References:
+ * <ol>
+ * <li>Zhang, X., Tian, Y., Cheng, R., and Jin, Y. (2015).  "An Efficient
+ * Approach to Nondominated Sorting for Evolutionary Multiobjective
+ * Optimization."  IEEE Transactions on Evolutionary Computation,
+ * 19(2):201-213.
+ * <li>Li, K., Deb, K., Zhang, Q., and Zhang, Q. (2017).  "Efficient
+ * Nondomination Level Update Method for Steady-State Evolutionary
+ * Multiobjective Optimization."  IEEE Transactions on Cybernetics,
+ * 47(9):2838-2849.
+ * </ol>
+ */
+public class IncrementalNondominatedSorting extends NondominatedSorting {
+
+	/**
+	 * The fronts, where the front at index {@code i} contains the solutions
+	 * with rank {@code i}.
+	 */
+	private final List<Population> fronts;
+
+	/**
+	 * Constructs an incremental non-dominated sorting operator using Pareto
+	 * dominance.
+	 */
+	public IncrementalNondominatedSorting() {
+		super();
+		fronts = new ArrayList<Population>();
+	}
+
+	/**
+	 * Constructs an incremental non-dominated sorting operator using the
+	 * specified dominance comparator.
+	 *
+	 * @param comparator the dominance comparator
+	 */
+	public IncrementalNondominatedSorting(DominanceComparator comparator) {
+		super(comparator);
+		fronts = new ArrayList<Population>();
+	}
+
+	/**
+	 * Performs non-dominated sorting on the specified population, assigning
+	 * the {@code rank} and {@code crowdingDistance} attributes to solutions.
+	 * Any previously tracked solutions are discarded, and subsequent calls to
+	 * {@link #add(Solution)} and {@link #remove(Solution)} update the ranks
+	 * relative to this population.
+	 *
+	 * @param population the population whose solutions are to be evaluated
+	 */
+	@Override
+	public void evaluate(Population population) {
+		fronts.clear();
+
+		BitSet modified = new BitSet();
+
+		for (Solution solution : population) {
+			insert(solution, modified);
+		}
+
+		updateCrowdingDistance(modified);
+	}
+
+	/**
+	 * Adds a solution, updating the {@code rank} and {@code crowdingDistance}
+	 * attributes of the solutions in any affected fronts.
+	 *
+	 * @param solution the solution being added
+	 */
+	public void add(Solution solution) {
+		BitSet modified = new BitSet();
+		insert(solution, modified);
+		updateCrowdingDistance(modified);
+	}
+
+	/**
+	 * Removes a solution, updating the {@code rank} and
+	 * {@code crowdingDistance} attributes of the solutions in any affected
+	 * fronts.
+	 *
+	 * @param solution the solution being removed
+	 * @return {@code true} if the solution was tracked by this instance and
+	 *         was removed; {@code false} otherwise
+	 */
+	public boolean remove(Solution solution) {
+		BitSet modified = new BitSet();
+		boolean removed = delete(solution, modified);
+		updateCrowdingDistance(modified);
+		return removed;
+	}
+
+	/**
+	 * Removes all tracked solutions.
+	 */
+	public void clear() {
+		fronts.clear();
+	}
+
+	/**
+	 * Returns the number of fronts.
+	 *
+	 * @return the number of fronts
+	 */
+	public int getNumberOfFronts() {
+		return fronts.size();
+	}
+
+	/**
+	 * Returns the solutions with the given rank.  The returned population
+	 * must not be modified.
+	 *
+	 * @param rank the rank
+	 * @return the solutions with the given rank
+	 */
+	public Population getFront(int rank) {
+		return fronts.get(rank);
+	}
+
+	/**
+	 * Inserts a solution into the first front with no member dominating it,
+	 * and moves any solutions it dominates to subsequent fronts.
+	 *
+	 * @param solution the solution being inserted
+	 * @param modified the indices of fronts whose membership changed
+	 */
+	private void insert(Solution solution, BitSet modified) {
+		// if a front contains a solution dominating the new solution, then so
+		// do all preceding fronts, permitting a binary search
+		int low = 0;
+		int high = fronts.size();
+
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+
+			if (isDominated(solution, fronts.get(mid))) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+
+		List<Solution> moved = new ArrayList<Solution>();
+		moved.add(solution);
+
+		for (int rank = low; !moved.isEmpty(); rank++) {
+			if (rank == fronts.size()) {
+				fronts.add(new Population());
+			}
+
+			Population front = fronts.get(rank);
+			List<Solution> next = new ArrayList<Solution>();
+
+			// solutions dominated by the solutions moving into this front
+			// are pushed down into the next front
+			for (int i = front.size() - 1; i >= 0; i--) {
+				Solution member = front.get(i);
+
+				for (Solution solution2 : moved) {
+					if (comparator.compare(solution2, member) < 0) {
+						next.add(0, member);
+						front.remove(i);
+						break;
+					}
+				}
+			}
+
+			for (Solution solution2 : moved) {
+				solution2.setIntAttribute(RANK_ATTRIBUTE, rank);
+				front.add(solution2);
+			}
+
+			modified.set(rank);
+			moved = next;
+		}
+	}
+
+	/**
+	 * Deletes a solution from its front, and moves any solutions that are no
+	 * longer dominated by a member of the preceding front forward.
+	 *
+	 * @param solution the solution being deleted
+	 * @param modified the indices of fronts whose membership changed
+	 * @return {@code true} if the solution was found and deleted;
+	 *         {@code false} otherwise
+	 */
+	private boolean delete(Solution solution, BitSet modified) {
+		int rank = findRank(solution);
+
+		if (rank < 0) {
+			return false;
+		}
+
+		fronts.get(rank).remove(solution);
+		modified.set(rank);
+
+		for (; rank + 1 < fronts.size(); rank++) {
+			Population front = fronts.get(rank);
+			Population nextFront = fronts.get(rank + 1);
+			List<Solution> promoted = new ArrayList<Solution>();
+
+			for (int i = 0; i < nextFront.size(); i++) {
+				Solution member = nextFront.get(i);
+
+				if (!isDominated(member, front)) {
+					promoted.add(member);
+				}
+			}
+
+			if (promoted.isEmpty()) {
+				break;
+			}
+
+			for (Solution member : promoted) {
+				nextFront.remove(member);
+				member.setIntAttribute(RANK_ATTRIBUTE, rank);
+				front.add(member);
+			}
+
+			modified.set(rank);
+			modified.set(rank + 1);
+		}
+
+		// promotions can only empty the trailing fronts
+		while (!fronts.isEmpty() && fronts.get(fronts.size() - 1).isEmpty()) {
+			fronts.remove(fronts.size() - 1);
+		}
+
+		return true;
+	}
+
+	/**
+	 * Returns the rank of the front containing the solution, or {@code -1}
+	 * if the solution is not tracked by this instance.
+	 *
+	 * @param solution the solution
+	 * @return the rank of the front containing the solution, or {@code -1}
+	 *         if the solution is not tracked by this instance
+	 */
+	private int findRank(Solution solution) {
+		if (solution.hasAttribute(RANK_ATTRIBUTE)) {
+			int rank = solution.getIntAttribute(RANK_ATTRIBUTE);
+
+			if ((rank >= 0) && (rank < fronts.size()) &&
+					fronts.get(rank).contains(solution)) {
+				return rank;
+			}
+		}
+
+		for (int i = 0; i < fronts.size(); i++) {
+			if (fronts.get(i).contains(solution)) {
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Returns {@code true} if any member of the front dominates the solution.
+	 *
+	 * @param solution the solution
+	 * @param front the front
+	 * @return {@code true} if any member of the front dominates the solution;
+	 *         {@code false} otherwise
+	 */
+	private boolean isDominated(Solution solution, Population front) {
+		for (int i = 0; i < front.size(); i++) {
+			if (comparator.compare(front.get(i), solution) < 0) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Recomputes the crowding distance for the modified fronts.
+	 *
+	 * @param modified the indices of fronts whose membership changed
+	 */
+	private void updateCrowdingDistance(BitSet modified) {
+		for (int i = modified.nextSetBit(0); (i >= 0) && (i < fronts.size());
+				i = modified.nextSetBit(i + 1)) {
+			updateCrowdingDistance(fronts.get(i));
+		}
+	}
+
+}
@@ -0,0 +1,461 @@
+/* Copyright 2009-2020 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.moeaframework.core.comparator.AggregateConstraintComparator;
+import org.moeaframework.core.comparator.DominanceComparator;
+import org.moeaframework.core.comparator.ParetoDominanceComparator;
+import org.moeaframework.core.comparator.ParetoObjectiveComparator;
+
+/**
+ * A non-dominated population whose solutions are indexed by an ND-Tree, a
+ * spatial index that stores the solutions in leaves grouped by their location
+ * in objective space.  Each node of the tree records a lower and upper bound
+ * on the objectives of the solutions below it, allowing entire subtrees to be
+ * skipped when checking if a new solution is dominated by any member, or to be
+ * discarded at once when all of its solutions are dominated by the new
+ * solution (see {@link NDTree}).  This makes adding solutions to large, unbounded archives
+ * substantially faster than the linear scan performed by
+ * {@link NondominatedPopulation}.
+ * <p>
+ * This population supports the {@link ParetoDominanceComparator} and
+ * {@link ParetoObjectiveComparator}, and has the same contents as a
+ * {@code NondominatedPopulation} with the same comparator and
+ * {@link DuplicateMode}.  The only differences are:
+ * <ol>
+ *   <li>When solutions are removed because they are dominated by a new
+ *       solution, the last solution in this population is moved into their
+ *       position.  Consequently, the order of the solutions may differ from
+ *       the order produced by {@code NondominatedPopulation}.
+ *   <li>With {@link DuplicateMode#ALLOW_DUPLICATE_OBJECTIVES}, only solutions
+ *       whose objectives are within {@value Settings#EPS} of each other are
+ *       checked for identical decision variables.
+ * </ol>
+ */
+public class IndexedNondominatedPopulation extends NondominatedPopulation {
+
+	/**
+	 * {@code true} if the comparator compares the constraint violations before
+	 * the objectives; {@code false} if constraints are ignored.
+	 */
+	private final boolean useConstraints;
+
+	/**
+	 * The entries for each solution in this population, in the same order as
+	 * the population.
+	 */
+	private final List<Entry> entries;
+
+	/**
+	 * The ND-Tree indexing the objectives of the solutions.
+	 */
+	private final NDTree<Entry> tree;
+
+	/**
+	 * The constraint violation shared by all solutions in this population.
+	 * Solutions with a smaller constraint violation dominate all solutions in
+	 * this population, and solutions with a larger constraint violation are
+	 * dominated.
+	 */
+	private double constraintViolation;
+
+	/**
+	 * Constructs an empty indexed non-dominated population using the Pareto
+	 * dominance relation.
+	 */
+	public IndexedNondominatedPopulation() {
+		this(new ParetoDominanceComparator());
+	}
+
+	/**
+	 * Constructs an empty indexed non-dominated population using the Pareto
+	 * dominance relation.
+	 *
+	 * @param duplicateMode specifies how duplicate solutions are handled
+	 */
+	public IndexedNondominatedPopulation(DuplicateMode duplicateMode) {
+		this(new ParetoDominanceComparator(), duplicateMode);
+	}
+
+	/**
+	 * Constructs an empty indexed non-dominated population using the
+	 * specified dominance relation.
+	 *
+	 * @param comparator the dominance relation used by this non-dominated
+	 *        population
+	 * @throws IllegalArgumentException if the comparator is not a
+	 *         {@link ParetoDominanceComparator} or
+	 *         {@link ParetoObjectiveComparator}
+	 */
+	public IndexedNondominatedPopulation(DominanceComparator comparator) {
+		this(comparator, Settings.getDuplicateMode());
+	}
+
+	/**
+	 * Constructs an empty indexed non-dominated population using the
+	 * specified dominance relation.
+	 *
+	 * @param comparator the dominance relation used by this non-dominated
+	 *        population
+	 * @param duplicateMode specifies how duplicate solutions are handled
+	 * @throws IllegalArgumentException if the comparator is not a
+	 *         {@link ParetoDominanceComparator} or
+	 *         {@link ParetoObjectiveComparator}
+	 */
+	public IndexedNondominatedPopulation(DominanceComparator comparator,
+			DuplicateMode duplicateMode) {
+		super(comparator, duplicateMode);
+
+		if (comparator.getClass() == ParetoDominanceComparator.class) {
+			useConstraints = true;
+		} else if (comparator.getClass() == ParetoObjectiveComparator.class) {
+			useConstraints = false;
+		} else {
+			throw new IllegalArgumentException(
+					"comparator must be a Pareto dominance comparator");
+		}
+
+		entries = new ArrayList<Entry>();
+		tree = new NDTree<Entry>(new EntryComparator());
+	}
+
+	/**
+	 * Constructs an indexed non-dominated population using the Pareto
+	 * dominance relation and initialized with the specified solutions.
+	 *
+	 * @param iterable the solutions used to initialize this non-dominated
+	 *        population
+	 */
+	public IndexedNondominatedPopulation(
+			Iterable<? extends Solution> iterable) {
+		this();
+		addAll(iterable);
+	}
+
+	/**
+	 * Constructs an indexed non-dominated population using the specified
+	 * dominance comparator and initialized with the specified solutions.
+	 *
+	 * @param comparator the dominance relation used by this non-dominated
+	 *        population
+	 * @param iterable the solutions used to initialize this non-dominated
+	 *        population
+	 * @throws IllegalArgumentException if the comparator is not a
+	 *         {@link ParetoDominanceComparator} or
+	 *         {@link ParetoObjectiveComparator}
+	 */
+	public IndexedNondominatedPopulation(DominanceComparator comparator,
+			Iterable<? extends Solution> iterable) {
+		this(comparator);
+		addAll(iterable);
+	}
+
+	@Override
+	public boolean add(Solution newSolution) {
+		Entry newEntry = new Entry(newSolution);
+
+		if (!isEmpty() && useConstraints) {
+			int flag = Double.compare(getConstraintViolation(newSolution),
+					constraintViolation);
+
+			if (flag > 0) {
+				return false;
+			} else if (flag < 0) {
+				clear();
+			}
+		}
+
+		if (isEmpty()) {
+			constraintViolation = useConstraints ?
+					getConstraintViolation(newSolution) : 0.0;
+		} else if (isDominatedOrDuplicate(newEntry)) {
+			return false;
+		} else {
+			removeDominated(newEntry);
+		}
+
+		return insert(newEntry);
+	}
+
+	@Override
+	boolean isRejected(Solution newSolution) {
+		if (isEmpty()) {
+			return false;
+		}
+
+		if (useConstraints) {
+			int flag = Double.compare(getConstraintViolation(newSolution),
+					constraintViolation);
+
+			if (flag != 0) {
+				return flag > 0;
+			}
+		}
+
+		return isDominatedOrDuplicate(new Entry(newSolution));
+	}
+
+	/**
+	 * Replace the solution at the given index with the new solution, but only
+	 * if the new solution is non-dominated.  To maintain non-dominance within
+	 * this population, any solutions dominated by the new solution are
+	 * removed.  If the solution at the given index is itself dominated by the
+	 * new solution, the new solution is added to the end of this population.
+	 */
+	@Override
+	public void replace(int index, Solution newSolution) {
+		Entry entry = entries.get(index);
+
+		if (useConstraints) {
+			int flag = Double.compare(getConstraintViolation(newSolution),
+					constraintViolation);
+
+			if (flag > 0) {
+				return;
+			} else if (flag < 0) {
+				clear();
+				add(newSolution);
+				return;
+			}
+		}
+
+		Entry newEntry = new Entry(newSolution);
+
+		if (isDominatedOrDuplicate(newEntry)) {
+			return;
+		}
+
+		removeDominated(newEntry);
+
+		if (entry.isIndexed()) {
+			tree.remove(entry);
+			newEntry.index = entry.index;
+			entries.set(entry.index, newEntry);
+			forceReplaceWithoutCheck(entry.index, newSolution);
+			tree.add(newEntry);
+		} else {
+			insert(newEntry);
+		}
+	}
+
+	@Override
+	public void remove(int index) {
+		tree.remove(entries.get(index));
+		entries.remove(index);
+
+		for (int i = index; i < entries.size(); i++) {
+			entries.get(i).index = i;
+		}
+
+		super.remove(index);
+	}
+
+	@Override
+	public boolean remove(Solution solution) {
+		int index = indexOf(solution);
+
+		if (index < 0) {
+			return false;
+		}
+
+		remove(index);
+		return true;
+	}
+
+	@Override
+	public void clear() {
+		super.clear();
+		entries.clear();
+		tree.clear();
+	}
+
+	/**
+	 * Sorts the solutions in this population and rebuilds the index.
+	 */
+	@Override
+	public void sort(Comparator<? super Solution> comparator) {
+		super.sort(comparator);
+		rebuild();
+	}
+
+	/**
+	 * Truncates this population and rebuilds the index.
+	 */
+	@Override
+	public void truncate(int size, Comparator<? super Solution> comparator) {
+		super.truncate(size, comparator);
+		rebuild();
+	}
+
+	/**
+	 * Rebuilds the entries and the ND-Tree after the solutions in this
+	 * population are reordered.
+	 */
+	private void rebuild() {
+		entries.clear();
+		tree.clear();
+
+		for (int i = 0; i < size(); i++) {
+			Entry entry = new Entry(get(i));
+			entry.index = i;
+			entries.add(entry);
+			tree.add(entry);
+		}
+	}
+
+	/**
+	 * Returns the constraint violation of the solution, as computed by the
+	 * {@link AggregateConstraintComparator}.
+	 *
+	 * @param solution the solution
+	 * @return the constraint violation of the solution
+	 */
+	private static double getConstraintViolation(Solution solution) {
+		return AggregateConstraintComparator.getConstraints(solution);
+	}
+
+	/**
+	 * Returns {@code true} if the new solution is dominated by or a duplicate
+	 * of any solution in this population.
+	 *
+	 * @param newEntry the entry for the new solution
+	 * @return {@code true} if the new solution is dominated by or a duplicate
+	 *         of any solution in this population; {@code false} otherwise
+	 */
+	private boolean isDominatedOrDuplicate(final Entry newEntry) {
+		if (duplicateMode == DuplicateMode.ALLOW_DUPLICATES) {
+			return tree.isDominated(newEntry);
+		}
+
+		return tree.isDominated(newEntry, Settings.EPS,
+				new NDTree.DuplicateFilter<Entry>() {
+
+					@Override
+					public boolean isDuplicate(Entry entry) {
+						return IndexedNondominatedPopulation.this.isDuplicate(
+								newEntry.solution, entry.solution);
+					}
+
+				});
+	}
+
+	/**
+	 * Removes all solutions dominated by the new solution.
+	 *
+	 * @param newEntry the entry for the new solution
+	 */
+	private void removeDominated(Entry newEntry) {
+		for (Entry entry : tree.removeDominated(newEntry)) {
+			removeFromPopulation(entry);
+		}
+	}
+
+	/**
+	 * Adds the solution to the end of this population and to the ND-Tree.
+	 *
+	 * @param entry the entry for the solution
+	 * @return {@code true} if the population was modified as a result of
+	 *         this operation
+	 */
+	private boolean insert(Entry entry) {
+		entry.index = entries.size();
+		entries.add(entry);
+		tree.add(entry);
+		return forceAddWithoutCheck(entry.solution);
+	}
+
+	/**
+	 * Removes the entry from the population by moving the last solution into
+	 * its position.  The entry must already be removed from the ND-Tree.
+	 *
+	 * @param entry the entry
+	 */
+	private void removeFromPopulation(Entry entry) {
+		int lastIndex = entries.size() - 1;
+
+		if (entry.index != lastIndex) {
+			Entry last = entries.get(lastIndex);
+			last.index = entry.index;
+			entries.set(entry.index, last);
+			forceReplaceWithoutCheck(entry.index, last.solution);
+		}
+
+		entries.remove(lastIndex);
+		super.remove(lastIndex);
+	}
+
+	/**
+	 * Compares entries by the Pareto dominance of their solutions'
+	 * objectives, using {@link ParetoObjectiveComparator}.  Constraints are
+	 * handled separately, since all solutions in this population share the
+	 * same constraint violation.
+	 */
+	private static class EntryComparator implements Comparator<Entry> {
+
+		/**
+		 * The comparator for the objectives of the solutions.
+		 */
+		private final ParetoObjectiveComparator comparator;
+
+		/**
+		 * Constructs a new comparator for entries.
+		 */
+		public EntryComparator() {
+			super();
+			comparator = new ParetoObjectiveComparator();
+		}
+
+		@Override
+		public int compare(Entry entry1, Entry entry2) {
+			return comparator.compare(entry1.solution, entry2.solution);
+		}
+
+	}
+
+	/**
+	 * A solution stored in this population, indexed by its objectives.
+	 */
+	private static class Entry extends NDTree.Entry {
+
+		/**
+		 * The solution.
+		 */
+		private final Solution solution;
+
+		/**
+		 * The index of the solution in this population.
+		 */
+		private int index;
+
+		/**
+		 * Constructs a new entry for the solution.
+		 *
+		 * @param solution the solution
+		 */
+		public Entry(Solution solution) {
+			super(solution.getObjectives());
+			this.solution = solution;
+		}
+
+	}
+
+}
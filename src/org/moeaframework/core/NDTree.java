@@ -0,0 +1,704 @@
+/* Copyright 2009-2020 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * An ND-Tree storing mutually non-dominated points, used to index the
+ * solutions in non-dominated populations.  The tree stores the points in
+ * leaves grouped by their location.  Each node records a lower (ideal) and
+ * upper (nadir) bound on the points below it, allowing entire subtrees to be
+ * skipped when checking if a point is dominated, or to be discarded at once
+ * when all of its points are dominated.  The bounds order each coordinate
+ * using {@link Double#compare(double, double)}.  Entries are compared using
+ * the dominance comparator given to the tree, which must agree with Pareto
+ * dominance under this ordering.  If no comparator is given, entries are
+ * compared using Pareto dominance on their points.
+ * <p>
+ * The tree does not enforce non-dominance itself; callers are expected to
+ * check {@link #isDominated(Entry)} and {@link #removeDominated(Entry)}
+ * before adding a new entry.
+ * <p>
+ * References:
+ * <ol>
+ *   <li>Jaszkiewicz, A. and T. Lust.  "ND-Tree-Based Update: A Fast Algorithm
+ *       for the Dynamic Nondominance Problem."  IEEE Transactions on
+ *       Evolutionary Computation, 22(5):778-791, 2018.
+ * </ol>
+ *
+ * @param <E> the type of entry stored in this tree
+ */
+class NDTree<E extends NDTree.Entry> {
+
+	/**
+	 * The maximum number of entries stored in a leaf before it is split.
+	 */
+	private static final int MAX_LEAF_SIZE = 20;
+
+	/**
+	 * The root of this tree, or {@code null} if this tree is empty.
+	 */
+	private Node root;
+
+	/**
+	 * The dominance comparator for entries, or {@code null} if entries are
+	 * compared using Pareto dominance on their points.
+	 */
+	private final Comparator<? super E> comparator;
+
+	/**
+	 * Constructs an empty ND-Tree comparing entries using Pareto dominance on
+	 * their points.
+	 */
+	public NDTree() {
+		this(null);
+	}
+
+	/**
+	 * Constructs an empty ND-Tree comparing entries with the given dominance
+	 * comparator.  Since whole subtrees are accepted or skipped using their
+	 * bounds, the comparator must agree with Pareto dominance on the points
+	 * of the entries, with each coordinate ordered by
+	 * {@link Double#compare(double, double)}.
+	 *
+	 * @param comparator the dominance comparator for entries, or {@code null}
+	 *        to use Pareto dominance on their points
+	 */
+	public NDTree(Comparator<? super E> comparator) {
+		super();
+		this.comparator = comparator;
+	}
+
+	/**
+	 * Returns {@code true} if this tree contains no entries; {@code false}
+	 * otherwise.
+	 *
+	 * @return {@code true} if this tree contains no entries; {@code false}
+	 *         otherwise
+	 */
+	public boolean isEmpty() {
+		return root == null;
+	}
+
+	/**
+	 * Removes all entries from this tree.
+	 */
+	public void clear() {
+		root = null;
+	}
+
+	/**
+	 * Returns {@code true} if the query is dominated by any entry in this
+	 * tree; {@code false} otherwise.  The query is not added to this tree.
+	 *
+	 * @param query the entry being checked
+	 * @return {@code true} if the query is dominated by any entry in this
+	 *         tree; {@code false} otherwise
+	 */
+	public boolean isDominated(E query) {
+		return isDominated(query, 0.0, null);
+	}
+
+	/**
+	 * Returns {@code true} if the query is dominated by any entry in this
+	 * tree, or if the query is non-dominated with an entry within the given
+	 * distance in each coordinate for which the filter returns {@code true};
+	 * {@code false} otherwise.  The query is not added to this tree.
+	 *
+	 * @param query the entry being checked
+	 * @param radius the distance within which entries are checked by the
+	 *        filter
+	 * @param filter the filter identifying duplicate entries, or {@code null}
+	 *        if duplicates are not checked
+	 * @return {@code true} if the query is dominated by or a duplicate of any
+	 *         entry in this tree; {@code false} otherwise
+	 */
+	public boolean isDominated(E query, double radius,
+			DuplicateFilter<? super E> filter) {
+		return (root != null) && isDominated(root, query, radius, filter);
+	}
+
+	/**
+	 * Returns {@code true} if the query is dominated by or a duplicate of any
+	 * entry below the given node.
+	 *
+	 * @param node the node being searched
+	 * @param query the entry being checked
+	 * @param radius the distance within which entries are checked by the
+	 *        filter
+	 * @param filter the filter identifying duplicate entries, or {@code null}
+	 *        if duplicates are not checked
+	 * @return {@code true} if the query is dominated by or a duplicate of any
+	 *         entry below the node; {@code false} otherwise
+	 */
+	@SuppressWarnings("unchecked")
+	private boolean isDominated(Node node, E query, double radius,
+			DuplicateFilter<? super E> filter) {
+		double[] point = query.point;
+		boolean nadirDominates = true;
+		boolean strictlyBetter = false;
+
+		for (int i = 0; i < point.length; i++) {
+			if (Double.compare(node.ideal[i], point[i] + radius) > 0) {
+				// no entry in this node is better in this coordinate
+				return false;
+			}
+
+			int flag = Double.compare(node.nadir[i], point[i]);
+
+			if (flag > 0) {
+				nadirDominates = false;
+			} else if (flag < 0) {
+				strictlyBetter = true;
+			}
+		}
+
+		if (nadirDominates && strictlyBetter) {
+			// the nadir point, and hence every entry, dominates the point
+			return true;
+		}
+
+		if (node.isLeaf()) {
+			for (Entry entry : node.entries) {
+				int flag = compare(query, (E)entry);
+
+				if (flag > 0) {
+					return true;
+				} else if ((flag == 0) && (filter != null) &&
+						filter.isDuplicate((E)entry)) {
+					return true;
+				}
+			}
+		} else {
+			for (Node child : node.children) {
+				if (isDominated(child, query, radius, filter)) {
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Removes and returns all entries dominated by the query.  The query is
+	 * not added to this tree.
+	 *
+	 * @param query the dominating entry
+	 * @return the removed entries
+	 */
+	public List<E> removeDominated(E query) {
+		List<E> dominated = new ArrayList<E>();
+
+		if ((root != null) && removeDominated(root, query, dominated)) {
+			root = null;
+		}
+
+		return dominated;
+	}
+
+	/**
+	 * Removes all entries dominated by the query from the subtree rooted at
+	 * the given node.
+	 *
+	 * @param node the node
+	 * @param query the dominating entry
+	 * @param dominated the list collecting the removed entries
+	 * @return {@code true} if the node is empty after the removal and should
+	 *         be removed from its parent; {@code false} otherwise
+	 */
+	@SuppressWarnings("unchecked")
+	private boolean removeDominated(Node node, E query, List<E> dominated) {
+		double[] point = query.point;
+		boolean dominatesIdeal = true;
+		boolean strictlyBetter = false;
+
+		for (int i = 0; i < point.length; i++) {
+			if (Double.compare(node.nadir[i], point[i]) < 0) {
+				// no entry in this node is worse in this coordinate
+				return false;
+			}
+
+			int flag = Double.compare(point[i], node.ideal[i]);
+
+			if (flag > 0) {
+				dominatesIdeal = false;
+			} else if (flag < 0) {
+				strictlyBetter = true;
+			}
+		}
+
+		if (dominatesIdeal && strictlyBetter) {
+			// the ideal point, and hence every entry, is dominated
+			node.collect((List<Entry>)(List<?>)dominated);
+			return true;
+		}
+
+		if (node.isLeaf()) {
+			Iterator<Entry> iterator = node.entries.iterator();
+
+			while (iterator.hasNext()) {
+				Entry entry = iterator.next();
+
+				if (compare(query, (E)entry) < 0) {
+					iterator.remove();
+					entry.leaf = null;
+					dominated.add((E)entry);
+				}
+			}
+
+			return node.entries.isEmpty();
+		} else {
+			Iterator<Node> iterator = node.children.iterator();
+
+			while (iterator.hasNext()) {
+				if (removeDominated(iterator.next(), query, dominated)) {
+					iterator.remove();
+				}
+			}
+
+			return node.children.isEmpty();
+		}
+	}
+
+	/**
+	 * Adds the entry to this tree.
+	 *
+	 * @param entry the entry
+	 */
+	public void add(E entry) {
+		if (root == null) {
+			root = new Node(null, entry.point);
+		}
+
+		Node node = root;
+
+		while (true) {
+			node.updateBounds(entry.point);
+
+			if (node.isLeaf()) {
+				break;
+			}
+
+			node = node.closestChild(entry.point);
+		}
+
+		node.entries.add(entry);
+		entry.leaf = node;
+
+		if (node.entries.size() > MAX_LEAF_SIZE) {
+			node.split(entry.point.length + 1);
+		}
+	}
+
+	/**
+	 * Removes the entry from this tree, removing any nodes that become empty.
+	 * Entries that are not stored in this tree, such as those returned by
+	 * {@link #removeDominated(Entry)}, are ignored.
+	 *
+	 * @param entry the entry
+	 */
+	public void remove(E entry) {
+		Node node = entry.leaf;
+
+		if (node == null) {
+			return;
+		}
+
+		node.entries.remove(entry);
+		entry.leaf = null;
+
+		while (node.isEmpty()) {
+			if (node.parent == null) {
+				root = null;
+				break;
+			}
+
+			node.parent.children.remove(node);
+			node = node.parent;
+		}
+	}
+
+	/**
+	 * Compares the two entries using this tree's comparator, or Pareto
+	 * dominance on their points if no comparator was given.
+	 *
+	 * @param entry1 the first entry
+	 * @param entry2 the second entry
+	 * @return {@code -1} if the first entry dominates the second, {@code 1}
+	 *         if the second entry dominates the first, or {@code 0} if the
+	 *         entries are non-dominated
+	 */
+	private int compare(E entry1, E entry2) {
+		if (comparator == null) {
+			return compare(entry1.point, entry2.point);
+		} else {
+			return comparator.compare(entry1, entry2);
+		}
+	}
+
+	/**
+	 * Compares the two points using Pareto dominance.
+	 *
+	 * @param point1 the first point
+	 * @param point2 the second point
+	 * @return {@code -1} if the first point dominates the second, {@code 1}
+	 *         if the second point dominates the first, or {@code 0} if the
+	 *         points are non-dominated
+	 */
+	static int compare(double[] point1, double[] point2) {
+		boolean dominate1 = false;
+		boolean dominate2 = false;
+
+		for (int i = 0; i < point1.length; i++) {
+			int flag = Double.compare(point1[i], point2[i]);
+
+			if (flag < 0) {
+				dominate1 = true;
+
+				if (dominate2) {
+					return 0;
+				}
+			} else if (flag > 0) {
+				dominate2 = true;
+
+				if (dominate1) {
+					return 0;
+				}
+			}
+		}
+
+		if (dominate1 == dominate2) {
+			return 0;
+		} else if (dominate1) {
+			return -1;
+		} else {
+			return 1;
+		}
+	}
+
+	/**
+	 * Identifies entries that are duplicates of the query being checked by
+	 * {@link NDTree#isDominated(Entry, double, DuplicateFilter)}.
+	 *
+	 * @param <E> the type of entry
+	 */
+	interface DuplicateFilter<E> {
+
+		/**
+		 * Returns {@code true} if the entry, which is non-dominated with the
+		 * query being checked, is a duplicate of that query; {@code false}
+		 * otherwise.
+		 *
+		 * @param entry the entry
+		 * @return {@code true} if the entry is a duplicate; {@code false}
+		 *         otherwise
+		 */
+		public boolean isDuplicate(E entry);
+
+	}
+
+	/**
+	 * An entry stored in the ND-Tree.  Subclasses add the data associated
+	 * with the point.
+	 */
+	static class Entry {
+
+		/**
+		 * The point used to locate this entry.
+		 */
+		final double[] point;
+
+		/**
+		 * The leaf storing this entry, or {@code null} if this entry is not
+		 * stored in a tree.
+		 */
+		Node leaf;
+
+		/**
+		 * Constructs a new entry for the given point.
+		 *
+		 * @param point the point used to locate this entry
+		 */
+		public Entry(double[] point) {
+			super();
+			this.point = point;
+		}
+
+		/**
+		 * Returns {@code true} if this entry is stored in a tree;
+		 * {@code false} otherwise.
+		 *
+		 * @return {@code true} if this entry is stored in a tree;
+		 *         {@code false} otherwise
+		 */
+		public boolean isIndexed() {
+			return leaf != null;
+		}
+
+	}
+
+	/**
+	 * A node in the ND-Tree.  Leaf nodes store entries; internal nodes store
+	 * child nodes.  The ideal and nadir points bound the points of all entries
+	 * below this node.  The bounds are not tightened when entries are removed.
+	 */
+	private static class Node {
+
+		/**
+		 * The parent of this node, or {@code null} if this node is the root.
+		 */
+		private final Node parent;
+
+		/**
+		 * The lower bound of the points below this node.
+		 */
+		private final double[] ideal;
+
+		/**
+		 * The upper bound of the points below this node.
+		 */
+		private final double[] nadir;
+
+		/**
+		 * The entries stored in this leaf, or {@code null} if this node is an
+		 * internal node.
+		 */
+		private List<Entry> entries;
+
+		/**
+		 * The children of this internal node, or {@code null} if this node is
+		 * a leaf.
+		 */
+		private List<Node> children;
+
+		/**
+		 * Constructs a new, empty leaf whose bounds are the given point.
+		 *
+		 * @param parent the parent node, or {@code null} if this node is the
+		 *        root
+		 * @param point the initial bounds of this node
+		 */
+		public Node(Node parent, double[] point) {
+			super();
+			this.parent = parent;
+			this.ideal = point.clone();
+			this.nadir = point.clone();
+			this.entries = new ArrayList<Entry>();
+		}
+
+		/**
+		 * Returns {@code true} if this node is a leaf; {@code false}
+		 * otherwise.
+		 *
+		 * @return {@code true} if this node is a leaf; {@code false}
+		 *         otherwise
+		 */
+		public boolean isLeaf() {
+			return children == null;
+		}
+
+		/**
+		 * Returns {@code true} if this node contains no entries or children;
+		 * {@code false} otherwise.
+		 *
+		 * @return {@code true} if this node contains no entries or children;
+		 *         {@code false} otherwise
+		 */
+		public boolean isEmpty() {
+			return isLeaf() ? entries.isEmpty() : children.isEmpty();
+		}
+
+		/**
+		 * Expands the bounds of this node to include the given point.
+		 *
+		 * @param point the point
+		 */
+		public void updateBounds(double[] point) {
+			for (int i = 0; i < point.length; i++) {
+				if (Double.compare(point[i], ideal[i]) < 0) {
+					ideal[i] = point[i];
+				}
+
+				if (Double.compare(point[i], nadir[i]) > 0) {
+					nadir[i] = point[i];
+				}
+			}
+		}
+
+		/**
+		 * Returns the squared Euclidean distance from the midpoint of this
+		 * node's bounds to the given point.
+		 *
+		 * @param point the point
+		 * @return the squared Euclidean distance from the midpoint of this
+		 *         node's bounds to the point
+		 */
+		public double distanceToMidpoint(double[] point) {
+			double distance = 0.0;
+
+			for (int i = 0; i < point.length; i++) {
+				double difference = point[i] - (ideal[i] + nadir[i]) / 2.0;
+				distance += difference * difference;
+			}
+
+			return distance;
+		}
+
+		/**
+		 * Returns the child of this internal node whose midpoint is closest to
+		 * the given point.
+		 *
+		 * @param point the point
+		 * @return the child whose midpoint is closest to the point
+		 */
+		public Node closestChild(double[] point) {
+			Node closest = null;
+			double minimumDistance = Double.POSITIVE_INFINITY;
+
+			for (Node child : children) {
+				double distance = child.distanceToMidpoint(point);
+
+				if ((closest == null) || (distance < minimumDistance)) {
+					closest = child;
+					minimumDistance = distance;
+				}
+			}
+
+			return closest;
+		}
+
+		/**
+		 * Adds all entries stored below this node to the given list, marking
+		 * them as removed from the tree.
+		 *
+		 * @param result the list collecting the entries
+		 */
+		public void collect(List<Entry> result) {
+			if (isLeaf()) {
+				for (Entry entry : entries) {
+					entry.leaf = null;
+					result.add(entry);
+				}
+			} else {
+				for (Node child : children) {
+					child.collect(result);
+				}
+			}
+		}
+
+		/**
+		 * Converts this leaf into an internal node by distributing its entries
+		 * among new leaves.  The first entries placed in the new leaves are
+		 * chosen to be far apart from each other, and the remaining entries
+		 * are placed in the leaf with the closest midpoint.
+		 *
+		 * @param numberOfChildren the number of leaves to create
+		 */
+		public void split(int numberOfChildren) {
+			List<Entry> remaining = entries;
+			double[] minimumDistances = new double[remaining.size()];
+
+			entries = null;
+			children = new ArrayList<Node>(numberOfChildren);
+
+			// start with the entry furthest on average from all others
+			int selected = 0;
+			double maximumDistance = Double.NEGATIVE_INFINITY;
+
+			for (int i = 0; i < remaining.size(); i++) {
+				double distance = 0.0;
+
+				for (int j = 0; j < remaining.size(); j++) {
+					distance += distance(remaining.get(i).point,
+							remaining.get(j).point);
+				}
+
+				if (distance > maximumDistance) {
+					selected = i;
+					maximumDistance = distance;
+				}
+			}
+
+			Arrays.fill(minimumDistances, Double.POSITIVE_INFINITY);
+
+			while (true) {
+				Entry seed = remaining.get(selected);
+				Node child = new Node(this, seed.point);
+				child.entries.add(seed);
+				seed.leaf = child;
+				children.add(child);
+
+				int lastIndex = remaining.size() - 1;
+				remaining.set(selected, remaining.get(lastIndex));
+				minimumDistances[selected] = minimumDistances[lastIndex];
+				remaining.remove(lastIndex);
+
+				if ((children.size() == numberOfChildren) ||
+						remaining.isEmpty()) {
+					break;
+				}
+
+				// the next seed is the entry furthest from all existing seeds
+				maximumDistance = Double.NEGATIVE_INFINITY;
+
+				for (int i = 0; i < remaining.size(); i++) {
+					minimumDistances[i] = Math.min(minimumDistances[i],
+							distance(seed.point, remaining.get(i).point));
+
+					if (minimumDistances[i] > maximumDistance) {
+						selected = i;
+						maximumDistance = minimumDistances[i];
+					}
+				}
+			}
+
+			for (Entry entry : remaining) {
+				Node child = closestChild(entry.point);
+				child.updateBounds(entry.point);
+				child.entries.add(entry);
+				entry.leaf = child;
+			}
+		}
+
+		/**
+		 * Returns the squared Euclidean distance between two points.
+		 *
+		 * @param point1 the first point
+		 * @param point2 the second point
+		 * @return the squared Euclidean distance between the two points
+		 */
+		private static double distance(double[] point1, double[] point2) {
+			double distance = 0.0;
+
+			for (int i = 0; i < point1.length; i++) {
+				double difference = point1[i] - point2[i];
+				distance += difference * difference;
+			}
+
+			return distance;
+		}
+
+	}
+
+}
@@ -224,6 +224,39 @@ public class NondominatedPopulation extends Population {
 		return super.add(newSolution);
 	}
 
+	/**
+	 * Replaces the solution at the given index with the specified solution,
+	 * bypassing the non-domination check. This method should only be used
+	 * when a non-domination check has been performed elsewhere, such as in a
+	 * subclass.
+	 * <p>
+	 * <b>This method should only be used internally, and should never be made
+	 * public by any subclasses.</b>
+	 * 
+	 * @param index the index to replace
+	 * @param newSolution the replacement solution
+	 */
+	protected void forceReplaceWithoutCheck(int index, Solution newSolution) {
+		super.replace(index, newSolution);
+	}
+
+	/**
+	 * Returns {@code true} if {@link #add(Solution)} is certain to reject the
+	 * new solution without modifying this population; {@code false} if the
+	 * outcome is unknown.  Implementations must not modify any state, so
+	 * this method can be called by multiple threads at once provided no
+	 * thread is modifying the population.  This default implementation always
+	 * returns {@code false}.
+	 * 
+	 * @param newSolution the new solution
+	 * @return {@code true} if adding the new solution is certain to be
+	 *         rejected; {@code false} otherwise
+	 * @see ConcurrentNondominatedPopulation
+	 */
+	boolean isRejected(Solution newSolution) {
+		return false;
+	}
+
 	/**
 	 * Returns the Euclidean distance between two solutions in objective space.
 	 * 
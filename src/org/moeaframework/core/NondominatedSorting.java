@@ -18,11 +18,12 @@
 package org.moeaframework.core;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 
 import org.moeaframework.core.NondominatedPopulation.DuplicateMode;
 import org.moeaframework.core.comparator.DominanceComparator;
-import org.moeaframework.core.comparator.ObjectiveComparator;
 import org.moeaframework.core.comparator.ParetoDominanceComparator;
 
 /**
@@ -114,7 +115,7 @@ public class NondominatedSorting {
 
 			for (Solution solution : front) {
 				remaining.remove(solution);
-				solution.setAttribute(RANK_ATTRIBUTE, rank);
+				solution.setIntAttribute(RANK_ATTRIBUTE, rank);
 			}
 
 			updateCrowdingDistance(front);
@@ -133,63 +134,80 @@ public class NondominatedSorting {
 	public void updateCrowdingDistance(Population front) {
 		// initially assign all crowding distances of 0.0
 		for (Solution solution : front) {
-			solution.setAttribute(CROWDING_ATTRIBUTE, 0.0);
+			solution.setDoubleAttribute(CROWDING_ATTRIBUTE, 0.0);
 		}
 		
 		// remove any duplicate solutions, the duplicate solutions will retain
 		// the crowding distance of 0.0
-		Population uniqueFront = new Population();
+		final ObjectiveMatrix matrix = front.getObjectiveMatrix();
+		Integer[] unique = new Integer[matrix.size()];
+		int n = 0;
 		
-		for (Solution s1 : front) {
+		for (int i = 0; i < matrix.size(); i++) {
 			boolean isDuplicate = false;
 			
-			for (Solution s2 : uniqueFront) {
-				if (NondominatedPopulation.distance(s1, s2) < Settings.EPS) {
+			for (int j = 0; j < n; j++) {
+				if (matrix.distance(i, unique[j]) < Settings.EPS) {
 					isDuplicate = true;
 					break;
 				}
 			}
 			
 			if (!isDuplicate) {
-				uniqueFront.add(s1);
+				unique[n++] = i;
 			}
 		}
 		
-		front = uniqueFront;
-
 		// then compute the crowding distance for the unique solutions
-		int n = front.size();
-		
 		if (n < 3) {
-			for (Solution solution : front) {
-				solution.setAttribute(CROWDING_ATTRIBUTE,
+			for (int i = 0; i < n; i++) {
+				front.get(unique[i]).setDoubleAttribute(CROWDING_ATTRIBUTE,
 						Double.POSITIVE_INFINITY);
 			}
 		} else {
-			int numberOfObjectives = front.get(0).getNumberOfObjectives();
+			Integer[] indices = Arrays.copyOf(unique, n);
+			double[] distances = new double[n];
+			int[] positions = new int[matrix.size()];
+			
+			for (int i = 0; i < n; i++) {
+				positions[indices[i]] = i;
+			}
 
-			for (int i = 0; i < numberOfObjectives; i++) {
-				front.sort(new ObjectiveComparator(i));
+			for (int i = 0; i < matrix.getNumberOfObjectives(); i++) {
+				final double[] column = matrix.getColumn(i);
+				
+				// stable sort, so ties retain the order from the previous
+				// objective
+				Arrays.sort(indices, new Comparator<Integer>() {
+
+					@Override
+					public int compare(Integer index1, Integer index2) {
+						return Double.compare(column[index1], column[index2]);
+					}
+					
+				});
 
-				double minObjective = front.get(0).getObjective(i);
-				double maxObjective = front.get(n - 1).getObjective(i);
+				double minObjective = column[indices[0]];
+				double maxObjective = column[indices[n - 1]];
 				
 				if (maxObjective - minObjective >= Settings.EPS) {
-					front.get(0).setAttribute(CROWDING_ATTRIBUTE,
-							Double.POSITIVE_INFINITY);
-					front.get(n - 1).setAttribute(CROWDING_ATTRIBUTE,
-							Double.POSITIVE_INFINITY);
+					distances[positions[indices[0]]] = Double.POSITIVE_INFINITY;
+					distances[positions[indices[n - 1]]] =
+							Double.POSITIVE_INFINITY;
 
 					for (int j = 1; j < n - 1; j++) {
-						double distance = (Double)front.get(j).getAttribute(
-								CROWDING_ATTRIBUTE);
-						distance += (front.get(j + 1).getObjective(i) - 
-								front.get(j - 1).getObjective(i))
-								/ (maxObjective - minObjective);
-						front.get(j).setAttribute(CROWDING_ATTRIBUTE, distance);
+						distances[positions[indices[j]]] +=
+								(column[indices[j + 1]] -
+								column[indices[j - 1]]) /
+								(maxObjective - minObjective);
 					}
 				}
 			}
+			
+			for (int i = 0; i < n; i++) {
+				front.get(unique[i]).setDoubleAttribute(CROWDING_ATTRIBUTE,
+						distances[i]);
+			}
 		}
 	}
 
@@ -69,14 +69,25 @@ public class NondominatedSortingPopulation extends Population {
 	 * @param comparator the dominance comparator
 	 */
 	public NondominatedSortingPopulation(DominanceComparator comparator) {
+		this(createNondominatedSorting(comparator));
+	}
+	
+	/**
+	 * Constructs an empty population that maintains the {@code rank} and
+	 * {@code crowdingDistance} attributes for its solutions using the
+	 * specified non-dominated sorting implementation.  If an
+	 * {@link IncrementalNondominatedSorting} instance is given, adding or
+	 * removing a single solution updates the ranks incrementally rather than
+	 * sorting the entire population.  The instance must not be shared with
+	 * other populations.
+	 * 
+	 * @param nondominatedSorting the non-dominated sorting implementation
+	 */
+	public NondominatedSortingPopulation(
+			NondominatedSorting nondominatedSorting) {
 		super();
+		this.nondominatedSorting = nondominatedSorting;
 		modified = false;
-		
-		if (Settings.useFastNondominatedSorting()) {
-			nondominatedSorting = new FastNondominatedSorting(comparator);
-		} else {
-			nondominatedSorting = new NondominatedSorting(comparator);
-		}
 	}
 
 	/**
@@ -106,6 +117,12 @@ public class NondominatedSortingPopulation extends Population {
 
 	@Override
 	public boolean add(Solution solution) {
+		if (isIncremental()) {
+			super.add(solution);
+			((IncrementalNondominatedSorting)nondominatedSorting).add(solution);
+			return true;
+		}
+		
 		modified = true;
 		return super.add(solution);
 	}
@@ -127,12 +144,30 @@ public class NondominatedSortingPopulation extends Population {
 
 	@Override
 	public void remove(int index) {
+		if (isIncremental()) {
+			Solution solution = super.get(index);
+			super.remove(index);
+			((IncrementalNondominatedSorting)nondominatedSorting).remove(
+					solution);
+			return;
+		}
+		
 		modified = true;
 		super.remove(index);
 	}
 
 	@Override
 	public boolean remove(Solution solution) {
+		if (isIncremental()) {
+			if (super.remove(solution)) {
+				((IncrementalNondominatedSorting)nondominatedSorting).remove(
+						solution);
+				return true;
+			}
+			
+			return false;
+		}
+		
 		modified = true;
 		return super.remove(solution);
 	}
@@ -167,7 +202,16 @@ public class NondominatedSortingPopulation extends Population {
 			update();
 		}
 
-		super.truncate(size, comparator);
+		if (isIncremental()) {
+			// remove one at a time so the ranks are updated incrementally
+			super.sort(comparator);
+			
+			while (size() > size) {
+				remove(size() - 1);
+			}
+		} else {
+			super.truncate(size, comparator);
+		}
 	}
 
 	/**
@@ -196,12 +240,12 @@ public class NondominatedSortingPopulation extends Population {
 
 		//collect all solutions in the front which must be pruned
 		//note the use of super to prevent repeatedly triggering update()
-		int maxRank = (Integer)super.get(size-1).getAttribute(RANK_ATTRIBUTE);
+		int maxRank = super.get(size-1).getIntAttribute(RANK_ATTRIBUTE);
 		Population front = new Population();
 
 		for (int i=size()-1; i>=0; i--) {
 			Solution solution = super.get(i);
-			int rank = (Integer)solution.getAttribute(RANK_ATTRIBUTE);
+			int rank = solution.getIntAttribute(RANK_ATTRIBUTE);
 			
 			if (rank >= maxRank) {
 				super.remove(i);
@@ -218,6 +262,8 @@ public class NondominatedSortingPopulation extends Population {
 			front.truncate(front.size()-1, new CrowdingComparator());
 		}
 		
+		//solutions were removed without updating the ranks
+		modified = true;
 		addAll(front);
 	}
 
@@ -233,5 +279,37 @@ public class NondominatedSortingPopulation extends Population {
 		modified = false;
 		nondominatedSorting.evaluate(this);
 	}
+	
+	/**
+	 * Returns the non-dominated sorting implementation selected by the
+	 * current {@link Settings}.
+	 * 
+	 * @param comparator the dominance comparator
+	 * @return the non-dominated sorting implementation
+	 */
+	private static NondominatedSorting createNondominatedSorting(
+			DominanceComparator comparator) {
+		if (Settings.useDivideAndConquerNondominatedSorting()) {
+			return new DivideAndConquerNondominatedSorting(comparator);
+		} else if (Settings.useFastNondominatedSorting()) {
+			return new FastNondominatedSorting(comparator);
+		} else {
+			return new NondominatedSorting(comparator);
+		}
+	}
+	
+	/**
+	 * Returns {@code true} if the ranks can be updated incrementally as
+	 * solutions are added or removed; {@code false} if the population must be
+	 * sorted again.
+	 * 
+	 * @return {@code true} if the ranks can be updated incrementally as
+	 *         solutions are added or removed; {@code false} if the population
+	 *         must be sorted again
+	 */
+	private boolean isIncremental() {
+		return !modified &&
+				(nondominatedSorting instanceof IncrementalNondominatedSorting);
+	}
 
 }
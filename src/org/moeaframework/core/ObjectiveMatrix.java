@@ -0,0 +1,358 @@
+/* Copyright 2009-2020 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core;
+
+/**
+ * Snapshot of the objective values of the solutions in a population, stored
+ * by column.  Column {@code j} is a {@code double[]} array containing the
+ * {@code j}-th objective of every solution, in the same order as the
+ * population.  The matrix also records which solutions are feasible.
+ * <p>
+ * Reading the objectives from the columns avoids the indirection of accessing
+ * each solution through the population, and the kernels provided by this
+ * class, such as {@link #getMinimum(boolean)} and
+ * {@link #distanceToNearest(double[])}, operate directly on the primitive
+ * arrays.
+ * <p>
+ * The matrix is a snapshot and is not updated if the objectives of the
+ * solutions are modified.  Use {@link Population#getObjectiveMatrix()} to
+ * obtain a matrix that is cached by the population until it is modified.
+ */
+public class ObjectiveMatrix {
+
+	/**
+	 * The objective values, where {@code objectives[j][i]} is the {@code j}-th
+	 * objective of the {@code i}-th solution.
+	 */
+	private final double[][] objectives;
+
+	/**
+	 * {@code true} if the solution at the given index is feasible;
+	 * {@code false} otherwise.
+	 */
+	private final boolean[] feasible;
+
+	/**
+	 * The number of solutions.
+	 */
+	private final int size;
+
+	/**
+	 * Constructs a snapshot of the objective values of the solutions in the
+	 * population.  All solutions must have the same number of objectives.
+	 *
+	 * @param population the population
+	 */
+	public ObjectiveMatrix(Population population) {
+		super();
+		size = population.size();
+
+		int numberOfObjectives = size == 0 ? 0 :
+			population.get(0).getNumberOfObjectives();
+
+		objectives = new double[numberOfObjectives][size];
+		feasible = new boolean[size];
+
+		for (int i = 0; i < size; i++) {
+			Solution solution = population.get(i);
+
+			for (int j = 0; j < numberOfObjectives; j++) {
+				objectives[j][i] = solution.getObjective(j);
+			}
+
+			feasible[i] = !solution.violatesConstraints();
+		}
+	}
+
+	/**
+	 * Constructs a matrix with the given columns and feasibility flags.
+	 *
+	 * @param objectives the columns storing the objective values
+	 * @param feasible the feasibility flags
+	 */
+	private ObjectiveMatrix(double[][] objectives, boolean[] feasible) {
+		super();
+		this.objectives = objectives;
+		this.feasible = feasible;
+		this.size = feasible.length;
+	}
+
+	/**
+	 * Returns the number of solutions.
+	 *
+	 * @return the number of solutions
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the number of objectives.
+	 *
+	 * @return the number of objectives
+	 */
+	public int getNumberOfObjectives() {
+		return objectives.length;
+	}
+
+	/**
+	 * Returns the objective of the solution at the specified index.
+	 *
+	 * @param index the index of the solution
+	 * @param objective the index of the objective
+	 * @return the objective of the solution at the specified index
+	 */
+	public double getObjective(int index, int objective) {
+		return objectives[objective][index];
+	}
+
+	/**
+	 * Returns the column containing the specified objective of every solution.
+	 * The returned array is backed by this matrix and must not be modified.
+	 *
+	 * @param objective the index of the objective
+	 * @return the column containing the specified objective of every solution
+	 */
+	public double[] getColumn(int objective) {
+		return objectives[objective];
+	}
+
+	/**
+	 * Returns the objectives of the solution at the specified index.
+	 *
+	 * @param index the index of the solution
+	 * @return the objectives of the solution at the specified index
+	 */
+	public double[] getRow(int index) {
+		double[] row = new double[objectives.length];
+
+		for (int j = 0; j < objectives.length; j++) {
+			row[j] = objectives[j][index];
+		}
+
+		return row;
+	}
+
+	/**
+	 * Returns {@code true} if the solution at the specified index is feasible;
+	 * {@code false} otherwise.
+	 *
+	 * @param index the index of the solution
+	 * @return {@code true} if the solution at the specified index is feasible;
+	 *         {@code false} otherwise
+	 */
+	public boolean isFeasible(int index) {
+		return feasible[index];
+	}
+
+	/**
+	 * Returns the minimum value of each objective.  If there are no solutions,
+	 * the minimum is positive infinity.
+	 *
+	 * @param feasibleOnly if {@code true}, infeasible solutions are ignored
+	 * @return the minimum value of each objective
+	 */
+	public double[] getMinimum(boolean feasibleOnly) {
+		double[] minimum = new double[objectives.length];
+
+		for (int j = 0; j < objectives.length; j++) {
+			double[] column = objectives[j];
+			double value = Double.POSITIVE_INFINITY;
+
+			for (int i = 0; i < size; i++) {
+				if (!feasibleOnly || feasible[i]) {
+					value = Math.min(value, column[i]);
+				}
+			}
+
+			minimum[j] = value;
+		}
+
+		return minimum;
+	}
+
+	/**
+	 * Returns the maximum value of each objective.  If there are no solutions,
+	 * the maximum is negative infinity.
+	 *
+	 * @param feasibleOnly if {@code true}, infeasible solutions are ignored
+	 * @return the maximum value of each objective
+	 */
+	public double[] getMaximum(boolean feasibleOnly) {
+		double[] maximum = new double[objectives.length];
+
+		for (int j = 0; j < objectives.length; j++) {
+			double[] column = objectives[j];
+			double value = Double.NEGATIVE_INFINITY;
+
+			for (int i = 0; i < size; i++) {
+				if (!feasibleOnly || feasible[i]) {
+					value = Math.max(value, column[i]);
+				}
+			}
+
+			maximum[j] = value;
+		}
+
+		return maximum;
+	}
+
+	/**
+	 * Returns a new matrix with each objective normalized by
+	 * {@code (value - minimum[j]) / (maximum[j] - minimum[j])}.
+	 *
+	 * @param minimum the minimum value of each objective
+	 * @param maximum the maximum value of each objective
+	 * @return a new matrix containing the normalized objective values
+	 */
+	public ObjectiveMatrix normalize(double[] minimum, double[] maximum) {
+		return normalize(minimum, maximum, false);
+	}
+
+	/**
+	 * Returns a new matrix with each objective normalized by
+	 * {@code (value - minimum[j]) / (maximum[j] - minimum[j])}, optionally
+	 * excluding the infeasible solutions.
+	 *
+	 * @param minimum the minimum value of each objective
+	 * @param maximum the maximum value of each objective
+	 * @param feasibleOnly if {@code true}, infeasible solutions are excluded
+	 *        from the new matrix
+	 * @return a new matrix containing the normalized objective values
+	 */
+	public ObjectiveMatrix normalize(double[] minimum, double[] maximum,
+			boolean feasibleOnly) {
+		int count = 0;
+
+		for (int i = 0; i < size; i++) {
+			if (!feasibleOnly || feasible[i]) {
+				count++;
+			}
+		}
+
+		double[][] result = new double[objectives.length][];
+		boolean[] normalizedFeasible = new boolean[count];
+
+		for (int j = 0; j < objectives.length; j++) {
+			double[] column = objectives[j];
+			double[] normalizedColumn = new double[count];
+			double range = maximum[j] - minimum[j];
+			int index = 0;
+
+			for (int i = 0; i < size; i++) {
+				if (!feasibleOnly || feasible[i]) {
+					normalizedColumn[index++] = (column[i] - minimum[j]) /
+							range;
+				}
+			}
+
+			result[j] = normalizedColumn;
+		}
+
+		for (int i = 0, index = 0; i < size; i++) {
+			if (!feasibleOnly || feasible[i]) {
+				normalizedFeasible[index++] = feasible[i];
+			}
+		}
+
+		return new ObjectiveMatrix(result, normalizedFeasible);
+	}
+
+	/**
+	 * Returns the Euclidean distance between the objectives of the two
+	 * solutions at the specified indices.
+	 *
+	 * @param index1 the index of the first solution
+	 * @param index2 the index of the second solution
+	 * @return the Euclidean distance between the objectives of the two
+	 *         solutions
+	 */
+	public double distance(int index1, int index2) {
+		double sum = 0.0;
+
+		for (int j = 0; j < objectives.length; j++) {
+			double difference = objectives[j][index1] - objectives[j][index2];
+			sum += difference * difference;
+		}
+
+		return Math.sqrt(sum);
+	}
+
+	/**
+	 * Returns the Euclidean distance between the objectives of the solution
+	 * at the specified index and the given point.
+	 *
+	 * @param index the index of the solution
+	 * @param point the point
+	 * @return the Euclidean distance between the objectives of the solution
+	 *         and the point
+	 */
+	public double distance(int index, double[] point) {
+		double sum = 0.0;
+
+		for (int j = 0; j < objectives.length; j++) {
+			double difference = point[j] - objectives[j][index];
+			sum += difference * difference;
+		}
+
+		return Math.sqrt(sum);
+	}
+
+	/**
+	 * Returns the Euclidean distance from the given point to the nearest
+	 * solution in this matrix, or positive infinity if there are no solutions.
+	 *
+	 * @param point the point
+	 * @return the Euclidean distance from the point to the nearest solution
+	 */
+	public double distanceToNearest(double[] point) {
+		return distanceToNearest(point, objectives.length);
+	}
+
+	/**
+	 * Returns the Euclidean distance from the given point to the nearest
+	 * solution in this matrix, or positive infinity if there are no solutions,
+	 * using only the first {@code numberOfObjectives} objectives.
+	 *
+	 * @param point the point
+	 * @param numberOfObjectives the number of objectives used to compute the
+	 *        distance
+	 * @return the Euclidean distance from the point to the nearest solution
+	 */
+	public double distanceToNearest(double[] point, int numberOfObjectives) {
+		double minimum = Double.POSITIVE_INFINITY;
+
+		for (int i = 0; i < size; i++) {
+			double sum = 0.0;
+
+			// partial sums only increase, so stop once the current minimum is
+			// exceeded
+			for (int j = 0; (j < numberOfObjectives) && (sum < minimum); j++) {
+				double difference = point[j] - objectives[j][i];
+				sum += difference * difference;
+			}
+
+			if (sum < minimum) {
+				minimum = sum;
+			}
+		}
+
+		return Math.sqrt(minimum);
+	}
+
+}
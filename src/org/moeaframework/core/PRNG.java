@@ -34,6 +34,18 @@ import org.apache.commons.math3.random.RandomAdaptor;
  * thread safety from the underlying implementation.  Unless the underlying
  * implementation is known to be thread-safe, assume that {@code PRNG} is not
  * thread-safe.
+ * <p>
+ * A thread can instead be given its own source of randomness with
+ * {@link #setThreadRandom(Random)}, which takes precedence over the shared
+ * source for all calls made by that thread.  This allows independent runs to
+ * execute concurrently, each with a reproducible random stream and without
+ * contending for the shared source.  Such streams are best derived from a
+ * single seed using {@link #split()}, for example:
+ * <pre>
+ *   PRNG.setThreadRandom(new SplittableRandomAdaptor(seed));
+ *   ...
+ *   Random stream = PRNG.split();  // pass to another thread
+ * </pre>
  */
 public class PRNG {
 
@@ -41,6 +53,13 @@ public class PRNG {
 	 * Internal source of randomness.
 	 */
 	private static Random random;
+	
+	/**
+	 * The source of randomness used by the current thread instead of the
+	 * shared source, or {@code null} if the thread uses the shared source.
+	 */
+	private static final ThreadLocal<Random> THREAD_RANDOM =
+			new ThreadLocal<Random>();
 
 	/**
 	 * Initialize the static variables.
@@ -61,12 +80,13 @@ public class PRNG {
 	 * {@code setRandom} method since methods providing more entropy may be
 	 * available
 	 * to specific implementations, this method is intended to provide a uniform
-	 * interface for setting the seed.
+	 * interface for setting the seed.  If the current thread has its own
+	 * source of randomness, that source is seeded instead.
 	 * 
 	 * @param seed the new seed
 	 */
 	public static synchronized void setSeed(long seed) {
-		random.setSeed(seed);
+		getRandom().setSeed(seed);
 	}
 
 	/**
@@ -79,12 +99,63 @@ public class PRNG {
 	}
 
 	/**
-	 * Returns the source of randomness currently used.
+	 * Sets the source of randomness used by the current thread, overriding
+	 * the shared source set by {@link #setRandom(Random)}.  The thread should
+	 * reset its source to {@code null} when finished, particularly when it
+	 * belongs to a thread pool.
+	 * 
+	 * @param random the source of randomness used by the current thread; or
+	 *        {@code null} to use the shared source
+	 */
+	public static void setThreadRandom(Random random) {
+		if (random == null) {
+			THREAD_RANDOM.remove();
+		} else {
+			THREAD_RANDOM.set(random);
+		}
+	}
+	
+	/**
+	 * Returns the source of randomness used by the current thread, or
+	 * {@code null} if the thread uses the shared source.
+	 * 
+	 * @return the source of randomness used by the current thread, or
+	 *         {@code null} if the thread uses the shared source
+	 */
+	public static Random getThreadRandom() {
+		return THREAD_RANDOM.get();
+	}
+
+	/**
+	 * Returns a new source of randomness derived from the source currently
+	 * used by the current thread, suitable for use by another thread, run, or
+	 * task.  If the current source is a {@link SplittableRandomAdaptor}, the
+	 * new source is split from it.  Otherwise, the new source is seeded by
+	 * the next value of the current source.  In either case, a sequence of
+	 * calls is reproducible given the state of the current source.
+	 * 
+	 * @return a new source of randomness derived from the current source
+	 */
+	public static SplittableRandomAdaptor split() {
+		Random random = getRandom();
+		
+		if (random instanceof SplittableRandomAdaptor) {
+			return ((SplittableRandomAdaptor)random).split();
+		} else {
+			return new SplittableRandomAdaptor(random.nextLong());
+		}
+	}
+
+	/**
+	 * Returns the source of randomness currently used by the current thread,
+	 * which is the thread's own source if set and the shared source
+	 * otherwise.
 	 * 
 	 * @return the source of randomness currently used
 	 */
 	public static Random getRandom() {
-		return random;
+		Random threadRandom = THREAD_RANDOM.get();
+		return threadRandom == null ? random : threadRandom;
 	}
 
 	/**
@@ -95,7 +166,7 @@ public class PRNG {
 	 *         between 0.0 and 1.0
 	 */
 	public static float nextFloat() {
-		return random.nextFloat();
+		return getRandom().nextFloat();
 	}
 
 	/**
@@ -106,7 +177,7 @@ public class PRNG {
 	 *         between {@code min} and {@code max}
 	 */
 	public static float nextFloat(float min, float max) {
-		return min + random.nextFloat() * (max - min);
+		return min + getRandom().nextFloat() * (max - min);
 	}
 
 	/**
@@ -117,7 +188,7 @@ public class PRNG {
 	 *         between 0.0 and 1.0
 	 */
 	public static double nextDouble() {
-		return random.nextDouble();
+		return getRandom().nextDouble();
 	}
 
 	/**
@@ -128,7 +199,7 @@ public class PRNG {
 	 *         between {@code min} and {@code max}
 	 */
 	public static double nextDouble(double min, double max) {
-		return min + random.nextDouble() * (max - min);
+		return min + getRandom().nextDouble() * (max - min);
 	}
 
 	/**
@@ -139,7 +210,7 @@ public class PRNG {
 	 *         {@code Integer.MIN_VALUE} and {@code Integer.MAX_VALUE}.
 	 */
 	public static int nextInt() {
-		return random.nextInt();
+		return getRandom().nextInt();
 	}
 
 	/**
@@ -150,7 +221,7 @@ public class PRNG {
 	 *         {@code 0} (inclusive) and {@code n} (exclusive).
 	 */
 	public static int nextInt(int n) {
-		return random.nextInt(n);
+		return getRandom().nextInt(n);
 	}
 
 	/**
@@ -161,7 +232,7 @@ public class PRNG {
 	 *         {@code min} and {@code max} (both inclusive).
 	 */
 	public static int nextInt(int min, int max) {
-		return min + random.nextInt(max - min + 1);
+		return min + getRandom().nextInt(max - min + 1);
 	}
 
 	/**
@@ -170,7 +241,7 @@ public class PRNG {
 	 * @return the next random, uniformly distributed {@code boolean} value.
 	 */
 	public static boolean nextBoolean() {
-		return random.nextBoolean();
+		return getRandom().nextBoolean();
 	}
 
 	/**
@@ -181,7 +252,7 @@ public class PRNG {
 	 *         mean {@code 0.0} and standard deviation {@code 1.0}.
 	 */
 	public static double nextGaussian() {
-		return random.nextGaussian();
+		return getRandom().nextGaussian();
 	}
 
 	/**
@@ -192,7 +263,7 @@ public class PRNG {
 	 *         mean {@code mean} and standard deviation {@code stdev}.
 	 */
 	public static double nextGaussian(double mean, double stdev) {
-		return stdev * random.nextGaussian() + mean;
+		return stdev * getRandom().nextGaussian() + mean;
 	}
 
 	/**
@@ -349,7 +420,7 @@ public class PRNG {
 	 * @param list the list to be shuffled
 	 */
 	public static <T> void shuffle(List<T> list) {
-		Collections.shuffle(list, random);
+		Collections.shuffle(list, getRandom());
 	}
 
 	/**
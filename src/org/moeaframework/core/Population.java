@@ -35,6 +35,12 @@ public class Population implements Iterable<Solution> {
 	 * The internal data storage for solutions.
 	 */
 	private final List<Solution> data;
+	
+	/**
+	 * The cached snapshot of the objective values, or {@code null} if the
+	 * population was modified since the snapshot was created.
+	 */
+	private ObjectiveMatrix objectiveMatrix;
 
 	/**
 	 * Constructs an empty population.
@@ -88,6 +94,7 @@ public class Population implements Iterable<Solution> {
 	 */
 	public void remove(int index) {
 		modCount++;
+		objectiveMatrix = null;
 		data.remove(index);
 	}
 
@@ -112,6 +119,7 @@ public class Population implements Iterable<Solution> {
 	 *         method; {@code false} otherwise.
 	 */
 	public boolean add(Solution solution) {
+		objectiveMatrix = null;
 		return data.add(solution);
 	}
 
@@ -150,6 +158,7 @@ public class Population implements Iterable<Solution> {
 	 * @param solution the new solution
 	 */
 	public void replace(int index, Solution solution) {
+		objectiveMatrix = null;
 		data.set(index, solution);
 	}
 
@@ -158,6 +167,7 @@ public class Population implements Iterable<Solution> {
 	 */
 	public void clear() {
 		modCount++;
+		objectiveMatrix = null;
 		data.clear();
 	}
 
@@ -231,6 +241,7 @@ public class Population implements Iterable<Solution> {
 	 */
 	public boolean remove(Solution solution) {
 		modCount++;
+		objectiveMatrix = null;
 		return data.remove(solution);
 	}
 
@@ -280,6 +291,7 @@ public class Population implements Iterable<Solution> {
 	 * @param comparator the comparator to be used for sorting
 	 */
 	public void sort(Comparator<? super Solution> comparator) {
+		objectiveMatrix = null;
 		Collections.sort(data, comparator);
 	}
 
@@ -293,12 +305,43 @@ public class Population implements Iterable<Solution> {
 	 */
 	public void truncate(int size, Comparator<? super Solution> comparator) {
 		sort(comparator);
+		objectiveMatrix = null;
 
 		while (data.size() > size) {
 			data.remove(data.size() - 1);
 		}
 	}
 
+	/**
+	 * Returns a snapshot of the objective values of the solutions in this
+	 * population, stored by column.  The snapshot is cached until this
+	 * population is modified by adding, removing, replacing, or reordering
+	 * solutions.  Since changes to the objectives of the solutions themselves
+	 * are not detected, solutions should not be modified while in this
+	 * population.
+	 * 
+	 * @return a snapshot of the objective values of the solutions in this
+	 *         population
+	 */
+	public ObjectiveMatrix getObjectiveMatrix() {
+		if (objectiveMatrix == null) {
+			objectiveMatrix = new ObjectiveMatrix(this);
+		}
+		
+		return objectiveMatrix;
+	}
+	
+	/**
+	 * Replaces the cached snapshot of the objective values, allowing copies
+	 * of a population to share one snapshot.  The snapshot must match the
+	 * current contents of this population.
+	 * 
+	 * @param objectiveMatrix the snapshot of the objective values
+	 */
+	void setObjectiveMatrix(ObjectiveMatrix objectiveMatrix) {
+		this.objectiveMatrix = objectiveMatrix;
+	}
+
 	/*
 	 * The following code is based on the Apache Commons Collections library.
 	 * This is to provide a similar iterator behavior to other collection
@@ -0,0 +1,196 @@
+/* Copyright 2009-2020 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.ref.SoftReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import org.moeaframework.util.io.CommentedLineReader;
+
+/**
+ * Process-wide cache of reference sets read from files.  Parsing a reference
+ * set and removing any dominated solutions is repeated by every analysis,
+ * instrumented run, and evaluation that loads the reference set, which adds
+ * up when thousands of runs are performed.  Reference sets are instead
+ * cached by their name and the checksum of the file contents, so changes to
+ * the file are detected.  The file is still read on each call to compute its
+ * checksum.
+ * <p>
+ * Each call returns a new population containing copies of the cached
+ * solutions, so callers are free to modify the result.  The copies share the
+ * {@link Population#getObjectiveMatrix() objective matrix} of the cached
+ * population until modified, which allows the indicators to share the
+ * normalized reference set across runs.
+ * <p>
+ * The cache holds at most {@link Settings#getReferenceSetCacheSize()}
+ * reference sets, evicting the least recently used.  Reference sets are held
+ * by soft references, so they are also released when memory is low.
+ * <p>
+ * This class is thread safe.
+ */
+public class ReferenceSetCache {
+
+	/**
+	 * The cached reference sets, ordered from least to most recently used;
+	 * access must be synchronized on this class.
+	 */
+	private static final Map<String, SoftReference<NondominatedPopulation>>
+			CACHE = new LinkedHashMap<String,
+					SoftReference<NondominatedPopulation>>(16, 0.75f, true) {
+
+		private static final long serialVersionUID = -2412049870613463217L;
+
+		@Override
+		protected boolean removeEldestEntry(
+				Map.Entry<String, SoftReference<NondominatedPopulation>> eldest) {
+			return size() > Settings.getReferenceSetCacheSize();
+		}
+
+	};
+
+	/**
+	 * Private constructor to prevent instantiation.
+	 */
+	private ReferenceSetCache() {
+		super();
+	}
+
+	/**
+	 * Returns the reference set stored in the given file, which must be in the
+	 * format written by {@link PopulationIO#writeObjectives}.
+	 *
+	 * @param name the name identifying the reference set, such as the problem
+	 *        name or file name
+	 * @param file the file containing the reference set
+	 * @return a new population containing the reference set
+	 * @throws IOException if an I/O error occurred
+	 */
+	public static NondominatedPopulation getReferenceSet(String name,
+			File file) throws IOException {
+		InputStream input = new FileInputStream(file);
+
+		try {
+			return getReferenceSet(name, input);
+		} finally {
+			input.close();
+		}
+	}
+
+	/**
+	 * Returns the reference set read from the given stream, which must be in
+	 * the format written by {@link PopulationIO#writeObjectives}.  This method
+	 * does not close the stream.
+	 *
+	 * @param name the name identifying the reference set, such as the problem
+	 *        name or resource name
+	 * @param input the stream containing the reference set
+	 * @return a new population containing the reference set
+	 * @throws IOException if an I/O error occurred
+	 */
+	public static NondominatedPopulation getReferenceSet(String name,
+			InputStream input) throws IOException {
+		byte[] contents = readFully(input);
+		CRC32 checksum = new CRC32();
+		checksum.update(contents);
+
+		// the duplicate mode determines which solutions are kept
+		String key = name + ":" + Long.toHexString(checksum.getValue()) + ":" +
+				Settings.getDuplicateMode();
+		NondominatedPopulation referenceSet = null;
+
+		synchronized (ReferenceSetCache.class) {
+			SoftReference<NondominatedPopulation> reference = CACHE.get(key);
+
+			if (reference != null) {
+				referenceSet = reference.get();
+			}
+		}
+
+		if (referenceSet == null) {
+			referenceSet = new NondominatedPopulation(
+					PopulationIO.readObjectives(new CommentedLineReader(
+							new InputStreamReader(new ByteArrayInputStream(
+									contents)))));
+
+			// create the snapshot shared by all copies
+			referenceSet.getObjectiveMatrix();
+
+			synchronized (ReferenceSetCache.class) {
+				CACHE.put(key, new SoftReference<NondominatedPopulation>(
+						referenceSet));
+			}
+		}
+
+		return copy(referenceSet);
+	}
+
+	/**
+	 * Removes all reference sets from this cache.
+	 */
+	public static synchronized void clear() {
+		CACHE.clear();
+	}
+
+	/**
+	 * Returns a copy of the cached reference set.  The solutions are known to
+	 * be non-dominated, so they are added without any dominance checks.
+	 *
+	 * @param referenceSet the cached reference set
+	 * @return a copy of the cached reference set
+	 */
+	private static NondominatedPopulation copy(
+			NondominatedPopulation referenceSet) {
+		NondominatedPopulation result = new NondominatedPopulation();
+
+		for (Solution solution : referenceSet) {
+			result.forceAddWithoutCheck(solution.copy());
+		}
+
+		result.setObjectiveMatrix(referenceSet.getObjectiveMatrix());
+		return result;
+	}
+
+	/**
+	 * Reads the remaining contents of the stream.
+	 *
+	 * @param input the stream
+	 * @return the remaining contents of the stream
+	 * @throws IOException if an I/O error occurred
+	 */
+	private static byte[] readFully(InputStream input) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		byte[] buffer = new byte[Settings.BUFFER_SIZE];
+		int length = 0;
+
+		while ((length = input.read(buffer)) != -1) {
+			output.write(buffer, 0, length);
+		}
+
+		return output.toByteArray();
+	}
+
+}
@@ -35,6 +35,7 @@ import org.moeaframework.util.io.FileProtection;
 import org.apache.commons.text.StringTokenizer;
 import org.moeaframework.core.NondominatedPopulation.DuplicateMode;
 import org.moeaframework.core.indicator.Hypervolume;
+import org.moeaframework.core.indicator.NativeHypervolumeWorker;
 
 /**
  * Global settings used by this framework.  The {@code PROPERTIES} object
@@ -100,6 +101,48 @@ public class Settings {
 	public static final String KEY_FAST_NONDOMINATED_SORTING = KEY_PREFIX +
 			"core.fast_nondominated_sorting";
 	
+	/**
+	 * The property key to indicate that divide-and-conquer non-dominated
+	 * sorting should be used.
+	 */
+	public static final String KEY_DIVIDE_AND_CONQUER_NONDOMINATED_SORTING =
+			KEY_PREFIX + "core.divide_and_conquer_nondominated_sorting";
+	
+	/**
+	 * The property key to indicate that the comparisons performed by fast
+	 * non-dominated sorting should run in parallel.
+	 */
+	public static final String KEY_PARALLEL_NONDOMINATED_SORTING = KEY_PREFIX +
+			"core.parallel_nondominated_sorting";
+	
+	/**
+	 * The property key to indicate that solutions containing only real-valued
+	 * decision variables should be stored in a contiguous array.
+	 */
+	public static final String KEY_REAL_VECTOR_SOLUTIONS = KEY_PREFIX +
+			"core.real_vector_solutions";
+	
+	/**
+	 * The property key to indicate that unbounded non-dominated archives
+	 * should be indexed by an ND-Tree.
+	 */
+	public static final String KEY_INDEXED_ARCHIVE = KEY_PREFIX +
+			"core.indexed_archive";
+	
+	/**
+	 * The property key for the maximum number of reference sets cached by
+	 * {@link ReferenceSetCache}.
+	 */
+	public static final String KEY_REFERENCE_SET_CACHE_SIZE = KEY_PREFIX +
+			"core.reference_set_cache_size";
+	
+	/**
+	 * The property key for the maximum number of solutions passed to
+	 * {@link BatchProblem#evaluateAll(Solution[])} at once.
+	 */
+	public static final String KEY_BATCH_SIZE = KEY_PREFIX +
+			"core.batch_size";
+	
 	/**
 	 * The property key for the continuity correction flag.
 	 */
@@ -131,6 +174,12 @@ public class Settings {
 	public static final String KEY_HYPERVOLUME = KEY_PREFIX +
 			"core.indicator.hypervolume";
 	
+	/**
+	 * The property key for the hypervolume worker command.
+	 */
+	public static final String KEY_HYPERVOLUME_WORKER = KEY_PREFIX +
+			"core.indicator.hypervolume_worker";
+	
 	/**
 	 * The property key for the hypervolume inversion flag.
 	 */
@@ -143,6 +192,19 @@ public class Settings {
 	public static final String KEY_HYPERVOLUME_ENABLED = KEY_PREFIX +
 			"core.indicator.hypervolume_enabled";
 	
+	/**
+	 * The property key for the hypervolume estimation flag.
+	 */
+	public static final String KEY_HYPERVOLUME_ESTIMATION = KEY_PREFIX +
+			"core.indicator.hypervolume_estimation";
+	
+	/**
+	 * The property key for the number of samples used when estimating the
+	 * hypervolume.
+	 */
+	public static final String KEY_HYPERVOLUME_SAMPLES = KEY_PREFIX +
+			"core.indicator.hypervolume_samples";
+	
 	/**
 	 * The prefix for all problem property keys.
 	 */
@@ -367,6 +429,85 @@ public class Settings {
 		return PROPERTIES.getBoolean(KEY_FAST_NONDOMINATED_SORTING, false);
 	}
 	
+	/**
+	 * Returns {@code true} if divide-and-conquer non-dominated sorting should
+	 * be used.  When enabled, this option takes precedence over
+	 * {@link #useFastNondominatedSorting()}.  The default is {@code false}.
+	 * 
+	 * @return {@code true} if divide-and-conquer non-dominated sorting should
+	 *         be used; {@code false} otherwise
+	 */
+	public static boolean useDivideAndConquerNondominatedSorting() {
+		return PROPERTIES.getBoolean(
+				KEY_DIVIDE_AND_CONQUER_NONDOMINATED_SORTING, false);
+	}
+	
+	/**
+	 * Returns {@code true} if the pairwise comparisons performed by fast
+	 * non-dominated sorting should be split across all available processors
+	 * for large populations.  This requires the dominance comparator to be
+	 * thread-safe.  The default is {@code false}.
+	 * 
+	 * @return {@code true} if the pairwise comparisons performed by fast
+	 *         non-dominated sorting should run in parallel; {@code false}
+	 *         otherwise
+	 */
+	public static boolean useParallelNondominatedSorting() {
+		return PROPERTIES.getBoolean(KEY_PARALLEL_NONDOMINATED_SORTING, false);
+	}
+	
+	/**
+	 * Returns {@code true} if randomly-initialized solutions containing only
+	 * real-valued decision variables should be stored as a
+	 * {@link org.moeaframework.core.variable.RealVectorSolution}, which backs
+	 * the decision variables with a single {@code double[]} array.  The
+	 * default is {@code false}.
+	 * 
+	 * @return {@code true} if solutions containing only real-valued decision
+	 *         variables should be stored in a contiguous array; {@code false}
+	 *         otherwise
+	 */
+	public static boolean useRealVectorSolutions() {
+		return PROPERTIES.getBoolean(KEY_REAL_VECTOR_SOLUTIONS, false);
+	}
+	
+	/**
+	 * Returns {@code true} if the unbounded non-dominated archives created by
+	 * the algorithm factories and the {@link org.moeaframework.Executor}
+	 * should be an {@link IndexedNondominatedPopulation}, which speeds up
+	 * adding solutions to large archives.  The default is {@code false}.
+	 * 
+	 * @return {@code true} if unbounded non-dominated archives should be
+	 *         indexed; {@code false} otherwise
+	 */
+	public static boolean useIndexedArchive() {
+		return PROPERTIES.getBoolean(KEY_INDEXED_ARCHIVE, false);
+	}
+	
+	/**
+	 * Returns the maximum number of reference sets cached by
+	 * {@link ReferenceSetCache}.  The default is {@code 32}.  A value of
+	 * {@code 0} disables caching.
+	 * 
+	 * @return the maximum number of reference sets cached
+	 */
+	public static int getReferenceSetCacheSize() {
+		return PROPERTIES.getInt(KEY_REFERENCE_SET_CACHE_SIZE, 32);
+	}
+	
+	/**
+	 * Returns the maximum number of solutions passed to
+	 * {@link BatchProblem#evaluateAll(Solution[])} at once.  Larger sets of
+	 * solutions are split into several batches.  The default is {@code 0},
+	 * which places no limit on the batch size.
+	 * 
+	 * @return the maximum number of solutions evaluated in one batch, or
+	 *         {@code 0} if unlimited
+	 */
+	public static int getBatchSize() {
+		return PROPERTIES.getInt(KEY_BATCH_SIZE, 0);
+	}
+	
 	/**
 	 * Returns the delta applied to the nadir point of the reference set when 
 	 * calculating the hypervolume.  Having a non-zero delta is necessary to 
@@ -399,6 +540,20 @@ public class Settings {
 		return PROPERTIES.getString(KEY_HYPERVOLUME, null);
 	}
 	
+	/**
+	 * Returns the command for starting a long-lived native hypervolume
+	 * worker; or {@code null} if no worker is used.  The worker is started
+	 * once and receives the approximation sets over its standard input, as
+	 * described in {@link NativeHypervolumeWorker}.  When specified, the
+	 * worker is used instead of the native hypervolume command.
+	 * 
+	 * @return the command for starting a long-lived native hypervolume worker;
+	 *         or {@code null} if no worker is used
+	 */
+	public static String getHypervolumeWorker() {
+		return PROPERTIES.getString(KEY_HYPERVOLUME_WORKER, null);
+	}
+	
 	/**
 	 * Returns {@code true} if the approximation set is inverted prior to being
 	 * passed to the custom hypervolume implementation; otherwise {@code false}.
@@ -424,6 +579,31 @@ public class Settings {
 		return PROPERTIES.getBoolean(KEY_HYPERVOLUME_ENABLED, true);
 	}
 	
+	/**
+	 * Returns {@code true} if the hypervolume and hypervolume contributions
+	 * are estimated by Monte Carlo sampling rather than computed exactly;
+	 * {@code false} otherwise.  Estimation is intended for many-objective
+	 * problems where the exact calculation is infeasible.
+	 * 
+	 * @return {@code true} if the hypervolume is estimated by Monte Carlo
+	 *         sampling; {@code false} otherwise
+	 */
+	public static boolean isHypervolumeEstimation() {
+		return PROPERTIES.getBoolean(KEY_HYPERVOLUME_ESTIMATION, false);
+	}
+	
+	/**
+	 * Returns the number of samples used for each Monte Carlo estimate of the
+	 * hypervolume.  When estimating hypervolume contributions, the samples are
+	 * divided equally among the solutions.
+	 * 
+	 * @return the number of samples used for each Monte Carlo estimate of the
+	 *         hypervolume
+	 */
+	public static int getHypervolumeSamples() {
+		return PROPERTIES.getInt(KEY_HYPERVOLUME_SAMPLES, 100000);
+	}
+	
 	/**
 	 * Returns the list of available problems.  This allows enumerating
 	 * additional problems without the need for defining and registering a 
@@ -18,8 +18,14 @@
 package org.moeaframework.core;
 
 import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.apache.commons.lang3.SerializationUtils;
 
@@ -29,6 +35,16 @@ import org.apache.commons.lang3.SerializationUtils;
  * (key, value)} pairs; they are instance-specific and are not carried over in
  * the copy constructor.
  * <p>
+ * The frequently-used {@code rank}, {@code crowdingDistance} and
+ * {@code fitness} attributes are stored in primitive fields rather than the
+ * attribute map, avoiding hashing and boxing when they are read by
+ * comparators.
+ * These typed attributes can be accessed through
+ * {@link #getIntAttribute(String)}, {@link #getDoubleAttribute(String)},
+ * {@link #setIntAttribute(String, int)} and
+ * {@link #setDoubleAttribute(String, double)}, as well as through the
+ * general-purpose attribute methods.
+ * <p>
  * Solutions should only be constructed in {@link Problem#newSolution()} or 
  * cloned from an existing solution with {@link #copy()}.  This ensures the
  * solutions and configured correctly for the given optimization problem.
@@ -56,6 +72,41 @@ public class Solution implements Serializable {
 	 * The attributes of this solutions.
 	 */
 	private final Map<String, Serializable> attributes;
+	
+	/**
+	 * Bit flag indicating the {@code rank} attribute is set.
+	 */
+	private static final int RANK_FLAG = 1;
+	
+	/**
+	 * Bit flag indicating the {@code crowdingDistance} attribute is set.
+	 */
+	private static final int CROWDING_FLAG = 2;
+	
+	/**
+	 * Bit flag indicating the {@code fitness} attribute is set.
+	 */
+	private static final int FITNESS_FLAG = 4;
+	
+	/**
+	 * The bit flags indicating which typed attributes are set.
+	 */
+	private int typedAttributes;
+	
+	/**
+	 * The value of the {@code rank} attribute.
+	 */
+	private int rank;
+	
+	/**
+	 * The value of the {@code crowdingDistance} attribute.
+	 */
+	private double crowdingDistance;
+	
+	/**
+	 * The value of the {@code fitness} attribute.
+	 */
+	private double fitness;
 
 	/**
 	 * Constructs a solution with the specified number of variables and 
@@ -338,6 +389,12 @@ public class Solution implements Serializable {
 	 *         no value has been associated with the key
 	 */
 	public Object getAttribute(String key) {
+		int flag = getTypedFlag(key);
+		
+		if ((typedAttributes & flag) != 0) {
+			return getTypedAttribute(flag);
+		}
+		
 		return attributes.get(key);
 	}
 
@@ -352,8 +409,116 @@ public class Solution implements Serializable {
 	 *         prior value has been associated with the key
 	 */
 	public Object setAttribute(String key, Serializable value) {
+		int flag = getTypedFlag(key);
+		
+		if (flag != 0) {
+			Object oldValue = removeAttribute(key);
+			
+			if ((flag == RANK_FLAG) && (value instanceof Integer)) {
+				setIntAttribute(key, (Integer)value);
+			} else if ((flag != RANK_FLAG) && (value instanceof Double)) {
+				setDoubleAttribute(key, (Double)value);
+			} else {
+				// values of other types are kept in the attribute map
+				attributes.put(key, value);
+			}
+			
+			return oldValue;
+		}
+		
 		return attributes.put(key, value);
 	}
+	
+	/**
+	 * Returns the value of the attribute associated with the specified key as
+	 * an {@code int}.  For the {@code rank} attribute, this reads the value
+	 * without boxing.
+	 * 
+	 * @param key the key whose associated value is to be returned
+	 * @return the value associated with the specified key
+	 * @throws NullPointerException if no value has been associated with the
+	 *         key
+	 * @throws ClassCastException if the value is not a {@link Number}
+	 */
+	public int getIntAttribute(String key) {
+		if ((typedAttributes & RANK_FLAG) != 0 && isRankKey(key)) {
+			return rank;
+		}
+		
+		return ((Number)getAttribute(key)).intValue();
+	}
+	
+	/**
+	 * Returns the value of the attribute associated with the specified key as
+	 * a {@code double}.  For the {@code crowdingDistance} and {@code fitness}
+	 * attributes, this reads the value without boxing.
+	 * 
+	 * @param key the key whose associated value is to be returned
+	 * @return the value associated with the specified key
+	 * @throws NullPointerException if no value has been associated with the
+	 *         key
+	 * @throws ClassCastException if the value is not a {@link Number}
+	 */
+	public double getDoubleAttribute(String key) {
+		int flag = getTypedFlag(key);
+		
+		if ((typedAttributes & flag) == CROWDING_FLAG) {
+			return crowdingDistance;
+		} else if ((typedAttributes & flag) == FITNESS_FLAG) {
+			return fitness;
+		}
+		
+		return ((Number)getAttribute(key)).doubleValue();
+	}
+	
+	/**
+	 * Associates the specified {@code int} value with the specified key.  The
+	 * {@code rank} attribute is stored without boxing; other keys are stored
+	 * in the attribute map.
+	 * 
+	 * @param key the key with which the specified value is to be associated
+	 * @param value the value to be associated with the specified key
+	 */
+	public void setIntAttribute(String key, int value) {
+		if (isRankKey(key)) {
+			if (!attributes.isEmpty()) {
+				attributes.remove(key);
+			}
+			
+			rank = value;
+			typedAttributes |= RANK_FLAG;
+		} else {
+			setAttribute(key, value);
+		}
+	}
+	
+	/**
+	 * Associates the specified {@code double} value with the specified key.
+	 * The {@code crowdingDistance} and {@code fitness} attributes are stored
+	 * without boxing; other keys are stored in the attribute map.
+	 * 
+	 * @param key the key with which the specified value is to be associated
+	 * @param value the value to be associated with the specified key
+	 */
+	public void setDoubleAttribute(String key, double value) {
+		int flag = getTypedFlag(key);
+		
+		if ((flag == CROWDING_FLAG) || (flag == FITNESS_FLAG)) {
+			if (!attributes.isEmpty()) {
+				attributes.remove(key);
+			}
+			
+			if (flag == CROWDING_FLAG) {
+				crowdingDistance = value;
+			} else {
+				fitness = value;
+			}
+			
+			typedAttributes |= flag;
+		} else {
+			setAttribute(key, value);
+		}
+	}
 
 	/**
 	 * Removes the specified key and its associated value from this solution.
@@ -365,6 +530,14 @@ public class Solution implements Serializable {
 	 *         prior value has been associated with the key
 	 */
 	public Object removeAttribute(String key) {
+		int flag = getTypedFlag(key);
+		
+		if ((typedAttributes & flag) != 0) {
+			Object oldValue = getTypedAttribute(flag);
+			typedAttributes &= ~flag;
+			return oldValue;
+		}
+		
 		return attributes.remove(key);
 	}
 
@@ -377,16 +550,19 @@ public class Solution implements Serializable {
 	 *         attributes; {@code false} otherwise
 	 */
 	public boolean hasAttribute(String key) {
-		return attributes.containsKey(key);
+		return ((typedAttributes & getTypedFlag(key)) != 0) ||
+				attributes.containsKey(key);
 	}
 
 	/**
-	 * Returns the {@link Map} containing this solution's attributes.
+	 * Returns the {@link Map} containing this solution's attributes.  The
+	 * returned map is a view that includes the typed attributes, and changes
+	 * to the map are reflected in this solution.
 	 * 
 	 * @return the {@code Map} containing this solution's attributes
 	 */
 	public Map<String, Serializable> getAttributes() {
-		return attributes;
+		return new AttributeMap();
 	}
 
 	/**
@@ -403,7 +579,199 @@ public class Solution implements Serializable {
 	 * Removes all keys and values from this solution's attributes.
 	 */
 	public void clearAttributes() {
+		typedAttributes = 0;
 		attributes.clear();
 	}
+	
+	/**
+	 * Returns {@code true} if the key is the {@code rank} attribute key.
+	 * 
+	 * @param key the attribute key
+	 * @return {@code true} if the key is the {@code rank} attribute key;
+	 *         {@code false} otherwise
+	 */
+	private static boolean isRankKey(String key) {
+		return NondominatedSorting.RANK_ATTRIBUTE.equals(key);
+	}
+	
+	/**
+	 * Returns the bit flag of the typed attribute with the given key, or
+	 * {@code 0} if the key is not stored in a primitive field.
+	 * 
+	 * @param key the attribute key
+	 * @return the bit flag of the typed attribute, or {@code 0} if the key is
+	 *         not stored in a primitive field
+	 */
+	private static int getTypedFlag(String key) {
+		if (isRankKey(key)) {
+			return RANK_FLAG;
+		} else if (NondominatedSorting.CROWDING_ATTRIBUTE.equals(key)) {
+			return CROWDING_FLAG;
+		} else if (FitnessEvaluator.FITNESS_ATTRIBUTE.equals(key)) {
+			return FITNESS_FLAG;
+		} else {
+			return 0;
+		}
+	}
+	
+	/**
+	 * Returns the key of the typed attribute with the given bit flag.
+	 * 
+	 * @param flag the bit flag
+	 * @return the key of the typed attribute
+	 */
+	private static String getTypedKey(int flag) {
+		switch (flag) {
+		case RANK_FLAG:
+			return NondominatedSorting.RANK_ATTRIBUTE;
+		case CROWDING_FLAG:
+			return NondominatedSorting.CROWDING_ATTRIBUTE;
+		default:
+			return FitnessEvaluator.FITNESS_ATTRIBUTE;
+		}
+	}
+	
+	/**
+	 * Returns the boxed value of the typed attribute with the given bit flag.
+	 * 
+	 * @param flag the bit flag
+	 * @return the boxed value of the typed attribute
+	 */
+	private Serializable getTypedAttribute(int flag) {
+		switch (flag) {
+		case RANK_FLAG:
+			return rank;
+		case CROWDING_FLAG:
+			return crowdingDistance;
+		default:
+			return fitness;
+		}
+	}
+	
+	/**
+	 * View of the typed attributes and the attribute map.  Since the view is
+	 * backed by this solution, subclasses overriding the attribute methods
+	 * are also respected by this view.
+	 */
+	private class AttributeMap extends AbstractMap<String, Serializable> {
+		
+		@Override
+		public Serializable get(Object key) {
+			return (key instanceof String) ?
+					(Serializable)getAttribute((String)key) : null;
+		}
+		
+		@Override
+		public Serializable put(String key, Serializable value) {
+			return (Serializable)setAttribute(key, value);
+		}
+		
+		@Override
+		public Serializable remove(Object key) {
+			return (key instanceof String) ?
+					(Serializable)removeAttribute((String)key) : null;
+		}
+		
+		@Override
+		public boolean containsKey(Object key) {
+			return (key instanceof String) && hasAttribute((String)key);
+		}
+		
+		@Override
+		public int size() {
+			return Integer.bitCount(typedAttributes) + attributes.size();
+		}
+		
+		@Override
+		public void clear() {
+			clearAttributes();
+		}
+
+		@Override
+		public Set<Entry<String, Serializable>> entrySet() {
+			return new AbstractSet<Entry<String, Serializable>>() {
+
+				@Override
+				public Iterator<Entry<String, Serializable>> iterator() {
+					return new AttributeIterator();
+				}
+
+				@Override
+				public int size() {
+					return AttributeMap.this.size();
+				}
+				
+			};
+		}
+		
+	}
+	
+	/**
+	 * Iterates over a snapshot of the attribute keys, reading each value from
+	 * this solution.
+	 */
+	private class AttributeIterator implements
+	Iterator<Map.Entry<String, Serializable>> {
+		
+		/**
+		 * The attribute keys.
+		 */
+		private final List<String> keys;
+		
+		/**
+		 * The index of the next key.
+		 */
+		private int index;
+		
+		/**
+		 * Constructs a new iterator over the attributes.
+		 */
+		public AttributeIterator() {
+			super();
+			keys = new ArrayList<String>();
+			
+			for (int flag = RANK_FLAG; flag <= FITNESS_FLAG; flag <<= 1) {
+				if ((typedAttributes & flag) != 0) {
+					keys.add(getTypedKey(flag));
+				}
+			}
+			
+			keys.addAll(attributes.keySet());
+		}
+
+		@Override
+		public boolean hasNext() {
+			return index < keys.size();
+		}
+
+		@Override
+		public Map.Entry<String, Serializable> next() {
+			final String key = keys.get(index++);
+			
+			return new AbstractMap.SimpleEntry<String, Serializable>(key,
+					(Serializable)getAttribute(key)) {
+
+				private static final long serialVersionUID =
+						-1797423829314826312L;
+
+				@Override
+				public Serializable setValue(Serializable value) {
+					super.setValue(value);
+					return (Serializable)setAttribute(key, value);
+				}
+				
+			};
+		}
+
+		@Override
+		public void remove() {
+			if (index == 0) {
+				throw new IllegalStateException();
+			}
+			
+			removeAttribute(keys.get(index - 1));
+		}
+		
+	}
 
 }
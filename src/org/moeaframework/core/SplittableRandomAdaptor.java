@@ -0,0 +1,150 @@
+/* Copyright 2009-2020 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+/**
+ * Adapts a {@link SplittableRandom} to the {@link Random} interface, allowing
+ * it to be used as a source of randomness by {@link PRNG}.  Calling
+ * {@link #split()} derives a new, statistically independent stream, which
+ * allows deriving a reproducible stream for each run, thread, or task from a
+ * single seed, without the tasks competing for a shared generator.
+ * <p>
+ * Like {@code SplittableRandom}, this class is not thread safe.  Each stream
+ * should be used by a single thread, with other threads using streams split
+ * from it.
+ * <p>
+ * Since {@code SplittableRandom} is not serializable, serializing a stream
+ * draws a new seed from it and restarts the stream from that seed.  The
+ * stream and its deserialized copy therefore produce the same values, so a
+ * run resumed from a checkpoint continues exactly as the run that saved the
+ * checkpoint.
+ */
+public class SplittableRandomAdaptor extends Random {
+
+	private static final long serialVersionUID = 1425376880734393571L;
+
+	/**
+	 * The underlying generator, which is not serializable.
+	 */
+	private transient SplittableRandom generator;
+
+	/**
+	 * Constructs a new stream with the given seed.
+	 *
+	 * @param seed the seed
+	 */
+	public SplittableRandomAdaptor(long seed) {
+		super(seed);
+	}
+
+	/**
+	 * Constructs a new stream using the given generator.
+	 *
+	 * @param generator the underlying generator
+	 */
+	private SplittableRandomAdaptor(SplittableRandom generator) {
+		super(0);
+		this.generator = generator;
+	}
+
+	/**
+	 * Returns a new stream split from this stream.  This stream and the new
+	 * stream produce statistically independent values.  Splitting consumes
+	 * values from this stream, so a sequence of splits from the same seed is
+	 * reproducible.
+	 *
+	 * @return a new stream split from this stream
+	 */
+	public SplittableRandomAdaptor split() {
+		return new SplittableRandomAdaptor(generator.split());
+	}
+
+	@Override
+	public void setSeed(long seed) {
+		// also invoked by the constructor of Random
+		super.setSeed(seed);
+		generator = new SplittableRandom(seed);
+	}
+
+	@Override
+	protected int next(int bits) {
+		return (int)(generator.nextLong() >>> (64 - bits));
+	}
+
+	@Override
+	public int nextInt() {
+		return generator.nextInt();
+	}
+
+	@Override
+	public int nextInt(int bound) {
+		return generator.nextInt(bound);
+	}
+
+	@Override
+	public long nextLong() {
+		return generator.nextLong();
+	}
+
+	@Override
+	public double nextDouble() {
+		return generator.nextDouble();
+	}
+
+	@Override
+	public boolean nextBoolean() {
+		return generator.nextBoolean();
+	}
+
+	/**
+	 * Restarts the underlying generator from a seed drawn from it, and writes
+	 * that seed after the fields of this stream.
+	 *
+	 * @param stream the stream to which this object is written
+	 * @throws IOException if an I/O error occurred
+	 */
+	private void writeObject(ObjectOutputStream stream) throws IOException {
+		long seed = generator.nextLong();
+		generator = new SplittableRandom(seed);
+
+		stream.defaultWriteObject();
+		stream.writeLong(seed);
+	}
+
+	/**
+	 * Reads the fields of this stream and restarts the underlying generator
+	 * from the seed written by {@link #writeObject(ObjectOutputStream)}.
+	 *
+	 * @param stream the stream from which this object is read
+	 * @throws IOException if an I/O error occurred
+	 * @throws ClassNotFoundException if the class of a serialized object could
+	 *         not be found
+	 */
+	private void readObject(ObjectInputStream stream) throws IOException,
+			ClassNotFoundException {
+		stream.defaultReadObject();
+		generator = new SplittableRandom(stream.readLong());
+	}
+
+}
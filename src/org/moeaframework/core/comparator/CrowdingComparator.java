@@ -43,8 +43,8 @@ Comparator<Solution>, Serializable {
 
 	@Override
 	public int compare(Solution solution1, Solution solution2) {
-		double crowding1 = (Double)solution1.getAttribute(CROWDING_ATTRIBUTE);
-		double crowding2 = (Double)solution2.getAttribute(CROWDING_ATTRIBUTE);
+		double crowding1 = solution1.getDoubleAttribute(CROWDING_ATTRIBUTE);
+		double crowding2 = solution2.getDoubleAttribute(CROWDING_ATTRIBUTE);
 		
 		return -Double.compare(crowding1, crowding2);
 	}
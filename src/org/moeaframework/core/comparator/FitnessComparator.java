@@ -69,8 +69,8 @@ Comparator<Solution>, Serializable {
 	@Override
 	public int compare(Solution solution1, Solution solution2) {
 		return (largerValuesPreferred ? -1 : 1) * Double.compare(
-				(Double)solution1.getAttribute(FITNESS_ATTRIBUTE),
-				(Double)solution2.getAttribute(FITNESS_ATTRIBUTE));
+				solution1.getDoubleAttribute(FITNESS_ATTRIBUTE),
+				solution2.getDoubleAttribute(FITNESS_ATTRIBUTE));
 	}
 
 }
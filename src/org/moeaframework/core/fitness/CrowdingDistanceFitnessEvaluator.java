@@ -40,8 +40,8 @@ public class CrowdingDistanceFitnessEvaluator implements FitnessEvaluator {
 		new FastNondominatedSorting().updateCrowdingDistance(copy(population));
 		
 		for (Solution solution : population) {
-			solution.setAttribute(FITNESS_ATTRIBUTE,
-					(Double)solution.getAttribute(FastNondominatedSorting.CROWDING_ATTRIBUTE));
+			solution.setDoubleAttribute(FITNESS_ATTRIBUTE,
+					solution.getDoubleAttribute(FastNondominatedSorting.CROWDING_ATTRIBUTE));
 		}
 	}
 	
@@ -17,19 +17,23 @@
  */
 package org.moeaframework.core.fitness;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-
 import org.moeaframework.core.FitnessEvaluator;
+import org.moeaframework.core.ObjectiveMatrix;
 import org.moeaframework.core.Population;
 import org.moeaframework.core.Problem;
+import org.moeaframework.core.Settings;
 import org.moeaframework.core.Solution;
-import org.moeaframework.core.indicator.Hypervolume;
+import org.moeaframework.core.indicator.HypervolumeContributions;
+import org.moeaframework.core.indicator.MonteCarloHypervolume;
 
 /**
  * Assigns the fitness of solutions based on their contribution to the overall
- * hypervolume.
+ * hypervolume.  The contributions of all solutions are computed together by
+ * {@link HypervolumeContributions} rather than recomputing the hypervolume
+ * with each solution removed.  For many-objective problems, the contributions
+ * can instead be estimated by {@link MonteCarloHypervolume Monte Carlo
+ * sampling}, enabled by the constructor flag or, by default, by
+ * {@link Settings#isHypervolumeEstimation()}.
  */
 public class HypervolumeContributionFitnessEvaluator implements FitnessEvaluator {
 	
@@ -44,6 +48,12 @@ public class HypervolumeContributionFitnessEvaluator implements FitnessEvaluator
 	 */
 	private final double offset;
 	
+	/**
+	 * The Monte Carlo estimator, or {@code null} if the contributions are
+	 * computed exactly.
+	 */
+	private final MonteCarloHypervolume estimator;
+	
 	/**
 	 * Constructs a new hypervolume contribution fitness evaluator with an
 	 * offset of 100.
@@ -62,64 +72,78 @@ public class HypervolumeContributionFitnessEvaluator implements FitnessEvaluator
 	 *               the hypervolume calculation.
 	 */
 	public HypervolumeContributionFitnessEvaluator(Problem problem, double offset) {
+		this(problem, offset, Settings.isHypervolumeEstimation());
+	}
+	
+	/**
+	 * Constructs a new hypervolume contribution fitness evaluator, optionally
+	 * estimating the contributions by Monte Carlo sampling with the number of
+	 * samples given by {@link Settings#getHypervolumeSamples()}.
+	 * 
+	 * @param problem the problem
+	 * @param offset the offset used when determining the reference point for
+	 *               the hypervolume calculation.
+	 * @param estimate {@code true} if the contributions are estimated by Monte
+	 *        Carlo sampling; {@code false} if computed exactly
+	 */
+	public HypervolumeContributionFitnessEvaluator(Problem problem, double offset,
+			boolean estimate) {
 		super();
 		this.problem = problem;
 		this.offset = offset;
+		
+		if (estimate) {
+			estimator = new MonteCarloHypervolume(
+					Settings.getHypervolumeSamples());
+		} else {
+			estimator = null;
+		}
 	}
 
 	@Override
 	public void evaluate(Population population) {
 		if (population.size() <= 2) {
 			for (Solution solution : population) {
-				solution.setAttribute(FITNESS_ATTRIBUTE, 0.0);
+				solution.setDoubleAttribute(FITNESS_ATTRIBUTE, 0.0);
 			}
 		} else {
-			int numberOfObjectives = problem.getNumberOfObjectives();
-			List<Solution> solutions = normalize(population);
-			List<Solution> solutionsCopy = new ArrayList<Solution>(solutions);
-			double totalVolume = Hypervolume.calculateHypervolume(solutionsCopy, solutionsCopy.size(), numberOfObjectives);
+			HypervolumeContributions contributions =
+					new HypervolumeContributions(normalize(population),
+							population.size(), problem.getNumberOfObjectives(),
+							estimator);
 			
 			for (int i = 0; i < population.size(); i++) {
-				solutionsCopy = new ArrayList<Solution>(solutions);
-				solutionsCopy.remove(i);
-				
-				double volume = Hypervolume.calculateHypervolume(solutionsCopy, solutionsCopy.size(), numberOfObjectives);
-				population.get(i).setAttribute(FITNESS_ATTRIBUTE, totalVolume - volume);
+				population.get(i).setDoubleAttribute(FITNESS_ATTRIBUTE,
+						contributions.get(i));
 			}
 		}
 	}
 	
 	/**
 	 * Normalizes the population using a reference point calculated by the
-	 * maximum extent of the population plus an offset.
+	 * maximum extent of the population plus an offset.  The normalized
+	 * objectives are inverted so that larger values are preferred, as
+	 * required by the hypervolume calculation.  The objectives are read
+	 * directly from the population's {@link ObjectiveMatrix}, one objective
+	 * at a time, without copying any solutions.
 	 * 
 	 * @param population the population to normalize
-	 * @return the normalized solutions
+	 * @return the normalized objectives of each solution
 	 */
-	private List<Solution> normalize(Population population) {
-		List<Solution> result = new ArrayList<Solution>();
-		
-		double[] min = new double[problem.getNumberOfObjectives()];
-		double[] max = new double[problem.getNumberOfObjectives()];
+	private double[][] normalize(Population population) {
+		int numberOfObjectives = problem.getNumberOfObjectives();
+		double[][] result = new double[population.size()][numberOfObjectives];
 		
-		Arrays.fill(min, Double.POSITIVE_INFINITY);
-		Arrays.fill(max, Double.NEGATIVE_INFINITY);
+		ObjectiveMatrix matrix = population.getObjectiveMatrix();
+		double[] min = matrix.getMinimum(false);
+		double[] max = matrix.getMaximum(false);
 		
-		for (Solution solution : population) {
-			for (int i = 0; i < problem.getNumberOfObjectives(); i++) {
-				min[i] = Math.min(min[i], solution.getObjective(i));
-				max[i] = Math.max(max[i], solution.getObjective(i));
-			}
-		}
-		
-		for (Solution solution : population) {
-			Solution newSolution = solution.copy();
+		for (int i = 0; i < numberOfObjectives; i++) {
+			double[] column = matrix.getColumn(i);
 			
-			for (int i = 0; i < problem.getNumberOfObjectives(); i++) {
-				newSolution.setObjective(i, (max[i] - (newSolution.getObjective(i) - min[i]) + offset) / (max[i] - min[i]));
+			for (int j = 0; j < population.size(); j++) {
+				result[j][i] = (max[i] - (column[j] - min[i]) + offset) / (max[i] - min[i]);
 			}
-
-			result.add(newSolution);
 		}
 		
 		return result;
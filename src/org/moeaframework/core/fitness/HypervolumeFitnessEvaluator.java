@@ -60,80 +60,38 @@ public class HypervolumeFitnessEvaluator extends IndicatorFitnessEvaluator {
 		}
 	}
 
-	/*
-	 * The following method is modified from the IBEA implementation for the
-	 * PISA framework, available at <a href="http://www.tik.ee.ethz.ch/pisa/">
-	 * PISA Homepage</a>.
-	 * 
-	 * Copyright (c) 2002-2003 Swiss Federal Institute of Technology,
-	 * Computer Engineering and Networks Laboratory. All rights reserved.
-	 * 
-	 * PISA - A Platform and Programming Language Independent Interface for
-	 * Search Algorithms.
-	 * 
-	 * IBEA - Indicator Based Evoluationary Algorithm - A selector module
-	 * for PISA
-	 * 
-	 * Permission to use, copy, modify, and distribute this software and its
-	 * documentation for any purpose, without fee, and without written
-	 * agreement is hereby granted, provided that the above copyright notice
-	 * and the following two paragraphs appear in all copies of this
-	 * software.
-	 * 
-	 * IN NO EVENT SHALL THE SWISS FEDERAL INSTITUTE OF TECHNOLOGY, COMPUTER
-	 * ENGINEERING AND NETWORKS LABORATORY BE LIABLE TO ANY PARTY FOR DIRECT,
-	 * INDIRECT, SPECIAL, INCIDENTAL, OR CONSEQUENTIAL DAMAGES ARISING OUT OF
-	 * THE USE OF THIS SOFTWARE AND ITS DOCUMENTATION, EVEN IF THE SWISS
-	 * FEDERAL INSTITUTE OF TECHNOLOGY, COMPUTER ENGINEERING AND NETWORKS
-	 * LABORATORY HAS BEEN ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
-	 * 
-	 * THE SWISS FEDERAL INSTITUTE OF TECHNOLOGY, COMPUTER ENGINEERING AND
-	 * NETWORKS LABORATORY, SPECIFICALLY DISCLAIMS ANY WARRANTIES, INCLUDING,
-	 * BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
-	 * FITNESS FOR A PARTICULAR PURPOSE. THE SOFTWARE PROVIDED HEREUNDER IS
-	 * ON AN "AS IS" BASIS, AND THE SWISS FEDERAL INSTITUTE OF TECHNOLOGY,
-	 * COMPUTER ENGINEERING AND NETWORKS LABORATORY HAS NO OBLIGATION TO
-	 * PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS, OR MODIFICATIONS.
-	 */
 	/**
 	 * Calculates the hypervolume of the portion of the objective space that is
-	 * dominated by {@code solution1} but not by {@code solution2}.
+	 * dominated by {@code solution1} but not by {@code solution2}.  This is
+	 * the exclusive hypervolume of {@code solution1} computed by the WFG
+	 * algorithm: the volume of the box between {@code solution1} and the
+	 * reference point minus the volume of the box between the worse of the two
+	 * solutions in each objective and the reference point, requiring
+	 * {@code O(d)} operations.
 	 * 
 	 * @param solution1 the first solution
-	 * @param solution2 the second solution
-	 * @param d the current objective
+	 * @param solution2 the second solution, or {@code null} to compute the
+	 *        hypervolume dominated by {@code solution1}
+	 * @param d the number of objectives
 	 * @return the hypervolume of the portion of the objective space that is
 	 *         dominated by {@code solution1} but not by {@code solution2}.
+	 * @see org.moeaframework.core.indicator.WFGHypervolume
 	 */
 	protected double calculateHypervolume(Solution solution1,
 			Solution solution2, int d) {
-		double max = rho;
-		double a = solution1.getObjective(d - 1);
-		double b = max;
+		double volume = 1.0;
+		double limitedVolume = 1.0;
 
-		if (solution2 != null) {
-			b = solution2.getObjective(d - 1);
-		}
+		for (int i = 0; i < d; i++) {
+			double a = solution1.getObjective(i);
+			double b = Math.max(a, solution2 == null ? rho :
+					solution2.getObjective(i));
 
-		double volume = 0.0;
-
-		if (d == 1) {
-			if (a < b) {
-				volume = (b - a) / rho;
-			}
-		} else {
-			if (a < b) {
-				volume = calculateHypervolume(solution1, null, d - 1) * 
-						(b - a) / rho
-						+ calculateHypervolume(solution1, solution2, d - 1) * 
-						(max - b) / rho;
-			} else {
-				volume = calculateHypervolume(solution1, solution2, d - 1) *
-						(max - a) / rho;
-			}
+			volume *= (rho - a) / rho;
+			limitedVolume *= (rho - b) / rho;
 		}
 
-		return volume;
+		return volume - limitedVolume;
 	}
 	
 	@Override
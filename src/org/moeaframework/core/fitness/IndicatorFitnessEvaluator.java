@@ -136,7 +136,8 @@ public abstract class IndicatorFitnessEvaluator implements FitnessEvaluator {
 				}
 			}
 			
-			population.get(i).setAttribute(FitnessEvaluator.FITNESS_ATTRIBUTE, sum);
+			population.get(i).setDoubleAttribute(
+					FitnessEvaluator.FITNESS_ATTRIBUTE, sum);
 		}
 	}
 	
@@ -158,12 +159,12 @@ public abstract class IndicatorFitnessEvaluator implements FitnessEvaluator {
 		for (int i = 0; i < population.size(); i++) {
 			if (i != removeIndex) {
 				Solution solution = population.get(i);
-				double fitness = (Double)solution.getAttribute(
+				double fitness = solution.getDoubleAttribute(
 						FitnessEvaluator.FITNESS_ATTRIBUTE);
 				
 				fitness -= Math.exp((-fitcomp[removeIndex][i] / maxAbsIndicatorValue) / kappa);
 				
-				solution.setAttribute(FITNESS_ATTRIBUTE, fitness);
+				solution.setDoubleAttribute(FITNESS_ATTRIBUTE, fitness);
 			}
 		}
 		
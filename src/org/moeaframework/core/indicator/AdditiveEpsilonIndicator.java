@@ -18,8 +18,8 @@
 package org.moeaframework.core.indicator;
 
 import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.ObjectiveMatrix;
 import org.moeaframework.core.Problem;
-import org.moeaframework.core.Solution;
 
 /**
  * Additive &epsilon;-indicator for minimization problems. Finds the minimum
@@ -42,8 +42,9 @@ public class AdditiveEpsilonIndicator extends NormalizedIndicator {
 
 	@Override
 	public double evaluate(NondominatedPopulation approximationSet) {
-		return evaluate(problem, normalize(approximationSet), 
-				getNormalizedReferenceSet());
+		return evaluate(problem, new KDTree(normalizeObjectives(
+				approximationSet), problem.getNumberOfObjectives()),
+				getNormalizedReferenceObjectives());
 	}
 
 	/**
@@ -61,25 +62,33 @@ public class AdditiveEpsilonIndicator extends NormalizedIndicator {
 	static double evaluate(Problem problem,
 			NondominatedPopulation approximationSet,
 			NondominatedPopulation referenceSet) {
+		return evaluate(problem, new KDTree(
+				approximationSet.getObjectiveMatrix(),
+				problem.getNumberOfObjectives()),
+				referenceSet.getObjectiveMatrix());
+	}
+	
+	/**
+	 * Computes the additive &epsilon;-indicator for the specified problem given
+	 * a k-d tree built from the approximation set and the reference set.
+	 * Returns {@code Double.POSITIVE_INFINITY} if the approximation set is
+	 * empty.
+	 * 
+	 * @param problem the problem
+	 * @param approximationTree the k-d tree built from the approximation set
+	 * @param referenceSet the objective values of the reference set for the
+	 *        problem
+	 * @return the additive &epsilon;-indicator value for the specified problem
+	 *         given an approximation set and reference set
+	 */
+	static double evaluate(Problem problem, KDTree approximationTree,
+			ObjectiveMatrix referenceSet) {
 		double eps_i = 0.0;
 
 		for (int i = 0; i < referenceSet.size(); i++) {
-			Solution solution1 = referenceSet.get(i);
-			double eps_j = Double.POSITIVE_INFINITY;
-
-			for (int j = 0; j < approximationSet.size(); j++) {
-				Solution solution2 = approximationSet.get(j);
-				double eps_k = 0.0;
-
-				for (int k = 0; k < problem.getNumberOfObjectives(); k++) {
-					eps_k = Math.max(eps_k, solution2.getObjective(k)
-							- solution1.getObjective(k));
-				}
-
-				eps_j = Math.min(eps_j, eps_k);
-			}
-
-			eps_i = Math.max(eps_i, eps_j);
+			// only reference points exceeding the current value matter
+			eps_i = Math.max(eps_i, approximationTree.minimumEpsilon(
+					referenceSet.getRow(i), eps_i));
 		}
 
 		return eps_i;
@@ -18,6 +18,7 @@
 package org.moeaframework.core.indicator;
 
 import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.ObjectiveMatrix;
 import org.moeaframework.core.Problem;
 import org.moeaframework.core.Settings;
 
@@ -63,8 +64,8 @@ public class GenerationalDistance extends NormalizedIndicator {
 
 	@Override
 	public double evaluate(NondominatedPopulation approximationSet) {
-		return evaluate(problem, normalize(approximationSet), 
-				getNormalizedReferenceSet(), d);
+		return evaluate(problem, normalizeObjectives(approximationSet), 
+				getNormalizedReferenceTree(), d);
 	}
 
 	/**
@@ -84,17 +85,37 @@ public class GenerationalDistance extends NormalizedIndicator {
 			NondominatedPopulation approximationSet,
 			NondominatedPopulation referenceSet,
 			double d) {
+		return evaluate(problem, approximationSet.getObjectiveMatrix(),
+				new KDTree(referenceSet.getObjectiveMatrix(),
+						problem.getNumberOfObjectives()), d);
+	}
+	
+	/**
+	 * Computes the generational distance for the specified problem given an
+	 * approximation set and a k-d tree built from the reference set.  Returns
+	 * {@code Double.POSITIVE_INFINITY} if the approximation set is empty.
+	 * 
+	 * @param problem the problem
+	 * @param approximationSet the objective values of an approximation set
+	 *        for the problem
+	 * @param referenceTree the k-d tree built from the reference set
+	 * @param d the power, typically {@code 2.0}
+	 * @return the generational distance for the specified problem given an
+	 *         approximation set and reference set
+	 */
+	static double evaluate(Problem problem, ObjectiveMatrix approximationSet,
+			KDTree referenceTree, double d) {
 		double sum = 0.0;
 		
-		if (approximationSet.isEmpty()) {
+		if (approximationSet.size() == 0) {
 			return Double.POSITIVE_INFINITY;
 		}
 
 		for (int i = 0; i < approximationSet.size(); i++) {
-			sum += Math.pow(IndicatorUtils.distanceToNearestSolution(problem,
-					approximationSet.get(i), referenceSet), d);
+			sum += IndicatorUtils.pow(referenceTree.squaredDistanceToNearest(
+					approximationSet.getRow(i)), d);
 		}
 		
-		return Math.pow(sum, 1.0 / d) / approximationSet.size();
+		return IndicatorUtils.root(sum, d) / approximationSet.size();
 	}
 }
@@ -23,10 +23,12 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.moeaframework.core.FrameworkException;
 import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.ObjectiveMatrix;
 import org.moeaframework.core.Population;
 import org.moeaframework.core.PopulationIO;
 import org.moeaframework.core.Problem;
@@ -34,44 +36,45 @@ import org.moeaframework.core.Settings;
 import org.moeaframework.core.Solution;
 import org.moeaframework.util.io.RedirectStream;
 
-/*
- * Portions of this source code are derived from the PISA library.  The PISA
- * license is provided below.
- * 
- * Copyright (c) 2006-2007 Swiss Federal Institute of Technology, Computer 
- * Engineering and Networks Laboratory. All rights reserved.
- *
- * Permission to use, copy, modify, and distribute this software and its 
- * documentation for any purpose, without fee, and without written agreement is 
- * hereby granted, provided that the above copyright notice and the following 
- * two paragraphs appear in all copies of this software.
- *
- * IN NO EVENT SHALL THE SWISS FEDERAL INSTITUTE OF TECHNOLOGY, COMPUTER 
- * ENGINEERING AND NETWORKS LABORATORY BE LIABLE TO ANY PARTY FOR DIRECT, 
- * INDIRECT, SPECIAL, INCIDENTAL, OR CONSEQUENTIAL DAMAGES ARISING OUT OF THE 
- * USE OF THIS SOFTWARE AND ITS DOCUMENTATION, EVEN IF THE SWISS FEDERAL 
- * INSTITUTE OF TECHNOLOGY, COMPUTER ENGINEERING AND NETWORKS LABORATORY HAS 
- * BEEN ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
- *
- * THE SWISS FEDERAL INSTITUTE OF TECHNOLOGY, COMPUTER ENGINEERING AND NETWORKS 
- * LABORATORY, SPECIFICALLY DISCLAIMS ANY WARRANTIES, INCLUDING, BUT NOT LIMITED
- * TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR 
- * PURPOSE. THE SOFTWARE PROVIDED HEREUNDER IS ON AN "AS IS" BASIS, AND THE 
- * SWISS FEDERAL INSTITUTE OF TECHNOLOGY, COMPUTER ENGINEERING AND NETWORKS 
- * LABORATORY HAS NO OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, 
- * ENHANCEMENTS, OR MODIFICATIONS.
- */
-
 /**
  * Hypervolume indicator. Represents the volume of objective space dominated by
- * solutions in the approximation set.
+ * solutions in the approximation set.  The hypervolume is computed exactly
+ * using the {@link WFGHypervolume WFG algorithm}.
+ * <p>
+ * For many-objective problems, where the exact calculation is infeasible, the
+ * hypervolume can instead be estimated by {@link MonteCarloHypervolume Monte
+ * Carlo sampling}.  Estimation is enabled by the constructor flag or, by
+ * default, by {@link Settings#isHypervolumeEstimation()}.  Use
+ * {@link #estimate(NondominatedPopulation)} to also obtain the confidence
+ * interval of the estimate.
  * <p>
  * Due to the computational burden of computing the hypervolume indicator and
  * the various estimation algorithms available, the ability to redirect the
  * hypervolume calculation to an external third-party executable is provided.
- * See {@link #invokeNativeHypervolume} for details.
+ * See {@link #invokeNativeHypervolume} for details.  To avoid starting a new
+ * process for each calculation, a long-lived {@link NativeHypervolumeWorker}
+ * can be configured instead by {@link Settings#getHypervolumeWorker()}.
  */
 public class Hypervolume extends NormalizedIndicator {
+	
+	/**
+	 * The shared native hypervolume worker, or {@code null} if not yet
+	 * started; access must be synchronized on this class.
+	 */
+	private static NativeHypervolumeWorker worker;
+	
+	/**
+	 * The command that started the shared native hypervolume worker, or
+	 * {@code null} if not yet started; access must be synchronized on this
+	 * class.
+	 */
+	private static String workerCommand;
+	
+	/**
+	 * The Monte Carlo estimator, or {@code null} if the hypervolume is
+	 * computed exactly.
+	 */
+	private final MonteCarloHypervolume estimator;
 
 	/**
 	 * Constructs a hypervolume evaluator for the specified problem and 
@@ -81,7 +84,24 @@ public class Hypervolume extends NormalizedIndicator {
 	 * @param referenceSet the reference set
 	 */
 	public Hypervolume(Problem problem, NondominatedPopulation referenceSet) {
+		this(problem, referenceSet, Settings.isHypervolumeEstimation());
+	}
+	
+	/**
+	 * Constructs a hypervolume evaluator for the specified problem and
+	 * reference set, optionally estimating the hypervolume by Monte Carlo
+	 * sampling with the number of samples given by
+	 * {@link Settings#getHypervolumeSamples()}.
+	 * 
+	 * @param problem the problem
+	 * @param referenceSet the reference set
+	 * @param estimate {@code true} if the hypervolume is estimated by Monte
+	 *        Carlo sampling; {@code false} if computed exactly
+	 */
+	public Hypervolume(Problem problem, NondominatedPopulation referenceSet,
+			boolean estimate) {
 		super(problem, referenceSet, true);
+		estimator = createEstimator(estimate);
 	}
 	
 	/**
@@ -95,6 +115,7 @@ public class Hypervolume extends NormalizedIndicator {
 	public Hypervolume(Problem problem, NondominatedPopulation referenceSet,
 			double[] referencePoint) {
 		super(problem, referenceSet, referencePoint);
+		estimator = createEstimator(Settings.isHypervolumeEstimation());
 	}
 	
 	/**
@@ -107,6 +128,25 @@ public class Hypervolume extends NormalizedIndicator {
 	 */
 	public Hypervolume(Problem problem, double[] minimum, double[] maximum) {
 		super(problem, new NondominatedPopulation(), minimum, maximum);
+		estimator = createEstimator(Settings.isHypervolumeEstimation());
+	}
+	
+	/**
+	 * Returns a new Monte Carlo estimator using the number of samples given by
+	 * {@link Settings#getHypervolumeSamples()}, or {@code null} if the
+	 * hypervolume is computed exactly.
+	 * 
+	 * @param estimate {@code true} if the hypervolume is estimated by Monte
+	 *        Carlo sampling; {@code false} if computed exactly
+	 * @return the Monte Carlo estimator, or {@code null} if the hypervolume is
+	 *         computed exactly
+	 */
+	static MonteCarloHypervolume createEstimator(boolean estimate) {
+		if (estimate) {
+			return new MonteCarloHypervolume(Settings.getHypervolumeSamples());
+		} else {
+			return null;
+		}
 	}
 
 	/**
@@ -130,134 +170,15 @@ public class Hypervolume extends NormalizedIndicator {
 		}
 	}
 
-	/**
-	 * Returns {@code true} if {@code solution1} dominates {@code solution2}
-	 * with respect to the first {@code numberOfObjectives} objectives;
-	 * {@code false} otherwise.
-	 * 
-	 * @param solution1 the first solution
-	 * @param solution2 the second solution
-	 * @param numberOfObjectives the number of objectives used when determining
-	 *        domination
-	 * @return {@code true} if {@code solution1} dominates {@code solution2}
-	 *         with
-	 *         respect to the first {@code numberOfObjectives} objectives;
-	 *         {@code false} otherwise
-	 */
-	private static boolean dominates(Solution solution1, Solution solution2,
-			int numberOfObjectives) {
-		boolean betterInAnyObjective = false;
-		boolean worseInAnyObjective = false;
-
-		for (int i = 0; i < numberOfObjectives; i++) {
-			if (worseInAnyObjective) {
-				break;
-			}
-
-			if (solution1.getObjective(i) > solution2.getObjective(i)) {
-				betterInAnyObjective = true;
-			} else if (solution1.getObjective(i) < solution2.getObjective(i)) {
-				worseInAnyObjective = true;
-			}
-		}
-
-		return !worseInAnyObjective && betterInAnyObjective;
-	}
-
-	/**
-	 * Swaps the {@code i}th and {@code j}th indices in the population.
-	 * 
-	 * @param population the population
-	 * @param i the first index to be swapped
-	 * @param j the second index to be swapped
-	 */
-	private static void swap(List<Solution> population, int i, int j) {
-		Solution temp = population.get(i);
-		population.set(i, population.get(j));
-		population.set(j, temp);
-	}
-
-	/*
-	 * all nondominated points regarding the first 'no_objectives' dimensions
-	 * are collected; the points 0..no_points-1 in 'front' are considered; the
-	 * points in 'front' are resorted, such that points [0..n-1] represent the
-	 * nondominated points; n is returned
-	 */
-	private static int filterNondominatedSet(List<Solution> population,
-			int numberOfSolutions, int numberOfObjectives) {
-		int i = 0;
-		int n = numberOfSolutions;
-
-		while (i < n) {
-			int j = i + 1;
-			while (j < n) {
-				if (dominates(population.get(i), population.get(j),
-						numberOfObjectives)) {
-					/* remove point j */
-					n--;
-					swap(population, j, n);
-				} else if (dominates(population.get(j), population.get(i),
-						numberOfObjectives)) {
-					/*
-					 * remove point i; ensure that the point copied to index i
-					 * is considered in the next outer loop (thus, decrement i)
-					 */
-					n--;
-					swap(population, i, n);
-					i--;
-					break;
-				} else {
-					j++;
-				}
-			}
-
-			i++;
-		}
-
-		return n;
-	}
-
-	/*
-	 * calculate next value regarding dimension 'objective'; consider points
-	 * 0..no_points-1 in 'front'
-	 */
-	private static double surfaceUnchangedTo(List<Solution> population,
-			int numberOfSolutions, int objective) {
-		double min = population.get(0).getObjective(objective);
-
-		for (int i = 1; i < numberOfSolutions; i++) {
-			min = Math.min(min, population.get(i).getObjective(objective));
-		}
-
-		return min;
-	}
-
-	/*
-	 * remove all points which have a value <= 'threshold' regarding the
-	 * dimension 'objective'; the points [0..no_points-1] in 'front' are
-	 * considered; 'front' is resorted, such that points [0..n-1] represent the
-	 * remaining points; 'n' is returned
-	 */
-	private static int reduceNondominatedSet(List<Solution> population,
-			int numberOfSolutions, int objective, double threshold) {
-		int n = numberOfSolutions;
-
-		for (int i = 0; i < n; i++) {
-			if (population.get(i).getObjective(objective) <= threshold) {
-				n--;
-				swap(population, i, n);
-			}
-		}
-
-		return n;
-	}
-
 	/**
 	 * The internal, unnormalized hypervolume calculation.  While this method
 	 * is public, we do not encourage its use since incorrect arguments can
 	 * cause unexpected behavior.  Instead, use the
 	 * {@link #Hypervolume(Problem, NondominatedPopulation)} constructor
 	 * to create a normalizing version of the hypervolume calculation.
+	 * <p>
+	 * The objectives are maximized, and the hypervolume is measured from the
+	 * origin.  See {@link WFGHypervolume} for details.
 	 * 
 	 * @param population the population
 	 * @param numberOfSolutions the number of solutions
@@ -266,36 +187,47 @@ public class Hypervolume extends NormalizedIndicator {
 	 */
 	public static double calculateHypervolume(List<Solution> population,
 			int numberOfSolutions, int numberOfObjectives) {
-		double volume = 0.0;
-		double distance = 0.0;
-		int n = numberOfSolutions;
-
-		while (n > 0) {
-			int numberOfNondominatedPoints = filterNondominatedSet(population,
-					n, numberOfObjectives - 1);
-
-			double tempVolume = 0.0;
-			if (numberOfObjectives < 3) {
-				tempVolume = population.get(0).getObjective(0);
-			} else {
-				tempVolume = calculateHypervolume(population,
-						numberOfNondominatedPoints, numberOfObjectives - 1);
+		double[][] points = new double[numberOfSolutions][numberOfObjectives];
+		
+		for (int i = 0; i < numberOfSolutions; i++) {
+			Solution solution = population.get(i);
+			
+			for (int j = 0; j < numberOfObjectives; j++) {
+				points[i][j] = solution.getObjective(j);
 			}
-
-			double tempDistance = surfaceUnchangedTo(population, n,
-					numberOfObjectives - 1);
-			volume += tempVolume * (tempDistance - distance);
-			distance = tempDistance;
-			n = reduceNondominatedSet(population, n, numberOfObjectives - 1,
-					distance);
 		}
-
-		return volume;
+		
+		return WFGHypervolume.calculate(points, numberOfSolutions,
+				numberOfObjectives);
 	}
 
 	@Override
 	public double evaluate(NondominatedPopulation approximationSet) {
-		return evaluate(problem, normalize(approximationSet));
+		return evaluate(problem, normalizeObjectives(approximationSet),
+				estimator);
+	}
+	
+	/**
+	 * Returns the hypervolume of the approximation set together with its
+	 * confidence interval.  If the hypervolume is computed exactly, the
+	 * standard error is {@code 0}.
+	 * 
+	 * @param approximationSet the approximation set
+	 * @return the hypervolume of the approximation set together with its
+	 *         confidence interval
+	 */
+	public MonteCarloHypervolume.Estimate estimate(
+			NondominatedPopulation approximationSet) {
+		if (estimator == null) {
+			return new MonteCarloHypervolume.Estimate(
+					evaluate(approximationSet), 0.0);
+		}
+		
+		double[][] points = toPoints(problem,
+				normalizeObjectives(approximationSet), true);
+		
+		return estimator.estimate(points, points.length,
+				problem.getNumberOfObjectives());
 	}
 
 	/**
@@ -303,43 +235,182 @@ public class Hypervolume extends NormalizedIndicator {
 	 * 
 	 * @param problem the problem
 	 * @param approximationSet the normalized approximation set
+	 * @param estimator the Monte Carlo estimator, or {@code null} if the
+	 *        hypervolume is computed exactly
 	 * @return the hypervolume of the normalized approximation set
 	 */
 	static double evaluate(Problem problem,
-			NondominatedPopulation approximationSet) {
+			NondominatedPopulation approximationSet,
+			MonteCarloHypervolume estimator) {
+		return evaluate(problem, approximationSet.getObjectiveMatrix(),
+				estimator);
+	}
+	
+	/**
+	 * Computes the hypervolume of the normalized objective values of an
+	 * approximation set.  Infeasible solutions are ignored.
+	 * 
+	 * @param problem the problem
+	 * @param approximationSet the normalized objective values of the
+	 *        approximation set
+	 * @param estimator the Monte Carlo estimator, or {@code null} if the
+	 *        hypervolume is computed exactly
+	 * @return the hypervolume of the normalized approximation set
+	 */
+	static double evaluate(Problem problem, ObjectiveMatrix approximationSet,
+			MonteCarloHypervolume estimator) {
+		if (estimator != null) {
+			double[][] points = toPoints(problem, approximationSet, true);
+			
+			return estimator.estimate(points, points.length,
+					problem.getNumberOfObjectives()).getValue();
+		}
+		
 		boolean isInverted = true;
-		boolean isCustomHypervolume = (Settings.getHypervolume() != null) && 
-				(problem.getNumberOfObjectives() > 2) ;
+		boolean isCustomHypervolume = isCustomHypervolume(problem);
 		
 		if (isCustomHypervolume) {
 			isInverted = Settings.isHypervolumeInverted();
 		}
+		
+		double[][] points = toPoints(problem, approximationSet, isInverted);
+
+		if (!isCustomHypervolume) {
+			return WFGHypervolume.calculate(points, points.length,
+					problem.getNumberOfObjectives());
+		}
+		
+		if (Settings.getHypervolumeWorker() != null) {
+			return invokeHypervolumeWorker(problem, points, isInverted);
+		}
 
 		List<Solution> solutions = new ArrayList<Solution>();
+		
+		for (double[] point : points) {
+			solutions.add(new Solution(point));
+		}
 
-		outer: for (Solution solution : approximationSet) {
-			//prune any solutions which exceed the Nadir point
-			for (int i=0; i<solution.getNumberOfObjectives(); i++) {
-				if (solution.getObjective(i) > 1.0) {
+		return invokeNativeHypervolume(problem, solutions, isInverted);
+	}
+	
+	/**
+	 * Returns {@code true} if the hypervolume for the given problem is
+	 * computed by a native process or worker; {@code false} if computed by
+	 * the WFG algorithm.
+	 * 
+	 * @param problem the problem
+	 * @return {@code true} if the hypervolume is computed by a native process
+	 *         or worker; {@code false} otherwise
+	 */
+	static boolean isCustomHypervolume(Problem problem) {
+		return ((Settings.getHypervolume() != null) ||
+				(Settings.getHypervolumeWorker() != null)) && 
+				(problem.getNumberOfObjectives() > 2);
+	}
+	
+	/**
+	 * Returns the Monte Carlo estimator, or {@code null} if the hypervolume is
+	 * computed exactly.
+	 * 
+	 * @return the Monte Carlo estimator, or {@code null} if the hypervolume is
+	 *         computed exactly
+	 */
+	MonteCarloHypervolume getEstimator() {
+		return estimator;
+	}
+	
+	/**
+	 * Sends the points to the shared {@link NativeHypervolumeWorker}.
+	 * 
+	 * @param problem the problem
+	 * @param points the normalized and possibly inverted objective values
+	 * @param isInverted {@code true} if the points are inverted;
+	 *        {@code false} otherwise
+	 * @return the hypervolume value
+	 */
+	private static double invokeHypervolumeWorker(Problem problem,
+			double[][] points, boolean isInverted) {
+		int numberOfObjectives = problem.getNumberOfObjectives();
+		double[] referencePoint = new double[numberOfObjectives];
+		
+		Arrays.fill(referencePoint, isInverted ? 0.0 : 1.0);
+		
+		return getWorker().calculate(points, points.length,
+				numberOfObjectives, referencePoint);
+	}
+	
+	/**
+	 * Returns the shared native hypervolume worker, starting a new worker if
+	 * none is running, the previous worker failed, or the command given by
+	 * {@link Settings#getHypervolumeWorker()} changed.  A worker started with
+	 * a different command is closed.
+	 * 
+	 * @return the shared native hypervolume worker
+	 */
+	static synchronized NativeHypervolumeWorker getWorker() {
+		String command = Settings.getHypervolumeWorker();
+		
+		if ((worker != null) && !command.equals(workerCommand)) {
+			worker.close();
+			worker = null;
+		}
+		
+		if ((worker == null) || worker.isClosed()) {
+			try {
+				worker = new NativeHypervolumeWorker(Settings.parseCommand(
+						command));
+				workerCommand = command;
+			} catch (IOException e) {
+				throw new FrameworkException(e);
+			}
+		}
+		
+		return worker;
+	}
+	
+	/**
+	 * Returns the objectives of the normalized approximation set, pruning any
+	 * solutions exceeding the nadir point and any infeasible solutions.  If
+	 * inverted, each objective is clamped to be non-negative and subtracted
+	 * from {@code 1}.  Only the objectives defined by the problem are used,
+	 * both when pruning and in the returned points, so any additional
+	 * objectives stored in the approximation set are ignored.
+	 * 
+	 * @param problem the problem
+	 * @param approximationSet the normalized objective values of the
+	 *        approximation set
+	 * @param isInverted {@code true} if the objectives are inverted;
+	 *        {@code false} otherwise
+	 * @return the objectives of the normalized approximation set
+	 */
+	private static double[][] toPoints(Problem problem,
+			ObjectiveMatrix approximationSet, boolean isInverted) {
+		int numberOfObjectives = problem.getNumberOfObjectives();
+		double[][] points =
+				new double[approximationSet.size()][numberOfObjectives];
+		int size = 0;
+		
+		outer: for (int k = 0; k < approximationSet.size(); k++) {
+			if (!approximationSet.isFeasible(k)) {
+				continue;
+			}
+			
+			for (int i = 0; i < numberOfObjectives; i++) {
+				if (approximationSet.getObjective(k, i) > 1.0) {
 					continue outer;
 				}
 			}
 			
-			Solution clone = solution.copy();
-					
-			if (isInverted) {
-				invert(problem, clone);
+			for (int i = 0; i < numberOfObjectives; i++) {
+				double value = approximationSet.getObjective(k, i);
+				points[size][i] = isInverted ? 1.0 - Math.max(value, 0.0) :
+					value;
 			}
-					
-			solutions.add(clone);
-		}
-
-		if (isCustomHypervolume) {
-			return invokeNativeHypervolume(problem, solutions, isInverted);
-		} else {
-			return calculateHypervolume(solutions, solutions.size(), 
-					problem.getNumberOfObjectives());
+			
+			size++;
 		}
+		
+		return Arrays.copyOf(points, size);
 	}
 
 	/**
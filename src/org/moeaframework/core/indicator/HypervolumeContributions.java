@@ -0,0 +1,407 @@
+/* Copyright 2009-2020 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.indicator;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * The exact exclusive hypervolume contribution of each point in a set, which
+ * is the hypervolume lost if the point is removed.  As with
+ * {@link WFGHypervolume}, the points are maximized and the hypervolume is
+ * measured from the origin.
+ * <p>
+ * All contributions are computed at once rather than recomputing the
+ * hypervolume of the set without each point.  With two objectives, the
+ * contributions are computed by a single {@code O(n log n)} sweep over the
+ * sorted points.  Otherwise, the contribution of each point is its own volume
+ * minus the hypervolume of the other points after limiting them to the
+ * bounding box of the point, using the WFG algorithm.  Since most limited
+ * points are dominated and discarded, this is far cheaper than computing the
+ * hypervolume of the full set.
+ * <p>
+ * Points can be removed one at a time with {@link #remove(int)}, such as when
+ * repeatedly discarding the least contributor.  Removing a point only
+ * recomputes the contributions of its neighbors, which are the points whose
+ * bounding box overlaps the removed point in a region not covered by any
+ * other point.
+ * <p>
+ * Alternatively, the contributions can be estimated by a
+ * {@link MonteCarloHypervolume} for many-objective problems.  In that case,
+ * removing a point estimates the contributions of all remaining points again.
+ */
+public class HypervolumeContributions {
+
+	/**
+	 * The number of objectives.
+	 */
+	private final int numberOfObjectives;
+
+	/**
+	 * The WFG hypervolume calculator used to compute the contributions.
+	 */
+	private final WFGHypervolume hypervolume;
+
+	/**
+	 * The Monte Carlo estimator, or {@code null} if the contributions are
+	 * computed exactly.
+	 */
+	private final MonteCarloHypervolume estimator;
+
+	/**
+	 * The points that have not been removed, stored in the first {@code size}
+	 * entries.
+	 */
+	private final double[][] points;
+
+	/**
+	 * The original index of each point in {@code points}.
+	 */
+	private final int[] indices;
+
+	/**
+	 * The position in {@code points} of each original index, or {@code -1} if
+	 * the point was removed.
+	 */
+	private final int[] positions;
+
+	/**
+	 * The contribution of each point, indexed by the original index.
+	 */
+	private final double[] contributions;
+
+	/**
+	 * The number of points that have not been removed.
+	 */
+	private int size;
+
+	/**
+	 * Computes the exclusive hypervolume contribution of the first
+	 * {@code numberOfPoints} points, considering only the first
+	 * {@code numberOfObjectives} objectives.
+	 *
+	 * @param points the points, which are not modified
+	 * @param numberOfPoints the number of points
+	 * @param numberOfObjectives the number of objectives
+	 */
+	public HypervolumeContributions(double[][] points, int numberOfPoints,
+			int numberOfObjectives) {
+		this(points, numberOfPoints, numberOfObjectives, null);
+	}
+
+	/**
+	 * Computes the exclusive hypervolume contribution of the first
+	 * {@code numberOfPoints} points, considering only the first
+	 * {@code numberOfObjectives} objectives.  If an estimator is given, the
+	 * contributions are estimated by Monte Carlo sampling.
+	 *
+	 * @param points the points, which are not modified
+	 * @param numberOfPoints the number of points
+	 * @param numberOfObjectives the number of objectives
+	 * @param estimator the Monte Carlo estimator, or {@code null} if the
+	 *        contributions are computed exactly
+	 */
+	public HypervolumeContributions(double[][] points, int numberOfPoints,
+			int numberOfObjectives, MonteCarloHypervolume estimator) {
+		super();
+		this.numberOfObjectives = numberOfObjectives;
+		this.estimator = estimator;
+
+		hypervolume = new WFGHypervolume(numberOfObjectives);
+		this.points = new double[numberOfPoints][];
+		indices = new int[numberOfPoints];
+		positions = new int[numberOfPoints];
+		contributions = new double[numberOfPoints];
+		size = numberOfPoints;
+
+		for (int i = 0; i < numberOfPoints; i++) {
+			this.points[i] = Arrays.copyOf(points[i], numberOfObjectives);
+			indices[i] = i;
+			positions[i] = i;
+		}
+
+		if (estimator != null) {
+			estimate();
+		} else if (numberOfObjectives == 2) {
+			sweep();
+		} else {
+			for (int i = 0; i < size; i++) {
+				contributions[i] = hypervolume.contribution(this.points, size,
+						i);
+			}
+		}
+	}
+
+	/**
+	 * Returns the exclusive hypervolume contribution of the point with the
+	 * given index.  Removed points have a contribution of {@code 0}.
+	 *
+	 * @param index the original index of the point
+	 * @return the exclusive hypervolume contribution of the point
+	 */
+	public double get(int index) {
+		return contributions[index];
+	}
+
+	/**
+	 * Returns the number of points that have not been removed.
+	 *
+	 * @return the number of points that have not been removed
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns {@code true} if the point with the given index was removed;
+	 * {@code false} otherwise.
+	 *
+	 * @param index the original index of the point
+	 * @return {@code true} if the point with the given index was removed;
+	 *         {@code false} otherwise
+	 */
+	public boolean isRemoved(int index) {
+		return positions[index] < 0;
+	}
+
+	/**
+	 * Returns the original index of the remaining point with the smallest
+	 * contribution, or {@code -1} if all points were removed.  Ties are
+	 * resolved in favor of the smallest index.
+	 *
+	 * @return the original index of the remaining point with the smallest
+	 *         contribution
+	 */
+	public int findMinimum() {
+		int minimum = -1;
+
+		for (int i = 0; i < contributions.length; i++) {
+			if ((positions[i] >= 0) && ((minimum < 0) ||
+					(contributions[i] < contributions[minimum]))) {
+				minimum = i;
+			}
+		}
+
+		return minimum;
+	}
+
+	/**
+	 * Removes the point with the given index and updates the contributions of
+	 * its neighbors.
+	 *
+	 * @param index the original index of the point
+	 * @throws IllegalArgumentException if the point was already removed
+	 */
+	public void remove(int index) {
+		int position = positions[index];
+
+		if (position < 0) {
+			throw new IllegalArgumentException("point already removed");
+		}
+
+		double[] removed = points[position];
+
+		// move the last point into the removed point's position
+		size--;
+		points[position] = points[size];
+		indices[position] = indices[size];
+		positions[indices[position]] = position;
+		points[size] = removed;
+		indices[size] = index;
+		positions[index] = -1;
+		contributions[index] = 0.0;
+
+		if (estimator != null) {
+			estimate();
+			return;
+		}
+
+		double[] limited = new double[numberOfObjectives];
+
+		for (int i = 0; i < size; i++) {
+			if (isNeighbor(i, removed, limited)) {
+				contributions[indices[i]] = hypervolume.contribution(points,
+						size, i);
+			}
+		}
+	}
+
+	/**
+	 * Estimates the contributions of the remaining points using the Monte
+	 * Carlo estimator.
+	 */
+	private void estimate() {
+		MonteCarloHypervolume.Estimate[] estimates =
+				estimator.estimateContributions(points, size,
+						numberOfObjectives);
+
+		for (int i = 0; i < size; i++) {
+			contributions[indices[i]] = estimates[i].getValue();
+		}
+	}
+
+	/**
+	 * Returns {@code true} if the removed point, limited to the bounding box
+	 * of the point at the given position, is not weakly dominated by any
+	 * remaining point limited in the same way.  Otherwise, the region shared
+	 * by the two points is still covered after the removal, and the
+	 * contribution of the point is unchanged.
+	 *
+	 * @param position the position of the point
+	 * @param removed the removed point
+	 * @param limited storage for the limited removed point
+	 * @return {@code true} if the contribution of the point may have changed;
+	 *         {@code false} otherwise
+	 */
+	private boolean isNeighbor(int position, double[] removed,
+			double[] limited) {
+		double[] point = points[position];
+
+		for (int j = 0; j < numberOfObjectives; j++) {
+			limited[j] = Math.min(removed[j], point[j]);
+		}
+
+		outer: for (int i = 0; i < size; i++) {
+			if (i == position) {
+				continue;
+			}
+
+			double[] other = points[i];
+
+			for (int j = 0; j < numberOfObjectives; j++) {
+				if (Math.min(other[j], point[j]) < limited[j]) {
+					continue outer;
+				}
+			}
+
+			return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Computes the contributions of two-objective points with a single sweep.
+	 * The points are sorted in descending order of the first objective to
+	 * find the non-dominated staircase.  The exclusive region of each step is
+	 * the rectangle bounded by its neighbors on the staircase, minus the area
+	 * covered by the points dominated only by that step, which are swept
+	 * separately.  All other points have no contribution.
+	 */
+	private void sweep() {
+		Integer[] order = new Integer[size];
+
+		for (int i = 0; i < size; i++) {
+			order[i] = i;
+		}
+
+		Arrays.sort(order, new Comparator<Integer>() {
+
+			@Override
+			public int compare(Integer i1, Integer i2) {
+				int flag = Double.compare(points[i2][0], points[i1][0]);
+
+				if (flag == 0) {
+					flag = Double.compare(points[i2][1], points[i1][1]);
+				}
+
+				return flag;
+			}
+
+		});
+
+		// find the staircase, where the first objective is decreasing and
+		// the second objective is increasing
+		int[] steps = new int[size];
+		int numberOfSteps = 0;
+		double height = Double.NEGATIVE_INFINITY;
+
+		for (int i = 0; i < size; i++) {
+			if ((numberOfSteps == 0) || (points[order[i]][1] > height)) {
+				steps[numberOfSteps++] = order[i];
+				height = points[order[i]][1];
+			}
+		}
+
+		// assign every other point to the step whose exclusive region it
+		// overlaps, if any; these are visited in descending order of the first
+		// objective, so each step's points are also in that order
+		int[][] covered = new int[numberOfSteps][];
+		int[] coveredSize = new int[numberOfSteps];
+		int step = 0;
+
+		for (int i = 0; i < size; i++) {
+			int index = order[i];
+
+			while ((step + 1 < numberOfSteps) &&
+					(points[steps[step + 1]][0] >= points[index][0])) {
+				step++;
+			}
+
+			if ((index == steps[step]) || (points[index][1] <=
+					getBottom(steps, step))) {
+				continue;
+			}
+
+			if (covered[step] == null) {
+				covered[step] = new int[4];
+			} else if (coveredSize[step] == covered[step].length) {
+				covered[step] = Arrays.copyOf(covered[step],
+						2 * covered[step].length);
+			}
+
+			covered[step][coveredSize[step]++] = index;
+		}
+
+		for (int i = 0; i < numberOfSteps; i++) {
+			double[] point = points[steps[i]];
+			double left = (i + 1 < numberOfSteps) ? points[steps[i + 1]][0] :
+				0.0;
+			double bottom = getBottom(steps, i);
+			double area = (point[0] - left) * (point[1] - bottom);
+
+			// subtract the area covered by the dominated points, which are
+			// sorted in descending order of the first objective
+			double coveredHeight = bottom;
+
+			for (int j = 0; j < coveredSize[i]; j++) {
+				double[] other = points[covered[i][j]];
+
+				if ((other[0] > left) && (other[1] > coveredHeight)) {
+					area -= (other[0] - left) * (other[1] - coveredHeight);
+					coveredHeight = other[1];
+				}
+			}
+
+			contributions[steps[i]] = area;
+		}
+	}
+
+	/**
+	 * Returns the lower bound on the second objective of the exclusive region
+	 * of the given step, which is the height of the previous step.
+	 *
+	 * @param steps the points on the staircase
+	 * @param step the index of the step
+	 * @return the lower bound on the second objective of the exclusive region
+	 */
+	private double getBottom(int[] steps, int step) {
+		return (step > 0) ? points[steps[step - 1]][1] : 0.0;
+	}
+
+}
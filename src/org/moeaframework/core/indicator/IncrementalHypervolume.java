@@ -0,0 +1,166 @@
+/* Copyright 2009-2020 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.indicator;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.Solution;
+
+/**
+ * Tracks the hypervolume of a changing approximation set.  The normalized
+ * point of each solution is computed once, when the solution is inserted into
+ * the approximation set, and reused until it is removed.  Whenever the
+ * approximation set changes, the hypervolume is recomputed exactly from the
+ * points of the current approximation set, in the order of the approximation
+ * set.  Updating the hypervolume by the exclusive contribution of each
+ * inserted or removed point would be faster, but the rounding errors would
+ * accumulate, so the value would depend on the history of changes.  Instead,
+ * the value only depends on the current approximation set, so a run resumed
+ * from a checkpoint reports the same values as an uninterrupted run.
+ * <p>
+ * Estimated hypervolumes and hypervolumes computed by a native process are
+ * not supported.
+ */
+public class IncrementalHypervolume extends IncrementalIndicator {
+
+	/**
+	 * The number of objectives.
+	 */
+	private final int numberOfObjectives;
+
+	/**
+	 * The normalizer of the hypervolume indicator being tracked.
+	 */
+	private final Normalizer normalizer;
+
+	/**
+	 * The WFG hypervolume calculator.
+	 */
+	private final WFGHypervolume hypervolume;
+
+	/**
+	 * The normalized and inverted point of each tracked solution, or
+	 * {@code null} if the solution is infeasible or exceeds the reference
+	 * point.
+	 */
+	private final Map<Solution, double[]> points;
+
+	/**
+	 * Constructs an incremental tracker for the given hypervolume indicator,
+	 * using the same normalization.
+	 *
+	 * @param indicator the hypervolume indicator
+	 * @throws IllegalArgumentException if the hypervolume indicator estimates
+	 *         the hypervolume or computes the hypervolume using a native
+	 *         process
+	 */
+	public IncrementalHypervolume(Hypervolume indicator) {
+		super();
+
+		if (!isSupported(indicator)) {
+			throw new IllegalArgumentException(
+					"hypervolume must be computed exactly and in-process");
+		}
+
+		numberOfObjectives = indicator.problem.getNumberOfObjectives();
+		normalizer = indicator.getNormalizer();
+		hypervolume = new WFGHypervolume(numberOfObjectives);
+		points = new IdentityHashMap<Solution, double[]>();
+	}
+
+	/**
+	 * Returns {@code true} if the given hypervolume indicator can be tracked
+	 * incrementally; {@code false} otherwise.
+	 *
+	 * @param indicator the hypervolume indicator
+	 * @return {@code true} if the hypervolume indicator can be tracked
+	 *         incrementally; {@code false} otherwise
+	 */
+	static boolean isSupported(Hypervolume indicator) {
+		return (indicator.getEstimator() == null) &&
+				!Hypervolume.isCustomHypervolume(indicator.problem);
+	}
+
+	@Override
+	protected void reset(NondominatedPopulation approximationSet) {
+		points.clear();
+
+		for (Solution solution : approximationSet) {
+			add(solution);
+		}
+	}
+
+	@Override
+	protected void add(Solution solution) {
+		points.put(solution, toPoint(solution));
+	}
+
+	@Override
+	protected void remove(Solution solution) {
+		points.remove(solution);
+	}
+
+	@Override
+	protected double update(NondominatedPopulation approximationSet) {
+		double[][] current = new double[approximationSet.size()][];
+		int size = 0;
+
+		for (Solution solution : approximationSet) {
+			double[] point = points.get(solution);
+
+			if (point != null) {
+				current[size++] = point;
+			}
+		}
+
+		return size == 0 ? 0.0 : hypervolume.evaluate(current, size);
+	}
+
+	/**
+	 * Returns the normalized and inverted point of the given solution, or
+	 * {@code null} if the solution is infeasible or exceeds the reference
+	 * point, in which case it does not contribute to the hypervolume.
+	 *
+	 * @param solution the solution
+	 * @return the normalized and inverted point of the solution, or
+	 *         {@code null} if the solution does not contribute to the
+	 *         hypervolume
+	 */
+	private double[] toPoint(Solution solution) {
+		if (solution.violatesConstraints()) {
+			return null;
+		}
+
+		double[] point = normalizer.normalize(solution);
+
+		for (int j = 0; j < numberOfObjectives; j++) {
+			if (point[j] > 1.0) {
+				return null;
+			}
+		}
+
+		for (int j = 0; j < numberOfObjectives; j++) {
+			point[j] = 1.0 - Math.max(point[j], 0.0);
+		}
+
+		return point;
+	}
+
+}
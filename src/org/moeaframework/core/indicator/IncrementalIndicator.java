@@ -0,0 +1,186 @@
+/* Copyright 2009-2020 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.indicator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.moeaframework.core.Indicator;
+import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.Solution;
+
+/**
+ * Tracks the value of an indicator as an approximation set changes over
+ * time, such as when collecting runtime dynamics.  Each call to
+ * {@link #evaluate(NondominatedPopulation)} compares the approximation set to
+ * the one given in the previous call.  If the same solutions are present, the
+ * previous value is returned without any computation.  Otherwise, the
+ * solutions that were inserted and removed are passed to {@link #add} and
+ * {@link #remove}, which update the tracked state.  If most of the
+ * approximation set changed, the value is instead recomputed from scratch
+ * with {@link #reset}.
+ * <p>
+ * Solutions are compared by identity, so the objectives of a solution must
+ * not be modified after it was evaluated by this tracker.  Instances of this
+ * class are not thread-safe.
+ */
+public abstract class IncrementalIndicator implements Indicator {
+
+	/**
+	 * The solutions in the approximation set given in the previous call to
+	 * {@code evaluate}, compared by identity.
+	 */
+	private Set<Solution> solutions;
+
+	/**
+	 * The indicator value from the previous call to {@code evaluate}.
+	 */
+	private double value;
+
+	/**
+	 * Constructs a new incremental indicator.
+	 */
+	public IncrementalIndicator() {
+		super();
+	}
+
+	/**
+	 * Returns an incremental indicator tracking the value of the given
+	 * indicator.  The inverted generational distance is updated by deltas,
+	 * and the hypervolume reuses the normalized points of unchanged
+	 * solutions.  Any other indicator is evaluated again whenever the
+	 * approximation set changes.
+	 *
+	 * @param indicator the indicator
+	 * @return an incremental indicator tracking the value of the indicator
+	 */
+	public static IncrementalIndicator of(final Indicator indicator) {
+		if (indicator instanceof IncrementalIndicator) {
+			return (IncrementalIndicator)indicator;
+		} else if ((indicator.getClass() == Hypervolume.class) &&
+				IncrementalHypervolume.isSupported((Hypervolume)indicator)) {
+			return new IncrementalHypervolume((Hypervolume)indicator);
+		} else if (indicator.getClass() ==
+				InvertedGenerationalDistance.class) {
+			return new IncrementalInvertedGenerationalDistance(
+					(InvertedGenerationalDistance)indicator);
+		} else {
+			// no state is tracked, so the indicator is evaluated on changes
+			return new IncrementalIndicator() {
+
+				@Override
+				protected double update(
+						NondominatedPopulation approximationSet) {
+					return indicator.evaluate(approximationSet);
+				}
+
+			};
+		}
+	}
+
+	@Override
+	public double evaluate(NondominatedPopulation approximationSet) {
+		Set<Solution> current = Collections.newSetFromMap(
+				new IdentityHashMap<Solution, Boolean>());
+		List<Solution> added = new ArrayList<Solution>();
+		List<Solution> removed = new ArrayList<Solution>();
+
+		for (Solution solution : approximationSet) {
+			current.add(solution);
+
+			if ((solutions == null) || !solutions.contains(solution)) {
+				added.add(solution);
+			}
+		}
+
+		if (solutions != null) {
+			for (Solution solution : solutions) {
+				if (!current.contains(solution)) {
+					removed.add(solution);
+				}
+			}
+
+			if (added.isEmpty() && removed.isEmpty()) {
+				return value;
+			}
+		}
+
+		if ((solutions == null) ||
+				(2 * (added.size() + removed.size()) > current.size())) {
+			reset(approximationSet);
+		} else {
+			for (Solution solution : removed) {
+				remove(solution);
+			}
+
+			for (Solution solution : added) {
+				add(solution);
+			}
+		}
+
+		solutions = current;
+		value = update(approximationSet);
+		return value;
+	}
+
+	/**
+	 * Discards the current state and starts tracking the given approximation
+	 * set.  The default implementation does nothing, for indicators that
+	 * track no state and are evaluated from scratch by {@link #update}.
+	 *
+	 * @param approximationSet the approximation set
+	 */
+	protected void reset(NondominatedPopulation approximationSet) {
+		// no state to reset
+	}
+
+	/**
+	 * Updates the state after a solution was inserted into the approximation
+	 * set.  The default implementation does nothing.
+	 *
+	 * @param solution the inserted solution
+	 */
+	protected void add(Solution solution) {
+		// no state to update
+	}
+
+	/**
+	 * Updates the state after a solution was removed from the approximation
+	 * set.  Removals are always processed before insertions.  The default
+	 * implementation does nothing.
+	 *
+	 * @param solution the removed solution
+	 */
+	protected void remove(Solution solution) {
+		// no state to update
+	}
+
+	/**
+	 * Completes any pending updates and returns the indicator value of the
+	 * approximation set.
+	 *
+	 * @param approximationSet the approximation set, containing the same
+	 *        solutions as tracked by this indicator
+	 * @return the indicator value of the approximation set
+	 */
+	protected abstract double update(NondominatedPopulation approximationSet);
+
+}
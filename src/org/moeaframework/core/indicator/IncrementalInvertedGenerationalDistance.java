@@ -0,0 +1,275 @@
+/* Copyright 2009-2020 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.indicator;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.ObjectiveMatrix;
+import org.moeaframework.core.Solution;
+
+/**
+ * Tracks the inverted generational distance of a changing approximation set
+ * against a fixed reference set.  The squared distance from each reference
+ * point to its nearest approximation point is stored, along with which point
+ * is nearest.  Inserting a point only compares it against each reference
+ * point.  Removing a point only searches for new nearest points for the
+ * reference points that were nearest to the removed point.
+ * <p>
+ * The result is identical to
+ * {@link InvertedGenerationalDistance#evaluate(NondominatedPopulation)}.
+ */
+public class IncrementalInvertedGenerationalDistance extends
+IncrementalIndicator {
+
+	/**
+	 * The number of objectives.
+	 */
+	private final int numberOfObjectives;
+
+	/**
+	 * The normalizer of the indicator being tracked.
+	 */
+	private final Normalizer normalizer;
+
+	/**
+	 * The power, typically {@code 1.0}.
+	 */
+	private final double d;
+
+	/**
+	 * The normalized reference points.
+	 */
+	private final double[][] referencePoints;
+
+	/**
+	 * The squared distance from each reference point to the nearest tracked
+	 * point.
+	 */
+	private final double[] nearestDistance;
+
+	/**
+	 * The position of the nearest tracked point to each reference point, or
+	 * {@code -1} if there are no tracked points.
+	 */
+	private final int[] nearestPosition;
+
+	/**
+	 * {@code true} if the nearest point to the reference point was removed
+	 * and must be found again; {@code false} otherwise.
+	 */
+	private final boolean[] stale;
+
+	/**
+	 * The position of each tracked solution in {@code points}.  Infeasible
+	 * solutions are not tracked.
+	 */
+	private final Map<Solution, Integer> positions;
+
+	/**
+	 * The normalized points of the tracked solutions, stored in the first
+	 * {@code size} entries.
+	 */
+	private double[][] points;
+
+	/**
+	 * The tracked solution at each position.
+	 */
+	private Solution[] solutions;
+
+	/**
+	 * The number of tracked solutions.
+	 */
+	private int size;
+
+	/**
+	 * {@code true} if any reference point is stale; {@code false} otherwise.
+	 */
+	private boolean hasStale;
+
+	/**
+	 * Constructs an incremental tracker for the given inverted generational
+	 * distance indicator, using the same normalization, reference set, and
+	 * power.
+	 *
+	 * @param indicator the inverted generational distance indicator
+	 */
+	public IncrementalInvertedGenerationalDistance(
+			InvertedGenerationalDistance indicator) {
+		super();
+		numberOfObjectives = indicator.problem.getNumberOfObjectives();
+		normalizer = indicator.getNormalizer();
+		d = indicator.getPower();
+
+		ObjectiveMatrix referenceSet =
+				indicator.getNormalizedReferenceObjectives();
+		referencePoints = new double[referenceSet.size()][];
+
+		for (int i = 0; i < referenceSet.size(); i++) {
+			referencePoints[i] = referenceSet.getRow(i);
+		}
+
+		nearestDistance = new double[referencePoints.length];
+		nearestPosition = new int[referencePoints.length];
+		stale = new boolean[referencePoints.length];
+		positions = new IdentityHashMap<Solution, Integer>();
+		points = new double[16][];
+		solutions = new Solution[16];
+	}
+
+	@Override
+	protected void reset(NondominatedPopulation approximationSet) {
+		positions.clear();
+		size = 0;
+		hasStale = false;
+		Arrays.fill(nearestDistance, Double.POSITIVE_INFINITY);
+		Arrays.fill(nearestPosition, -1);
+		Arrays.fill(stale, false);
+
+		for (Solution solution : approximationSet) {
+			add(solution);
+		}
+	}
+
+	@Override
+	protected void add(Solution solution) {
+		if (solution.violatesConstraints()) {
+			return;
+		}
+
+		if (size == points.length) {
+			points = Arrays.copyOf(points, 2 * size);
+			solutions = Arrays.copyOf(solutions, 2 * size);
+		}
+
+		int position = size++;
+		points[position] = normalizer.normalize(solution);
+		solutions[position] = solution;
+		positions.put(solution, position);
+
+		for (int i = 0; i < referencePoints.length; i++) {
+			double distance = squaredDistance(referencePoints[i],
+					points[position], nearestDistance[i]);
+
+			if (distance < nearestDistance[i]) {
+				nearestDistance[i] = distance;
+				nearestPosition[i] = position;
+			}
+		}
+	}
+
+	@Override
+	protected void remove(Solution solution) {
+		Integer position = positions.remove(solution);
+
+		if (position == null) {
+			return;
+		}
+
+		// move the last point into the removed point's position
+		size--;
+
+		for (int i = 0; i < referencePoints.length; i++) {
+			if (nearestPosition[i] == position) {
+				nearestDistance[i] = Double.POSITIVE_INFINITY;
+				nearestPosition[i] = -1;
+				stale[i] = true;
+				hasStale = true;
+			} else if (nearestPosition[i] == size) {
+				nearestPosition[i] = position;
+			}
+		}
+
+		if (position < size) {
+			points[position] = points[size];
+			solutions[position] = solutions[size];
+			positions.put(solutions[position], position);
+		}
+
+		points[size] = null;
+		solutions[size] = null;
+	}
+
+	@Override
+	protected double update(NondominatedPopulation approximationSet) {
+		if (hasStale) {
+			for (int i = 0; i < referencePoints.length; i++) {
+				if (stale[i]) {
+					findNearest(i);
+					stale[i] = false;
+				}
+			}
+
+			hasStale = false;
+		}
+
+		double sum = 0.0;
+
+		for (int i = 0; i < referencePoints.length; i++) {
+			sum += IndicatorUtils.pow(nearestDistance[i], d);
+		}
+
+		return IndicatorUtils.root(sum, d) / referencePoints.length;
+	}
+
+	/**
+	 * Searches all tracked points for the nearest point to the given
+	 * reference point.
+	 *
+	 * @param index the index of the reference point
+	 */
+	private void findNearest(int index) {
+		nearestDistance[index] = Double.POSITIVE_INFINITY;
+		nearestPosition[index] = -1;
+
+		for (int i = 0; i < size; i++) {
+			double distance = squaredDistance(referencePoints[index],
+					points[i], nearestDistance[index]);
+
+			if (distance < nearestDistance[index]) {
+				nearestDistance[index] = distance;
+				nearestPosition[index] = i;
+			}
+		}
+	}
+
+	/**
+	 * Returns the squared Euclidean distance between the two points, or any
+	 * value at least {@code bound} if the distance is at least {@code bound}.
+	 *
+	 * @param point1 the first point
+	 * @param point2 the second point
+	 * @param bound the distance beyond which the exact result is not needed
+	 * @return the squared Euclidean distance between the two points
+	 */
+	private double squaredDistance(double[] point1, double[] point2,
+			double bound) {
+		double sum = 0.0;
+
+		// partial sums only increase, so stop once the bound is exceeded
+		for (int j = 0; (j < numberOfObjectives) && (sum < bound); j++) {
+			double difference = point1[j] - point2[j];
+			sum += difference * difference;
+		}
+
+		return sum;
+	}
+
+}
@@ -45,7 +45,13 @@ public class IndicatorUtils {
 	 */
 	public static double manhattanDistance(Problem problem, Solution a,
 			Solution b) {
-		return distance(problem, a, b, 1.0);
+		double distance = 0.0;
+
+		for (int i = 0; i < problem.getNumberOfObjectives(); i++) {
+			distance += Math.abs(a.getObjective(i) - b.getObjective(i));
+		}
+
+		return distance;
 	}
 
 	/**
@@ -60,34 +66,59 @@ public class IndicatorUtils {
 	 */
 	public static double euclideanDistance(Problem problem, Solution a,
 			Solution b) {
-		return distance(problem, a, b, 2.0);
-	}
-
-	/**
-	 * Returns the distance in objective space between the two solutions.
-	 * 
-	 * @param problem the problem
-	 * @param a the first solution
-	 * @param b the second solution
-	 * @param power the power ({@code 1.0} for Manhattan distance, {@code 2.0}
-	 *        for Euclidean distance)
-	 * @return the distance in objective space between the two solutions
-	 */
-	private static double distance(Problem problem, Solution a, Solution b,
-			double power) {
 		double distance = 0.0;
 
 		for (int i = 0; i < problem.getNumberOfObjectives(); i++) {
-			distance += Math.pow(Math.abs(a.getObjective(i) - 
-					b.getObjective(i)), power);
+			double difference = a.getObjective(i) - b.getObjective(i);
+			distance += difference * difference;
 		}
 
-		return Math.pow(distance, 1.0 / power);
+		return Math.sqrt(distance);
+	}
+	
+	/**
+	 * Returns the Euclidean distance raised to the given power, computed from
+	 * the squared distance.  The common powers {@code 1} and {@code 2} avoid
+	 * calling {@link Math#pow(double, double)}.
+	 * 
+	 * @param squaredDistance the squared Euclidean distance
+	 * @param power the power
+	 * @return the Euclidean distance raised to the given power
+	 */
+	static double pow(double squaredDistance, double power) {
+		if (power == 2.0) {
+			return squaredDistance;
+		} else if (power == 1.0) {
+			return Math.sqrt(squaredDistance);
+		} else {
+			return Math.pow(Math.sqrt(squaredDistance), power);
+		}
+	}
+	
+	/**
+	 * Returns the root of the given value for the given power, which is the
+	 * inverse of {@link #pow(double, double)} applied to a distance.  The
+	 * common powers {@code 1} and {@code 2} avoid calling
+	 * {@link Math#pow(double, double)}.
+	 * 
+	 * @param value the value
+	 * @param power the power
+	 * @return the root of the value for the given power
+	 */
+	static double root(double value, double power) {
+		if (power == 2.0) {
+			return Math.sqrt(value);
+		} else if (power == 1.0) {
+			return value;
+		} else {
+			return Math.pow(value, 1.0 / power);
+		}
 	}
 
 	/**
 	 * Returns the Euclidean distance in objective space between the specified
-	 * solution and the nearest solution in the population.
+	 * solution and the nearest solution in the population.  When querying the
+	 * same population many times, build a {@link KDTree} instead.
 	 * 
 	 * @param problem the problem
 	 * @param solution the solution
@@ -97,14 +128,8 @@ public class IndicatorUtils {
 	 */
 	public static double distanceToNearestSolution(Problem problem,
 			Solution solution, NondominatedPopulation population) {
-		double minimum = Double.POSITIVE_INFINITY;
-
-		for (int i = 0; i < population.size(); i++) {
-			minimum = Math.min(minimum, euclideanDistance(problem, solution,
-					population.get(i)));
-		}
-
-		return minimum;
+		return population.getObjectiveMatrix().distanceToNearest(
+				solution.getObjectives(), problem.getNumberOfObjectives());
 	}
 
 }
@@ -18,6 +18,7 @@
 package org.moeaframework.core.indicator;
 
 import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.ObjectiveMatrix;
 import org.moeaframework.core.Problem;
 import org.moeaframework.core.Settings;
 
@@ -61,10 +62,20 @@ public class InvertedGenerationalDistance extends NormalizedIndicator {
 		this.d = d;
 	}
 
+	/**
+	 * Returns the power used by this indicator.
+	 * 
+	 * @return the power used by this indicator
+	 */
+	double getPower() {
+		return d;
+	}
+
 	@Override
 	public double evaluate(NondominatedPopulation approximationSet) {
-		return evaluate(problem, normalize(approximationSet), 
-				getNormalizedReferenceSet(), d);
+		return evaluate(problem, new KDTree(normalizeObjectives(
+				approximationSet), problem.getNumberOfObjectives()),
+				getNormalizedReferenceObjectives(), d);
 	}
 
 	/**
@@ -84,13 +95,36 @@ public class InvertedGenerationalDistance extends NormalizedIndicator {
 			NondominatedPopulation approximationSet,
 			NondominatedPopulation referenceSet,
 			double d) {
+		return evaluate(problem, new KDTree(
+				approximationSet.getObjectiveMatrix(),
+				problem.getNumberOfObjectives()),
+				referenceSet.getObjectiveMatrix(), d);
+	}
+	
+	/**
+	 * Computes the inverted generational distance for the specified problem
+	 * given a k-d tree built from the approximation set and the reference
+	 * set.  Returns {@code Double.POSITIVE_INFINITY} if the approximation set
+	 * is empty.
+	 * 
+	 * @param problem the problem
+	 * @param approximationTree the k-d tree built from the approximation set
+	 * @param referenceSet the objective values of the reference set for the
+	 *        problem
+	 * @param d the power, typically {@code 1.0}
+	 * @return the inverted generational distance for the specified problem 
+	 *         given an approximation set and reference set
+	 */
+	static double evaluate(Problem problem, KDTree approximationTree,
+			ObjectiveMatrix referenceSet, double d) {
 		double sum = 0.0;
 
 		for (int i = 0; i < referenceSet.size(); i++) {
-			sum += Math.pow(IndicatorUtils.distanceToNearestSolution(problem,
-					referenceSet.get(i), approximationSet), d);
+			sum += IndicatorUtils.pow(
+					approximationTree.squaredDistanceToNearest(
+							referenceSet.getRow(i)), d);
 		}
 
-		return Math.pow(sum, 1.0 / d) / referenceSet.size();
+		return IndicatorUtils.root(sum, d) / referenceSet.size();
 	}
 }
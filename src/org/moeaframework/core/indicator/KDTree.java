@@ -0,0 +1,485 @@
+/* Copyright 2009-2020 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.indicator;
+
+import org.moeaframework.core.ObjectiveMatrix;
+
+/**
+ * Static k-d tree over the objective values of a set of solutions, answering
+ * the nearest neighbor queries used by the distance-based indicators in
+ * logarithmic time on average rather than by scanning every solution.
+ * <p>
+ * The tree is built once by recursively splitting the points at the median of
+ * the objective with the largest spread, until each leaf contains at most
+ * {@value #LEAF_SIZE} points.  Each node stores the bounding box of its points,
+ * and queries skip any node whose bounding box cannot contain a closer point
+ * than the best found so far.  The points are copied into a single array in
+ * the order of the leaves, so the tree is not affected by later changes to
+ * the solutions.  Instances are immutable and can be shared by multiple
+ * threads.
+ */
+public class KDTree {
+
+	/**
+	 * The maximum number of points in a leaf.
+	 */
+	private static final int LEAF_SIZE = 8;
+
+	/**
+	 * The number of objectives.
+	 */
+	private final int numberOfObjectives;
+
+	/**
+	 * The number of points.
+	 */
+	private final int size;
+
+	/**
+	 * The points, stored one after another in the order of the leaves.
+	 */
+	private final double[] points;
+
+	/**
+	 * The first point in each node, inclusive.
+	 */
+	private final int[] from;
+
+	/**
+	 * The last point in each node, exclusive.
+	 */
+	private final int[] to;
+
+	/**
+	 * The index of the left child of each node, or {@code -1} if the node is
+	 * a leaf.
+	 */
+	private final int[] left;
+
+	/**
+	 * The index of the right child of each node, or {@code -1} if the node is
+	 * a leaf.
+	 */
+	private final int[] right;
+
+	/**
+	 * The lower corner of the bounding box of each node, stored one after
+	 * another.
+	 */
+	private final double[] lower;
+
+	/**
+	 * The upper corner of the bounding box of each node, stored one after
+	 * another.
+	 */
+	private final double[] upper;
+
+	/**
+	 * The number of nodes created while building the tree.
+	 */
+	private int numberOfNodes;
+
+	/**
+	 * Constructs a k-d tree over the objective values of the solutions in the
+	 * given matrix.
+	 *
+	 * @param matrix the objective values of the solutions
+	 */
+	public KDTree(ObjectiveMatrix matrix) {
+		this(matrix, matrix.getNumberOfObjectives());
+	}
+
+	/**
+	 * Constructs a k-d tree over the first {@code numberOfObjectives}
+	 * objective values of the solutions in the given matrix.  Any remaining
+	 * objectives are ignored, and query points need only provide the first
+	 * {@code numberOfObjectives} objectives.
+	 *
+	 * @param matrix the objective values of the solutions
+	 * @param numberOfObjectives the number of objectives used to compute
+	 *        distances
+	 */
+	public KDTree(ObjectiveMatrix matrix, int numberOfObjectives) {
+		super();
+		this.numberOfObjectives = numberOfObjectives;
+		size = matrix.size();
+		points = new double[size * numberOfObjectives];
+
+		// an empty matrix has no columns
+		for (int j = 0; (j < numberOfObjectives) && (size > 0); j++) {
+			double[] column = matrix.getColumn(j);
+
+			for (int i = 0; i < size; i++) {
+				points[i * numberOfObjectives + j] = column[i];
+			}
+		}
+
+		int maxNodes = Math.max(1, 4 * ((size + LEAF_SIZE - 1) / LEAF_SIZE));
+		from = new int[maxNodes];
+		to = new int[maxNodes];
+		left = new int[maxNodes];
+		right = new int[maxNodes];
+		lower = new double[maxNodes * numberOfObjectives];
+		upper = new double[maxNodes * numberOfObjectives];
+
+		if (size > 0) {
+			build(0, size);
+		}
+	}
+
+	/**
+	 * Returns the number of points in this tree.
+	 *
+	 * @return the number of points in this tree
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the squared Euclidean distance from the given point to the
+	 * nearest point in this tree, or positive infinity if the tree is empty.
+	 *
+	 * @param point the point
+	 * @return the squared Euclidean distance from the point to the nearest
+	 *         point in this tree
+	 */
+	public double squaredDistanceToNearest(double[] point) {
+		if (size == 0) {
+			return Double.POSITIVE_INFINITY;
+		}
+
+		return nearest(0, point, Double.POSITIVE_INFINITY);
+	}
+
+	/**
+	 * Returns the Euclidean distance from the given point to the nearest
+	 * point in this tree, or positive infinity if the tree is empty.
+	 *
+	 * @param point the point
+	 * @return the Euclidean distance from the point to the nearest point in
+	 *         this tree
+	 */
+	public double distanceToNearest(double[] point) {
+		return Math.sqrt(squaredDistanceToNearest(point));
+	}
+
+	/**
+	 * Returns the smallest additive &epsilon; by which any point in this tree
+	 * must be translated to weakly dominate the given point, assuming
+	 * minimization.  The &epsilon; of each point in this tree is
+	 * {@code max(0, max_k(p[k] - point[k]))}.  Since the additive
+	 * &epsilon;-indicator only needs to know if the result exceeds the value
+	 * found for earlier points, the search stops as soon as any point with
+	 * &epsilon; at most {@code threshold} is found, in which case that
+	 * &epsilon; is returned.  Returns positive infinity if the tree is empty.
+	 *
+	 * @param point the point
+	 * @param threshold the value below which the exact result is not needed
+	 * @return the smallest additive &epsilon;, or any value at most
+	 *         {@code threshold} if the smallest is at most {@code threshold}
+	 */
+	public double minimumEpsilon(double[] point, double threshold) {
+		if (size == 0) {
+			return Double.POSITIVE_INFINITY;
+		}
+
+		return epsilon(0, point, Double.POSITIVE_INFINITY, threshold);
+	}
+
+	/**
+	 * Recursively builds the node containing the given range of points,
+	 * reordering the points so that each child's points are contiguous.
+	 *
+	 * @param start the first point, inclusive
+	 * @param end the last point, exclusive
+	 * @return the index of the node
+	 */
+	private int build(int start, int end) {
+		int node = numberOfNodes++;
+		int offset = node * numberOfObjectives;
+
+		from[node] = start;
+		to[node] = end;
+
+		for (int j = 0; j < numberOfObjectives; j++) {
+			lower[offset + j] = Double.POSITIVE_INFINITY;
+			upper[offset + j] = Double.NEGATIVE_INFINITY;
+		}
+
+		for (int i = start; i < end; i++) {
+			for (int j = 0; j < numberOfObjectives; j++) {
+				double value = points[i * numberOfObjectives + j];
+				lower[offset + j] = Math.min(lower[offset + j], value);
+				upper[offset + j] = Math.max(upper[offset + j], value);
+			}
+		}
+
+		int dimension = 0;
+		double spread = 0.0;
+
+		for (int j = 0; j < numberOfObjectives; j++) {
+			if (upper[offset + j] - lower[offset + j] > spread) {
+				spread = upper[offset + j] - lower[offset + j];
+				dimension = j;
+			}
+		}
+
+		if ((end - start <= LEAF_SIZE) || (spread <= 0.0)) {
+			left[node] = -1;
+			right[node] = -1;
+		} else {
+			int middle = (start + end) >>> 1;
+			select(start, end, middle, dimension);
+
+			left[node] = build(start, middle);
+			right[node] = build(middle, end);
+		}
+
+		return node;
+	}
+
+	/**
+	 * Reorders the points in the given range so that the point at index
+	 * {@code k} has the value it would have if the range were sorted by the
+	 * given objective, with smaller values before it and larger values after
+	 * it (quickselect).
+	 *
+	 * @param start the first point, inclusive
+	 * @param end the last point, exclusive
+	 * @param k the index of the point to select
+	 * @param dimension the objective
+	 */
+	private void select(int start, int end, int k, int dimension) {
+		int lo = start;
+		int hi = end - 1;
+
+		while (hi > lo) {
+			double pivot = value(lo + ((hi - lo) >>> 1), dimension);
+			int i = lo;
+			int j = hi;
+
+			while (i <= j) {
+				while (value(i, dimension) < pivot) {
+					i++;
+				}
+
+				while (value(j, dimension) > pivot) {
+					j--;
+				}
+
+				if (i <= j) {
+					swap(i++, j--);
+				}
+			}
+
+			if (k <= j) {
+				hi = j;
+			} else if (k >= i) {
+				lo = i;
+			} else {
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Returns the given objective of the point at the given index.
+	 *
+	 * @param index the index of the point
+	 * @param dimension the objective
+	 * @return the given objective of the point at the given index
+	 */
+	private double value(int index, int dimension) {
+		return points[index * numberOfObjectives + dimension];
+	}
+
+	/**
+	 * Swaps the points at the given indices.
+	 *
+	 * @param i the index of the first point
+	 * @param j the index of the second point
+	 */
+	private void swap(int i, int j) {
+		int offset1 = i * numberOfObjectives;
+		int offset2 = j * numberOfObjectives;
+
+		for (int k = 0; k < numberOfObjectives; k++) {
+			double temp = points[offset1 + k];
+			points[offset1 + k] = points[offset2 + k];
+			points[offset2 + k] = temp;
+		}
+	}
+
+	/**
+	 * Returns the squared Euclidean distance from the point to the bounding
+	 * box of the given node.
+	 *
+	 * @param node the node
+	 * @param point the point
+	 * @return the squared Euclidean distance from the point to the bounding
+	 *         box of the node
+	 */
+	private double boxDistance(int node, double[] point) {
+		int offset = node * numberOfObjectives;
+		double sum = 0.0;
+
+		for (int j = 0; j < numberOfObjectives; j++) {
+			double difference = 0.0;
+
+			if (point[j] < lower[offset + j]) {
+				difference = lower[offset + j] - point[j];
+			} else if (point[j] > upper[offset + j]) {
+				difference = point[j] - upper[offset + j];
+			}
+
+			sum += difference * difference;
+		}
+
+		return sum;
+	}
+
+	/**
+	 * Recursively searches the given node for the nearest point.
+	 *
+	 * @param node the node
+	 * @param point the point
+	 * @param best the squared distance to the nearest point found so far
+	 * @return the squared distance to the nearest point found so far
+	 */
+	private double nearest(int node, double[] point, double best) {
+		if (left[node] < 0) {
+			for (int i = from[node]; i < to[node]; i++) {
+				int offset = i * numberOfObjectives;
+				double sum = 0.0;
+
+				// partial sums only increase, so stop once the current best
+				// is exceeded
+				for (int j = 0; (j < numberOfObjectives) && (sum < best); j++) {
+					double difference = point[j] - points[offset + j];
+					sum += difference * difference;
+				}
+
+				if (sum < best) {
+					best = sum;
+				}
+			}
+
+			return best;
+		}
+
+		double leftDistance = boxDistance(left[node], point);
+		double rightDistance = boxDistance(right[node], point);
+
+		if (leftDistance <= rightDistance) {
+			if (leftDistance < best) {
+				best = nearest(left[node], point, best);
+			}
+
+			if (rightDistance < best) {
+				best = nearest(right[node], point, best);
+			}
+		} else {
+			if (rightDistance < best) {
+				best = nearest(right[node], point, best);
+			}
+
+			if (leftDistance < best) {
+				best = nearest(left[node], point, best);
+			}
+		}
+
+		return best;
+	}
+
+	/**
+	 * Returns a lower bound on the additive &epsilon; of every point in the
+	 * given node, using the lower corner of its bounding box.
+	 *
+	 * @param node the node
+	 * @param point the point
+	 * @return a lower bound on the additive &epsilon; of every point in the
+	 *         node
+	 */
+	private double boxEpsilon(int node, double[] point) {
+		int offset = node * numberOfObjectives;
+		double epsilon = 0.0;
+
+		for (int j = 0; j < numberOfObjectives; j++) {
+			epsilon = Math.max(epsilon, lower[offset + j] - point[j]);
+		}
+
+		return epsilon;
+	}
+
+	/**
+	 * Recursively searches the given node for the point with the smallest
+	 * additive &epsilon;.
+	 *
+	 * @param node the node
+	 * @param point the point
+	 * @param best the smallest &epsilon; found so far
+	 * @param threshold the value below which the exact result is not needed
+	 * @return the smallest &epsilon; found so far
+	 */
+	private double epsilon(int node, double[] point, double best,
+			double threshold) {
+		if (left[node] < 0) {
+			for (int i = from[node]; (i < to[node]) && (best > threshold);
+					i++) {
+				int offset = i * numberOfObjectives;
+				double epsilon = 0.0;
+
+				for (int j = 0; (j < numberOfObjectives) && (epsilon < best);
+						j++) {
+					epsilon = Math.max(epsilon, points[offset + j] - point[j]);
+				}
+
+				if (epsilon < best) {
+					best = epsilon;
+				}
+			}
+
+			return best;
+		}
+
+		double leftEpsilon = boxEpsilon(left[node], point);
+		double rightEpsilon = boxEpsilon(right[node], point);
+
+		if (leftEpsilon <= rightEpsilon) {
+			if ((leftEpsilon < best) && (best > threshold)) {
+				best = epsilon(left[node], point, best, threshold);
+			}
+
+			if ((rightEpsilon < best) && (best > threshold)) {
+				best = epsilon(right[node], point, best, threshold);
+			}
+		} else {
+			if ((rightEpsilon < best) && (best > threshold)) {
+				best = epsilon(right[node], point, best, threshold);
+			}
+
+			if ((leftEpsilon < best) && (best > threshold)) {
+				best = epsilon(left[node], point, best, threshold);
+			}
+		}
+
+		return best;
+	}
+
+}
@@ -18,6 +18,7 @@
 package org.moeaframework.core.indicator;
 
 import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.ObjectiveMatrix;
 import org.moeaframework.core.Problem;
 
 /**
@@ -41,8 +42,8 @@ public class MaximumParetoFrontError extends NormalizedIndicator {
 
 	@Override
 	public double evaluate(NondominatedPopulation approximationSet) {
-		return evaluate(problem, normalize(approximationSet), 
-				getNormalizedReferenceSet());
+		return evaluate(problem, normalizeObjectives(approximationSet), 
+				getNormalizedReferenceTree());
 	}
 
 	/**
@@ -60,17 +61,37 @@ public class MaximumParetoFrontError extends NormalizedIndicator {
 	static double evaluate(Problem problem,
 			NondominatedPopulation approximationSet,
 			NondominatedPopulation referenceSet) {
-		if (approximationSet.isEmpty()) {
+		return evaluate(problem, approximationSet.getObjectiveMatrix(),
+				new KDTree(referenceSet.getObjectiveMatrix(),
+						problem.getNumberOfObjectives()));
+	}
+	
+	/**
+	 * Computes the maximum Pareto front error for the specified problem given
+	 * an approximation set and a k-d tree built from the reference set.
+	 * Returns {@code Double.POSITIVE_INFINITY} if the approximation set is
+	 * empty.
+	 * 
+	 * @param problem the problem
+	 * @param approximationSet the objective values of an approximation set
+	 *        for the problem
+	 * @param referenceTree the k-d tree built from the reference set
+	 * @return the generational distance for the specified problem given an
+	 *         approximation set and reference set
+	 */
+	static double evaluate(Problem problem, ObjectiveMatrix approximationSet,
+			KDTree referenceTree) {
+		if (approximationSet.size() == 0) {
 			return Double.POSITIVE_INFINITY;
 		}
 		
 		double max = 0.0;
 
 		for (int i = 0; i < approximationSet.size(); i++) {
-			max = Math.max(max, IndicatorUtils.distanceToNearestSolution(
-					problem, approximationSet.get(i), referenceSet));
+			max = Math.max(max, referenceTree.squaredDistanceToNearest(
+					approximationSet.getRow(i)));
 		}
 
-		return max;
+		return Math.sqrt(max);
 	}
 }
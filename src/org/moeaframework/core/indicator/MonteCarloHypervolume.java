@@ -0,0 +1,604 @@
+/* Copyright 2009-2020 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.indicator;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.moeaframework.core.PRNG;
+
+/**
+ * Estimates the hypervolume and the exclusive hypervolume contributions by
+ * Monte Carlo sampling, for use when the number of objectives makes the exact
+ * calculation infeasible.  As with {@link WFGHypervolume}, the points are
+ * maximized and the hypervolume is measured from the origin.
+ * <p>
+ * The hypervolume is estimated by sampling uniformly within the box spanning
+ * from the origin to the maximum of each objective, and counting the samples
+ * dominated by at least one point.  Each exclusive contribution is estimated
+ * by sampling within the smallest box known to contain the region dominated
+ * only by that point, similar to HypE, and counting the samples not dominated
+ * by any other point.  Each estimate is reported together with its standard
+ * error and a 95% confidence interval based on the normal approximation.
+ * <p>
+ * Samples are drawn from a {@link SplittableRandom} owned by this estimator,
+ * which is seeded by {@link PRNG} unless a seed is given, so runs with the
+ * same {@code PRNG} seed produce the same estimates.  The samples are divided
+ * into fixed blocks, each drawing from its own split stream, and the blocks
+ * are evaluated in parallel by the common fork-join pool.  Since the blocks
+ * do not depend on the number of threads, an estimator constructed with a
+ * seed produces the same sequence of estimates on any machine.  Instances are
+ * thread-safe.
+ * <p>
+ * References:
+ * <ol>
+ *   <li>Bader, J. and E. Zitzler (2011).  HypE: An Algorithm for Fast
+ *       Hypervolume-Based Many-Objective Optimization.  Evolutionary
+ *       Computation, 19(1):45-76.
+ *   <li>Bringmann, K. and T. Friedrich (2012).  Approximating the Least
+ *       Hypervolume Contributor: NP-hard in General, but Fast in Practice.
+ *       Theoretical Computer Science, 425:104-116.
+ * </ol>
+ */
+public class MonteCarloHypervolume {
+
+	/**
+	 * The number of samples drawn from each split stream.
+	 */
+	private static final int SAMPLES_PER_BLOCK = 4096;
+
+	/**
+	 * The critical value of the standard normal distribution for a 95%
+	 * two-sided confidence interval.
+	 */
+	private static final double Z = 1.959963984540054;
+
+	/**
+	 * The number of samples drawn for each estimate.
+	 */
+	private final int numberOfSamples;
+
+	/**
+	 * The source of the split streams; access must be synchronized.
+	 */
+	private final SplittableRandom random;
+
+	/**
+	 * Constructs a new Monte Carlo hypervolume estimator seeded by the next
+	 * value of {@link PRNG}.
+	 *
+	 * @param numberOfSamples the number of samples drawn for each estimate
+	 */
+	public MonteCarloHypervolume(int numberOfSamples) {
+		this(numberOfSamples, PRNG.getRandom().nextLong());
+	}
+
+	/**
+	 * Constructs a new Monte Carlo hypervolume estimator with the given seed.
+	 *
+	 * @param numberOfSamples the number of samples drawn for each estimate
+	 * @param seed the seed
+	 */
+	public MonteCarloHypervolume(int numberOfSamples, long seed) {
+		this(numberOfSamples, new SplittableRandom(seed));
+	}
+
+	/**
+	 * Constructs a new Monte Carlo hypervolume estimator drawing from the
+	 * given random number generator.
+	 *
+	 * @param numberOfSamples the number of samples drawn for each estimate
+	 * @param random the random number generator
+	 * @throws IllegalArgumentException if the number of samples is not
+	 *         positive
+	 */
+	private MonteCarloHypervolume(int numberOfSamples,
+			SplittableRandom random) {
+		super();
+
+		if (numberOfSamples <= 0) {
+			throw new IllegalArgumentException(
+					"number of samples must be positive");
+		}
+
+		this.numberOfSamples = numberOfSamples;
+		this.random = random;
+	}
+
+	/**
+	 * Returns the number of samples drawn for each estimate.
+	 *
+	 * @return the number of samples drawn for each estimate
+	 */
+	public int getNumberOfSamples() {
+		return numberOfSamples;
+	}
+
+	/**
+	 * Estimates the hypervolume of the first {@code numberOfPoints} points,
+	 * considering only the first {@code numberOfObjectives} objectives.
+	 *
+	 * @param points the points, which are not modified
+	 * @param numberOfPoints the number of points
+	 * @param numberOfObjectives the number of objectives
+	 * @return the estimated hypervolume
+	 */
+	public Estimate estimate(double[][] points, int numberOfPoints,
+			int numberOfObjectives) {
+		double[] lower = new double[numberOfObjectives];
+		double[] upper = new double[numberOfObjectives];
+
+		for (int i = 0; i < numberOfPoints; i++) {
+			for (int j = 0; j < numberOfObjectives; j++) {
+				upper[j] = Math.max(upper[j], points[i][j]);
+			}
+		}
+
+		Region region = new Region(points, numberOfPoints,
+				numberOfObjectives, -1, lower, upper);
+		int numberOfBlocks = (numberOfSamples + SAMPLES_PER_BLOCK - 1) /
+				SAMPLES_PER_BLOCK;
+		Block[] blocks = new Block[numberOfBlocks];
+
+		for (int i = 0; i < numberOfBlocks; i++) {
+			blocks[i] = new Block(region, Math.min(SAMPLES_PER_BLOCK,
+					numberOfSamples - i * SAMPLES_PER_BLOCK), split());
+		}
+
+		run(blocks);
+
+		long hits = 0;
+
+		for (Block block : blocks) {
+			hits += block.hits;
+		}
+
+		return region.toEstimate(hits, numberOfSamples);
+	}
+
+	/**
+	 * Estimates the exclusive hypervolume contribution of each of the first
+	 * {@code numberOfPoints} points, considering only the first
+	 * {@code numberOfObjectives} objectives.  The samples are divided equally
+	 * among the points.  Points weakly dominated by another point have an
+	 * exact contribution of {@code 0}.
+	 *
+	 * @param points the points, which are not modified
+	 * @param numberOfPoints the number of points
+	 * @param numberOfObjectives the number of objectives
+	 * @return the estimated contribution of each point
+	 */
+	public Estimate[] estimateContributions(double[][] points,
+			int numberOfPoints, int numberOfObjectives) {
+		int samplesPerPoint = Math.max(1, numberOfSamples /
+				Math.max(1, numberOfPoints));
+		Region[] regions = new Region[numberOfPoints];
+		Block[] blocks = new Block[numberOfPoints];
+
+		for (int i = 0; i < numberOfPoints; i++) {
+			regions[i] = contributionRegion(points, numberOfPoints,
+					numberOfObjectives, i);
+
+			if (regions[i] != null) {
+				blocks[i] = new Block(regions[i], samplesPerPoint, split());
+			}
+		}
+
+		run(blocks);
+
+		Estimate[] estimates = new Estimate[numberOfPoints];
+
+		for (int i = 0; i < numberOfPoints; i++) {
+			if (regions[i] == null) {
+				estimates[i] = new Estimate(0.0, 0.0);
+			} else {
+				estimates[i] = regions[i].toEstimate(blocks[i].hits,
+						samplesPerPoint);
+			}
+		}
+
+		return estimates;
+	}
+
+	/**
+	 * Returns the sampling region for the exclusive contribution of the point
+	 * at the given index, or {@code null} if the point is weakly dominated by
+	 * another point.  The region spans from a lower bound to the point.  In
+	 * each objective, the lower bound is the largest value among the other
+	 * points that are at least as large as the point in every other objective,
+	 * since any sample below that value is dominated by such a point.
+	 *
+	 * @param points the points
+	 * @param numberOfPoints the number of points
+	 * @param numberOfObjectives the number of objectives
+	 * @param index the index of the point
+	 * @return the sampling region for the exclusive contribution of the point,
+	 *         or {@code null} if the point is weakly dominated
+	 */
+	private Region contributionRegion(double[][] points, int numberOfPoints,
+			int numberOfObjectives, int index) {
+		double[] point = points[index];
+		double[] lower = new double[numberOfObjectives];
+		double[] upper = new double[numberOfObjectives];
+
+		for (int j = 0; j < numberOfObjectives; j++) {
+			upper[j] = Math.max(0.0, point[j]);
+		}
+
+		for (int i = 0; i < numberOfPoints; i++) {
+			if (i == index) {
+				continue;
+			}
+
+			double[] other = points[i];
+			int smaller = -1;
+			int count = 0;
+
+			for (int j = 0; j < numberOfObjectives; j++) {
+				if (other[j] < point[j]) {
+					smaller = j;
+
+					if (++count > 1) {
+						break;
+					}
+				}
+			}
+
+			if (count == 0) {
+				return null;
+			} else if (count == 1) {
+				lower[smaller] = Math.max(lower[smaller], other[smaller]);
+			}
+		}
+
+		return new Region(points, numberOfPoints, numberOfObjectives, index,
+				lower, upper);
+	}
+
+	/**
+	 * Returns a new stream split from this estimator's random number
+	 * generator.
+	 *
+	 * @return a new stream split from this estimator's random number generator
+	 */
+	private synchronized SplittableRandom split() {
+		return random.split();
+	}
+
+	/**
+	 * Counts the hits in each block, in parallel if there is more than one.
+	 * Entries may be {@code null}.
+	 *
+	 * @param blocks the blocks
+	 */
+	private static void run(Block[] blocks) {
+		if (blocks.length == 1) {
+			if (blocks[0] != null) {
+				blocks[0].compute();
+			}
+		} else {
+			ForkJoinPool.commonPool().invoke(new BlocksTask(blocks, 0,
+					blocks.length));
+		}
+	}
+
+	/**
+	 * An estimated hypervolume with its standard error.
+	 */
+	public static class Estimate {
+
+		/**
+		 * The estimated value.
+		 */
+		private final double value;
+
+		/**
+		 * The standard error of the estimate.
+		 */
+		private final double standardError;
+
+		/**
+		 * Constructs a new estimate.
+		 *
+		 * @param value the estimated value
+		 * @param standardError the standard error of the estimate
+		 */
+		public Estimate(double value, double standardError) {
+			super();
+			this.value = value;
+			this.standardError = standardError;
+		}
+
+		/**
+		 * Returns the estimated value.
+		 *
+		 * @return the estimated value
+		 */
+		public double getValue() {
+			return value;
+		}
+
+		/**
+		 * Returns the standard error of the estimate.
+		 *
+		 * @return the standard error of the estimate
+		 */
+		public double getStandardError() {
+			return standardError;
+		}
+
+		/**
+		 * Returns the lower bound of the 95% confidence interval.
+		 *
+		 * @return the lower bound of the 95% confidence interval
+		 */
+		public double getLowerBound() {
+			return Math.max(0.0, value - Z * standardError);
+		}
+
+		/**
+		 * Returns the upper bound of the 95% confidence interval.
+		 *
+		 * @return the upper bound of the 95% confidence interval
+		 */
+		public double getUpperBound() {
+			return value + Z * standardError;
+		}
+
+		@Override
+		public String toString() {
+			return value + " [" + getLowerBound() + ", " + getUpperBound() +
+					"]";
+		}
+
+	}
+
+	/**
+	 * A box sampled to estimate a volume.  A sample is a hit if it is
+	 * dominated by at least one point, or, when estimating the contribution of
+	 * a point, if it is not dominated by any other point.
+	 */
+	private static class Region {
+
+		/**
+		 * The points.
+		 */
+		private final double[][] points;
+
+		/**
+		 * The number of points.
+		 */
+		private final int numberOfPoints;
+
+		/**
+		 * The number of objectives.
+		 */
+		private final int numberOfObjectives;
+
+		/**
+		 * The index of the point whose contribution is estimated, or
+		 * {@code -1} if estimating the hypervolume.
+		 */
+		private final int index;
+
+		/**
+		 * The lower corner of the box.
+		 */
+		private final double[] lower;
+
+		/**
+		 * The upper corner of the box.
+		 */
+		private final double[] upper;
+
+		/**
+		 * Constructs a new region.
+		 *
+		 * @param points the points
+		 * @param numberOfPoints the number of points
+		 * @param numberOfObjectives the number of objectives
+		 * @param index the index of the point whose contribution is estimated,
+		 *        or {@code -1} if estimating the hypervolume
+		 * @param lower the lower corner of the box
+		 * @param upper the upper corner of the box
+		 */
+		public Region(double[][] points, int numberOfPoints,
+				int numberOfObjectives, int index, double[] lower,
+				double[] upper) {
+			super();
+			this.points = points;
+			this.numberOfPoints = numberOfPoints;
+			this.numberOfObjectives = numberOfObjectives;
+			this.index = index;
+			this.lower = lower;
+			this.upper = upper;
+		}
+
+		/**
+		 * Returns {@code true} if the sample is a hit; {@code false}
+		 * otherwise.
+		 *
+		 * @param sample the sample
+		 * @return {@code true} if the sample is a hit; {@code false} otherwise
+		 */
+		public boolean isHit(double[] sample) {
+			outer: for (int i = 0; i < numberOfPoints; i++) {
+				if (i == index) {
+					continue;
+				}
+
+				double[] point = points[i];
+
+				for (int j = 0; j < numberOfObjectives; j++) {
+					if (sample[j] > point[j]) {
+						continue outer;
+					}
+				}
+
+				return index < 0;
+			}
+
+			return index >= 0;
+		}
+
+		/**
+		 * Draws a sample uniformly within the box.
+		 *
+		 * @param random the random number generator
+		 * @param sample storage for the sample
+		 */
+		public void sample(SplittableRandom random, double[] sample) {
+			for (int j = 0; j < numberOfObjectives; j++) {
+				sample[j] = upper[j] - (upper[j] - lower[j]) *
+						random.nextDouble();
+			}
+		}
+
+		/**
+		 * Returns the estimated volume given the number of hits.
+		 *
+		 * @param hits the number of hits
+		 * @param samples the number of samples
+		 * @return the estimated volume
+		 */
+		public Estimate toEstimate(long hits, int samples) {
+			double volume = 1.0;
+
+			for (int j = 0; j < numberOfObjectives; j++) {
+				volume *= Math.max(0.0, upper[j] - lower[j]);
+			}
+
+			double p = hits / (double)samples;
+
+			return new Estimate(volume * p,
+					volume * Math.sqrt(p * (1.0 - p) / samples));
+		}
+
+	}
+
+	/**
+	 * A fixed number of samples drawn from one split stream.
+	 */
+	private static class Block {
+
+		/**
+		 * The region being sampled.
+		 */
+		private final Region region;
+
+		/**
+		 * The number of samples.
+		 */
+		private final int samples;
+
+		/**
+		 * The random number generator used by this block.
+		 */
+		private final SplittableRandom random;
+
+		/**
+		 * The number of hits, set by {@link #compute()}.
+		 */
+		private long hits;
+
+		/**
+		 * Constructs a new block.
+		 *
+		 * @param region the region being sampled
+		 * @param samples the number of samples
+		 * @param random the random number generator used by this block
+		 */
+		public Block(Region region, int samples, SplittableRandom random) {
+			super();
+			this.region = region;
+			this.samples = samples;
+			this.random = random;
+		}
+
+		/**
+		 * Draws the samples and counts the hits.
+		 */
+		public void compute() {
+			double[] sample = new double[region.numberOfObjectives];
+
+			for (int i = 0; i < samples; i++) {
+				region.sample(random, sample);
+
+				if (region.isHit(sample)) {
+					hits++;
+				}
+			}
+		}
+
+	}
+
+	/**
+	 * Fork-join task computing a range of blocks, recursively splitting the
+	 * range until it contains a single block.
+	 */
+	private static class BlocksTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 2405846129356632580L;
+
+		/**
+		 * The blocks.
+		 */
+		private final Block[] blocks;
+
+		/**
+		 * The first block, inclusive.
+		 */
+		private final int from;
+
+		/**
+		 * The last block, exclusive.
+		 */
+		private final int to;
+
+		/**
+		 * Constructs a new task computing a range of blocks.
+		 *
+		 * @param blocks the blocks
+		 * @param from the first block, inclusive
+		 * @param to the last block, exclusive
+		 */
+		public BlocksTask(Block[] blocks, int from, int to) {
+			super();
+			this.blocks = blocks;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= 1) {
+				if ((from < to) && (blocks[from] != null)) {
+					blocks[from].compute();
+				}
+			} else {
+				int middle = (from + to) >>> 1;
+
+				invokeAll(new BlocksTask(blocks, from, middle),
+						new BlocksTask(blocks, middle, to));
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,454 @@
+/* Copyright 2009-2020 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.indicator;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.moeaframework.core.FrameworkException;
+import org.moeaframework.util.io.RedirectStream;
+
+/**
+ * Client for a long-lived native hypervolume process.  Unlike
+ * {@link Hypervolume#invokeNativeHypervolume}, which writes temporary files
+ * and starts a new process for every calculation, the worker is started once
+ * and receives the point sets over its standard input and output streams, or
+ * over a socket.
+ * <p>
+ * Requests and responses are binary messages in big-endian byte order, as
+ * written by {@link DataOutputStream}.  Each message starts with its length in
+ * bytes, excluding the length itself, so the worker can read the entire
+ * message at once.  A request consists of:
+ * <pre>
+ *   int     length
+ *   int     request id
+ *   int     number of objectives, M
+ *   int     number of points, N
+ *   double  reference point (M values)
+ *   double  points (N * M values, one point after another)
+ * </pre>
+ * and the worker replies with:
+ * <pre>
+ *   int     length (always 12)
+ *   int     request id
+ *   double  hypervolume
+ * </pre>
+ * Multiple threads can share one worker.  Requests are pipelined, meaning a
+ * thread sends its request without waiting for the responses to earlier
+ * requests, and the worker may respond in any order since responses are
+ * matched by their request id.  The worker must terminate when the end of its
+ * input stream is reached.
+ * <p>
+ * <b>It is critical that the {@link #close()} method be invoked to ensure the
+ * worker is shutdown cleanly.</b>  Closing signals the end of stream to the
+ * worker, by closing its standard input or shutting down the output side of
+ * the socket, while responses to requests still in flight continue to be
+ * read.  A worker process is then given {@value #CLOSE_TIMEOUT} seconds to
+ * terminate before it is destroyed.
+ */
+public class NativeHypervolumeWorker implements Closeable {
+
+	/**
+	 * The length of a response, excluding the length itself.
+	 */
+	private static final int RESPONSE_LENGTH = 12;
+
+	/**
+	 * The number of seconds {@link #close()} waits for a worker process to
+	 * terminate before destroying it.
+	 */
+	private static final int CLOSE_TIMEOUT = 60;
+
+	/**
+	 * The worker process, or {@code null} if the worker was not started by
+	 * this class.
+	 */
+	private final Process process;
+
+	/**
+	 * The socket connected to the worker, or {@code null} if the worker is
+	 * not connected by a socket.
+	 */
+	private final Socket socket;
+
+	/**
+	 * The stream for reading responses from the worker.
+	 */
+	private final DataInputStream input;
+
+	/**
+	 * The stream for writing requests to the worker; access must be
+	 * synchronized on this stream.
+	 */
+	private final DataOutputStream output;
+
+	/**
+	 * The requests awaiting a response, indexed by their id; access must be
+	 * synchronized on this map.
+	 */
+	private final Map<Integer, Request> pending;
+
+	/**
+	 * The id of the next request; access must be synchronized on
+	 * {@code pending}.
+	 */
+	private int nextId;
+
+	/**
+	 * The reason no further requests can be sent, or {@code null} if the
+	 * worker is available; access must be synchronized on {@code pending}.
+	 */
+	private String failure;
+
+	/**
+	 * Starts the worker using {@code new ProcessBuilder(command).start()}.  If
+	 * the command contains arguments, the arguments should be passed in as
+	 * separate strings.
+	 *
+	 * @param command the command to start the worker
+	 * @throws IOException if an I/O error occurred
+	 */
+	public NativeHypervolumeWorker(String... command) throws IOException {
+		this(new ProcessBuilder(command).start());
+	}
+
+	/**
+	 * Connects to a worker listening on the given port.
+	 *
+	 * @param host the host name of the worker; or {@code null} to use the
+	 *        local host
+	 * @param port the port number
+	 * @throws IOException if an I/O error occurred
+	 */
+	public NativeHypervolumeWorker(String host, int port) throws IOException {
+		this(new Socket(host, port));
+	}
+
+	/**
+	 * Connects to a worker using the given socket.
+	 *
+	 * @param socket the socket connected to the worker
+	 * @throws IOException if an I/O error occurred
+	 */
+	NativeHypervolumeWorker(Socket socket) throws IOException {
+		this(socket.getInputStream(), socket.getOutputStream(), null, socket);
+	}
+
+	/**
+	 * Connects to the given worker process.
+	 *
+	 * @param process the worker process
+	 */
+	NativeHypervolumeWorker(Process process) {
+		this(process.getInputStream(), process.getOutputStream(), process,
+				null);
+		RedirectStream.redirect(process.getErrorStream(), System.err);
+	}
+
+	/**
+	 * Connects to a worker using the given input and output streams.  A
+	 * daemon thread is started to read the responses.
+	 *
+	 * @param input the stream for reading responses from the worker
+	 * @param output the stream for writing requests to the worker
+	 */
+	NativeHypervolumeWorker(InputStream input, OutputStream output) {
+		this(input, output, null, null);
+	}
+
+	/**
+	 * Connects to a worker using the given input and output streams, which
+	 * belong to the given process or socket.  A daemon thread is started to
+	 * read the responses.
+	 *
+	 * @param input the stream for reading responses from the worker
+	 * @param output the stream for writing requests to the worker
+	 * @param process the worker process, or {@code null} if the worker was
+	 *        not started by this class
+	 * @param socket the socket connected to the worker, or {@code null} if
+	 *        the worker is not connected by a socket
+	 */
+	private NativeHypervolumeWorker(InputStream input, OutputStream output,
+			Process process, Socket socket) {
+		super();
+		this.process = process;
+		this.socket = socket;
+		this.input = new DataInputStream(new BufferedInputStream(input));
+		this.output = new DataOutputStream(new BufferedOutputStream(output));
+
+		pending = new HashMap<Integer, Request>();
+
+		Thread thread = new Thread(new Runnable() {
+
+			@Override
+			public void run() {
+				readResponses();
+			}
+
+		}, "NativeHypervolumeWorker");
+
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * Returns the hypervolume of the first {@code numberOfPoints} points
+	 * relative to the given reference point, as computed by the worker.  This
+	 * method blocks until the response is received, but other threads may
+	 * send requests in the meantime.
+	 *
+	 * @param points the points
+	 * @param numberOfPoints the number of points
+	 * @param numberOfObjectives the number of objectives
+	 * @param referencePoint the reference point
+	 * @return the hypervolume computed by the worker
+	 * @throws FrameworkException if the worker is closed or failed, or an I/O
+	 *         error occurred
+	 */
+	public double calculate(double[][] points, int numberOfPoints,
+			int numberOfObjectives, double[] referencePoint) {
+		Request request = new Request();
+		int id;
+
+		synchronized (pending) {
+			if (failure != null) {
+				throw new FrameworkException(failure);
+			}
+
+			id = nextId++;
+			pending.put(id, request);
+		}
+
+		try {
+			synchronized (output) {
+				output.writeInt(12 + 8 * numberOfObjectives *
+						(numberOfPoints + 1));
+				output.writeInt(id);
+				output.writeInt(numberOfObjectives);
+				output.writeInt(numberOfPoints);
+
+				for (int j = 0; j < numberOfObjectives; j++) {
+					output.writeDouble(referencePoint[j]);
+				}
+
+				for (int i = 0; i < numberOfPoints; i++) {
+					for (int j = 0; j < numberOfObjectives; j++) {
+						output.writeDouble(points[i][j]);
+					}
+				}
+
+				output.flush();
+			}
+		} catch (IOException e) {
+			synchronized (pending) {
+				pending.remove(id);
+			}
+
+			throw new FrameworkException(
+					"error sending request to hypervolume worker", e);
+		}
+
+		return request.await();
+	}
+
+	/**
+	 * Returns {@code true} if the worker was closed or failed, in which case
+	 * no further requests can be sent; {@code false} otherwise.
+	 *
+	 * @return {@code true} if the worker was closed or failed; {@code false}
+	 *         otherwise
+	 */
+	public boolean isClosed() {
+		synchronized (pending) {
+			return failure != null;
+		}
+	}
+
+	/**
+	 * Closes the connection to the worker, which signals the worker to
+	 * terminate.  Requests awaiting a response still receive their response.
+	 * No further requests are permitted.  If this class started the worker
+	 * process, this method waits for the process to terminate, destroying it
+	 * if it does not terminate within {@value #CLOSE_TIMEOUT} seconds.
+	 */
+	@Override
+	public void close() {
+		synchronized (pending) {
+			if (failure == null) {
+				failure = "hypervolume worker is closed";
+			}
+		}
+
+		synchronized (output) {
+			try {
+				if (socket == null) {
+					output.close();
+				} else if (!socket.isOutputShutdown()) {
+					// half-close, so responses in flight can still be read
+					output.flush();
+					socket.shutdownOutput();
+				}
+			} catch (IOException e) {
+				throw new FrameworkException(e);
+			}
+		}
+
+		if (process != null) {
+			try {
+				if (!process.waitFor(CLOSE_TIMEOUT, TimeUnit.SECONDS)) {
+					process.destroy();
+				}
+			} catch (InterruptedException e) {
+				process.destroy();
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * Reads responses from the worker until the end of stream is reached,
+	 * passing each value to the waiting request.  Any requests still waiting
+	 * when the stream ends fail.
+	 */
+	private void readResponses() {
+		String reason = "hypervolume worker reached end of stream";
+
+		try {
+			while (true) {
+				int length = input.readInt();
+
+				if (length != RESPONSE_LENGTH) {
+					reason = "invalid response from hypervolume worker";
+					break;
+				}
+
+				int id = input.readInt();
+				double value = input.readDouble();
+				Request request = null;
+
+				synchronized (pending) {
+					request = pending.remove(id);
+				}
+
+				if (request == null) {
+					reason = "unexpected response from hypervolume worker";
+					break;
+				}
+
+				request.complete(value, null);
+			}
+		} catch (IOException e) {
+			// the end of stream or an I/O error was reached
+		} finally {
+			try {
+				if (socket == null) {
+					input.close();
+				} else {
+					socket.close();
+				}
+			} catch (IOException e) {
+				// ignore errors when closing the stream
+			}
+
+			synchronized (pending) {
+				if (failure == null) {
+					failure = reason;
+				}
+
+				for (Request request : pending.values()) {
+					request.complete(Double.NaN, reason);
+				}
+
+				pending.clear();
+			}
+		}
+	}
+
+	/**
+	 * A request awaiting its response.
+	 */
+	private static class Request {
+
+		/**
+		 * {@code true} if the response was received or the request failed;
+		 * {@code false} otherwise.
+		 */
+		private boolean done;
+
+		/**
+		 * The hypervolume returned by the worker.
+		 */
+		private double value;
+
+		/**
+		 * The reason the request failed, or {@code null} if it succeeded.
+		 */
+		private String failure;
+
+		/**
+		 * Completes this request, waking the waiting thread.
+		 *
+		 * @param value the hypervolume returned by the worker
+		 * @param failure the reason the request failed, or {@code null} if it
+		 *        succeeded
+		 */
+		public synchronized void complete(double value, String failure) {
+			this.value = value;
+			this.failure = failure;
+
+			done = true;
+			notifyAll();
+		}
+
+		/**
+		 * Waits for this request to complete.
+		 *
+		 * @return the hypervolume returned by the worker
+		 * @throws FrameworkException if the request failed or the thread was
+		 *         interrupted
+		 */
+		public synchronized double await() {
+			while (!done) {
+				try {
+					wait();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new FrameworkException(e);
+				}
+			}
+
+			if (failure != null) {
+				throw new FrameworkException(failure);
+			}
+
+			return value;
+		}
+
+	}
+
+}
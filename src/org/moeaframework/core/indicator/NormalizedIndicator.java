@@ -17,17 +17,46 @@
  */
 package org.moeaframework.core.indicator;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
 import org.moeaframework.core.Indicator;
 import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.ObjectiveMatrix;
 import org.moeaframework.core.Problem;
 import org.moeaframework.core.Settings;
 
 /**
  * Abstract class for indicators that require normalized approximation and
- * reference sets.
+ * reference sets.  Subclasses that only need the objective values should use
+ * {@link #normalizeObjectives(NondominatedPopulation)} and
+ * {@link #getNormalizedReferenceObjectives()}, which avoid creating any
+ * solutions.
+ * <p>
+ * The normalized reference set and its k-d tree are shared by all indicators
+ * constructed with the same reference set and bounds, such as the indicators
+ * created for each run of an experiment.  Reference sets are identified by
+ * their {@link NondominatedPopulation#getObjectiveMatrix() objective matrix},
+ * which is replaced whenever the reference set is modified.  The copies
+ * returned by {@link org.moeaframework.core.ReferenceSetCache} share one
+ * objective matrix, so reference sets loaded separately for each run are
+ * also identified as the same.
  */
 public abstract class NormalizedIndicator implements Indicator {
 
+	/**
+	 * The normalized reference sets shared by all indicators, indexed by the
+	 * objective matrix of the original reference set.  Entries are removed
+	 * once the original reference set is garbage collected.  Access must be
+	 * synchronized on this map.
+	 */
+	private static final Map<ObjectiveMatrix, List<NormalizedReferenceSet>>
+			CACHE = new WeakHashMap<ObjectiveMatrix,
+					List<NormalizedReferenceSet>>();
+
 	/**
 	 * The problem.
 	 */
@@ -40,9 +69,15 @@ public abstract class NormalizedIndicator implements Indicator {
 	private final Normalizer normalizer;
 	
 	/**
-	 * The normalized reference set.
+	 * The normalized objective values of the reference set and their k-d
+	 * tree, which may be shared with other indicators.
 	 */
-	private final NondominatedPopulation normalizedReferenceSet;
+	private final NormalizedReferenceSet normalizedReference;
+	
+	/**
+	 * The normalized reference set, or {@code null} if not yet created.
+	 */
+	private NondominatedPopulation normalizedReferenceSet;
 
 	/**
 	 * Constructs a normalized indicator for the specified problem and 
@@ -92,7 +127,7 @@ public abstract class NormalizedIndicator implements Indicator {
 			normalizer = new Normalizer(problem, referenceSet);
 		}
 		
-		normalizedReferenceSet = normalizer.normalize(referenceSet);
+		normalizedReference = normalizeReferenceSet(normalizer, referenceSet);
 	}
 	
 	/**
@@ -113,7 +148,7 @@ public abstract class NormalizedIndicator implements Indicator {
 		this.problem = problem;
 		
 		normalizer = new Normalizer(problem, referenceSet, referencePoint);
-		normalizedReferenceSet = normalizer.normalize(referenceSet);
+		normalizedReference = normalizeReferenceSet(normalizer, referenceSet);
 	}
 	
 	/**
@@ -133,11 +168,50 @@ public abstract class NormalizedIndicator implements Indicator {
 		this.problem = problem;
 		
 		normalizer = new Normalizer(problem, minimum, maximum);
-		normalizedReferenceSet = normalizer.normalize(referenceSet);
+		normalizedReference = normalizeReferenceSet(normalizer, referenceSet);
+	}
+	
+	/**
+	 * Returns the normalized reference set for the given normalizer, reusing
+	 * the normalized reference set of another indicator with the same
+	 * reference set and bounds if one exists.
+	 * 
+	 * @param normalizer the normalizer
+	 * @param referenceSet the reference set
+	 * @return the normalized reference set
+	 */
+	private static NormalizedReferenceSet normalizeReferenceSet(
+			Normalizer normalizer, NondominatedPopulation referenceSet) {
+		ObjectiveMatrix matrix = referenceSet.getObjectiveMatrix();
+		
+		synchronized (CACHE) {
+			List<NormalizedReferenceSet> entries = CACHE.get(matrix);
+			
+			if (entries == null) {
+				entries = new ArrayList<NormalizedReferenceSet>();
+				CACHE.put(matrix, entries);
+			}
+			
+			double[] minimum = normalizer.getMinimum();
+			double[] maximum = normalizer.getMaximum();
+			
+			for (NormalizedReferenceSet entry : entries) {
+				if (Arrays.equals(entry.minimum, minimum) &&
+						Arrays.equals(entry.maximum, maximum)) {
+					return entry;
+				}
+			}
+			
+			NormalizedReferenceSet entry = new NormalizedReferenceSet(minimum,
+					maximum, normalizer.normalize(matrix));
+			entries.add(entry);
+			return entry;
+		}
 	}
 	
 	/**
-	 * Normalizes the specified approximation set.
+	 * Normalizes the specified approximation set.  The normalized solutions
+	 * store only their objective values.
 	 * 
 	 * @param approximationSet the approximation set to be normalized
 	 * @return a new population representing the normalized approximation set
@@ -148,12 +222,123 @@ public abstract class NormalizedIndicator implements Indicator {
 	}
 	
 	/**
-	 * Returns the normalized reference set.
+	 * Returns the normalized objective values of the specified approximation
+	 * set, excluding any infeasible solutions.  Unlike
+	 * {@link #normalize(NondominatedPopulation)}, no solutions are created.
+	 * 
+	 * @param approximationSet the approximation set to be normalized
+	 * @return the normalized objective values of the approximation set
+	 */
+	protected ObjectiveMatrix normalizeObjectives(
+			NondominatedPopulation approximationSet) {
+		return normalizer.normalize(approximationSet.getObjectiveMatrix());
+	}
+	
+	/**
+	 * Returns the normalizer used by this indicator.
+	 * 
+	 * @return the normalizer used by this indicator
+	 */
+	Normalizer getNormalizer() {
+		return normalizer;
+	}
+	
+	/**
+	 * Returns the normalized reference set.  The solutions are created from
+	 * the normalized objective values on the first call and reused
+	 * afterwards.
 	 * 
 	 * @return the normalized reference set
 	 */
-	protected NondominatedPopulation getNormalizedReferenceSet() {
+	protected synchronized NondominatedPopulation getNormalizedReferenceSet() {
+		if (normalizedReferenceSet == null) {
+			normalizedReferenceSet = Normalizer.toPopulation(
+					normalizedReference.objectives);
+		}
+		
 		return normalizedReferenceSet;
 	}
+	
+	/**
+	 * Returns the normalized objective values of the reference set.
+	 * 
+	 * @return the normalized objective values of the reference set
+	 */
+	protected ObjectiveMatrix getNormalizedReferenceObjectives() {
+		return normalizedReference.objectives;
+	}
+	
+	/**
+	 * Returns the k-d tree built from the normalized reference set, for
+	 * answering nearest neighbor queries against the reference set.  The tree
+	 * is built on the first call by any indicator sharing the normalized
+	 * reference set and reused afterwards.
+	 * 
+	 * @return the k-d tree built from the normalized reference set
+	 */
+	protected KDTree getNormalizedReferenceTree() {
+		return normalizedReference.getTree();
+	}
+	
+	/**
+	 * The normalized objective values of a reference set, which are shared by
+	 * all indicators using the same reference set and bounds.
+	 */
+	private static class NormalizedReferenceSet {
+		
+		/**
+		 * The minimum bounds used to normalize the reference set.
+		 */
+		private final double[] minimum;
+		
+		/**
+		 * The maximum bounds used to normalize the reference set.
+		 */
+		private final double[] maximum;
+		
+		/**
+		 * The normalized objective values of the reference set.
+		 */
+		private final ObjectiveMatrix objectives;
+		
+		/**
+		 * The k-d tree built from the normalized objective values, or
+		 * {@code null} if not yet built.
+		 */
+		private KDTree tree;
+		
+		/**
+		 * Constructs a new normalized reference set.
+		 * 
+		 * @param minimum the minimum bounds used to normalize the reference
+		 *        set
+		 * @param maximum the maximum bounds used to normalize the reference
+		 *        set
+		 * @param objectives the normalized objective values of the reference
+		 *        set
+		 */
+		public NormalizedReferenceSet(double[] minimum, double[] maximum,
+				ObjectiveMatrix objectives) {
+			super();
+			this.minimum = minimum;
+			this.maximum = maximum;
+			this.objectives = objectives;
+		}
+		
+		/**
+		 * Returns the k-d tree built from the normalized objective values,
+		 * building the tree on the first call.
+		 * 
+		 * @return the k-d tree built from the normalized objective values
+		 */
+		public synchronized KDTree getTree() {
+			if (tree == null) {
+				tree = new KDTree(objectives, minimum.length);
+			}
+			
+			return tree;
+		}
+		
+	}
 
 }
@@ -20,6 +20,7 @@ package org.moeaframework.core.indicator;
 import java.util.Arrays;
 
 import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.ObjectiveMatrix;
 import org.moeaframework.core.Population;
 import org.moeaframework.core.Problem;
 import org.moeaframework.core.Settings;
@@ -30,6 +31,10 @@ import org.moeaframework.core.Solution;
  * [0, 1]}.  This normalization ignores infeasible solutions, so the resulting
  * normalized population contains no infeasible solutions.  A reference set
  * should be used to ensure the normalization is uniformly applied.
+ * <p>
+ * The normalized solutions store only their objective values.  Indicators
+ * that do not need solutions should normalize the {@link ObjectiveMatrix}
+ * instead, which avoids creating any solutions.
  */
 public class Normalizer {
 	
@@ -174,22 +179,13 @@ public class Normalizer {
 					"requires at least two solutions");
 		}
 		
-		for (int i = 0; i < problem.getNumberOfObjectives(); i++) {
-			minimum[i] = Double.POSITIVE_INFINITY;
-			maximum[i] = Double.NEGATIVE_INFINITY;
-		}
-
-		for (int i = 0; i < population.size(); i++) {
-			Solution solution = population.get(i);
-			
-			if (solution.violatesConstraints()) {
-				continue;
-			}
-			
-			for (int j = 0; j < problem.getNumberOfObjectives(); j++) {
-				minimum[j] = Math.min(minimum[j], solution.getObjective(j));
-				maximum[j] = Math.max(maximum[j], solution.getObjective(j));
-			}
+		ObjectiveMatrix matrix = population.getObjectiveMatrix();
+		double[] feasibleMinimum = matrix.getMinimum(true);
+		double[] feasibleMaximum = matrix.getMaximum(true);
+		
+		for (int j = 0; j < problem.getNumberOfObjectives(); j++) {
+			minimum[j] = feasibleMinimum[j];
+			maximum[j] = feasibleMaximum[j];
 		}
 		
 		if (referencePoint != null) {
@@ -228,32 +224,21 @@ public class Normalizer {
 	
 	/**
 	 * Returns a new non-dominated population containing the normalized 
-	 * solutions from the specified population.
+	 * solutions from the specified population.  The normalized solutions
+	 * store only their objective values.
 	 * 
 	 * @param population the population
 	 * @return a new non-dominated population containing the normalized 
 	 *         solutions from the specified population
 	 */
 	public NondominatedPopulation normalize(NondominatedPopulation population) {
-		NondominatedPopulation result = new NondominatedPopulation() {
-
-			/**
-			 * Enables a performance hack to avoid performing non-dominance
-			 * checks on solutions already known to be non-dominated.
-			 */
-			public boolean add(Solution newSolution) {
-				return super.forceAddWithoutCheck(newSolution);
-			}
-
-		};
-
-		normalize(population, result);
-		return result;
+		return toPopulation(normalize(population.getObjectiveMatrix()));
 	}
 	
 	/**
 	 * Returns a new population containing the normalized solutions from the 
-	 * specified population.
+	 * specified population.  The normalized solutions store only their
+	 * objective values.
 	 * 
 	 * @param population the population
 	 * @return a new population containing the normalized solutions from the 
@@ -261,32 +246,110 @@ public class Normalizer {
 	 */
 	public Population normalize(Population population) {
 		Population result = new Population();
-		normalize(population, result);
+		addAll(normalize(population.getObjectiveMatrix()), result);
 		return result;
 	}
 	
 	/**
-	 * Performs the actual normalization.  Each solution in {@code originalSet}
-	 * is copied, normalized and added to {@code normalizedSet}.
+	 * Returns a new matrix containing the normalized objective values of the
+	 * feasible solutions in the specified matrix.  Unlike normalizing a
+	 * population, no solutions are created.  Any objectives beyond those
+	 * defined by the problem are copied unchanged.
 	 * 
-	 * @param originalSet the unnormalized population
-	 * @param normalizedSet the normalized population
+	 * @param matrix the objective values of the solutions
+	 * @return a new matrix containing the normalized objective values of the
+	 *         feasible solutions
 	 */
-	private void normalize(Population originalSet, Population normalizedSet) {
-		for (Solution solution : originalSet) {
-			if (solution.violatesConstraints()) {
-				continue;
-			}
-			
-			Solution clone = solution.copy();
+	public ObjectiveMatrix normalize(ObjectiveMatrix matrix) {
+		int numberOfObjectives = matrix.getNumberOfObjectives();
+		
+		if (numberOfObjectives <= minimum.length) {
+			return matrix.normalize(minimum, maximum, true);
+		}
+		
+		double[] lower = Arrays.copyOf(minimum, numberOfObjectives);
+		double[] upper = Arrays.copyOf(maximum, numberOfObjectives);
+		
+		for (int j = minimum.length; j < numberOfObjectives; j++) {
+			upper[j] = 1.0;
+		}
+		
+		return matrix.normalize(lower, upper, true);
+	}
 	
-			for (int j = 0; j < problem.getNumberOfObjectives(); j++) {
-				clone.setObjective(j,
-						(clone.getObjective(j) - minimum[j]) /
-						(maximum[j] - minimum[j]));
+	/**
+	 * Returns the minimum bounds of each objective.
+	 * 
+	 * @return the minimum bounds of each objective
+	 */
+	double[] getMinimum() {
+		return minimum.clone();
+	}
+	
+	/**
+	 * Returns the maximum bounds of each objective.
+	 * 
+	 * @return the maximum bounds of each objective
+	 */
+	double[] getMaximum() {
+		return maximum.clone();
+	}
+	
+	/**
+	 * Returns the normalized objective values of a single solution, ignoring
+	 * whether the solution is feasible.
+	 * 
+	 * @param solution the solution
+	 * @return the normalized objective values of the solution
+	 */
+	double[] normalize(Solution solution) {
+		double[] result = new double[problem.getNumberOfObjectives()];
+		
+		for (int j = 0; j < result.length; j++) {
+			result[j] = (solution.getObjective(j) - minimum[j]) /
+					(maximum[j] - minimum[j]);
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Returns a new non-dominated population containing one solution for each
+	 * row in the matrix, which is assumed to be non-dominated.
+	 * 
+	 * @param matrix the normalized objective values
+	 * @return a new non-dominated population containing one solution for each
+	 *         row in the matrix
+	 */
+	static NondominatedPopulation toPopulation(ObjectiveMatrix matrix) {
+		NondominatedPopulation result = new NondominatedPopulation() {
+
+			/**
+			 * Enables a performance hack to avoid performing non-dominance
+			 * checks on solutions already known to be non-dominated.
+			 */
+			public boolean add(Solution newSolution) {
+				return super.forceAddWithoutCheck(newSolution);
 			}
+
+		};
+
+		addAll(matrix, result);
+		return result;
+	}
 	
-			normalizedSet.add(clone);
+	/**
+	 * Adds one solution for each row in the matrix to the population.  The
+	 * solutions store only the objective values; the decision variables,
+	 * constraints and attributes of the original solutions are not copied,
+	 * which would be wasted effort since only the objectives are normalized.
+	 * 
+	 * @param matrix the normalized objective values
+	 * @param population the population receiving the solutions
+	 */
+	private static void addAll(ObjectiveMatrix matrix, Population population) {
+		for (int i = 0; i < matrix.size(); i++) {
+			population.add(new Solution(matrix.getRow(i)));
 		}
 	}
 
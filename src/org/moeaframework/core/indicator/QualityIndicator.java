@@ -18,11 +18,19 @@
 package org.moeaframework.core.indicator;
 
 import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.ObjectiveMatrix;
 import org.moeaframework.core.Problem;
 import org.moeaframework.core.Settings;
 
 /**
- * Evaluates multiple indicators while avoiding repetitive computations.
+ * Evaluates multiple indicators while avoiding repetitive computations.  The
+ * approximation set is normalized once into an {@link ObjectiveMatrix}
+ * without copying any solutions, and all indicators are computed from the
+ * normalized values.  Each nearest neighbor search is shared by two
+ * indicators: the nearest reference point to each approximation point yields
+ * both the generational distance and the maximum Pareto front error, and the
+ * nearest approximation point to each reference point yields the inverted
+ * generational distance and bounds the additive &epsilon;-indicator.
  */
 public class QualityIndicator {
 
@@ -37,9 +45,14 @@ public class QualityIndicator {
 	private final NondominatedPopulation referenceSet;
 	
 	/**
-	 * The normalized reference set.
+	 * The normalized objective values of the reference set.
 	 */
-	private final NondominatedPopulation normalizedReferenceSet;
+	private final ObjectiveMatrix normalizedReferenceSet;
+	
+	/**
+	 * The k-d tree built from the normalized reference set.
+	 */
+	private final KDTree normalizedReferenceTree;
 	
 	/**
 	 * The normalizer to normalize populations so that all objectives reside in
@@ -53,10 +66,16 @@ public class QualityIndicator {
 	private final Normalizer hypervolumeNormalizer;
 	
 	/**
-	 * The approximation set used during the last invocation of
-	 * {@code calculate}.
+	 * The Monte Carlo hypervolume estimator, or {@code null} if the
+	 * hypervolume is computed exactly.
 	 */
-	private NondominatedPopulation normalizedApproximationSet;
+	private final MonteCarloHypervolume hypervolumeEstimator;
+	
+	/**
+	 * The normalized objective values of the approximation set used during
+	 * the last invocation of {@code calculate}.
+	 */
+	private ObjectiveMatrix normalizedApproximationSet;
 
 	/**
 	 * The generational distance of the approximation set from the last
@@ -107,10 +126,15 @@ public class QualityIndicator {
 		this.referenceSet = referenceSet;
 		
 		normalizer = new Normalizer(problem, referenceSet);
-		normalizedReferenceSet = normalizer.normalize(referenceSet);
+		normalizedReferenceSet = normalizer.normalize(
+				referenceSet.getObjectiveMatrix());
+		normalizedReferenceTree = new KDTree(normalizedReferenceSet,
+				problem.getNumberOfObjectives());
 		
 		hypervolumeNormalizer = new Normalizer(problem, referenceSet,
 				Settings.getHypervolumeDelta());
+		hypervolumeEstimator = Hypervolume.createEstimator(
+				Settings.isHypervolumeEstimation());
 	}
 
 	/**
@@ -245,26 +269,104 @@ public class QualityIndicator {
 	 * @param approximationSet the approximation set
 	 */
 	public void calculate(NondominatedPopulation approximationSet) {
+		ObjectiveMatrix matrix = approximationSet.getObjectiveMatrix();
+		
 		if (Settings.isHypervolumeEnabled()) {
 			hypervolume = Hypervolume.evaluate(problem, 
-					hypervolumeNormalizer.normalize(approximationSet));
+					hypervolumeNormalizer.normalize(matrix),
+					hypervolumeEstimator);
 		} else {
 			hypervolume = Double.NaN;
 		}
 		
-		normalizedApproximationSet = normalizer.normalize(approximationSet);
+		normalizedApproximationSet = normalizer.normalize(matrix);
+		
+		calculateApproximationDistances();
+		calculateReferenceDistances();
+		
+		spacing = Spacing.evaluate(problem, matrix);
+	}
+	
+	/**
+	 * Computes the generational distance and maximum Pareto front error from
+	 * the distance between each approximation point and the nearest reference
+	 * point.
+	 */
+	private void calculateApproximationDistances() {
+		int size = normalizedApproximationSet.size();
+		
+		if (size == 0) {
+			generationalDistance = Double.POSITIVE_INFINITY;
+			maximumParetoFrontError = Double.POSITIVE_INFINITY;
+			return;
+		}
+		
+		double power = Settings.getGDPower();
+		double[] point = new double[problem.getNumberOfObjectives()];
+		double sum = 0.0;
+		double max = 0.0;
+		
+		for (int i = 0; i < size; i++) {
+			double distance = normalizedReferenceTree.squaredDistanceToNearest(
+					getRow(normalizedApproximationSet, i, point));
+			
+			sum += IndicatorUtils.pow(distance, power);
+			max = Math.max(max, distance);
+		}
+		
+		generationalDistance = IndicatorUtils.root(sum, power) / size;
+		maximumParetoFrontError = Math.sqrt(max);
+	}
+	
+	/**
+	 * Computes the inverted generational distance and additive
+	 * &epsilon;-indicator from the distance between each reference point and
+	 * the nearest approximation point.  Since the additive &epsilon; of a
+	 * point never exceeds its Euclidean distance, the &epsilon; search is
+	 * skipped for reference points whose nearest approximation point is
+	 * within the largest &epsilon; found so far.
+	 */
+	private void calculateReferenceDistances() {
+		KDTree approximationTree = new KDTree(normalizedApproximationSet,
+				problem.getNumberOfObjectives());
+		double power = Settings.getIGDPower();
+		double[] point = new double[problem.getNumberOfObjectives()];
+		double sum = 0.0;
+		double epsilon = 0.0;
+		
+		for (int i = 0; i < normalizedReferenceSet.size(); i++) {
+			getRow(normalizedReferenceSet, i, point);
+			
+			double distance = approximationTree.squaredDistanceToNearest(point);
+			sum += IndicatorUtils.pow(distance, power);
+			
+			if (Math.sqrt(distance) > epsilon) {
+				epsilon = Math.max(epsilon, approximationTree.minimumEpsilon(
+						point, epsilon));
+			}
+		}
+		
+		invertedGenerationalDistance = IndicatorUtils.root(sum, power) /
+				normalizedReferenceSet.size();
+		additiveEpsilonIndicator = epsilon;
+	}
+	
+	/**
+	 * Copies the objectives of the solution at the given index into the
+	 * given array.
+	 * 
+	 * @param matrix the objective values of the solutions
+	 * @param index the index of the solution
+	 * @param row the array storing the objectives
+	 * @return the array storing the objectives
+	 */
+	private static double[] getRow(ObjectiveMatrix matrix, int index,
+			double[] row) {
+		for (int j = 0; j < row.length; j++) {
+			row[j] = matrix.getObjective(index, j);
+		}
 		
-		generationalDistance = GenerationalDistance.evaluate(problem,
-				normalizedApproximationSet, normalizedReferenceSet,
-				Settings.getGDPower());
-		invertedGenerationalDistance = InvertedGenerationalDistance.evaluate(
-				problem, normalizedApproximationSet, normalizedReferenceSet,
-				Settings.getIGDPower());
-		additiveEpsilonIndicator = AdditiveEpsilonIndicator.evaluate(problem,
-				normalizedApproximationSet, normalizedReferenceSet);
-		maximumParetoFrontError = MaximumParetoFrontError.evaluate(problem,
-				normalizedApproximationSet, normalizedReferenceSet);
-		spacing = Spacing.evaluate(problem, approximationSet);
+		return row;
 	}
 
 }
@@ -20,8 +20,8 @@ package org.moeaframework.core.indicator;
 import org.apache.commons.math3.stat.StatUtils;
 import org.moeaframework.core.Indicator;
 import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.ObjectiveMatrix;
 import org.moeaframework.core.Problem;
-import org.moeaframework.core.Solution;
 
 /**
  * Spacing metric. Represents the spread of the Pareto front.
@@ -58,48 +58,69 @@ public class Spacing implements Indicator {
 	 */
 	static double evaluate(Problem problem,
 			NondominatedPopulation approximationSet) {
-		if (approximationSet.size() < 2) {
+		return evaluate(problem, approximationSet.getObjectiveMatrix());
+	}
+	
+	/**
+	 * Computes the spread metric for the specified problem given the objective
+	 * values of an approximation set.  Infeasible solutions are ignored, but
+	 * are still counted in the size of the approximation set.
+	 * 
+	 * @param problem the problem
+	 * @param approximationSet the objective values of an approximation set
+	 *        for the problem
+	 * @return the spread metric for the specified problem given an
+	 *         approximation set
+	 */
+	static double evaluate(Problem problem, ObjectiveMatrix approximationSet) {
+		int size = approximationSet.size();
+		int numberOfObjectives = problem.getNumberOfObjectives();
+		
+		if (size < 2) {
 			return 0.0;
 		}
 		
-		double[] d = new double[approximationSet.size()];
+		double[] d = new double[size];
 
-		for (int i = 0; i < approximationSet.size(); i++) {
+		for (int i = 0; i < size; i++) {
 			double min = Double.POSITIVE_INFINITY;
-			Solution solutionI = approximationSet.get(i);
 			
-			if (solutionI.violatesConstraints()) {
+			if (!approximationSet.isFeasible(i)) {
 				continue;
 			}
 			
-			
-			for (int j = 0; j < approximationSet.size(); j++) {
-				if (i != j) {
-					Solution solutionJ = approximationSet.get(j);
-					
-					if (solutionJ.violatesConstraints()) {
-						continue;
-					}
-					
-					min = Math.min(min, IndicatorUtils.manhattanDistance(
-							problem, solutionI, solutionJ));
+			for (int j = 0; j < size; j++) {
+				if ((i == j) || !approximationSet.isFeasible(j)) {
+					continue;
+				}
+				
+				double distance = 0.0;
+				
+				// partial sums only increase, so stop once the current minimum
+				// is exceeded
+				for (int k = 0; (k < numberOfObjectives) && (distance < min);
+						k++) {
+					double[] column = approximationSet.getColumn(k);
+					distance += Math.abs(column[i] - column[j]);
 				}
+				
+				min = Math.min(min, distance);
 			}
 
 			d[i] = min;
 		}
 
-		double dbar = StatUtils.sum(d) / approximationSet.size();
+		double dbar = StatUtils.sum(d) / size;
 		double sum = 0.0;
 		
-		for (int i = 0; i < approximationSet.size(); i++) {
-			if (approximationSet.get(i).violatesConstraints()) {
+		for (int i = 0; i < size; i++) {
+			if (!approximationSet.isFeasible(i)) {
 				continue;
 			}
 			
 			sum += Math.pow(d[i] - dbar, 2.0);
 		}
 
-		return Math.sqrt(sum / (approximationSet.size() - 1));
+		return Math.sqrt(sum / (size - 1));
 	}
 }
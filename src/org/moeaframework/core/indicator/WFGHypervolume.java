@@ -0,0 +1,496 @@
+/* Copyright 2009-2020 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.indicator;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.TreeSet;
+
+/**
+ * Exact hypervolume calculation using the WFG algorithm.  The points are
+ * maximized, and the hypervolume is the volume of the union of the boxes
+ * spanning from the origin to each point.  Callers must therefore normalize
+ * and invert the objectives, as done by {@link Hypervolume}.
+ * <p>
+ * The hypervolume is computed by slicing along the last objective.  The points
+ * are sorted by the last objective, and the hypervolume is the sum of the
+ * exclusive hypervolume of each point, in the remaining objectives, relative
+ * to the points above it.  The exclusive hypervolume of a point is its own
+ * volume minus the hypervolume of the other points after limiting them to
+ * the bounding box of the point.  Limiting the points causes many to become
+ * dominated, and these are discarded before recursing.
+ * <p>
+ * The recursion stops at two or three objectives, which are computed in
+ * {@code O(n log n)} time by dedicated sweeps.  Two objectives are handled by
+ * sorting the points and summing the area of each step.  Three objectives are
+ * handled by sweeping the points in descending order of the third objective
+ * while maintaining the two-dimensional staircase of the points seen so far
+ * in a balanced tree, updating its area as each point is inserted (Beume et
+ * al., 2009).  The two-objective sweep also serves as the base case for the
+ * WFG recursion.
+ * <p>
+ * The points are stored in primitive arrays, and the working storage for each
+ * level of recursion is allocated once and reused.  Instances are not
+ * thread-safe; use the static {@link #calculate(double[][], int, int)} method
+ * or one instance per thread.
+ * <p>
+ * References:
+ * <ol>
+ *   <li>While, L., L. Bradstreet, and L. Barone (2012).  A Fast Way of
+ *       Calculating Exact Hypervolumes.  IEEE Transactions on Evolutionary
+ *       Computation, 16(1):86-95.
+ *   <li>Beume, N., C. M. Fonseca, M. Lopez-Ibanez, L. Paquete, and J. Vahrenhold
+ *       (2009).  On the Complexity of Computing the Hypervolume Indicator.
+ *       IEEE Transactions on Evolutionary Computation, 13(5):1075-1082.
+ * </ol>
+ */
+public class WFGHypervolume {
+
+	/**
+	 * The number of objectives.
+	 */
+	private final int numberOfObjectives;
+
+	/**
+	 * The working storage for each level of recursion.  Level {@code 0}
+	 * stores a copy of the points; each subsequent level stores the limited
+	 * points for computing an exclusive hypervolume.
+	 */
+	private final double[][][] levels;
+
+	/**
+	 * Comparators sorting points in ascending order by each objective.
+	 */
+	private final Comparator<double[]>[] ascending;
+
+	/**
+	 * Comparators sorting points in descending lexicographic order, starting
+	 * with each objective and proceeding towards the first objective.  Points
+	 * can only be weakly dominated by points appearing earlier in this order.
+	 */
+	private final Comparator<double[]>[] descending;
+
+	/**
+	 * Constructs a new WFG hypervolume calculator for the given number of
+	 * objectives.
+	 *
+	 * @param numberOfObjectives the number of objectives
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public WFGHypervolume(int numberOfObjectives) {
+		super();
+		this.numberOfObjectives = numberOfObjectives;
+
+		levels = new double[numberOfObjectives + 1][0][];
+		ascending = new Comparator[numberOfObjectives];
+		descending = new Comparator[numberOfObjectives];
+
+		for (int i = 0; i < numberOfObjectives; i++) {
+			final int objective = i;
+
+			ascending[i] = new Comparator<double[]>() {
+
+				@Override
+				public int compare(double[] point1, double[] point2) {
+					return Double.compare(point1[objective],
+							point2[objective]);
+				}
+
+			};
+
+			descending[i] = new Comparator<double[]>() {
+
+				@Override
+				public int compare(double[] point1, double[] point2) {
+					for (int j = objective; j >= 0; j--) {
+						int flag = Double.compare(point2[j], point1[j]);
+
+						if (flag != 0) {
+							return flag;
+						}
+					}
+
+					return 0;
+				}
+
+			};
+		}
+	}
+
+	/**
+	 * Returns the hypervolume of the first {@code numberOfPoints} points,
+	 * considering only the first {@code numberOfObjectives} objectives.
+	 *
+	 * @param points the points, which are not modified
+	 * @param numberOfPoints the number of points
+	 * @param numberOfObjectives the number of objectives
+	 * @return the hypervolume of the points
+	 */
+	public static double calculate(double[][] points, int numberOfPoints,
+			int numberOfObjectives) {
+		return new WFGHypervolume(numberOfObjectives).evaluate(points,
+				numberOfPoints);
+	}
+
+	/**
+	 * Returns the hypervolume of the first {@code numberOfPoints} points.
+	 *
+	 * @param points the points, which are not modified
+	 * @param numberOfPoints the number of points
+	 * @return the hypervolume of the points
+	 */
+	public double evaluate(double[][] points, int numberOfPoints) {
+		if ((numberOfPoints == 0) || (numberOfObjectives == 0)) {
+			return 0.0;
+		}
+
+		double[][] front = getLevel(0, numberOfPoints);
+
+		for (int i = 0; i < numberOfPoints; i++) {
+			System.arraycopy(points[i], 0, front[i], 0, numberOfObjectives);
+		}
+
+		return hv(0, numberOfPoints, numberOfObjectives);
+	}
+
+	/**
+	 * Returns the storage for the given level, growing the storage if it can
+	 * not hold the given number of points.
+	 *
+	 * @param level the level
+	 * @param size the number of points
+	 * @return the storage for the given level
+	 */
+	private double[][] getLevel(int level, int size) {
+		double[][] front = levels[level];
+
+		if (front.length < size) {
+			double[][] newFront = Arrays.copyOf(front,
+					Math.max(size, 2 * front.length));
+
+			for (int i = front.length; i < newFront.length; i++) {
+				newFront[i] = new double[numberOfObjectives];
+			}
+
+			levels[level] = newFront;
+			front = newFront;
+		}
+
+		return front;
+	}
+
+	/**
+	 * Returns the hypervolume of the points stored at the given level.  The
+	 * points are reordered.
+	 *
+	 * @param level the level storing the points
+	 * @param size the number of points
+	 * @param objectives the number of objectives considered
+	 * @return the hypervolume of the points
+	 */
+	private double hv(int level, int size, int objectives) {
+		double[][] front = levels[level];
+
+		if (size == 0) {
+			return 0.0;
+		} else if (size == 1) {
+			return inclhv(front[0], objectives);
+		} else if (objectives == 1) {
+			double max = front[0][0];
+
+			for (int i = 1; i < size; i++) {
+				max = Math.max(max, front[i][0]);
+			}
+
+			return max;
+		} else if (objectives == 2) {
+			return hv2(front, size);
+		} else if ((objectives == 3) && (level == 0)) {
+			// the limited sets in the recursion are small enough that the
+			// overhead of the tree outweighs its benefit
+			return hv3(front, size);
+		} else {
+			int last = objectives - 1;
+			double volume = 0.0;
+
+			Arrays.sort(front, 0, size, ascending[last]);
+
+			for (int i = 0; i < size; i++) {
+				volume += front[i][last] * exclhv(level, size, i, last);
+			}
+
+			return volume;
+		}
+	}
+
+	/**
+	 * Returns the hypervolume of the points with two objectives.  The points
+	 * are sorted in descending order of the first objective.
+	 *
+	 * @param front the points
+	 * @param size the number of points
+	 * @return the hypervolume of the points
+	 */
+	private double hv2(double[][] front, int size) {
+		Arrays.sort(front, 0, size, descending[0]);
+
+		double volume = 0.0;
+		double height = 0.0;
+
+		for (int i = 0; i < size; i++) {
+			if (front[i][1] > height) {
+				volume += front[i][0] * (front[i][1] - height);
+				height = front[i][1];
+			}
+		}
+
+		return volume;
+	}
+
+	/**
+	 * Returns the hypervolume of the points with three objectives.  The points
+	 * are sorted in descending order of the third objective.
+	 *
+	 * @param front the points
+	 * @param size the number of points
+	 * @return the hypervolume of the points
+	 */
+	private double hv3(double[][] front, int size) {
+		Arrays.sort(front, 0, size, descending[2]);
+
+		TreeSet<double[]> staircase = new TreeSet<double[]>(ascending[0]);
+		double volume = 0.0;
+		double area = 0.0;
+
+		for (int i = 0; i < size; i++) {
+			double nextHeight = (i + 1 < size) ? front[i + 1][2] : 0.0;
+
+			area += insert(staircase, front[i]);
+			volume += area * (front[i][2] - nextHeight);
+		}
+
+		return volume;
+	}
+
+	/**
+	 * Inserts the point into the two-dimensional staircase, removing any
+	 * points it dominates, and returns the increase in the area of the
+	 * staircase.  The staircase is sorted in ascending order of the first
+	 * objective, and hence descending order of the second objective.
+	 *
+	 * @param staircase the non-dominated points in the first two objectives
+	 * @param point the point to insert
+	 * @return the increase in the area of the staircase
+	 */
+	private static double insert(TreeSet<double[]> staircase, double[] point) {
+		double[] ceiling = staircase.ceiling(point);
+		double height = 0.0;
+
+		if (ceiling != null) {
+			if (ceiling[1] >= point[1]) {
+				// the point is dominated in the first two objectives
+				return 0.0;
+			}
+
+			if (ceiling[0] == point[0]) {
+				staircase.remove(ceiling);
+			}
+
+			height = ceiling[1];
+		}
+
+		// walk left, adding the uncovered area beneath the point and removing
+		// the points it dominates
+		double right = point[0];
+		double area = 0.0;
+		double[] lower = staircase.lower(point);
+
+		while ((lower != null) && (lower[1] <= point[1])) {
+			area += (right - lower[0]) * (point[1] - height);
+			right = lower[0];
+			height = lower[1];
+			staircase.remove(lower);
+			lower = staircase.lower(point);
+		}
+
+		double left = (lower == null) ? 0.0 : lower[0];
+		area += (right - left) * (point[1] - height);
+
+		staircase.add(point);
+		return area;
+	}
+
+	/**
+	 * Returns the volume of the box spanning from the origin to the point.
+	 *
+	 * @param point the point
+	 * @param objectives the number of objectives considered
+	 * @return the volume of the box spanning from the origin to the point
+	 */
+	private static double inclhv(double[] point, int objectives) {
+		double volume = 1.0;
+
+		for (int i = 0; i < objectives; i++) {
+			volume *= point[i];
+		}
+
+		return volume;
+	}
+
+	/**
+	 * Returns the hypervolume dominated by the point at the given index, but
+	 * not by any subsequent point.
+	 *
+	 * @param level the level storing the points
+	 * @param size the number of points
+	 * @param index the index of the point
+	 * @param objectives the number of objectives considered
+	 * @return the exclusive hypervolume of the point
+	 */
+	private double exclhv(int level, int size, int index, int objectives) {
+		double[] point = levels[level][index];
+		double volume = inclhv(point, objectives);
+
+		if (index + 1 < size) {
+			int limitedSize = limit(levels[level], index + 1, size, index,
+					objectives, level + 1);
+
+			if (limitedSize < 0) {
+				// the point is weakly dominated by a subsequent point
+				return 0.0;
+			}
+
+			volume -= hv(level + 1, limitedSize, objectives);
+		}
+
+		return volume;
+	}
+
+	/**
+	 * Returns the hypervolume dominated by the point at the given index, but
+	 * not by any other point.  The points are not modified.
+	 *
+	 * @param points the points
+	 * @param numberOfPoints the number of points
+	 * @param index the index of the point
+	 * @return the exclusive hypervolume of the point
+	 */
+	double contribution(double[][] points, int numberOfPoints, int index) {
+		double volume = inclhv(points[index], numberOfObjectives);
+
+		if (numberOfPoints > 1) {
+			int limitedSize = limit(points, 0, numberOfPoints, index,
+					numberOfObjectives, 1);
+
+			if (limitedSize < 0) {
+				// the point is weakly dominated by another point
+				return 0.0;
+			}
+
+			volume -= hv(1, limitedSize, numberOfObjectives);
+		}
+
+		return volume;
+	}
+
+	/**
+	 * Stores in the given level the non-dominated subset of the points,
+	 * starting at index {@code from} and excluding the point at the given
+	 * index, after limiting them to the bounding box of the point at the
+	 * given index.
+	 *
+	 * @param front the points
+	 * @param from the index of the first point to limit
+	 * @param size the number of points
+	 * @param index the index of the point
+	 * @param objectives the number of objectives considered
+	 * @param level the level storing the limited points
+	 * @return the number of limited points, or {@code -1} if any limited point
+	 *         equals the point at the given index
+	 */
+	private int limit(double[][] front, int from, int size, int index,
+			int objectives, int level) {
+		double[] point = front[index];
+		double[][] limited = getLevel(level, size - from);
+		int limitedSize = 0;
+
+		for (int i = from; i < size; i++) {
+			if (i == index) {
+				continue;
+			}
+
+			double[] other = front[i];
+			double[] result = limited[limitedSize++];
+			boolean same = true;
+
+			for (int j = 0; j < objectives; j++) {
+				if (other[j] < point[j]) {
+					result[j] = other[j];
+					same = false;
+				} else {
+					result[j] = point[j];
+				}
+			}
+
+			if (same) {
+				return -1;
+			}
+		}
+
+		// discard the limited points that are weakly dominated
+		Arrays.sort(limited, 0, limitedSize, descending[objectives - 1]);
+		int nondominatedSize = 0;
+
+		outer: for (int i = 0; i < limitedSize; i++) {
+			double[] candidate = limited[i];
+
+			for (int j = 0; j < nondominatedSize; j++) {
+				if (weaklyDominates(limited[j], candidate, objectives)) {
+					continue outer;
+				}
+			}
+
+			limited[i] = limited[nondominatedSize];
+			limited[nondominatedSize++] = candidate;
+		}
+
+		return nondominatedSize;
+	}
+
+	/**
+	 * Returns {@code true} if the first point is at least as large as the
+	 * second point in every objective; {@code false} otherwise.
+	 *
+	 * @param point1 the first point
+	 * @param point2 the second point
+	 * @param objectives the number of objectives considered
+	 * @return {@code true} if the first point weakly dominates the second
+	 *         point; {@code false} otherwise
+	 */
+	private static boolean weaklyDominates(double[] point1, double[] point2,
+			int objectives) {
+		for (int i = 0; i < objectives; i++) {
+			if (point1[i] < point2[i]) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+}
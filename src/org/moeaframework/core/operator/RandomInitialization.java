@@ -19,13 +19,19 @@ package org.moeaframework.core.operator;
 
 import org.moeaframework.core.Initialization;
 import org.moeaframework.core.Problem;
+import org.moeaframework.core.Settings;
 import org.moeaframework.core.Solution;
 import org.moeaframework.core.Variable;
+import org.moeaframework.core.variable.RealVectorSolution;
 
 /**
  * Initializes all built-in decision variables randomly. The
  * {@link #initialize(Variable)} method can be extended to provide support for
  * other types.
+ * <p>
+ * If enabled by {@link Settings#useRealVectorSolutions()}, solutions
+ * containing only real-valued decision variables are converted into a
+ * {@link RealVectorSolution}.
  */
 public class RandomInitialization implements Initialization {
 
@@ -57,6 +63,12 @@ public class RandomInitialization implements Initialization {
 
 		for (int i = 0; i < populationSize; i++) {
 			Solution solution = problem.newSolution();
+			
+			if (Settings.useRealVectorSolutions() &&
+					!(solution instanceof RealVectorSolution) &&
+					RealVectorSolution.isRealVector(solution)) {
+				solution = new RealVectorSolution(solution);
+			}
 
 			for (int j = 0; j < solution.getNumberOfVariables(); j++) {
 				solution.getVariable(j).randomize();
@@ -22,6 +22,7 @@ import org.moeaframework.core.Solution;
 import org.moeaframework.core.Variable;
 import org.moeaframework.core.Variation;
 import org.moeaframework.core.variable.RealVariable;
+import org.moeaframework.core.variable.RealVectorSolution;
 
 /**
  * Polynomial mutation (PM) operator.  PM attempts to simulate the offspring 
@@ -97,6 +98,20 @@ public class PM implements Variation {
 	@Override
 	public Solution[] evolve(Solution[] parents) {
 		Solution result = parents[0].copy();
+		
+		if (result instanceof RealVectorSolution) {
+			RealVectorSolution vector = (RealVectorSolution)result;
+			
+			for (int i = 0; i < vector.getNumberOfVariables(); i++) {
+				if (PRNG.nextDouble() <= probability) {
+					vector.setValue(i, evolve(vector.getValue(i),
+							vector.getLowerBound(i), vector.getUpperBound(i),
+							distributionIndex));
+				}
+			}
+			
+			return new Solution[] { result };
+		}
 
 		for (int i = 0; i < result.getNumberOfVariables(); i++) {
 			Variable variable = result.getVariable(i);
@@ -153,10 +168,23 @@ public class PM implements Variation {
 	 *        the polynomial mutation
 	 */
 	public static void evolve(RealVariable v, double distributionIndex) {
+		v.setValue(evolve(v.getValue(), v.getLowerBound(), v.getUpperBound(),
+				distributionIndex));
+	}
+	
+	/**
+	 * Returns the mutated value using polynomial mutation.
+	 * 
+	 * @param x the value to be mutated
+	 * @param lb the lower bound
+	 * @param ub the upper bound
+	 * @param distributionIndex the distribution index controlling the shape of
+	 *        the polynomial mutation
+	 * @return the mutated value
+	 */
+	private static double evolve(double x, double lb, double ub,
+			double distributionIndex) {
 		double u = PRNG.nextDouble();
-		double x = v.getValue();
-		double lb = v.getLowerBound();
-		double ub = v.getUpperBound();
 		double dx = ub - lb;
 		double delta;
 
@@ -180,7 +208,7 @@ public class PM implements Variation {
 			x = ub;
 		}
 
-		v.setValue(x);
+		return x;
 	}
 
 	@Override
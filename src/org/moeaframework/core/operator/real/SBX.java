@@ -23,6 +23,7 @@ import org.moeaframework.core.Solution;
 import org.moeaframework.core.Variable;
 import org.moeaframework.core.Variation;
 import org.moeaframework.core.variable.RealVariable;
+import org.moeaframework.core.variable.RealVectorSolution;
 
 /**
  * Simulated binary crossover (SBX) operator.  SBX attempts to simulate the 
@@ -153,7 +154,13 @@ public class SBX implements Variation {
 		Solution result1 = parents[0].copy();
 		Solution result2 = parents[1].copy();
 
-		if (PRNG.nextDouble() <= probability) {
+		if ((result1 instanceof RealVectorSolution) &&
+				(result2 instanceof RealVectorSolution)) {
+			if (PRNG.nextDouble() <= probability) {
+				evolve((RealVectorSolution)result1,
+						(RealVectorSolution)result2);
+			}
+		} else if (PRNG.nextDouble() <= probability) {
 			for (int i = 0; i < result1.getNumberOfVariables(); i++) {
 				Variable variable1 = result1.getVariable(i);
 				Variable variable2 = result2.getVariable(i);
@@ -175,6 +182,43 @@ public class SBX implements Variation {
 
 		return new Solution[] { result1, result2 };
 	}
+	
+	/**
+	 * Applies this SBX operator to each pair of decision variables stored in
+	 * the two solutions, reading and writing the values directly.  The random
+	 * numbers are drawn in the same order as
+	 * {@link #evolve(Solution[])}.
+	 * 
+	 * @param result1 the first solution
+	 * @param result2 the second solution
+	 */
+	private void evolve(RealVectorSolution result1,
+			RealVectorSolution result2) {
+		double[] offspring = new double[2];
+
+		for (int i = 0; i < result1.getNumberOfVariables(); i++) {
+			if (PRNG.nextBoolean()) {
+				double x1 = result1.getValue(i);
+				double x2 = result2.getValue(i);
+				double lb = result1.getLowerBound(i);
+				double ub = result1.getUpperBound(i);
+				boolean modified;
+				
+				if (symmetric) {
+					modified = evolve_symmetric(x1, x2, lb, ub,
+							distributionIndex, swap, offspring);
+				} else {
+					modified = evolve_asymmetric(x1, x2, lb, ub,
+							distributionIndex, swap, offspring);
+				}
+				
+				if (modified) {
+					result1.setValue(i, offspring[0]);
+					result2.setValue(i, offspring[1]);
+				}
+			}
+		}
+	}
 
 	/**
 	 * Evolves the specified variables using the SBX operator.
@@ -205,11 +249,34 @@ public class SBX implements Variation {
 	 */
 	public static void evolve_symmetric(RealVariable v1, RealVariable v2,
 			double distributionIndex, boolean swap) {
+		double[] offspring = new double[2];
+		
+		if (evolve_symmetric(v1.getValue(), v2.getValue(), v1.getLowerBound(),
+				v1.getUpperBound(), distributionIndex, swap, offspring)) {
+			v1.setValue(offspring[0]);
+			v2.setValue(offspring[1]);
+		}
+	}
+	
+	/**
+	 * Computes the offspring of two values using the SBX operator using
+	 * symmetric distributions.
+	 * 
+	 * @param x1 the first value
+	 * @param x2 the second value
+	 * @param lb the lower bound
+	 * @param ub the upper bound
+	 * @param distributionIndex the distribution index of this SBX operator
+	 * @param swap randomly swap the variable between the two parents
+	 * @param offspring array of length two storing the offspring values
+	 * @return {@code true} if the offspring values were computed;
+	 *         {@code false} if the two values are too close and remain
+	 *         unchanged
+	 */
+	private static boolean evolve_symmetric(double x1, double x2, double lb,
+			double ub, double distributionIndex, boolean swap,
+			double[] offspring) {
 		double y1, y2, betaq, beta, alpha, rand;
-		double x1 = v1.getValue();
-		double x2 = v2.getValue();
-		double lb = v1.getLowerBound();
-		double ub = v1.getUpperBound();
 
 		// avoid division by zero
 		if (Math.abs(x1 - x2) > Settings.EPS) {
@@ -267,9 +334,12 @@ public class SBX implements Variation {
 				x2 = temp;
 			}
 			
-			v1.setValue(x1);
-			v2.setValue(x2);
+			offspring[0] = x1;
+			offspring[1] = x2;
+			return true;
 		}
+		
+		return false;
 	}
 	
 	/**
@@ -283,11 +353,34 @@ public class SBX implements Variation {
 	 */
 	public static void evolve_asymmetric(RealVariable v1, RealVariable v2,
 			double distributionIndex, boolean swap) {
+		double[] offspring = new double[2];
+		
+		if (evolve_asymmetric(v1.getValue(), v2.getValue(), v1.getLowerBound(),
+				v1.getUpperBound(), distributionIndex, swap, offspring)) {
+			v1.setValue(offspring[0]);
+			v2.setValue(offspring[1]);
+		}
+	}
+	
+	/**
+	 * Computes the offspring of two values using the SBX operator using
+	 * asymmetric distributions.
+	 * 
+	 * @param x1 the first value
+	 * @param x2 the second value
+	 * @param lb the lower bound
+	 * @param ub the upper bound
+	 * @param distributionIndex the distribution index of this SBX operator
+	 * @param swap randomly swap the variable between the two parents
+	 * @param offspring array of length two storing the offspring values
+	 * @return {@code true} if the offspring values were computed;
+	 *         {@code false} if the two values are too close and remain
+	 *         unchanged
+	 */
+	private static boolean evolve_asymmetric(double x1, double x2, double lb,
+			double ub, double distributionIndex, boolean swap,
+			double[] offspring) {
 		double y1, y2, betaq, beta, alpha, rand;
-		double x1 = v1.getValue();
-		double x2 = v2.getValue();
-		double lb = v1.getLowerBound();
-		double ub = v1.getUpperBound();
 
 		// avoid division by zero
 		if (Math.abs(x1 - x2) > Settings.EPS) {
@@ -350,9 +443,12 @@ public class SBX implements Variation {
 				x2 = temp;
 			}
 			
-			v1.setValue(x1);
-			v2.setValue(x2);
+			offspring[0] = x1;
+			offspring[1] = x2;
+			return true;
 		}
+		
+		return false;
 	}
 
 }
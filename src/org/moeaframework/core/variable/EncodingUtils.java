@@ -532,6 +532,11 @@ public class EncodingUtils {
 	 */
 	public static double[] getReal(Solution solution, int startIndex,
 			int endIndex) {
+		if (solution instanceof RealVectorSolution) {
+			return ((RealVectorSolution)solution).getValues(startIndex,
+					endIndex);
+		}
+		
 		double[] result = new double[endIndex - startIndex];
 		
 		for (int i=startIndex; i<endIndex; i++) {
@@ -640,6 +645,12 @@ public class EncodingUtils {
 			throw new IllegalArgumentException(INVALID_LENGTH);
 		}
 		
+		if (solution instanceof RealVectorSolution) {
+			((RealVectorSolution)solution).setValues(startIndex, endIndex,
+					values);
+			return;
+		}
+		
 		for (int i=startIndex; i<endIndex; i++) {
 			setReal(solution.getVariable(i), values[i-startIndex]);
 		}
@@ -31,7 +31,7 @@ public class RealVariable implements Variable {
 
 	private static final long serialVersionUID = 3141851312155686224L;
 	
-	private static final String VALUE_OUT_OF_BOUNDS = 
+	static final String VALUE_OUT_OF_BOUNDS = 
 		"value out of bounds (value: {0}, min: {1}, max: {2})";
 
 	/**
@@ -127,20 +127,20 @@ public class RealVariable implements Variable {
 
 	@Override
 	public RealVariable copy() {
-		return new RealVariable(value, lowerBound, upperBound);
+		return new RealVariable(getValue(), getLowerBound(), getUpperBound());
 	}
 
 	@Override
 	public String toString() {
-		return Double.toString(value);
+		return Double.toString(getValue());
 	}
 	
 	@Override
 	public int hashCode() {
 		return new HashCodeBuilder()
-				.append(lowerBound)
-				.append(upperBound)
-				.append(value)
+				.append(getLowerBound())
+				.append(getUpperBound())
+				.append(getValue())
 				.toHashCode();
 	}
 
@@ -148,22 +148,22 @@ public class RealVariable implements Variable {
 	public boolean equals(Object obj) {
 		if (obj == this) {
 			return true;
-		} else if ((obj == null) || (obj.getClass() != getClass())) {
+		} else if (!(obj instanceof RealVariable)) {
 			return false;
 		} else {
 			RealVariable rhs = (RealVariable)obj;
 			
 			return new EqualsBuilder()
-					.append(lowerBound, rhs.lowerBound)
-					.append(upperBound, rhs.upperBound)
-					.append(value, rhs.value)
+					.append(getLowerBound(), rhs.getLowerBound())
+					.append(getUpperBound(), rhs.getUpperBound())
+					.append(getValue(), rhs.getValue())
 					.isEquals();
 		}
 	}
 
 	@Override
 	public void randomize() {
-		setValue(PRNG.nextDouble(lowerBound, upperBound));
+		setValue(PRNG.nextDouble(getLowerBound(), getUpperBound()));
 	}
 
 }
@@ -0,0 +1,369 @@
+/* Copyright 2009-2020 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.variable;
+
+import java.text.MessageFormat;
+import java.util.Arrays;
+
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.Variable;
+
+/**
+ * A solution whose decision variables are all real-valued, stored in a single
+ * contiguous {@code double[]} array.  The lower and upper bounds are shared
+ * between copies of the solution, so {@link #copy()} only needs to copy the
+ * array of values.
+ * <p>
+ * The decision variables are still available as {@link RealVariable}
+ * instances through {@link #getVariable(int)}.  These are views created on
+ * first access; changing the value of a view changes the value stored in this
+ * solution.  Operators such as {@link org.moeaframework.core.operator.real.SBX}
+ * and {@link org.moeaframework.core.operator.real.PM}, along with
+ * {@link EncodingUtils#getReal(Solution)} and
+ * {@link EncodingUtils#setReal(Solution, double[])}, read and write the values
+ * directly without creating the views.
+ * <p>
+ * Only {@code RealVariable} decision variables can be stored in this
+ * solution.
+ */
+public class RealVectorSolution extends Solution {
+
+	private static final long serialVersionUID = 5366374612367958253L;
+
+	/**
+	 * The values of the decision variables.
+	 */
+	private final double[] values;
+
+	/**
+	 * The lower bounds of the decision variables.  This array is shared by
+	 * copies of this solution, and must be cloned before being modified.
+	 */
+	private double[] lowerBounds;
+
+	/**
+	 * The upper bounds of the decision variables.  This array is shared by
+	 * copies of this solution, and must be cloned before being modified.
+	 */
+	private double[] upperBounds;
+
+	/**
+	 * The views of the decision variables, or {@code null} if no views have
+	 * been created.
+	 */
+	private RealVariable[] views;
+
+	/**
+	 * Constructs a solution with real-valued decision variables with the
+	 * specified bounds.  The values are initially {@code NaN}, similar to
+	 * {@link RealVariable#RealVariable(double, double)}.
+	 *
+	 * @param lowerBounds the lower bounds of the decision variables
+	 * @param upperBounds the upper bounds of the decision variables
+	 * @param numberOfObjectives the number of objectives defined by this
+	 *        solution
+	 * @param numberOfConstraints the number of constraints defined by this
+	 *        solution
+	 * @throws IllegalArgumentException if the lower and upper bounds have
+	 *         different lengths
+	 */
+	public RealVectorSolution(double[] lowerBounds, double[] upperBounds,
+			int numberOfObjectives, int numberOfConstraints) {
+		super(0, numberOfObjectives, numberOfConstraints);
+
+		if (lowerBounds.length != upperBounds.length) {
+			throw new IllegalArgumentException("invalid number of bounds");
+		}
+
+		this.values = new double[lowerBounds.length];
+		this.lowerBounds = lowerBounds.clone();
+		this.upperBounds = upperBounds.clone();
+
+		Arrays.fill(values, Double.NaN);
+	}
+
+	/**
+	 * Constructs a solution storing the decision variables, objectives and
+	 * constraints of the given solution.  Similar to {@link #copy()}, the
+	 * attributes are not copied.
+	 *
+	 * @param solution the solution whose decision variables, objectives, and
+	 *        constraints are copied
+	 * @throws IllegalArgumentException if any decision variable is not a
+	 *         {@link RealVariable}
+	 */
+	public RealVectorSolution(Solution solution) {
+		super(0, solution.getNumberOfObjectives(),
+				solution.getNumberOfConstraints());
+
+		int numberOfVariables = solution.getNumberOfVariables();
+
+		values = new double[numberOfVariables];
+		lowerBounds = new double[numberOfVariables];
+		upperBounds = new double[numberOfVariables];
+
+		for (int i = 0; i < numberOfVariables; i++) {
+			Variable variable = solution.getVariable(i);
+
+			if (!(variable instanceof RealVariable)) {
+				throw new IllegalArgumentException("not a real variable");
+			}
+
+			RealVariable realVariable = (RealVariable)variable;
+			values[i] = realVariable.getValue();
+			lowerBounds[i] = realVariable.getLowerBound();
+			upperBounds[i] = realVariable.getUpperBound();
+		}
+
+		setObjectives(solution.getObjectives());
+		setConstraints(solution.getConstraints());
+	}
+
+	/**
+	 * Copy constructor.
+	 *
+	 * @param solution the solution being copied
+	 */
+	protected RealVectorSolution(RealVectorSolution solution) {
+		super(0, solution.getNumberOfObjectives(),
+				solution.getNumberOfConstraints());
+
+		values = solution.values.clone();
+		lowerBounds = solution.lowerBounds;
+		upperBounds = solution.upperBounds;
+
+		setObjectives(solution.getObjectives());
+		setConstraints(solution.getConstraints());
+	}
+
+	/**
+	 * Returns {@code true} if all decision variables in the solution are
+	 * {@link RealVariable}s, and can therefore be stored in a
+	 * {@code RealVectorSolution}; {@code false} otherwise.
+	 *
+	 * @param solution the solution
+	 * @return {@code true} if all decision variables in the solution are
+	 *         {@code RealVariable}s; {@code false} otherwise
+	 */
+	public static boolean isRealVector(Solution solution) {
+		for (int i = 0; i < solution.getNumberOfVariables(); i++) {
+			if (!(solution.getVariable(i) instanceof RealVariable)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	@Override
+	public RealVectorSolution copy() {
+		return new RealVectorSolution(this);
+	}
+
+	@Override
+	public int getNumberOfVariables() {
+		return values.length;
+	}
+
+	/**
+	 * Returns a view of the decision variable at the specified index.  Changes
+	 * to the returned variable are stored in this solution.
+	 */
+	@Override
+	public RealVariable getVariable(int index) {
+		if (views == null) {
+			views = new RealVariable[values.length];
+		}
+
+		RealVariable view = views[index];
+
+		if (view == null) {
+			view = new RealVariableView(index);
+			views[index] = view;
+		}
+
+		return view;
+	}
+
+	/**
+	 * Sets the value and bounds of the decision variable at the specified
+	 * index to those of the given variable.  Unlike {@link Solution}, the
+	 * variable itself is not stored, so subsequent changes to the variable are
+	 * not reflected in this solution.
+	 *
+	 * @throws IllegalArgumentException if the variable is not a
+	 *         {@link RealVariable}
+	 */
+	@Override
+	public void setVariable(int index, Variable variable) {
+		if (!(variable instanceof RealVariable)) {
+			throw new IllegalArgumentException("not a real variable");
+		}
+
+		RealVariable realVariable = (RealVariable)variable;
+		double lowerBound = realVariable.getLowerBound();
+		double upperBound = realVariable.getUpperBound();
+
+		if ((lowerBounds[index] != lowerBound) ||
+				(upperBounds[index] != upperBound)) {
+			lowerBounds = lowerBounds.clone();
+			upperBounds = upperBounds.clone();
+			lowerBounds[index] = lowerBound;
+			upperBounds[index] = upperBound;
+		}
+
+		values[index] = realVariable.getValue();
+	}
+
+	/**
+	 * Returns the value of the decision variable at the specified index.
+	 *
+	 * @param index the index of the decision variable
+	 * @return the value of the decision variable at the specified index
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 *         {@code (index < 0) || (index >= getNumberOfVariables())}
+	 */
+	public double getValue(int index) {
+		return values[index];
+	}
+
+	/**
+	 * Sets the value of the decision variable at the specified index.
+	 *
+	 * @param index the index of the decision variable
+	 * @param value the new value
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 *         {@code (index < 0) || (index >= getNumberOfVariables())}
+	 * @throws IllegalArgumentException if the value is out of bounds
+	 *         {@code (value < getLowerBound(index)) ||
+	 *         (value > getUpperBound(index))}
+	 */
+	public void setValue(int index, double value) {
+		if ((value < lowerBounds[index]) || (value > upperBounds[index])) {
+			throw new IllegalArgumentException(MessageFormat.format(
+					RealVariable.VALUE_OUT_OF_BOUNDS, value,
+					lowerBounds[index], upperBounds[index]));
+		}
+
+		values[index] = value;
+	}
+
+	/**
+	 * Returns the values of the decision variables between the specified
+	 * indices.  Modifying the returned array will not modify the internal
+	 * state of this solution.
+	 *
+	 * @param startIndex the start index (inclusive)
+	 * @param endIndex the end index (exclusive)
+	 * @return the values of the decision variables between the specified
+	 *         indices
+	 */
+	public double[] getValues(int startIndex, int endIndex) {
+		if ((startIndex < 0) || (endIndex > values.length)) {
+			throw new IndexOutOfBoundsException();
+		}
+
+		return Arrays.copyOfRange(values, startIndex, endIndex);
+	}
+
+	/**
+	 * Sets the values of the decision variables between the specified indices.
+	 *
+	 * @param startIndex the start index (inclusive)
+	 * @param endIndex the end index (exclusive)
+	 * @param values the new values
+	 * @throws IllegalArgumentException if an invalid number of values are
+	 *         provided
+	 * @throws IllegalArgumentException if any of the values are out of bounds
+	 */
+	public void setValues(int startIndex, int endIndex, double[] values) {
+		if (values.length != (endIndex - startIndex)) {
+			throw new IllegalArgumentException("invalid number of values");
+		}
+
+		for (int i = startIndex; i < endIndex; i++) {
+			setValue(i, values[i - startIndex]);
+		}
+	}
+
+	/**
+	 * Returns the lower bound of the decision variable at the specified index.
+	 *
+	 * @param index the index of the decision variable
+	 * @return the lower bound of the decision variable at the specified index
+	 */
+	public double getLowerBound(int index) {
+		return lowerBounds[index];
+	}
+
+	/**
+	 * Returns the upper bound of the decision variable at the specified index.
+	 *
+	 * @param index the index of the decision variable
+	 * @return the upper bound of the decision variable at the specified index
+	 */
+	public double getUpperBound(int index) {
+		return upperBounds[index];
+	}
+
+	/**
+	 * A {@link RealVariable} that reads and writes its value and bounds from
+	 * this solution.
+	 */
+	private class RealVariableView extends RealVariable {
+
+		private static final long serialVersionUID = -7237468318286950733L;
+
+		/**
+		 * The index of the decision variable.
+		 */
+		private final int index;
+
+		/**
+		 * Constructs a view of the decision variable at the specified index.
+		 *
+		 * @param index the index of the decision variable
+		 */
+		public RealVariableView(int index) {
+			super(lowerBounds[index], upperBounds[index]);
+			this.index = index;
+		}
+
+		@Override
+		public double getValue() {
+			return values[index];
+		}
+
+		@Override
+		public void setValue(double value) {
+			RealVectorSolution.this.setValue(index, value);
+		}
+
+		@Override
+		public double getLowerBound() {
+			return lowerBounds[index];
+		}
+
+		@Override
+		public double getUpperBound() {
+			return upperBounds[index];
+		}
+
+	}
+
+}
@@ -28,7 +28,7 @@ import java.net.InetAddress;
 import java.net.Socket;
 import java.net.UnknownHostException;
 
-import org.moeaframework.core.Problem;
+import org.moeaframework.core.BatchProblem;
 import org.moeaframework.core.Settings;
 import org.moeaframework.core.Solution;
 import org.moeaframework.core.Variable;
@@ -85,16 +85,32 @@ import org.moeaframework.util.io.RedirectStream;
  * newline is either the line feed ('\n'), carriage return ('\r') or a carriage
  * return followed immediately by a line feed ("\r\n"). 
  * <p>
+ * When evaluating several solutions with {@link #evaluateAll(Solution[])},
+ * the variables of the next solutions are sent before the response to the
+ * previous solution is read, avoiding a round trip per solution.  Since the
+ * responses are still read in order, this requires no changes to the external
+ * process.  Subclasses overriding {@link #evaluate(Solution)}, for example to
+ * pre- or post-process solutions, instead have each solution passed to their
+ * {@code evaluate} method.
+ * <p>
  * <b>It is critical that the {@link #close()} method be invoked to ensure the
  * external process is shutdown cleanly.</b>
  */
-public abstract class ExternalProblem implements Problem {
+public abstract class ExternalProblem implements BatchProblem {
 	
 	/**
 	 * The default port used by the MOEA Framework to connect to remote
 	 * evaluation processes via sockets.
 	 */
 	public static final int DEFAULT_PORT = 16801;
+	
+	/**
+	 * The maximum number of solutions sent to the process whose responses
+	 * have not been read.  This bounds the unread output of the process well
+	 * below the capacity of a pipe, so the process never blocks writing a
+	 * response while this class is blocked sending variables.
+	 */
+	private static final int MAX_PENDING_RESPONSES = 64;
 
 	/**
 	 * Reader connected to the process' standard output.
@@ -245,9 +261,71 @@ public abstract class ExternalProblem implements Problem {
 	@Override
 	public synchronized void evaluate(Solution solution) 
 	throws ProblemException {
+		send(solution);
+		flush();
+		receive(solution);
+	}
+
+	/**
+	 * Evaluates the specified solutions using the process defined by this
+	 * class' constructor.  The variables of later solutions are sent before
+	 * reading the responses to earlier solutions.  If a subclass overrides
+	 * {@link #evaluate(Solution)}, each solution is instead evaluated by that
+	 * method.
+	 * 
+	 * @param solutions the solutions to evaluate
+	 */
+	@Override
+	public synchronized void evaluateAll(Solution[] solutions)
+	throws ProblemException {
+		if (isEvaluateOverridden()) {
+			for (Solution solution : solutions) {
+				evaluate(solution);
+			}
+			
+			return;
+		}
+		
+		int sent = 0;
+		
+		for (int received = 0; received < solutions.length; received++) {
+			while ((sent < solutions.length) &&
+					(sent - received < MAX_PENDING_RESPONSES)) {
+				send(solutions[sent++]);
+			}
+			
+			flush();
+			receive(solutions[received]);
+		}
+	}
+	
+	/**
+	 * Returns {@code true} if a subclass overrides {@link #evaluate(Solution)};
+	 * {@code false} otherwise.  Sending solutions in a pipeline would bypass
+	 * any processing performed by the overriding method.
+	 * 
+	 * @return {@code true} if a subclass overrides {@code evaluate};
+	 *         {@code false} otherwise
+	 */
+	private boolean isEvaluateOverridden() {
+		try {
+			return getClass().getMethod("evaluate", Solution.class)
+					.getDeclaringClass() != ExternalProblem.class;
+		} catch (NoSuchMethodException e) {
+			return true;
+		}
+	}
+	
+	/**
+	 * Writes the variables of the solution to the process without flushing
+	 * the stream.
+	 * 
+	 * @param solution the solution being evaluated
+	 * @throws ProblemException if an I/O error occurred
+	 */
+	private void send(Solution solution) throws ProblemException {
 		BufferedWriter debug = this.debug;
 		
-		// send variables to external process
 		try {
 			StringBuilder sb = new StringBuilder();
 			
@@ -267,12 +345,34 @@ public abstract class ExternalProblem implements Problem {
 			}
 			
 			writer.write(sb.toString());
+		} catch (IOException e) {
+			throw new ProblemException(this, "error sending variables to external process", e);
+		}
+	}
+	
+	/**
+	 * Flushes the variables written to the process.
+	 * 
+	 * @throws ProblemException if an I/O error occurred
+	 */
+	private void flush() throws ProblemException {
+		try {
 			writer.flush();
 		} catch (IOException e) {
 			throw new ProblemException(this, "error sending variables to external process", e);
 		}
-
-		// receive objectives from external process
+	}
+	
+	/**
+	 * Reads the objectives and constraints of the solution from the process.
+	 * 
+	 * @param solution the solution being evaluated
+	 * @throws ProblemException if an I/O error occurred or the response was
+	 *         invalid
+	 */
+	private void receive(Solution solution) throws ProblemException {
+		BufferedWriter debug = this.debug;
+		
 		try {
 			String line = reader.readLine();
 
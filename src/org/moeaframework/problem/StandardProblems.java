@@ -21,11 +21,10 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 
 import org.moeaframework.core.NondominatedPopulation;
-import org.moeaframework.core.PopulationIO;
 import org.moeaframework.core.Problem;
+import org.moeaframework.core.ReferenceSetCache;
 import org.moeaframework.core.spi.ProblemProvider;
 import org.moeaframework.problem.CEC2009.CF1;
 import org.moeaframework.problem.CEC2009.CF10;
@@ -110,7 +109,6 @@ import org.moeaframework.problem.misc.Viennet;
 import org.moeaframework.problem.misc.Viennet2;
 import org.moeaframework.problem.misc.Viennet3;
 import org.moeaframework.problem.misc.Viennet4;
-import org.moeaframework.util.io.CommentedLineReader;
 
 /**
  * Provides a standard set of test problems. The table below details the 
@@ -1027,8 +1025,7 @@ public class StandardProblems extends ProblemProvider {
 		File file = new File(resource);
 		
 		if (file.exists()) {
-			return new NondominatedPopulation(PopulationIO.readObjectives(
-					file));
+			return ReferenceSetCache.getReferenceSet(resource, file);
 		} else {
 			InputStream input = getClass().getResourceAsStream("/" + resource);
 			
@@ -1036,9 +1033,7 @@ public class StandardProblems extends ProblemProvider {
 				throw new FileNotFoundException(resource);
 			} else {
 				try {
-					return new NondominatedPopulation(
-							PopulationIO.readObjectives(new CommentedLineReader(
-									new InputStreamReader(input))));
+					return ReferenceSetCache.getReferenceSet(resource, input);
 				} finally {
 					input.close();
 				}
@@ -18,11 +18,21 @@
 package org.moeaframework.util.distributed;
 
 import java.io.Serializable;
+import java.util.Arrays;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+import org.moeaframework.core.BatchProblem;
 import org.moeaframework.core.Problem;
+import org.moeaframework.core.Settings;
 import org.moeaframework.core.Solution;
 import org.moeaframework.problem.ProblemException;
 
@@ -31,8 +41,15 @@ import org.moeaframework.problem.ProblemException;
  * cores or compute nodes using the provided {@link ExecutorService}. The
  * {@code ExecutorService} defines the type and method of distribution. The
  * problem must be {@link Serializable} if executing on remote nodes.
+ * <p>
+ * If the problem is a {@link BatchProblem}, the solutions passed to
+ * {@link #evaluateAll(Solution[])} are evaluated in batches, one job per
+ * batch.  If {@link Settings#getBatchSize()} is set, the solutions arrive
+ * already split into batches of that size and each is evaluated by a single
+ * job.  Otherwise, the solutions are split into one batch per worker thread
+ * of the executor, so all workers are kept busy.
  */
-public class DistributedProblem implements Problem {
+public class DistributedProblem implements BatchProblem {
 
 	/**
 	 * The {@code ExecutorService} for distributing jobs across multiple
@@ -110,6 +127,106 @@ public class DistributedProblem implements Problem {
 
 	}
 
+	/**
+	 * The {@link Callable} sent to the {@code ExecutorService} for evaluating
+	 * a batch of solutions.  As with {@link ProblemEvaluator}, the returned
+	 * solutions may be different instances than provided to the constructor.
+	 */
+	private static class BatchProblemEvaluator implements Callable<Solution[]>,
+			Serializable {
+
+		private static final long serialVersionUID = 2994432460591578563L;
+
+		/**
+		 * The problem.
+		 */
+		private final BatchProblem problem;
+
+		/**
+		 * The solutions being evaluated.
+		 */
+		private final Solution[] solutions;
+
+		/**
+		 * Constructs a distributed job to evaluate the specified solutions.
+		 * 
+		 * @param problem the problem
+		 * @param solutions the solutions to be evaluated
+		 */
+		public BatchProblemEvaluator(BatchProblem problem,
+				Solution[] solutions) {
+			super();
+			this.problem = problem;
+			this.solutions = solutions;
+		}
+
+		@Override
+		public Solution[] call() throws Exception {
+			problem.evaluateAll(solutions);
+			return solutions;
+		}
+
+	}
+
+	/**
+	 * The future of one solution in a batch, which completes when the batch
+	 * completes.
+	 */
+	private static class BatchFuture implements Future<Solution> {
+
+		/**
+		 * The future of the batch.
+		 */
+		private final Future<Solution[]> future;
+
+		/**
+		 * The index of the solution in the batch.
+		 */
+		private final int index;
+
+		/**
+		 * Constructs the future of the solution at the given index in the
+		 * batch.
+		 * 
+		 * @param future the future of the batch
+		 * @param index the index of the solution in the batch
+		 */
+		public BatchFuture(Future<Solution[]> future, int index) {
+			super();
+			this.future = future;
+			this.index = index;
+		}
+
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning) {
+			return future.cancel(mayInterruptIfRunning);
+		}
+
+		@Override
+		public boolean isCancelled() {
+			return future.isCancelled();
+		}
+
+		@Override
+		public boolean isDone() {
+			return future.isDone();
+		}
+
+		@Override
+		public Solution get() throws InterruptedException,
+				ExecutionException {
+			return future.get()[index];
+		}
+
+		@Override
+		public Solution get(long timeout, TimeUnit unit)
+				throws InterruptedException, ExecutionException,
+				TimeoutException {
+			return future.get(timeout, unit)[index];
+		}
+
+	}
+
 	@Override
 	public void evaluate(Solution solution) {
 		if (solution instanceof FutureSolution) {
@@ -123,6 +240,125 @@ public class DistributedProblem implements Problem {
 		}
 	}
 
+	/**
+	 * Starts evaluating the solution, similar to {@link #evaluate(Solution)},
+	 * and adds the returned future to the given queue once the evaluation
+	 * completes.  This allows the caller to wait for whichever evaluation
+	 * completes first rather than waiting on each solution in turn.
+	 * 
+	 * @param solution the solution to evaluate
+	 * @param completionQueue the queue receiving the future once the
+	 *        evaluation completes
+	 * @return the future tracking the evaluation of the solution
+	 * @throws ProblemException if the solution is not a {@link FutureSolution}
+	 *         created by this problem
+	 */
+	public Future<Solution> evaluate(Solution solution,
+			BlockingQueue<Future<Solution>> completionQueue) {
+		if (solution instanceof FutureSolution) {
+			FutureSolution futureSolution = (FutureSolution)solution;
+			futureSolution.setDistributedEvaluationID(nextDistributedEvaluationID());
+			Future<Solution> future = new ExecutorCompletionService<Solution>(
+					executor, completionQueue).submit(new ProblemEvaluator(
+							innerProblem, futureSolution));
+			futureSolution.setFuture(future);
+			return future;
+		} else {
+			throw new ProblemException(this, "requires FutureSolution");
+		}
+	}
+
+	/**
+	 * Starts evaluating the solutions.  If the problem is a
+	 * {@link BatchProblem}, the solutions are evaluated together by a single
+	 * job if the batch size is set, or otherwise split into one job per
+	 * worker thread.  If the problem is not a {@code BatchProblem}, each
+	 * solution is evaluated by its own job, as with
+	 * {@link #evaluate(Solution)}.
+	 * 
+	 * @param solutions the solutions to evaluate
+	 * @throws ProblemException if any solution is not a
+	 *         {@link FutureSolution} created by this problem
+	 */
+	@Override
+	public void evaluateAll(Solution[] solutions) {
+		if (innerProblem instanceof BatchProblem) {
+			FutureSolution[] futureSolutions =
+					new FutureSolution[solutions.length];
+			
+			for (int i = 0; i < solutions.length; i++) {
+				if (solutions[i] instanceof FutureSolution) {
+					futureSolutions[i] = (FutureSolution)solutions[i];
+				} else {
+					throw new ProblemException(this,
+							"requires FutureSolution");
+				}
+			}
+			
+			for (FutureSolution futureSolution : futureSolutions) {
+				futureSolution.setDistributedEvaluationID(
+						nextDistributedEvaluationID());
+			}
+			
+			int numberOfBatches = 1;
+			
+			if (Settings.getBatchSize() <= 0) {
+				numberOfBatches = Math.max(1, Math.min(getNumberOfWorkers(),
+						futureSolutions.length));
+			}
+			
+			for (int i = 0; i < numberOfBatches; i++) {
+				submitBatch(Arrays.copyOfRange(futureSolutions,
+						(int)((long)i * futureSolutions.length / numberOfBatches),
+						(int)((long)(i + 1) * futureSolutions.length /
+								numberOfBatches)));
+			}
+		} else {
+			for (Solution solution : solutions) {
+				evaluate(solution);
+			}
+		}
+	}
+	
+	/**
+	 * Submits a single job evaluating the given solutions with the
+	 * {@link BatchProblem}.
+	 * 
+	 * @param futureSolutions the solutions to evaluate
+	 */
+	private void submitBatch(FutureSolution[] futureSolutions) {
+		Future<Solution[]> future = executor.submit(
+				new BatchProblemEvaluator((BatchProblem)innerProblem,
+						futureSolutions));
+		
+		for (int i = 0; i < futureSolutions.length; i++) {
+			futureSolutions[i].setFuture(new BatchFuture(future, i));
+		}
+	}
+	
+	/**
+	 * Returns the number of worker threads of the executor.  Executors other
+	 * than thread pools and fork-join pools, as well as unbounded thread
+	 * pools, are assumed to have one worker per available processor.
+	 * 
+	 * @return the number of worker threads of the executor
+	 */
+	private int getNumberOfWorkers() {
+		int workers = Integer.MAX_VALUE;
+		
+		if (executor instanceof ThreadPoolExecutor) {
+			workers = ((ThreadPoolExecutor)executor).getMaximumPoolSize();
+		} else if (executor instanceof ForkJoinPool) {
+			workers = ((ForkJoinPool)executor).getParallelism();
+		}
+		
+		if (workers == Integer.MAX_VALUE) {
+			workers = Runtime.getRuntime().availableProcessors();
+		}
+		
+		return workers;
+	}
+
 	synchronized long nextDistributedEvaluationID() {
 		return nextDistributedEvaluationID++;
 	}
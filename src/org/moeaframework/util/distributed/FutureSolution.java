@@ -156,6 +156,18 @@ public class FutureSolution extends Solution {
 		return super.getAttribute(key);
 	}
 	
+	@Override
+	public int getIntAttribute(String key) {
+		update();
+		return super.getIntAttribute(key);
+	}
+
+	@Override
+	public double getDoubleAttribute(String key) {
+		update();
+		return super.getDoubleAttribute(key);
+	}
+
 	@Override
 	public boolean hasAttribute(String key) {
 		update();
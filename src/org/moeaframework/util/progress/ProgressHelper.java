@@ -17,6 +17,9 @@
  */
 package org.moeaframework.util.progress;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.apache.commons.lang3.event.EventListenerSupport;
 import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
 import org.moeaframework.Executor;
@@ -28,6 +31,12 @@ import org.moeaframework.core.Algorithm;
  * percent complete, elapsed time, and remaining time.  Be sure to first call
  * {@link #start(int, int)} to set the total number of seeds and NFE prior to
  * invoking any other method.
+ * <p>
+ * When seeds run concurrently, each seed reports its progress with
+ * {@link #setCurrentNFE(int, int)} and {@link #finishSeed(int)}.  The reported
+ * NFE is then the total across all seeds currently running, and the current
+ * seed is one more than the number of finished seeds.  This class is thread
+ * safe, and listeners are notified by one thread at a time.
  */
 public class ProgressHelper {
 	
@@ -101,6 +110,12 @@ public class ProgressHelper {
 	 */
 	private int lastNFE;
 	
+	/**
+	 * The current number of objective function evaluations of each seed
+	 * currently running, indexed by the seed.
+	 */
+	private final Map<Integer, Integer> runningNFE;
+	
 	/**
 	 * Constructs a new progress helper for generating progress reports for
 	 * the given executor.
@@ -113,6 +128,7 @@ public class ProgressHelper {
 		
 		statistics = new DescriptiveStatistics(25);
 		listeners = EventListenerSupport.create(ProgressListener.class);
+		runningNFE = new HashMap<Integer, Integer>();
 	}
 	
 	/**
@@ -218,13 +234,61 @@ public class ProgressHelper {
 	 * 
 	 * @param currentNFE the current number of objective function evaluations
 	 */
-	public void setCurrentNFE(int currentNFE) {
+	public synchronized void setCurrentNFE(int currentNFE) {
 		this.currentNFE = currentNFE;
 		
 		updateStatistics();
 		sendProgressEvent(false);
 	}
 	
+	/**
+	 * Sets the current number of objective function evaluations of the given
+	 * seed, which may be one of several seeds running concurrently.  This
+	 * method will generate a progress report.
+	 * 
+	 * @param seed the seed, starting at {@code 1}
+	 * @param currentNFE the current number of objective function evaluations
+	 *        of the seed
+	 */
+	public synchronized void setCurrentNFE(int seed, int currentNFE) {
+		runningNFE.put(seed, currentNFE);
+		setCurrentNFE(getRunningNFE());
+	}
+	
+	/**
+	 * Notifies listeners that the given seed, which may be one of several
+	 * seeds running concurrently, completed.  The current seed is incremented
+	 * and the evaluations of the finished seed no longer count towards the
+	 * current NFE.  This method will generate a progress report.
+	 * 
+	 * @param seed the seed, starting at {@code 1}
+	 */
+	public synchronized void finishSeed(int seed) {
+		runningNFE.remove(seed);
+		currentSeed++;
+		currentNFE = getRunningNFE();
+		
+		updateStatistics();
+		sendProgressEvent(true);
+	}
+	
+	/**
+	 * Returns the total number of objective function evaluations of all
+	 * seeds currently running.
+	 * 
+	 * @return the total number of objective function evaluations of all
+	 *         seeds currently running
+	 */
+	private int getRunningNFE() {
+		int result = 0;
+		
+		for (int nfe : runningNFE.values()) {
+			result += nfe;
+		}
+		
+		return result;
+	}
+	
 	/**
 	 * Sets the current seed.  This call will have no affect if the current
 	 * seed is unchanged.  This method will generate a progress report if the
@@ -236,7 +300,7 @@ public class ProgressHelper {
 	 * @param currentSeed the current seed being processed, starting at
 	 *        {@code 1}
 	 */
-	public void setCurrentSeed(int currentSeed) {
+	public synchronized void setCurrentSeed(int currentSeed) {
 		if (this.currentSeed != currentSeed) {
 			this.currentSeed = currentSeed;
 	
@@ -251,7 +315,7 @@ public class ProgressHelper {
 	 * 
 	 * @param algorithm - the algorithm that is going to be running
 	 */
-	public void setCurrentAlgorithm(Algorithm algorithm) {
+	public synchronized void setCurrentAlgorithm(Algorithm algorithm) {
 		this.currentAlgorithm = algorithm;
 		
 	}
@@ -262,7 +326,7 @@ public class ProgressHelper {
 	 * generate a progress report.  This method should be invoked after every
 	 * seed completes in order to notify listeners that the seed completed.
 	 */
-	public void nextSeed() {
+	public synchronized void nextSeed() {
 		currentSeed++;
 		currentNFE = 0;
 		
@@ -281,7 +345,7 @@ public class ProgressHelper {
 	 *        seed
 	 * @param maxTime the maximum time
 	 */
-	public void start(int totalSeeds, int maxNFE, long maxTime) {
+	public synchronized void start(int totalSeeds, int maxNFE, long maxTime) {
 		this.totalSeeds = totalSeeds;
 		this.maxNFE = maxNFE;
 		this.maxTime = maxTime;
@@ -291,6 +355,7 @@ public class ProgressHelper {
 		lastNFE = 0;
 		currentSeed = 1;
 		currentNFE = 0;
+		runningNFE.clear();
 		statistics.clear();
 		startTime = System.currentTimeMillis();
 		lastTime = startTime;
@@ -18,12 +18,20 @@
 package org.moeaframework;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.PRNG;
 import org.moeaframework.core.spi.AlgorithmFactoryTestWrapper;
 import org.moeaframework.core.spi.ProblemFactoryTestWrapper;
+import org.moeaframework.util.progress.ProgressEvent;
+import org.moeaframework.util.progress.ProgressListener;
 
 /**
  * Tests the {@link Executor} class.
@@ -125,6 +133,88 @@ public class ExecutorTest {
 		Assert.assertEquals(0.0, listener.getLastEvent().getRemainingTime(), 0.0);
 	}
 
+	@Test
+	public void testSeedParallelism() {
+		PRNG.setSeed(1337);
+		List<NondominatedPopulation> expected = new Executor()
+				.withProblem("DTLZ2_2")
+				.withAlgorithm("NSGAII")
+				.withMaxEvaluations(1000)
+				.runSeeds(5);
+		
+		PRNG.setSeed(1337);
+		List<NondominatedPopulation> actual = new Executor()
+				.withProblem("DTLZ2_2")
+				.withAlgorithm("NSGAII")
+				.withMaxEvaluations(1000)
+				.withSeedParallelism(3)
+				.runSeeds(5);
+		
+		Assert.assertEquals(5, actual.size());
+		
+		for (int i = 0; i < 5; i++) {
+			TestUtils.assertEquals(expected.get(i), actual.get(i));
+		}
+		
+		// seeds use different random streams
+		Assert.assertFalse(TestUtils.equals(actual.get(0), actual.get(1)));
+	}
+	
+	@Test
+	public void testRunSeedsInParallel() throws IOException {
+		Assert.assertEquals(10, new Executor()
+				.usingAlgorithmFactory(algorithmFactory)
+				.usingProblemFactory(problemFactory)
+				.withProblem("DTLZ2_2")
+				.withAlgorithm("NSGAII")
+				.withProperty("populationSize", 100)
+				.withProperty("maxEvaluations", 1000)
+				.withSeedParallelism(4)
+				.runSeeds(10).size());
+		
+		Assert.assertEquals(10, algorithmFactory.getTerminateCount());
+		Assert.assertEquals(10, problemFactory.getCloseCount());
+	}
+	
+	@Test
+	public void testProgressListenerSeedParallelism() {
+		final AtomicInteger seedCount = new AtomicInteger();
+		final AtomicInteger maxNFE = new AtomicInteger();
+		final AtomicReference<ProgressEvent> lastEvent =
+				new AtomicReference<ProgressEvent>();
+		
+		new Executor()
+			.withProblem("DTLZ2_2")
+			.withAlgorithm("NSGAII")
+			.withProgressListener(new ProgressListener() {
+
+				@Override
+				public void progressUpdate(ProgressEvent event) {
+					if (event.isSeedFinished()) {
+						seedCount.incrementAndGet();
+					}
+					
+					maxNFE.set(Math.max(maxNFE.get(), event.getCurrentNFE()));
+					lastEvent.set(event);
+				}
+				
+			})
+			.withMaxEvaluations(1000)
+			.withSeedParallelism(5)
+			.runSeeds(5);
+		
+		Assert.assertEquals(5, seedCount.get());
+		Assert.assertTrue(maxNFE.get() <= 5000);
+		Assert.assertEquals(0, lastEvent.get().getCurrentNFE());
+		Assert.assertEquals(6, lastEvent.get().getCurrentSeed());
+		Assert.assertEquals(1.0, lastEvent.get().getPercentComplete(), 0.0);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidSeedParallelism() {
+		new Executor().withSeedParallelism(0);
+	}
+
 	@Test(expected = IllegalArgumentException.class)
 	public void testNoProblem() {
 		new Executor().withAlgorithm("NSGAII").run();
@@ -19,13 +19,17 @@ package org.moeaframework.algorithm;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.Assert;
 import org.junit.Test;
 import org.moeaframework.TestUtils;
+import org.moeaframework.core.BatchProblem;
 import org.moeaframework.core.NondominatedPopulation;
 import org.moeaframework.core.Problem;
+import org.moeaframework.core.Settings;
 import org.moeaframework.core.Solution;
 
 /**
@@ -75,6 +79,29 @@ public class AbstractAlgorithmTest {
 
 	}
 
+	/**
+	 * Test problem recording the size of each batch.
+	 */
+	private static class TestBatchProblem extends TestProblem implements
+	BatchProblem {
+
+		/**
+		 * The size of each batch.
+		 */
+		private final List<Integer> batchSizes = new ArrayList<Integer>();
+
+		@Override
+		public void evaluate(Solution solution) {
+			Assert.fail("solutions should be evaluated in batches");
+		}
+
+		@Override
+		public void evaluateAll(Solution[] solutions) {
+			batchSizes.add(solutions.length);
+		}
+
+	}
+
 	/**
 	 * Test {@code AbstractAlgorithm} that counts the number of times the
 	 * {@code iterate} method is invoked.
@@ -90,7 +117,16 @@ public class AbstractAlgorithmTest {
 		 * Constructs a test {@code AbstractAlgorithm}.
 		 */
 		public TestAbstractAlgorithm() {
-			super(new TestProblem());
+			this(new TestProblem());
+		}
+
+		/**
+		 * Constructs a test {@code AbstractAlgorithm} for the given problem.
+		 * 
+		 * @param problem the problem
+		 */
+		public TestAbstractAlgorithm(Problem problem) {
+			super(problem);
 		}
 
 		@Override
@@ -265,6 +301,34 @@ public class AbstractAlgorithmTest {
 		Assert.assertEquals(202, algorithm.getNumberOfEvaluations());
 	}
 
+	/**
+	 * Tests if the {@code evaluateAll} method passes the solutions to a
+	 * {@link BatchProblem} in batches and counts each solution as one
+	 * evaluation.
+	 */
+	@Test
+	public void testBatchProblem() {
+		TestBatchProblem problem = new TestBatchProblem();
+		AbstractAlgorithm algorithm = new TestAbstractAlgorithm(problem);
+		Solution[] solutions = new Solution[100];
+
+		algorithm.evaluateAll(solutions);
+		Assert.assertEquals(Arrays.asList(100), problem.batchSizes);
+		Assert.assertEquals(100, algorithm.getNumberOfEvaluations());
+
+		try {
+			Settings.PROPERTIES.setInt(Settings.KEY_BATCH_SIZE, 30);
+			problem.batchSizes.clear();
+
+			algorithm.evaluateAll(Arrays.asList(solutions));
+			Assert.assertEquals(Arrays.asList(30, 30, 30, 10),
+					problem.batchSizes);
+			Assert.assertEquals(200, algorithm.getNumberOfEvaluations());
+		} finally {
+			Settings.PROPERTIES.remove(Settings.KEY_BATCH_SIZE);
+		}
+	}
+
 	/**
 	 * While this is technically an error as the {@code AbstractAlgorithm} is
 	 * not serializable, the current contract of {@link Checkpoints} requires
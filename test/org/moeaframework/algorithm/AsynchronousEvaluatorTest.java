@@ -0,0 +1,307 @@
+/* Copyright 2009-2020 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm;
+
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.TestUtils;
+import org.moeaframework.core.Algorithm;
+import org.moeaframework.core.FrameworkException;
+import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Problem;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.spi.AlgorithmFactory;
+import org.moeaframework.core.variable.EncodingUtils;
+import org.moeaframework.problem.DTLZ.DTLZ2;
+import org.moeaframework.problem.MockRealProblem;
+import org.moeaframework.util.distributed.DistributedProblem;
+
+/**
+ * Tests the {@link AsynchronousEvaluator} class.
+ */
+public class AsynchronousEvaluatorTest {
+
+	/**
+	 * Test algorithm providing the problem and evaluation count.
+	 */
+	private static class TestAlgorithm extends AbstractAlgorithm {
+
+		public TestAlgorithm(Problem problem) {
+			super(problem);
+		}
+
+		@Override
+		public NondominatedPopulation getResult() {
+			return null;
+		}
+
+		@Override
+		protected void iterate() {
+			// do nothing
+		}
+
+	}
+
+	/**
+	 * The DTLZ2 problem with evaluation times varying randomly, so
+	 * evaluations complete out of order.
+	 */
+	private static class DelayedProblem extends DTLZ2 {
+
+		public DelayedProblem() {
+			super(2);
+		}
+
+		@Override
+		public void evaluate(Solution solution) {
+			try {
+				// avoid PRNG, which is reserved for the algorithm
+				Thread.sleep((long)(2 * Math.random()));
+			} catch (InterruptedException e) {
+				// do nothing
+			}
+
+			super.evaluate(solution);
+		}
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidMaxPendingEvaluations() {
+		new AsynchronousEvaluator<Void>(new TestAlgorithm(
+				new MockRealProblem()), 0);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testNoPendingEvaluations() {
+		new AsynchronousEvaluator<Void>(new TestAlgorithm(
+				new MockRealProblem()), 1).next();
+	}
+
+	@Test
+	public void testSynchronousProblem() {
+		Problem problem = new MockRealProblem();
+		AbstractAlgorithm algorithm = new TestAlgorithm(problem);
+		AsynchronousEvaluator<Integer> evaluator =
+				new AsynchronousEvaluator<Integer>(algorithm, 2);
+
+		for (int i = 0; i < 3; i++) {
+			Solution solution = problem.newSolution();
+			evaluator.submit(solution, i);
+			Assert.assertEquals(5.0, solution.getObjective(0), 0.0);
+		}
+
+		Assert.assertTrue(evaluator.isFull());
+		Assert.assertEquals(3, evaluator.getNumberOfPendingEvaluations());
+		Assert.assertEquals(3, algorithm.getNumberOfEvaluations());
+
+		for (int i = 0; i < 3; i++) {
+			AsynchronousEvaluator.Offspring<Integer> offspring =
+					evaluator.next();
+			Assert.assertEquals(i, offspring.getIndex());
+			Assert.assertEquals(i, offspring.getContext().intValue());
+		}
+
+		Assert.assertEquals(0, evaluator.getNumberOfPendingEvaluations());
+		Assert.assertArrayEquals(new int[] { 0, 1, 2 },
+				evaluator.getIntegrationOrder());
+	}
+
+	@Test
+	public void testCompletionOrder() throws InterruptedException {
+		final CountDownLatch latch = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		try {
+			Problem problem = new DistributedProblem(new MockRealProblem() {
+
+				@Override
+				public void evaluate(Solution solution) {
+					// the first offspring finishes after the second
+					if (EncodingUtils.getReal(solution.getVariable(0)) == 0.0) {
+						try {
+							latch.await();
+						} catch (InterruptedException e) {
+							// do nothing
+						}
+					}
+
+					super.evaluate(solution);
+				}
+
+			}, executor);
+
+			AbstractAlgorithm algorithm = new TestAlgorithm(problem);
+			AsynchronousEvaluator<Void> evaluator =
+					new AsynchronousEvaluator<Void>(algorithm, 2);
+
+			Solution solution1 = problem.newSolution();
+			EncodingUtils.setReal(solution1.getVariable(0), 0.0);
+			evaluator.submit(solution1, null);
+			Assert.assertFalse(evaluator.isFull());
+
+			Solution solution2 = problem.newSolution();
+			EncodingUtils.setReal(solution2.getVariable(0), 0.5);
+			evaluator.submit(solution2, null);
+			Assert.assertTrue(evaluator.isFull());
+			Assert.assertEquals(2, algorithm.getNumberOfEvaluations());
+
+			Assert.assertSame(solution2, evaluator.next().getSolution());
+			latch.countDown();
+			Assert.assertSame(solution1, evaluator.next().getSolution());
+			Assert.assertEquals(5.0, solution1.getObjective(0), 0.0);
+			Assert.assertArrayEquals(new int[] { 1, 0 },
+					evaluator.getIntegrationOrder());
+		} finally {
+			latch.countDown();
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testReplayOrder() {
+		Problem problem = new MockRealProblem();
+		AsynchronousEvaluator<Void> evaluator = new AsynchronousEvaluator<Void>(
+				new TestAlgorithm(problem), 4);
+		evaluator.setReplayOrder(new int[] { 2, 0 });
+
+		for (int i = 0; i < 4; i++) {
+			evaluator.submit(problem.newSolution(), null);
+		}
+
+		Assert.assertEquals(2, evaluator.next().getIndex());
+		Assert.assertEquals(0, evaluator.next().getIndex());
+
+		// falls back to the order of submission once exhausted
+		Assert.assertEquals(1, evaluator.next().getIndex());
+		Assert.assertEquals(3, evaluator.next().getIndex());
+	}
+
+	@Test(expected = FrameworkException.class)
+	public void testReplayOrderMismatch() {
+		Problem problem = new MockRealProblem();
+		AsynchronousEvaluator<Void> evaluator = new AsynchronousEvaluator<Void>(
+				new TestAlgorithm(problem), 4);
+		evaluator.setReplayOrder(new int[] { 1 });
+		evaluator.submit(problem.newSolution(), null);
+		evaluator.next();
+	}
+
+	@Test(expected = AlgorithmInitializationException.class)
+	public void testSetAfterInitialization() {
+		SMSEMOA algorithm = (SMSEMOA)newAlgorithm("SMS-EMOA", new DTLZ2(2));
+		algorithm.step();
+		algorithm.setMaxPendingEvaluations(4);
+	}
+
+	@Test
+	public void testEpsilonMOEA() {
+		testReplay("eMOEA");
+	}
+
+	@Test
+	public void testMOEAD() {
+		testReplay("MOEAD");
+	}
+
+	@Test
+	public void testSMSEMOA() {
+		testReplay("SMS-EMOA");
+	}
+
+	/**
+	 * Runs the algorithm with distributed evaluations completing out of order,
+	 * then replays the recorded integration order with serial evaluations and
+	 * checks that both runs produce the same result.
+	 * 
+	 * @param name the name of the algorithm
+	 */
+	private void testReplay(String name) {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		try {
+			PRNG.setSeed(1234);
+			Algorithm algorithm = newAlgorithm(name, new DistributedProblem(
+					new DelayedProblem(), executor));
+
+			while (algorithm.getNumberOfEvaluations() < 500) {
+				algorithm.step();
+			}
+
+			AsynchronousEvaluator<?> evaluator = getEvaluator(algorithm);
+			Assert.assertTrue(evaluator.getNumberOfPendingEvaluations() > 0);
+
+			PRNG.setSeed(1234);
+			Algorithm replay = newAlgorithm(name, new DTLZ2(2));
+			getEvaluator(replay).setReplayOrder(
+					evaluator.getIntegrationOrder());
+
+			while (replay.getNumberOfEvaluations() < 500) {
+				replay.step();
+			}
+
+			Assert.assertEquals(algorithm.getNumberOfEvaluations(),
+					replay.getNumberOfEvaluations());
+			Assert.assertArrayEquals(evaluator.getIntegrationOrder(),
+					getEvaluator(replay).getIntegrationOrder());
+			TestUtils.assertEquals(algorithm.getResult(), replay.getResult());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Returns a new instance of the algorithm keeping four offspring in
+	 * flight.
+	 * 
+	 * @param name the name of the algorithm
+	 * @param problem the problem
+	 * @return a new instance of the algorithm
+	 */
+	private Algorithm newAlgorithm(String name, Problem problem) {
+		Properties properties = new Properties();
+		properties.setProperty("populationSize", "20");
+		properties.setProperty("maxPendingEvaluations", "4");
+
+		return AlgorithmFactory.getInstance().getAlgorithm(name, properties,
+				problem);
+	}
+
+	/**
+	 * Returns the asynchronous evaluator of the algorithm.
+	 * 
+	 * @param algorithm the algorithm
+	 * @return the asynchronous evaluator of the algorithm
+	 */
+	private AsynchronousEvaluator<?> getEvaluator(Algorithm algorithm) {
+		if (algorithm instanceof EpsilonMOEA) {
+			return ((EpsilonMOEA)algorithm).getAsynchronousEvaluator();
+		} else if (algorithm instanceof MOEAD) {
+			return ((MOEAD)algorithm).getAsynchronousEvaluator();
+		} else {
+			return ((SMSEMOA)algorithm).getAsynchronousEvaluator();
+		}
+	}
+
+}
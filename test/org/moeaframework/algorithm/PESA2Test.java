@@ -102,6 +102,31 @@ public class PESA2Test extends AlgorithmTest {
 		Assert.assertEquals(0.125, count.get(solution3) / (2.0*TestThresholds.SAMPLES), TestThresholds.STATISTICS_EPS);
 	}
 	
+	@Test
+	public void testLargeGrid() {
+		Solution solution1 = TestUtils.newSolution(0.0, 1.0, 0.5);
+		Solution solution2 = TestUtils.newSolution(1.0, 0.0, 0.5);
+		Solution solution3 = TestUtils.newSolution(0.5, 0.5, 0.0);
+		
+		// 2^30 divisions along 3 objectives can not be indexed by an int
+		Problem problem = new MockRealProblem(3);
+		PESA2 pesa2 = new PESA2(problem, null, null, 30, 100);
+		pesa2.getArchive().add(solution1);
+		pesa2.getArchive().add(solution2);
+		pesa2.getArchive().add(solution3);
+		
+		Assert.assertFalse(pesa2.getArchive().isIndexable());
+		
+		pesa2.gridMap = pesa2.createGridMap();
+		Assert.assertEquals(3, pesa2.gridMap.size());
+		
+		for (int i = 0; i < 10; i++) {
+			for (Solution solution : pesa2.selection.select(2, null)) {
+				Assert.assertTrue(pesa2.getArchive().contains(solution));
+			}
+		}
+	}
+	
 	@Test
 	public void testDTLZ1() throws IOException {
 		test("DTLZ1_2", "PESA2", "PESA2-JMetal", true);
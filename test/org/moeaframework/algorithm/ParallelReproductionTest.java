@@ -0,0 +1,313 @@
+/* Copyright 2009-2020 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.algorithm;
+
+import java.util.Properties;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.algorithm.ParallelReproduction.ParentSelector;
+import org.moeaframework.core.Algorithm;
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Population;
+import org.moeaframework.core.Problem;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.Variation;
+import org.moeaframework.core.operator.GAVariation;
+import org.moeaframework.core.operator.real.PM;
+import org.moeaframework.core.operator.real.SBX;
+import org.moeaframework.core.spi.AlgorithmFactory;
+import org.moeaframework.core.variable.EncodingUtils;
+import org.moeaframework.problem.DTLZ.DTLZ2;
+
+/**
+ * Tests the {@link ParallelReproduction} class.
+ */
+public class ParallelReproductionTest {
+
+	/**
+	 * Variation operator sleeping for a random time before evolving the
+	 * parents, so slots complete out of order.
+	 */
+	private static class DelayedVariation implements Variation {
+
+		private final Variation variation;
+
+		public DelayedVariation(Variation variation) {
+			super();
+			this.variation = variation;
+		}
+
+		@Override
+		public int getArity() {
+			return variation.getArity();
+		}
+
+		@Override
+		public Solution[] evolve(Solution[] parents) {
+			try {
+				// avoid PRNG, which is reserved for the variation operator
+				Thread.sleep((long)(2 * Math.random()));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+
+			return variation.evolve(parents);
+		}
+
+	}
+
+	@Test
+	public void testEvolve() {
+		Solution[][] result1 = evolve(1);
+		Solution[][] result4 = evolve(4);
+
+		Assert.assertEquals(50, result1.length);
+
+		for (int i = 0; i < result1.length; i++) {
+			Assert.assertEquals(2, result1[i].length);
+			assertEquals(result1[i], result4[i]);
+		}
+
+		Assert.assertNull(PRNG.getThreadRandom());
+	}
+
+	@Test
+	public void testEvolveEmpty() {
+		ParallelReproduction reproduction = new ParallelReproduction(2);
+
+		try {
+			Assert.assertEquals(0, reproduction.evolve(new SBX(1.0, 15.0),
+					new Solution[0][]).length);
+		} finally {
+			reproduction.close();
+		}
+	}
+
+	@Test
+	public void testReproduce() {
+		final Problem problem = new DTLZ2(2);
+		final int[] calls = new int[1];
+
+		ParentSelector selector = new ParentSelector() {
+
+			@Override
+			public Solution[] select(int slot) {
+				Assert.assertEquals(calls[0]++, slot);
+				return new Solution[] { newSolution(problem),
+						newSolution(problem) };
+			}
+
+		};
+
+		PRNG.setSeed(1234);
+		ParallelReproduction reproduction = new ParallelReproduction(2);
+		Population offspring = null;
+
+		try {
+			offspring = reproduction.reproduce(new SBX(1.0, 15.0), selector,
+					7);
+		} finally {
+			reproduction.close();
+		}
+
+		// slots produce two offspring each, so four slots are needed
+		Assert.assertEquals(4, calls[0]);
+		Assert.assertEquals(8, offspring.size());
+	}
+
+	@Test
+	public void testClose() {
+		ParallelReproduction reproduction = new ParallelReproduction(2);
+		reproduction.close();
+		Assert.assertTrue(reproduction.getPool().isShutdown());
+
+		ForkJoinPool pool = new ForkJoinPool(2);
+		reproduction = new ParallelReproduction(pool);
+		reproduction.close();
+		Assert.assertFalse(pool.isShutdown());
+		pool.shutdown();
+	}
+
+	@Test
+	public void testNSGAII() {
+		testAlgorithm("NSGAII");
+	}
+
+	@Test
+	public void testNSGAIIWithoutReplacement() {
+		testAlgorithm("NSGAII", "withReplacement", "false");
+	}
+
+	@Test
+	public void testNSGAIII() {
+		testAlgorithm("NSGAIII");
+	}
+
+	@Test
+	public void testGDE3() {
+		testAlgorithm("GDE3");
+	}
+
+	@Test
+	public void testIBEA() {
+		testAlgorithm("IBEA");
+	}
+
+	@Test
+	public void testSPEA2() {
+		testAlgorithm("SPEA2");
+	}
+
+	/**
+	 * Evolves 50 slots of two random parents each with the given number of
+	 * threads.
+	 * 
+	 * @param parallelism the number of threads
+	 * @return the offspring of each slot
+	 */
+	private Solution[][] evolve(int parallelism) {
+		Problem problem = new DTLZ2(2);
+		Solution[][] parents = new Solution[50][];
+
+		PRNG.setSeed(1234);
+
+		for (int i = 0; i < parents.length; i++) {
+			parents[i] = new Solution[] { newSolution(problem),
+					newSolution(problem) };
+		}
+
+		ParallelReproduction reproduction = new ParallelReproduction(
+				parallelism);
+
+		try {
+			return reproduction.evolve(new DelayedVariation(new GAVariation(
+					new SBX(1.0, 15.0), new PM(0.1, 20.0))), parents);
+		} finally {
+			reproduction.close();
+		}
+	}
+
+	/**
+	 * Runs the algorithm with one and with four reproduction threads and
+	 * checks that both runs produce identical populations.
+	 * 
+	 * @param name the name of the algorithm
+	 * @param properties additional properties, given as name-value pairs
+	 */
+	private void testAlgorithm(String name, String... properties) {
+		AbstractEvolutionaryAlgorithm algorithm1 = run(name, 1, properties);
+		AbstractEvolutionaryAlgorithm algorithm4 = run(name, 4, properties);
+
+		Assert.assertNotNull(algorithm1.getParallelReproduction());
+		Assert.assertEquals(algorithm1.getNumberOfEvaluations(),
+				algorithm4.getNumberOfEvaluations());
+		Assert.assertEquals(algorithm1.getPopulation().size(),
+				algorithm4.getPopulation().size());
+
+		for (int i = 0; i < algorithm1.getPopulation().size(); i++) {
+			assertEquals(algorithm1.getPopulation().get(i),
+					algorithm4.getPopulation().get(i));
+		}
+
+		algorithm1.terminate();
+		algorithm4.terminate();
+
+		Assert.assertTrue(algorithm1.getParallelReproduction().getPool()
+				.isShutdown());
+		Assert.assertTrue(algorithm4.getParallelReproduction().getPool()
+				.isShutdown());
+	}
+
+	/**
+	 * Runs the algorithm for 1000 evaluations with the given number of
+	 * reproduction threads.
+	 * 
+	 * @param name the name of the algorithm
+	 * @param threads the number of reproduction threads
+	 * @param properties additional properties, given as name-value pairs
+	 * @return the algorithm after running
+	 */
+	private AbstractEvolutionaryAlgorithm run(String name, int threads,
+			String... properties) {
+		Properties algorithmProperties = new Properties();
+		algorithmProperties.setProperty("populationSize", "20");
+		algorithmProperties.setProperty("reproductionThreads",
+				Integer.toString(threads));
+
+		for (int i = 0; i < properties.length; i += 2) {
+			algorithmProperties.setProperty(properties[i], properties[i+1]);
+		}
+
+		PRNG.setSeed(1234);
+		Algorithm algorithm = AlgorithmFactory.getInstance().getAlgorithm(
+				name, algorithmProperties, new DTLZ2(2));
+
+		while (algorithm.getNumberOfEvaluations() < 1000) {
+			algorithm.step();
+		}
+
+		return (AbstractEvolutionaryAlgorithm)algorithm;
+	}
+
+	/**
+	 * Returns a new solution with random decision variables.
+	 * 
+	 * @param problem the problem
+	 * @return a new solution with random decision variables
+	 */
+	private Solution newSolution(Problem problem) {
+		Solution solution = problem.newSolution();
+
+		for (int i = 0; i < solution.getNumberOfVariables(); i++) {
+			solution.getVariable(i).randomize();
+		}
+
+		return solution;
+	}
+
+	/**
+	 * Asserts that the solutions have identical decision variables.
+	 * 
+	 * @param expected the expected solutions
+	 * @param actual the actual solutions
+	 */
+	private void assertEquals(Solution[] expected, Solution[] actual) {
+		Assert.assertEquals(expected.length, actual.length);
+
+		for (int i = 0; i < expected.length; i++) {
+			assertEquals(expected[i], actual[i]);
+		}
+	}
+
+	/**
+	 * Asserts that the solutions have identical decision variables and
+	 * objectives.
+	 * 
+	 * @param expected the expected solution
+	 * @param actual the actual solution
+	 */
+	private void assertEquals(Solution expected, Solution actual) {
+		Assert.assertArrayEquals(EncodingUtils.getReal(expected),
+				EncodingUtils.getReal(actual), 0.0);
+		Assert.assertArrayEquals(expected.getObjectives(),
+				actual.getObjectives(), 0.0);
+	}
+
+}
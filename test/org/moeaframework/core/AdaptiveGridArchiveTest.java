@@ -17,6 +17,8 @@
  */
 package org.moeaframework.core;
 
+import java.util.List;
+
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -132,7 +134,7 @@ public class AdaptiveGridArchiveTest {
 		archive.add(TestUtils.newSolution(0.6, 0.3));
 		archive.add(TestUtils.newSolution(0.8, 0.1));
 
-		Assert.assertArrayEquals(new int[] { 0, 3, 1, 0 }, archive.density);
+		Assert.assertArrayEquals(new int[] { 0, 3, 1, 0 }, getDensities(archive));
 		Assert.assertArrayEquals(new double[] { 0.0, 0.1 }, archive.minimum,
 				Settings.EPS);
 		Assert.assertArrayEquals(new double[] { 0.8, 1.0 }, archive.maximum,
@@ -158,7 +160,7 @@ public class AdaptiveGridArchiveTest {
 		int[] expectedDensity = new int[4];
 		expectedDensity[index] = 1;
 		
-		Assert.assertArrayEquals(expectedDensity, archive.density);
+		Assert.assertArrayEquals(expectedDensity, getDensities(archive));
 	}
 
 	/**
@@ -181,7 +183,7 @@ public class AdaptiveGridArchiveTest {
 		int[] expectedDensity = new int[4];
 		expectedDensity[index] = 1;
 		
-		Assert.assertArrayEquals(expectedDensity, archive.density);
+		Assert.assertArrayEquals(expectedDensity, getDensities(archive));
 	}
 
 	/**
@@ -204,16 +206,136 @@ public class AdaptiveGridArchiveTest {
 		int[] expectedDensity = new int[4];
 		expectedDensity[index] = 1;
 		
-		Assert.assertArrayEquals(expectedDensity, archive.density);
+		Assert.assertArrayEquals(expectedDensity, getDensities(archive));
 	}
 	
 	/**
-	 * Since the adaptive grid archive uses an array internally, we must prevent
-	 * the number of divisions exceeding the maximum length of arrays.
+	 * Tests if the archive supports grids with more cells than can be numbered
+	 * by an {@code int}, and that methods relying on the cell index fail.
+	 */
+	@Test
+	public void testManyObjectives() {
+		Problem problem = new ProblemStub(8);
+		AdaptiveGridArchive archive = new AdaptiveGridArchive(100, problem,
+				256);
+
+		for (int i = 0; i < 1000; i++) {
+			archive.add(newRandomSolution(problem));
+		}
+
+		Assert.assertEquals(100, archive.size());
+		Assert.assertTrue(archive.getDensity(archive.get(0)) >= 1);
+
+		try {
+			archive.findIndex(archive.get(0));
+			Assert.fail("expected FrameworkException");
+		} catch (FrameworkException e) {
+			// expected
+		}
+	}
+
+	/**
+	 * Tests if the densities, the densest cell and the occupied cells agree
+	 * with the cell index of each solution as the archive changes.
+	 */
+	@Test
+	public void testConsistency() {
+		Problem problem = new ProblemStub(3);
+		AdaptiveGridArchive archive = new AdaptiveGridArchive(50, problem, 4);
+
+		for (int i = 0; i < 2000; i++) {
+			archive.add(newRandomSolution(problem));
+
+			if (PRNG.nextInt(10) == 0) {
+				archive.remove(PRNG.nextInt(archive.size()));
+			}
+
+			assertConsistent(archive);
+		}
+	}
+
+	/**
+	 * Asserts that the densities, the densest cell and the occupied cells
+	 * match those computed by scanning the solutions in the archive.
+	 *
+	 * @param archive the archive
+	 */
+	private void assertConsistent(AdaptiveGridArchive archive) {
+		int[] expected = new int[(int)Math.pow(archive.getNumberOfDivisions(),
+				archive.getProblem().getNumberOfObjectives())];
+
+		for (Solution solution : archive) {
+			expected[archive.findIndex(solution)]++;
+		}
+
+		Assert.assertArrayEquals(expected, getDensities(archive));
+
+		// the densest cell containing the first solution is selected
+		Solution densestSolution = null;
+		int densestValue = -1;
+
+		for (Solution solution : archive) {
+			if (expected[archive.findIndex(solution)] > densestValue) {
+				densestSolution = solution;
+				densestValue = expected[archive.findIndex(solution)];
+			}
+		}
+
+		Assert.assertSame(densestSolution,
+				archive.pickSolutionFromDensestCell());
+		Assert.assertEquals(archive.findIndex(densestSolution),
+				archive.findDensestCell());
+
+		int count = 0;
+
+		for (List<Solution> cell : archive.getOccupiedCells()) {
+			Assert.assertEquals(expected[archive.findIndex(cell.get(0))],
+					cell.size());
+			count += cell.size();
+		}
+
+		Assert.assertEquals(archive.size(), count);
+	}
+
+	/**
+	 * Returns the density of each grid cell in the archive.
+	 *
+	 * @param archive the archive
+	 * @return the density of each grid cell in the archive
 	 */
-	@Test(expected=FrameworkException.class)
-	public void testOverflow() {
-		new AdaptiveGridArchive(100, new ProblemStub(4), 256);
+	private int[] getDensities(AdaptiveGridArchive archive) {
+		int[] densities = new int[(int)Math.pow(
+				archive.getNumberOfDivisions(),
+				archive.getProblem().getNumberOfObjectives())];
+
+		for (int i = 0; i < densities.length; i++) {
+			densities[i] = archive.getDensity(i);
+		}
+
+		return densities;
+	}
+
+	/**
+	 * Returns a solution with random objectives summing to approximately
+	 * {@code 1}, so most solutions are non-dominated.
+	 *
+	 * @param problem the problem
+	 * @return a solution with random objectives
+	 */
+	private Solution newRandomSolution(Problem problem) {
+		Solution solution = problem.newSolution();
+		double sum = 0.0;
+
+		for (int i = 0; i < solution.getNumberOfObjectives(); i++) {
+			solution.setObjective(i, PRNG.nextDouble());
+			sum += solution.getObjective(i);
+		}
+
+		for (int i = 0; i < solution.getNumberOfObjectives(); i++) {
+			solution.setObjective(i, solution.getObjective(i) / sum);
+		}
+
+		return solution;
 	}
 
 }
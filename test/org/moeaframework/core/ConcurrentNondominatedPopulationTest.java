@@ -0,0 +1,209 @@
+/* Copyright 2009-2020 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.core.comparator.ParetoDominanceComparator;
+
+/**
+ * Tests the {@link ConcurrentNondominatedPopulation} class.
+ */
+public class ConcurrentNondominatedPopulationTest {
+
+	/**
+	 * The number of threads adding solutions.
+	 */
+	private static final int THREADS = 16;
+
+	/**
+	 * Tests if adding solutions from multiple threads produces the same
+	 * non-dominated set as adding them sequentially.
+	 */
+	@Test
+	public void testSameAsSequential() throws Exception {
+		testSameAsSequential(new ConcurrentNondominatedPopulation());
+		testSameAsSequential(new ConcurrentNondominatedPopulation(
+				new NondominatedPopulation()));
+	}
+
+	/**
+	 * Tests if an &epsilon;-box dominance archive remains non-dominated, with
+	 * at most one solution per &epsilon;-box, when solutions are added from
+	 * multiple threads.
+	 */
+	@Test
+	public void testEpsilonBoxDominanceArchive() throws Exception {
+		EpsilonBoxDominanceArchive archive = new EpsilonBoxDominanceArchive(
+				0.01);
+		ConcurrentNondominatedPopulation population =
+				new ConcurrentNondominatedPopulation(archive);
+
+		addConcurrently(population, newSolutions(20000, 3), null);
+
+		Solution[] solutions = population.getSnapshot();
+		Assert.assertTrue(solutions.length > 0);
+
+		for (int i = 0; i < solutions.length; i++) {
+			for (int j = 0; j < solutions.length; j++) {
+				if (i != j) {
+					Assert.assertEquals(0, archive.getComparator().compare(
+							solutions[i], solutions[j]));
+					Assert.assertFalse(archive.getComparator().isSameBox());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Tests if iterating while other threads add solutions does not throw
+	 * {@link java.util.ConcurrentModificationException}, and that the
+	 * iterator's {@code remove} method removes the solution.
+	 */
+	@Test
+	public void testSnapshotIterator() throws Exception {
+		final ConcurrentNondominatedPopulation population =
+				new ConcurrentNondominatedPopulation();
+
+		addConcurrently(population, newSolutions(20000, 2),
+				new Callable<Void>() {
+
+					@Override
+					public Void call() {
+						for (int i = 0; i < 100; i++) {
+							for (Solution solution : population) {
+								Assert.assertNotNull(solution);
+							}
+						}
+
+						return null;
+					}
+
+				});
+
+		int size = population.size();
+		Iterator<Solution> iterator = population.iterator();
+		Solution solution = iterator.next();
+		iterator.remove();
+
+		Assert.assertEquals(size - 1, population.size());
+		Assert.assertFalse(population.contains(solution));
+	}
+
+	/**
+	 * Adds the solutions to the population from multiple threads and checks
+	 * that the result matches adding the same solutions to a
+	 * {@link NondominatedPopulation}.
+	 *
+	 * @param population the population being tested
+	 * @throws Exception if an error occurred while adding the solutions
+	 */
+	private void testSameAsSequential(ConcurrentNondominatedPopulation
+			population) throws Exception {
+		List<Solution> solutions = newSolutions(20000, 3);
+		NondominatedPopulation expected = new NondominatedPopulation(
+				new ParetoDominanceComparator(), solutions);
+
+		addConcurrently(population, solutions, null);
+
+		Assert.assertEquals(expected.size(), population.size());
+		Assert.assertTrue(expected.containsAll(population));
+		Assert.assertTrue(population.containsAll(expected));
+	}
+
+	/**
+	 * Adds the solutions to the population, divided evenly among
+	 * {@value #THREADS} threads, and waits for all threads to finish.
+	 *
+	 * @param population the population
+	 * @param solutions the solutions to add
+	 * @param task an additional task run concurrently with the threads adding
+	 *        solutions, or {@code null}
+	 * @throws Exception if an error occurred in any thread
+	 */
+	private void addConcurrently(final Population population,
+			final List<Solution> solutions, Callable<Void> task)
+			throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1);
+
+		try {
+			List<Future<Void>> futures = new ArrayList<Future<Void>>();
+
+			for (int i = 0; i < THREADS; i++) {
+				final int start = i;
+
+				futures.add(executor.submit(new Callable<Void>() {
+
+					@Override
+					public Void call() {
+						for (int j = start; j < solutions.size();
+								j += THREADS) {
+							population.add(solutions.get(j));
+						}
+
+						return null;
+					}
+
+				}));
+			}
+
+			if (task != null) {
+				futures.add(executor.submit(task));
+			}
+
+			for (Future<Void> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Returns solutions with random objectives, which are nearly all unique.
+	 * Most solutions are dominated.
+	 *
+	 * @param count the number of solutions
+	 * @param numberOfObjectives the number of objectives
+	 * @return the solutions with random objectives
+	 */
+	private List<Solution> newSolutions(int count, int numberOfObjectives) {
+		List<Solution> solutions = new ArrayList<Solution>();
+
+		for (int i = 0; i < count; i++) {
+			double[] objectives = new double[numberOfObjectives];
+
+			for (int j = 0; j < numberOfObjectives; j++) {
+				objectives[j] = PRNG.nextDouble();
+			}
+
+			solutions.add(new Solution(objectives));
+		}
+
+		return solutions;
+	}
+
+}
@@ -0,0 +1,153 @@
+/* Copyright 2009-2020 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core;
+
+import static org.moeaframework.core.NondominatedSorting.CROWDING_ATTRIBUTE;
+import static org.moeaframework.core.NondominatedSorting.RANK_ATTRIBUTE;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.moeaframework.core.comparator.ParetoObjectiveComparator;
+
+/**
+ * Tests the {@link DivideAndConquerNondominatedSorting} class.
+ */
+public class DivideAndConquerNondominatedSortingTest extends
+NondominatedSortingTest {
+
+	/**
+	 * Prepare an empty population and a sorting object using a dummy problem.
+	 */
+	@Before
+	public void setUp() {
+		population = new Population();
+		sorting = new DivideAndConquerNondominatedSorting();
+	}
+
+	/**
+	 * Tests if the ranks and crowding distances match those produced by
+	 * naive non-dominated sorting on random populations, including duplicate
+	 * solutions and discrete objective values that produce many ties.
+	 */
+	@Test
+	public void testRandomPopulations() {
+		for (int M = 1; M <= 5; M++) {
+			for (int i = 0; i < 20; i++) {
+				population.clear();
+
+				int N = PRNG.nextInt(1, 200);
+				int levels = PRNG.nextInt(2, 10);
+
+				for (int j = 0; j < N; j++) {
+					double[] objectives = new double[M];
+
+					for (int k = 0; k < M; k++) {
+						objectives[k] = i % 2 == 0 ? PRNG.nextDouble() :
+							PRNG.nextInt(levels);
+					}
+
+					population.add(new Solution(objectives));
+				}
+
+				assertSameResult(population, new NondominatedSorting());
+			}
+		}
+	}
+
+	/**
+	 * Tests if constrained solutions are ranked after feasible solutions.
+	 */
+	@Test
+	public void testConstraints() {
+		for (int i = 0; i < 20; i++) {
+			population.clear();
+
+			for (int j = 0; j < 100; j++) {
+				Solution solution = new Solution(0, 3, 1);
+
+				for (int k = 0; k < 3; k++) {
+					solution.setObjective(k, PRNG.nextDouble());
+				}
+
+				solution.setConstraint(0, PRNG.nextBoolean() ? 0.0 :
+					PRNG.nextInt(3));
+				population.add(solution);
+			}
+
+			assertSameResult(population, new NondominatedSorting());
+		}
+	}
+
+	/**
+	 * Tests if the Pareto objective comparator, which ignores constraints, is
+	 * also supported.
+	 */
+	@Test
+	public void testObjectiveComparator() {
+		sorting = new DivideAndConquerNondominatedSorting(
+				new ParetoObjectiveComparator());
+
+		for (int j = 0; j < 100; j++) {
+			Solution solution = new Solution(0, 2, 1);
+			solution.setObjective(0, PRNG.nextDouble());
+			solution.setObjective(1, PRNG.nextDouble());
+			solution.setConstraint(0, PRNG.nextInt(3));
+			population.add(solution);
+		}
+
+		assertSameResult(population, new NondominatedSorting(
+				new ParetoObjectiveComparator()));
+	}
+
+	/**
+	 * Asserts that the sorting operator under test produces the same ranks and
+	 * crowding distances as the given reference implementation.
+	 *
+	 * @param population the population
+	 * @param reference the reference non-dominated sorting implementation
+	 */
+	private void assertSameResult(Population population,
+			NondominatedSorting reference) {
+		reference.evaluate(population);
+
+		int[] expectedRanks = new int[population.size()];
+		double[] expectedCrowding = new double[population.size()];
+
+		for (int i = 0; i < population.size(); i++) {
+			Solution solution = population.get(i);
+			expectedRanks[i] = (Integer)solution.getAttribute(RANK_ATTRIBUTE);
+			expectedCrowding[i] = (Double)solution.getAttribute(
+					CROWDING_ATTRIBUTE);
+			solution.clearAttributes();
+		}
+
+		sorting.evaluate(population);
+
+		for (int i = 0; i < population.size(); i++) {
+			Solution solution = population.get(i);
+
+			Assert.assertEquals(expectedRanks[i],
+					((Integer)solution.getAttribute(RANK_ATTRIBUTE)).intValue());
+			Assert.assertEquals(expectedCrowding[i],
+					(Double)solution.getAttribute(CROWDING_ATTRIBUTE),
+					Settings.EPS);
+		}
+	}
+
+}
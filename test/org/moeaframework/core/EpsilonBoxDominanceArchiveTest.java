@@ -21,6 +21,7 @@ import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.moeaframework.core.comparator.EpsilonBoxDominanceComparator;
 
 /**
  * Tests the {@link EpsilonBoxDominanceArchive} class.
@@ -138,4 +139,85 @@ public class EpsilonBoxDominanceArchiveTest {
 		Assert.assertEquals(2, archive.getNumberOfImprovements());
 	}
 
+	/**
+	 * Tests if a solution replacing the occupant of its &epsilon;-box takes
+	 * the occupant's position.
+	 */
+	@Test
+	public void testSameBoxKeepsPosition() {
+		Solution solution1 = new Solution(new double[] { 0.6, 0.6 });
+		Solution solution2 = new Solution(new double[] { 1.1, 0.1 });
+		Solution solution3 = new Solution(new double[] { 0.1, 1.1 });
+		Solution solution4 = new Solution(new double[] { 0.55, 0.52 });
+		Solution solution5 = new Solution(new double[] { 0.51, 0.51 });
+
+		Assert.assertTrue(archive.add(solution1));
+		Assert.assertTrue(archive.add(solution2));
+		Assert.assertTrue(archive.add(solution3));
+		Assert.assertTrue(archive.add(solution4));
+		Assert.assertEquals(3, archive.size());
+		Assert.assertSame(solution4, archive.get(0));
+		Assert.assertSame(solution2, archive.get(1));
+		Assert.assertSame(solution3, archive.get(2));
+		Assert.assertEquals(3, archive.getNumberOfImprovements());
+
+		// the index remains consistent after removing a solution
+		archive.remove(solution2);
+		Assert.assertFalse(archive.add(solution1));
+		Assert.assertTrue(archive.add(solution5));
+		Assert.assertEquals(2, archive.size());
+		Assert.assertSame(solution5, archive.get(0));
+		Assert.assertSame(solution3, archive.get(1));
+	}
+
+	/**
+	 * Tests if the &epsilon;-box indices produce the same solutions with the
+	 * same improvement counts as comparing against every member of the
+	 * archive.  Subclassing the comparator disables the indices.
+	 */
+	@Test
+	public void testIndexedSameAsComparator() {
+		for (int numberOfObjectives = 2; numberOfObjectives <= 4;
+				numberOfObjectives++) {
+			double[] epsilons = new double[] { 0.05, 0.1 };
+			EpsilonBoxDominanceArchive expected = new EpsilonBoxDominanceArchive(
+					new EpsilonBoxDominanceComparator(epsilons) {
+
+						private static final long serialVersionUID =
+								-2542440440467024286L;
+
+					});
+			EpsilonBoxDominanceArchive actual = new EpsilonBoxDominanceArchive(
+					epsilons);
+
+			for (int i = 0; i < 10000; i++) {
+				Solution solution = new Solution(0, numberOfObjectives, 1);
+
+				for (int j = 0; j < numberOfObjectives; j++) {
+					solution.setObjective(j, PRNG.nextDouble());
+				}
+
+				solution.setConstraint(0, i < 5000 ? PRNG.nextInt(10) : 0.0);
+
+				Assert.assertEquals(expected.add(solution),
+						actual.add(solution));
+
+				if (PRNG.nextDouble() < 0.01) {
+					Solution removed = actual.get(PRNG.nextInt(actual.size()));
+					Assert.assertTrue(expected.remove(removed));
+					Assert.assertTrue(actual.remove(removed));
+				}
+			}
+
+			Assert.assertEquals(expected.size(), actual.size());
+			Assert.assertTrue(expected.containsAll(actual));
+			Assert.assertTrue(actual.containsAll(expected));
+
+			Assert.assertEquals(expected.getNumberOfImprovements(),
+					actual.getNumberOfImprovements());
+			Assert.assertEquals(expected.getNumberOfDominatingImprovements(),
+					actual.getNumberOfDominatingImprovements());
+		}
+	}
+
 }
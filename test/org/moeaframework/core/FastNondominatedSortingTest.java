@@ -17,7 +17,13 @@
  */
 package org.moeaframework.core;
 
+import static org.moeaframework.core.NondominatedSorting.CROWDING_ATTRIBUTE;
+import static org.moeaframework.core.NondominatedSorting.RANK_ATTRIBUTE;
+
+import org.junit.Assert;
 import org.junit.Before;
+import org.junit.Test;
+import org.moeaframework.core.comparator.ParetoDominanceComparator;
 
 /**
  * Tests the {@link FastNondominatedSorting} class.
@@ -33,4 +39,52 @@ public class FastNondominatedSortingTest extends NondominatedSortingTest {
 		sorting = new FastNondominatedSorting();
 	}
 
+	/**
+	 * Tests if performing the comparisons in parallel produces identical
+	 * ranks and crowding distances as the serial version and the naive
+	 * implementation.
+	 */
+	@Test
+	public void testParallel() {
+		for (int i = 0; i < 1500; i++) {
+			population.add(new Solution(new double[] { PRNG.nextInt(20),
+					PRNG.nextDouble(), PRNG.nextInt(5) }));
+		}
+		
+		new NondominatedSorting().evaluate(population);
+		int[] expectedRanks = getRanks(population);
+		
+		sorting.evaluate(population);
+		int[] serialRanks = getRanks(population);
+		double[] serialCrowding = getCrowding(population);
+		
+		new FastNondominatedSorting(new ParetoDominanceComparator(), true)
+				.evaluate(population);
+		
+		Assert.assertArrayEquals(expectedRanks, serialRanks);
+		Assert.assertArrayEquals(serialRanks, getRanks(population));
+		Assert.assertArrayEquals(serialCrowding, getCrowding(population), 0.0);
+	}
+	
+	private int[] getRanks(Population population) {
+		int[] ranks = new int[population.size()];
+		
+		for (int i = 0; i < population.size(); i++) {
+			ranks[i] = (Integer)population.get(i).getAttribute(RANK_ATTRIBUTE);
+		}
+		
+		return ranks;
+	}
+	
+	private double[] getCrowding(Population population) {
+		double[] crowding = new double[population.size()];
+		
+		for (int i = 0; i < population.size(); i++) {
+			crowding[i] = (Double)population.get(i).getAttribute(
+					CROWDING_ATTRIBUTE);
+		}
+		
+		return crowding;
+	}
+
 }
@@ -0,0 +1,117 @@
+/* Copyright 2009-2020 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core;
+
+import static org.moeaframework.core.NondominatedSorting.CROWDING_ATTRIBUTE;
+import static org.moeaframework.core.NondominatedSorting.RANK_ATTRIBUTE;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the {@link IncrementalNondominatedSorting} class.
+ */
+public class IncrementalNondominatedSortingTest extends
+NondominatedSortingTest {
+
+	/**
+	 * Prepare an empty population and a sorting object using a dummy problem.
+	 */
+	@Before
+	public void setUp() {
+		population = new Population();
+		sorting = new IncrementalNondominatedSorting();
+	}
+
+	/**
+	 * Tests if adding and removing solutions one at a time produces the same
+	 * ranks as sorting the entire population.
+	 */
+	@Test
+	public void testAddRemove() {
+		IncrementalNondominatedSorting incremental =
+				(IncrementalNondominatedSorting)sorting;
+
+		for (int i = 0; i < 1000; i++) {
+			if (population.isEmpty() || PRNG.nextDouble() < 0.6) {
+				Solution solution = new Solution(new double[] {
+						PRNG.nextInt(10), PRNG.nextInt(10), PRNG.nextInt(10) });
+
+				population.add(solution);
+				incremental.add(solution);
+			} else {
+				Solution solution = population.get(
+						PRNG.nextInt(population.size()));
+
+				population.remove(solution);
+				Assert.assertTrue(incremental.remove(solution));
+			}
+
+			assertRanks(incremental);
+		}
+	}
+
+	/**
+	 * Tests if removing a solution that is not tracked has no effect.
+	 */
+	@Test
+	public void testRemoveMissing() {
+		IncrementalNondominatedSorting incremental =
+				(IncrementalNondominatedSorting)sorting;
+
+		incremental.add(new Solution(new double[] { 0.0, 1.0 }));
+
+		Assert.assertFalse(incremental.remove(
+				new Solution(new double[] { 0.0, 1.0 })));
+		Assert.assertEquals(1, incremental.getNumberOfFronts());
+		Assert.assertEquals(1, incremental.getFront(0).size());
+	}
+
+	/**
+	 * Asserts that the tracked fronts match the ranks computed by sorting the
+	 * entire population, and that the crowding distance is assigned.
+	 *
+	 * @param incremental the incremental non-dominated sorting instance
+	 */
+	private void assertRanks(IncrementalNondominatedSorting incremental) {
+		int[] ranks = new int[population.size()];
+		int count = 0;
+
+		for (int i = 0; i < population.size(); i++) {
+			Solution solution = population.get(i);
+			ranks[i] = (Integer)solution.getAttribute(RANK_ATTRIBUTE);
+			Assert.assertTrue(solution.hasAttribute(CROWDING_ATTRIBUTE));
+		}
+
+		for (int i = 0; i < incremental.getNumberOfFronts(); i++) {
+			Assert.assertFalse(incremental.getFront(i).isEmpty());
+			count += incremental.getFront(i).size();
+		}
+
+		Assert.assertEquals(population.size(), count);
+
+		new NondominatedSorting().evaluate(population);
+
+		for (int i = 0; i < population.size(); i++) {
+			Assert.assertEquals(ranks[i], ((Integer)population.get(i)
+					.getAttribute(RANK_ATTRIBUTE)).intValue());
+		}
+	}
+
+}
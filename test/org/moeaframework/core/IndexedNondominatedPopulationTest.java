@@ -0,0 +1,288 @@
+/* Copyright 2009-2020 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core;
+
+import java.util.Iterator;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.core.NondominatedPopulation.DuplicateMode;
+import org.moeaframework.core.comparator.DominanceComparator;
+import org.moeaframework.core.comparator.ObjectiveComparator;
+import org.moeaframework.core.comparator.ParetoDominanceComparator;
+import org.moeaframework.core.comparator.ParetoObjectiveComparator;
+import org.moeaframework.core.variable.RealVariable;
+
+/**
+ * Tests the {@link IndexedNondominatedPopulation} class.
+ */
+public class IndexedNondominatedPopulationTest {
+
+	/**
+	 * Tests if the population keeps non-dominated solutions and rejects
+	 * dominated and duplicate solutions.
+	 */
+	@Test
+	public void testAdd() {
+		NondominatedPopulation population =
+				new IndexedNondominatedPopulation();
+
+		Solution solution1 = new Solution(new double[] { 1.0, 2.0, 3.0 });
+		Solution solution2 = new Solution(new double[] { 1.0, 3.0, 2.0 });
+		Solution solution3 = new Solution(new double[] { 2.0, 1.0, 3.0 });
+		Solution solution4 = new Solution(new double[] { 1.0, 1.0, 3.0 });
+		Solution solution5 = new Solution(new double[] { 1.0, 2.0, 3.0 });
+		Solution solution6 = new Solution(new double[] { 1.0, 1.0,
+				3.0 + Settings.EPS / 2.0 });
+
+		Assert.assertTrue(population.add(solution1));
+		Assert.assertTrue(population.add(solution2));
+		Assert.assertTrue(population.add(solution3));
+		Assert.assertEquals(3, population.size());
+		Assert.assertTrue(population.add(solution4));
+		Assert.assertEquals(2, population.size());
+		Assert.assertFalse(population.add(solution5));
+		Assert.assertFalse(population.add(solution6));
+		Assert.assertEquals(2, population.size());
+		Assert.assertTrue(population.contains(solution2));
+		Assert.assertTrue(population.contains(solution4));
+	}
+
+	/**
+	 * Tests if comparators other than Pareto dominance are rejected.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testUnsupportedComparator() {
+		new IndexedNondominatedPopulation(new DominanceComparator() {
+
+			@Override
+			public int compare(Solution solution1, Solution solution2) {
+				return 0;
+			}
+
+		});
+	}
+
+	/**
+	 * Tests if the contents match {@link NondominatedPopulation} for each
+	 * duplicate mode, with and without constraints.
+	 */
+	@Test
+	public void testSameAsNondominatedPopulation() {
+		for (DuplicateMode duplicateMode : DuplicateMode.values()) {
+			for (int numberOfObjectives = 2; numberOfObjectives <= 4;
+					numberOfObjectives++) {
+				test(new ParetoDominanceComparator(), duplicateMode,
+						numberOfObjectives, true);
+				test(new ParetoObjectiveComparator(), duplicateMode,
+						numberOfObjectives, true);
+				test(new ParetoDominanceComparator(), duplicateMode,
+						numberOfObjectives, false);
+			}
+		}
+	}
+
+	/**
+	 * Tests if signed zeros, infinities and NaN are compared the same as the
+	 * dominance comparator used by {@link NondominatedPopulation}.
+	 */
+	@Test
+	public void testSpecialValues() {
+		double[] values = { -0.0, 0.0, 1.0, Double.NaN,
+				Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY };
+
+		for (DuplicateMode duplicateMode : DuplicateMode.values()) {
+			NondominatedPopulation expected = new NondominatedPopulation(
+					duplicateMode);
+			NondominatedPopulation actual = new IndexedNondominatedPopulation(
+					duplicateMode);
+
+			for (int i = 0; i < 10000; i++) {
+				Solution solution = new Solution(1, 3, 1);
+				solution.setVariable(0, new RealVariable(i, 0.0, 10000));
+
+				for (int j = 0; j < 3; j++) {
+					solution.setObjective(j,
+							values[PRNG.nextInt(values.length)]);
+				}
+
+				if (PRNG.nextInt(10) == 0) {
+					solution.setConstraint(0,
+							values[PRNG.nextInt(values.length)]);
+				}
+
+				Assert.assertEquals(expected.add(solution),
+						actual.add(solution));
+			}
+
+			assertSameContents(expected, actual);
+		}
+	}
+
+	/**
+	 * Tests if removing, replacing, sorting and truncating keep the index
+	 * consistent with the solutions in the population.
+	 */
+	@Test
+	public void testModifications() {
+		NondominatedPopulation expected = new NondominatedPopulation();
+		NondominatedPopulation actual = new IndexedNondominatedPopulation();
+
+		for (int i = 0; i < 1000; i++) {
+			double x = PRNG.nextDouble();
+			Solution solution = new Solution(new double[] { x, 1.0 - x });
+
+			expected.add(solution);
+			actual.add(solution);
+		}
+
+		assertSameContents(expected, actual);
+
+		// remove using all available methods
+		for (int i = 0; i < 100; i++) {
+			Solution solution = actual.get(PRNG.nextInt(actual.size()));
+			expected.remove(solution);
+			actual.remove(solution);
+
+			int index = PRNG.nextInt(actual.size());
+			expected.remove(actual.get(index));
+			actual.remove(index);
+		}
+
+		Iterator<Solution> iterator = actual.iterator();
+
+		while (iterator.hasNext()) {
+			Solution solution = iterator.next();
+
+			if (PRNG.nextBoolean()) {
+				expected.remove(solution);
+				iterator.remove();
+			}
+		}
+
+		assertSameContents(expected, actual);
+
+		// replace with a dominating solution
+		Solution solution = actual.get(0);
+		Solution replacement = new Solution(new double[] {
+				solution.getObjective(0) - Settings.EPS,
+				solution.getObjective(1) });
+		expected.remove(solution);
+		expected.add(replacement);
+		actual.replace(0, replacement);
+		Assert.assertSame(replacement, actual.get(actual.size() - 1));
+
+		// replace with a non-dominated solution
+		solution = actual.get(0);
+		replacement = new Solution(new double[] {
+				solution.getObjective(0) - Settings.EPS,
+				solution.getObjective(1) + Settings.EPS });
+		expected.replace(expected.indexOf(solution), replacement);
+		actual.replace(0, replacement);
+		Assert.assertSame(replacement, actual.get(0));
+
+		assertSameContents(expected, actual);
+
+		// sort and truncate
+		actual.sort(new ObjectiveComparator(1));
+		expected.truncate(100, new ObjectiveComparator(0));
+		actual.truncate(100, new ObjectiveComparator(0));
+
+		for (int i = 0; i < 100; i++) {
+			Assert.assertSame(expected.get(i), actual.get(i));
+		}
+
+		// add solutions after modifying the index
+		for (int i = 0; i < 1000; i++) {
+			double x = PRNG.nextDouble();
+			solution = new Solution(new double[] { x, 1.0 - x - 0.001 });
+
+			expected.add(solution);
+			actual.add(solution);
+		}
+
+		assertSameContents(expected, actual);
+
+		actual.sort(new ObjectiveComparator(1));
+		actual.clear();
+		Assert.assertTrue(actual.isEmpty());
+		Assert.assertTrue(actual.add(solution));
+	}
+
+	/**
+	 * Adds the same random solutions to a {@link NondominatedPopulation} and
+	 * an {@link IndexedNondominatedPopulation} and checks if they contain the
+	 * same solutions.  The solutions are copies drawn from a small pool, so
+	 * there are many solutions with identical objectives or decision
+	 * variables.
+	 *
+	 * @param comparator the dominance comparator
+	 * @param duplicateMode the duplicate mode
+	 * @param numberOfObjectives the number of objectives
+	 * @param constrained {@code true} if the solutions have constraint
+	 *        violations; {@code false} otherwise
+	 */
+	private void test(DominanceComparator comparator,
+			DuplicateMode duplicateMode, int numberOfObjectives,
+			boolean constrained) {
+		NondominatedPopulation expected = new NondominatedPopulation(
+				comparator, duplicateMode);
+		NondominatedPopulation actual = new IndexedNondominatedPopulation(
+				comparator, duplicateMode);
+
+		Solution[] pool = new Solution[2000];
+
+		for (int i = 0; i < pool.length; i++) {
+			Solution solution = new Solution(1, numberOfObjectives, 1);
+			solution.setVariable(0, new RealVariable(i, 0.0, pool.length));
+
+			for (int j = 0; j < numberOfObjectives; j++) {
+				solution.setObjective(j, PRNG.nextInt(20) / 20.0);
+			}
+
+			if (constrained) {
+				solution.setConstraint(0, -PRNG.nextInt(3) * 5 / 100.0);
+			}
+
+			pool[i] = solution;
+		}
+
+		for (int i = 0; i < 10000; i++) {
+			Solution solution = pool[PRNG.nextInt(pool.length)].copy();
+
+			Assert.assertEquals(expected.add(solution), actual.add(solution));
+			Assert.assertEquals(expected.size(), actual.size());
+		}
+
+		assertSameContents(expected, actual);
+	}
+
+	/**
+	 * Asserts that the two populations contain the same solutions, in any
+	 * order.
+	 *
+	 * @param expected the expected population
+	 * @param actual the actual population
+	 */
+	private void assertSameContents(Population expected, Population actual) {
+		Assert.assertEquals(expected.size(), actual.size());
+		Assert.assertTrue(expected.containsAll(actual));
+		Assert.assertTrue(actual.containsAll(expected));
+	}
+
+}
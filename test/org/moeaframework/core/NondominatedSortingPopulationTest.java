@@ -43,6 +43,11 @@ public class NondominatedSortingPopulationTest {
 			super(iterable);
 		}
 
+		public TestNondominatedSortingPopulation(
+				NondominatedSorting nondominatedSorting) {
+			super(nondominatedSorting);
+		}
+
 		@Override
 		public void update() {
 			numberOfUpdates++;
@@ -238,4 +243,45 @@ public class NondominatedSortingPopulationTest {
 		Assert.assertEquals(8, population.getNumberOfUpdates());
 	}
 
+	@Test
+	public void testIncremental() {
+		TestNondominatedSortingPopulation population = 
+				new TestNondominatedSortingPopulation(
+						new IncrementalNondominatedSorting());
+		
+		for (int i = 0; i < 200; i++) {
+			population.add(new Solution(new double[] { PRNG.nextDouble(),
+					PRNG.nextDouble() }));
+			
+			if (population.size() > 50) {
+				population.truncate(50);
+			}
+		}
+		
+		population.remove(population.get(0));
+		population.remove(0);
+		
+		Assert.assertEquals(0, population.getNumberOfUpdates());
+		
+		Population copy = new Population(population);
+		int[] ranks = new int[copy.size()];
+		double[] crowding = new double[copy.size()];
+		
+		for (int i = 0; i < copy.size(); i++) {
+			ranks[i] = (Integer)copy.get(i).getAttribute(
+					NondominatedSorting.RANK_ATTRIBUTE);
+			crowding[i] = (Double)copy.get(i).getAttribute(
+					NondominatedSorting.CROWDING_ATTRIBUTE);
+		}
+		
+		new NondominatedSorting().evaluate(copy);
+		
+		for (int i = 0; i < copy.size(); i++) {
+			Assert.assertEquals(ranks[i], ((Integer)copy.get(i).getAttribute(
+					NondominatedSorting.RANK_ATTRIBUTE)).intValue());
+			Assert.assertEquals(crowding[i], (Double)copy.get(i).getAttribute(
+					NondominatedSorting.CROWDING_ATTRIBUTE), Settings.EPS);
+		}
+	}
+
 }
@@ -0,0 +1,156 @@
+/* Copyright 2009-2020 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the {@link ObjectiveMatrix} class.
+ */
+public class ObjectiveMatrixTest {
+
+	/**
+	 * The matrix being tested.
+	 */
+	private ObjectiveMatrix matrix;
+
+	/**
+	 * Constructs the matrix from a population containing one infeasible
+	 * solution.
+	 */
+	@Before
+	public void setUp() {
+		Population population = new Population();
+		population.add(new Solution(new double[] { 0.0, 4.0 }));
+		population.add(new Solution(new double[] { 1.0, 2.0 }));
+		population.add(new Solution(new double[] { 3.0, 0.0 }));
+
+		Solution infeasible = new Solution(0, 2, 1);
+		infeasible.setObjectives(new double[] { -1.0, 5.0 });
+		infeasible.setConstraint(0, 1.0);
+		population.add(infeasible);
+
+		matrix = new ObjectiveMatrix(population);
+	}
+
+	/**
+	 * Removes references to shared objects so they can be garbage collected.
+	 */
+	@After
+	public void tearDown() {
+		matrix = null;
+	}
+
+	/**
+	 * Tests if the objectives and feasibility are stored correctly.
+	 */
+	@Test
+	public void testSnapshot() {
+		Assert.assertEquals(4, matrix.size());
+		Assert.assertEquals(2, matrix.getNumberOfObjectives());
+		Assert.assertArrayEquals(new double[] { 0.0, 1.0, 3.0, -1.0 },
+				matrix.getColumn(0), Settings.EPS);
+		Assert.assertArrayEquals(new double[] { 1.0, 2.0 },
+				matrix.getRow(1), Settings.EPS);
+		Assert.assertEquals(5.0, matrix.getObjective(3, 1), Settings.EPS);
+		Assert.assertTrue(matrix.isFeasible(0));
+		Assert.assertFalse(matrix.isFeasible(3));
+	}
+
+	/**
+	 * Tests if an empty population produces an empty matrix.
+	 */
+	@Test
+	public void testEmpty() {
+		ObjectiveMatrix empty = new ObjectiveMatrix(new Population());
+
+		Assert.assertEquals(0, empty.size());
+		Assert.assertEquals(0, empty.getNumberOfObjectives());
+		Assert.assertEquals(Double.POSITIVE_INFINITY,
+				empty.distanceToNearest(new double[0]), Settings.EPS);
+	}
+
+	/**
+	 * Tests the minimum and maximum kernels with and without infeasible
+	 * solutions.
+	 */
+	@Test
+	public void testBounds() {
+		Assert.assertArrayEquals(new double[] { -1.0, 0.0 },
+				matrix.getMinimum(false), Settings.EPS);
+		Assert.assertArrayEquals(new double[] { 3.0, 5.0 },
+				matrix.getMaximum(false), Settings.EPS);
+		Assert.assertArrayEquals(new double[] { 0.0, 0.0 },
+				matrix.getMinimum(true), Settings.EPS);
+		Assert.assertArrayEquals(new double[] { 3.0, 4.0 },
+				matrix.getMaximum(true), Settings.EPS);
+	}
+
+	/**
+	 * Tests the normalization kernel.
+	 */
+	@Test
+	public void testNormalize() {
+		ObjectiveMatrix normalized = matrix.normalize(
+				new double[] { 0.0, 0.0 }, new double[] { 2.0, 4.0 });
+
+		Assert.assertArrayEquals(new double[] { 0.0, 0.5, 1.5, -0.5 },
+				normalized.getColumn(0), Settings.EPS);
+		Assert.assertArrayEquals(new double[] { 1.0, 0.5, 0.0, 1.25 },
+				normalized.getColumn(1), Settings.EPS);
+		Assert.assertFalse(normalized.isFeasible(3));
+
+		// the original matrix is unchanged
+		Assert.assertEquals(3.0, matrix.getObjective(2, 0), Settings.EPS);
+	}
+
+	/**
+	 * Tests if normalization can exclude the infeasible solutions.
+	 */
+	@Test
+	public void testNormalizeFeasibleOnly() {
+		ObjectiveMatrix normalized = matrix.normalize(
+				new double[] { 0.0, 0.0 }, new double[] { 2.0, 4.0 }, true);
+
+		Assert.assertEquals(3, normalized.size());
+		Assert.assertArrayEquals(new double[] { 0.0, 0.5, 1.5 },
+				normalized.getColumn(0), Settings.EPS);
+		Assert.assertArrayEquals(new double[] { 1.0, 0.5, 0.0 },
+				normalized.getColumn(1), Settings.EPS);
+		Assert.assertTrue(normalized.isFeasible(2));
+	}
+
+	/**
+	 * Tests the distance kernels.
+	 */
+	@Test
+	public void testDistance() {
+		Assert.assertEquals(Math.sqrt(5.0), matrix.distance(0, 1),
+				Settings.EPS);
+		Assert.assertEquals(5.0, matrix.distance(0, new double[] { 3.0, 0.0 }),
+				Settings.EPS);
+		Assert.assertEquals(0.0, matrix.distanceToNearest(
+				new double[] { 1.0, 2.0 }), Settings.EPS);
+		Assert.assertEquals(1.0, matrix.distanceToNearest(
+				new double[] { 3.0, -1.0 }), Settings.EPS);
+	}
+
+}
@@ -207,4 +207,63 @@ public class PopulationTest {
 				Settings.EPS);
 	}
 
+	/**
+	 * Tests if the objective matrix is cached until the population is
+	 * modified.
+	 */
+	@Test
+	public void testObjectiveMatrix() {
+		ObjectiveMatrix matrix = population.getObjectiveMatrix();
+
+		Assert.assertSame(matrix, population.getObjectiveMatrix());
+		Assert.assertEquals(4, matrix.size());
+		Assert.assertEquals(3, matrix.getNumberOfObjectives());
+		Assert.assertEquals(4.0, matrix.getObjective(3, 0), Settings.EPS);
+
+		population.add(new Solution(new double[] { 0.0, 0.0, 0.0 }));
+		matrix = assertObjectiveMatrixUpdated(matrix);
+
+		population.remove(0);
+		matrix = assertObjectiveMatrixUpdated(matrix);
+
+		population.replace(0, new Solution(new double[] { 5.0, 5.0, 5.0 }));
+		matrix = assertObjectiveMatrixUpdated(matrix);
+
+		population.sort(new Comparator<Solution>() {
+
+			@Override
+			public int compare(Solution solution1, Solution solution2) {
+				return Double.compare(solution1.getObjective(0),
+						solution2.getObjective(0));
+			}
+
+		});
+		matrix = assertObjectiveMatrixUpdated(matrix);
+
+		population.clear();
+		matrix = assertObjectiveMatrixUpdated(matrix);
+	}
+
+	/**
+	 * Asserts that the population returns a new objective matrix matching the
+	 * current solutions.
+	 * 
+	 * @param oldMatrix the previous objective matrix
+	 * @return the new objective matrix
+	 */
+	private ObjectiveMatrix assertObjectiveMatrixUpdated(
+			ObjectiveMatrix oldMatrix) {
+		ObjectiveMatrix matrix = population.getObjectiveMatrix();
+
+		Assert.assertNotSame(oldMatrix, matrix);
+		Assert.assertEquals(population.size(), matrix.size());
+
+		for (int i = 0; i < population.size(); i++) {
+			Assert.assertArrayEquals(population.get(i).getObjectives(),
+					matrix.getRow(i), Settings.EPS);
+		}
+
+		return matrix;
+	}
+
 }
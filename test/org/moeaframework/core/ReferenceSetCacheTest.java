@@ -0,0 +1,118 @@
+/* Copyright 2009-2020 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.moeaframework.TestUtils;
+
+/**
+ * Tests the {@link ReferenceSetCache} class.
+ */
+public class ReferenceSetCacheTest {
+	
+	/**
+	 * Clears the cache before each test.
+	 */
+	@Before
+	public void setUp() {
+		ReferenceSetCache.clear();
+	}
+	
+	/**
+	 * Clears the cache after each test.
+	 */
+	@After
+	public void tearDown() {
+		ReferenceSetCache.clear();
+	}
+	
+	/**
+	 * Tests if dominated solutions are removed when the reference set is
+	 * loaded.
+	 * 
+	 * @throws IOException should not occur
+	 */
+	@Test
+	public void testNondominated() throws IOException {
+		File file = TestUtils.createTempFile("0.0 1.0\n1.0 0.0\n1.0 1.0\n");
+		NondominatedPopulation referenceSet =
+				ReferenceSetCache.getReferenceSet("test", file);
+		
+		Assert.assertEquals(2, referenceSet.size());
+		Assert.assertArrayEquals(new double[] { 0.0, 1.0 },
+				referenceSet.get(0).getObjectives(), 0.0);
+		Assert.assertArrayEquals(new double[] { 1.0, 0.0 },
+				referenceSet.get(1).getObjectives(), 0.0);
+	}
+	
+	/**
+	 * Tests if each call returns an independent copy of the cached reference
+	 * set sharing the same objective matrix.
+	 * 
+	 * @throws IOException should not occur
+	 */
+	@Test
+	public void testCopies() throws IOException {
+		File file = TestUtils.createTempFile("0.0 1.0\n0.5 0.5\n1.0 0.0\n");
+		NondominatedPopulation referenceSet1 =
+				ReferenceSetCache.getReferenceSet("test", file);
+		NondominatedPopulation referenceSet2 =
+				ReferenceSetCache.getReferenceSet("test", file);
+		
+		Assert.assertNotSame(referenceSet1, referenceSet2);
+		Assert.assertNotSame(referenceSet1.get(0), referenceSet2.get(0));
+		Assert.assertSame(referenceSet1.getObjectiveMatrix(),
+				referenceSet2.getObjectiveMatrix());
+		TestUtils.assertEquals(referenceSet1, referenceSet2);
+		
+		// modifying a copy does not affect the cached reference set
+		referenceSet1.get(0).setObjective(0, 0.25);
+		referenceSet1.remove(2);
+		Assert.assertNotSame(referenceSet1.getObjectiveMatrix(),
+				referenceSet2.getObjectiveMatrix());
+		
+		NondominatedPopulation referenceSet3 =
+				ReferenceSetCache.getReferenceSet("test", file);
+		
+		TestUtils.assertEquals(referenceSet2, referenceSet3);
+	}
+	
+	/**
+	 * Tests if reference sets with the same name but different contents, such
+	 * as when the file is modified, are distinguished.
+	 * 
+	 * @throws IOException should not occur
+	 */
+	@Test
+	public void testChangedContents() throws IOException {
+		File file1 = TestUtils.createTempFile("0.0 1.0\n1.0 0.0\n");
+		File file2 = TestUtils.createTempFile("0.0 1.0\n0.5 0.5\n1.0 0.0\n");
+		
+		Assert.assertEquals(2, ReferenceSetCache.getReferenceSet("test",
+				file1).size());
+		Assert.assertEquals(3, ReferenceSetCache.getReferenceSet("test",
+				file2).size());
+	}
+
+}
@@ -17,6 +17,10 @@
  */
 package org.moeaframework.core;
 
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -221,6 +225,98 @@ public class SolutionTest {
 		Assert.assertNull(solution.getAttribute("foo"));
 	}
 
+	/**
+	 * Tests if the typed {@code rank}, {@code crowdingDistance}, and
+	 * {@code fitness} attributes are accessible through both the typed and
+	 * general-purpose attribute methods.
+	 */
+	@Test
+	public void testTypedAttributes() {
+		Assert.assertFalse(solution.hasAttribute(
+				NondominatedSorting.RANK_ATTRIBUTE));
+		Assert.assertNull(solution.getAttribute(
+				NondominatedSorting.RANK_ATTRIBUTE));
+
+		solution.setIntAttribute(NondominatedSorting.RANK_ATTRIBUTE, 2);
+		solution.setDoubleAttribute(NondominatedSorting.CROWDING_ATTRIBUTE,
+				0.5);
+		solution.setAttribute(FitnessEvaluator.FITNESS_ATTRIBUTE, 1.5);
+
+		Assert.assertTrue(solution.hasAttribute(
+				NondominatedSorting.RANK_ATTRIBUTE));
+		Assert.assertEquals(2, solution.getIntAttribute(
+				NondominatedSorting.RANK_ATTRIBUTE));
+		Assert.assertEquals(2, solution.getAttribute(
+				NondominatedSorting.RANK_ATTRIBUTE));
+		Assert.assertEquals(0.5, solution.getDoubleAttribute(
+				NondominatedSorting.CROWDING_ATTRIBUTE), Settings.EPS);
+		Assert.assertEquals(1.5, (Double)solution.getAttribute(
+				FitnessEvaluator.FITNESS_ATTRIBUTE), Settings.EPS);
+		Assert.assertEquals(1.5, solution.getDoubleAttribute(
+				FitnessEvaluator.FITNESS_ATTRIBUTE), Settings.EPS);
+		Assert.assertEquals(4, solution.getAttributes().size());
+
+		// overwriting returns the previous value
+		Assert.assertEquals(2, solution.setAttribute(
+				NondominatedSorting.RANK_ATTRIBUTE, 3));
+		Assert.assertEquals(3, solution.getIntAttribute(
+				NondominatedSorting.RANK_ATTRIBUTE));
+
+		// removing a typed attribute
+		Assert.assertEquals(0.5, solution.removeAttribute(
+				NondominatedSorting.CROWDING_ATTRIBUTE));
+		Assert.assertFalse(solution.hasAttribute(
+				NondominatedSorting.CROWDING_ATTRIBUTE));
+		Assert.assertEquals(3, solution.getAttributes().size());
+
+		// values of other types are still supported
+		solution.setAttribute(FitnessEvaluator.FITNESS_ATTRIBUTE, 1);
+		Assert.assertEquals(1, solution.getAttribute(
+				FitnessEvaluator.FITNESS_ATTRIBUTE));
+		Assert.assertEquals(1.0, solution.getDoubleAttribute(
+				FitnessEvaluator.FITNESS_ATTRIBUTE), Settings.EPS);
+
+		// non-typed attributes are stored in the attribute map
+		solution.setIntAttribute("count", 5);
+		Assert.assertEquals(5, solution.getAttribute("count"));
+
+		solution.clearAttributes();
+		Assert.assertEquals(0, solution.getAttributes().size());
+		Assert.assertFalse(solution.hasAttribute(
+				NondominatedSorting.RANK_ATTRIBUTE));
+	}
+
+	/**
+	 * Tests if the map returned by {@code getAttributes} includes the typed
+	 * attributes and writes through to the solution.
+	 */
+	@Test
+	public void testGetAttributes() {
+		solution.setIntAttribute(NondominatedSorting.RANK_ATTRIBUTE, 1);
+
+		Map<String, Serializable> attributes = solution.getAttributes();
+		Assert.assertEquals(2, attributes.size());
+		Assert.assertEquals("bar", attributes.get("foo"));
+		Assert.assertEquals(1, attributes.get(
+				NondominatedSorting.RANK_ATTRIBUTE));
+
+		Map<String, Serializable> copy =
+				new HashMap<String, Serializable>(attributes);
+		Assert.assertEquals(attributes, copy);
+
+		attributes.put(NondominatedSorting.RANK_ATTRIBUTE, 4);
+		Assert.assertEquals(4, solution.getIntAttribute(
+				NondominatedSorting.RANK_ATTRIBUTE));
+
+		attributes.remove("foo");
+		Assert.assertFalse(solution.hasAttribute("foo"));
+
+		Solution copy2 = solution.deepCopy();
+		Assert.assertEquals(4, copy2.getIntAttribute(
+				NondominatedSorting.RANK_ATTRIBUTE));
+		Assert.assertEquals(1, copy2.getAttributes().size());
+	}
+
 	/**
 	 * Tests if the {@code setVariable} method correctly detects invalid
 	 * indices.
@@ -0,0 +1,182 @@
+/* Copyright 2009-2020 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the {@link SplittableRandomAdaptor} class.  The statistical tests of
+ * {@link PRNGTest} are repeated with the adaptor as the source of randomness
+ * of the current thread.
+ */
+public class SplittableRandomAdaptorTest extends PRNGTest {
+	
+	/**
+	 * Uses a new stream as the source of randomness of the current thread.
+	 */
+	@Before
+	public void setUp() {
+		PRNG.setThreadRandom(PRNG.split());
+	}
+	
+	/**
+	 * Restores the shared source of randomness.
+	 */
+	@After
+	public void tearDown() {
+		PRNG.setThreadRandom(null);
+	}
+	
+	/**
+	 * Tests if the thread's source of randomness is used by {@link PRNG}.
+	 */
+	@Test
+	public void testThreadRandom() {
+		Assert.assertTrue(PRNG.getRandom() instanceof SplittableRandomAdaptor);
+		Assert.assertSame(PRNG.getThreadRandom(), PRNG.getRandom());
+		
+		PRNG.setSeed(1234);
+		double expected = PRNG.nextDouble();
+		
+		PRNG.setThreadRandom(new SplittableRandomAdaptor(1234));
+		Assert.assertEquals(expected, PRNG.nextDouble(), 0.0);
+	}
+	
+	/**
+	 * Tests if streams with the same seed produce the same values, including
+	 * after resetting the seed.
+	 */
+	@Test
+	public void testReproducible() {
+		Random random1 = new SplittableRandomAdaptor(1234);
+		Random random2 = new SplittableRandomAdaptor(1234);
+		
+		assertSameValues(random1, random2);
+		
+		random1.setSeed(5678);
+		random2.setSeed(5678);
+		
+		assertSameValues(random1, random2);
+	}
+	
+	/**
+	 * Tests if split streams are reproducible and differ from the stream
+	 * they were split from.
+	 */
+	@Test
+	public void testSplit() {
+		SplittableRandomAdaptor random1 = new SplittableRandomAdaptor(1234);
+		SplittableRandomAdaptor random2 = new SplittableRandomAdaptor(1234);
+		SplittableRandomAdaptor split1 = random1.split();
+		SplittableRandomAdaptor split2 = random2.split();
+		
+		assertSameValues(split1, split2);
+		assertSameValues(random1, random2);
+		Assert.assertNotEquals(random1.nextLong(), split1.nextLong());
+	}
+	
+	/**
+	 * Tests if a deserialized stream, including a split stream, continues with
+	 * the same values as the original stream.
+	 * 
+	 * @throws IOException should not occur
+	 * @throws ClassNotFoundException should not occur
+	 */
+	@Test
+	public void testSerialization() throws IOException,
+			ClassNotFoundException {
+		SplittableRandomAdaptor random = new SplittableRandomAdaptor(1234);
+		random.nextDouble();
+		
+		assertSameValues(random, serialize(random));
+		
+		SplittableRandomAdaptor split = random.split();
+		split.nextGaussian();
+		
+		assertSameValues(split, serialize(split));
+	}
+	
+	/**
+	 * Tests if streams derived by {@link PRNG#split()} from a seeded thread
+	 * source are reproducible.
+	 */
+	@Test
+	public void testPRNGSplit() {
+		PRNG.setSeed(1234);
+		Random split1 = PRNG.split();
+		Random split2 = PRNG.split();
+		
+		PRNG.setSeed(1234);
+		assertSameValues(split1, PRNG.split());
+		assertSameValues(split2, PRNG.split());
+	}
+	
+	/**
+	 * Serializes and deserializes the given stream.
+	 * 
+	 * @param random the stream
+	 * @return the deserialized copy of the stream
+	 * @throws IOException if an I/O error occurred
+	 * @throws ClassNotFoundException if the class of a serialized object could
+	 *         not be found
+	 */
+	private Random serialize(Random random) throws IOException,
+			ClassNotFoundException {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		ObjectOutputStream output = new ObjectOutputStream(buffer);
+		output.writeObject(random);
+		output.close();
+		
+		ObjectInputStream input = new ObjectInputStream(
+				new ByteArrayInputStream(buffer.toByteArray()));
+		
+		try {
+			return (Random)input.readObject();
+		} finally {
+			input.close();
+		}
+	}
+	
+	/**
+	 * Asserts that the two sources of randomness produce the same sequence
+	 * of values.
+	 * 
+	 * @param random1 the first source of randomness
+	 * @param random2 the second source of randomness
+	 */
+	private void assertSameValues(Random random1, Random random2) {
+		for (int i = 0; i < 100; i++) {
+			Assert.assertEquals(random1.nextDouble(), random2.nextDouble(), 0.0);
+			Assert.assertEquals(random1.nextInt(10), random2.nextInt(10));
+			Assert.assertEquals(random1.nextFloat(), random2.nextFloat(), 0.0f);
+			Assert.assertEquals(random1.nextGaussian(), random2.nextGaussian(),
+					0.0);
+		}
+	}
+
+}
@@ -0,0 +1,152 @@
+/* Copyright 2009-2020 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.indicator;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Settings;
+
+/**
+ * Tests the {@link HypervolumeContributions} class.
+ */
+public class HypervolumeContributionsTest {
+
+	/**
+	 * Tests simple cases with known contributions.
+	 */
+	@Test
+	public void testSimple() {
+		HypervolumeContributions contributions = new HypervolumeContributions(
+				new double[][] { { 0.5, 1.0 }, { 1.0, 0.25 }, { 0.25, 0.25 },
+						{ 1.0, 0.25 } }, 4, 2);
+
+		Assert.assertEquals(0.375, contributions.get(0), Settings.EPS);
+		Assert.assertEquals(0.0, contributions.get(1), Settings.EPS);
+		Assert.assertEquals(0.0, contributions.get(2), Settings.EPS);
+		Assert.assertEquals(0.0, contributions.get(3), Settings.EPS);
+
+		contributions.remove(3);
+
+		Assert.assertEquals(3, contributions.size());
+		Assert.assertTrue(contributions.isRemoved(3));
+		Assert.assertEquals(0.375, contributions.get(0), Settings.EPS);
+		Assert.assertEquals(0.125, contributions.get(1), Settings.EPS);
+		Assert.assertEquals(0.0, contributions.get(2), Settings.EPS);
+	}
+
+	/**
+	 * Tests if removing a point twice throws an exception.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testRemoveTwice() {
+		HypervolumeContributions contributions = new HypervolumeContributions(
+				new double[][] { { 0.5, 1.0 }, { 1.0, 0.25 } }, 2, 2);
+
+		contributions.remove(0);
+		contributions.remove(0);
+	}
+
+	/**
+	 * Tests if the contributions match the difference in hypervolume when
+	 * each point is removed, for random points with two to five objectives.
+	 * Points are repeatedly removed and the updated contributions are
+	 * compared against the same difference for the remaining points.
+	 */
+	@Test
+	public void testRandom() {
+		for (int numberOfObjectives = 2; numberOfObjectives <= 5;
+				numberOfObjectives++) {
+			for (int i = 0; i < 20; i++) {
+				double[][] points = new double[PRNG.nextInt(1, 30)]
+						[numberOfObjectives];
+
+				for (int j = 0; j < points.length; j++) {
+					for (int k = 0; k < numberOfObjectives; k++) {
+						// round to create duplicate and dominated points
+						points[j][k] = (i % 2 == 0) ? PRNG.nextDouble() :
+							PRNG.nextInt(1, 6) / 5.0;
+					}
+				}
+
+				HypervolumeContributions contributions =
+						new HypervolumeContributions(points, points.length,
+								numberOfObjectives);
+				boolean[] removed = new boolean[points.length];
+
+				while (contributions.size() > 0) {
+					assertContributions(points, removed, contributions);
+
+					int index = contributions.findMinimum();
+					removed[index] = true;
+					contributions.remove(index);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Asserts that the contribution of each remaining point equals the
+	 * hypervolume of the remaining points minus the hypervolume without that
+	 * point.
+	 *
+	 * @param points the points
+	 * @param removed {@code true} for each point that was removed
+	 * @param contributions the contributions being tested
+	 */
+	private void assertContributions(double[][] points, boolean[] removed,
+			HypervolumeContributions contributions) {
+		double total = calculate(points, removed, -1);
+
+		for (int i = 0; i < points.length; i++) {
+			if (removed[i]) {
+				Assert.assertTrue(contributions.isRemoved(i));
+				Assert.assertEquals(0.0, contributions.get(i), 0.0);
+			} else {
+				Assert.assertFalse(contributions.isRemoved(i));
+				Assert.assertEquals(total - calculate(points, removed, i),
+						contributions.get(i), Settings.EPS);
+			}
+		}
+	}
+
+	/**
+	 * Returns the hypervolume of the points that were not removed, also
+	 * excluding the point at the given index.
+	 *
+	 * @param points the points
+	 * @param removed {@code true} for each point that was removed
+	 * @param exclude the index of an additional point to exclude, or
+	 *        {@code -1}
+	 * @return the hypervolume of the remaining points
+	 */
+	private double calculate(double[][] points, boolean[] removed,
+			int exclude) {
+		double[][] remaining = new double[points.length][];
+		int size = 0;
+
+		for (int i = 0; i < points.length; i++) {
+			if (!removed[i] && (i != exclude)) {
+				remaining[size++] = points[i];
+			}
+		}
+
+		return WFGHypervolume.calculate(remaining, size, points[0].length);
+	}
+
+}
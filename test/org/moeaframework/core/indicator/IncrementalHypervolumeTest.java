@@ -0,0 +1,155 @@
+/* Copyright 2009-2020 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.indicator;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.analysis.sensitivity.ProblemStub;
+import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Problem;
+import org.moeaframework.core.Solution;
+
+/**
+ * Tests the {@link IncrementalHypervolume} class.
+ */
+public class IncrementalHypervolumeTest {
+
+	/**
+	 * Tests if the tracked hypervolume matches the hypervolume computed from
+	 * scratch as solutions are inserted into and removed from the
+	 * approximation set.
+	 */
+	@Test
+	public void testMatchesHypervolume() {
+		for (int numberOfObjectives = 2; numberOfObjectives <= 5;
+				numberOfObjectives++) {
+			Problem problem = new ProblemStub(numberOfObjectives);
+			double[] minimum = new double[numberOfObjectives];
+			double[] maximum = new double[numberOfObjectives];
+			
+			for (int j = 0; j < numberOfObjectives; j++) {
+				maximum[j] = 1.1;
+			}
+			
+			Hypervolume hypervolume = new Hypervolume(problem, minimum,
+					maximum);
+			IncrementalIndicator tracker = IncrementalIndicator.of(
+					hypervolume);
+			NondominatedPopulation approximationSet =
+					new NondominatedPopulation();
+			
+			Assert.assertTrue(tracker instanceof IncrementalHypervolume);
+			
+			for (int i = 0; i < 300; i++) {
+				approximationSet.add(newSolution(numberOfObjectives));
+				
+				if ((i % 10 == 0) && (approximationSet.size() > 1)) {
+					approximationSet.remove(PRNG.nextInt(
+							approximationSet.size()));
+				}
+				
+				Assert.assertEquals(hypervolume.evaluate(approximationSet),
+						tracker.evaluate(approximationSet), 1e-10);
+			}
+		}
+	}
+	
+	/**
+	 * Tests if the tracked hypervolume only depends on the current
+	 * approximation set, and not the history of changes, by comparing with a
+	 * new tracker.
+	 */
+	@Test
+	public void testHistoryIndependent() {
+		Problem problem = new ProblemStub(3);
+		Hypervolume hypervolume = new Hypervolume(problem,
+				new double[] { 0.0, 0.0, 0.0 }, new double[] { 1.1, 1.1, 1.1 });
+		IncrementalIndicator tracker = IncrementalIndicator.of(hypervolume);
+		NondominatedPopulation approximationSet = new NondominatedPopulation();
+		
+		for (int i = 0; i < 200; i++) {
+			approximationSet.add(newSolution(3));
+			
+			if ((i % 5 == 0) && (approximationSet.size() > 1)) {
+				approximationSet.remove(PRNG.nextInt(approximationSet.size()));
+			}
+			
+			Assert.assertEquals(IncrementalIndicator.of(hypervolume).evaluate(
+					approximationSet), tracker.evaluate(approximationSet), 0.0);
+		}
+	}
+	
+	/**
+	 * Tests if the hypervolume of an empty approximation set is {@code 0}.
+	 */
+	@Test
+	public void testEmpty() {
+		IncrementalHypervolume tracker = new IncrementalHypervolume(
+				new Hypervolume(new ProblemStub(2), new double[] { 0.0, 0.0 },
+						new double[] { 1.0, 1.0 }));
+		NondominatedPopulation approximationSet = new NondominatedPopulation();
+		
+		Assert.assertEquals(0.0, tracker.evaluate(approximationSet), 0.0);
+		
+		approximationSet.add(new Solution(new double[] { 0.5, 0.5 }));
+		Assert.assertEquals(0.25, tracker.evaluate(approximationSet), 1e-10);
+		
+		approximationSet.clear();
+		Assert.assertEquals(0.0, tracker.evaluate(approximationSet), 0.0);
+	}
+	
+	/**
+	 * Tests if estimated hypervolumes are rejected.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testEstimator() {
+		NondominatedPopulation referenceSet = new NondominatedPopulation();
+		referenceSet.add(new Solution(new double[] { 0.0, 1.0 }));
+		referenceSet.add(new Solution(new double[] { 1.0, 0.0 }));
+		
+		new IncrementalHypervolume(new Hypervolume(new ProblemStub(2),
+				referenceSet, true));
+	}
+	
+	/**
+	 * Returns a new solution near the unit sphere, where some solutions
+	 * exceed the reference point.
+	 * 
+	 * @param numberOfObjectives the number of objectives
+	 * @return a new solution near the unit sphere
+	 */
+	private Solution newSolution(int numberOfObjectives) {
+		double[] objectives = new double[numberOfObjectives];
+		double norm = 0.0;
+		
+		for (int j = 0; j < numberOfObjectives; j++) {
+			objectives[j] = PRNG.nextDouble();
+			norm += objectives[j] * objectives[j];
+		}
+		
+		norm = Math.sqrt(norm) / PRNG.nextDouble(1.0, 1.2);
+		
+		for (int j = 0; j < numberOfObjectives; j++) {
+			objectives[j] /= norm;
+		}
+		
+		return new Solution(objectives);
+	}
+
+}
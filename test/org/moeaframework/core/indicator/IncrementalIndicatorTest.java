@@ -0,0 +1,71 @@
+/* Copyright 2009-2020 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.indicator;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.core.Indicator;
+import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.Solution;
+
+/**
+ * Tests the {@link IncrementalIndicator} class.
+ */
+public class IncrementalIndicatorTest {
+
+	/**
+	 * Tests if other indicators are only evaluated when the approximation set
+	 * changes.
+	 */
+	@Test
+	public void testReevaluatesOnlyWhenChanged() {
+		final int[] count = new int[1];
+		
+		IncrementalIndicator tracker = IncrementalIndicator.of(
+				new Indicator() {
+
+			@Override
+			public double evaluate(NondominatedPopulation approximationSet) {
+				count[0]++;
+				return approximationSet.size();
+			}
+			
+		});
+		
+		NondominatedPopulation approximationSet = new NondominatedPopulation();
+		approximationSet.add(new Solution(new double[] { 0.0, 1.0 }));
+		
+		Assert.assertEquals(1.0, tracker.evaluate(approximationSet), 0.0);
+		Assert.assertEquals(1.0, tracker.evaluate(approximationSet), 0.0);
+		Assert.assertEquals(1, count[0]);
+		
+		// a new population containing the same solutions is unchanged
+		Assert.assertEquals(1.0, tracker.evaluate(new NondominatedPopulation(
+				approximationSet)), 0.0);
+		Assert.assertEquals(1, count[0]);
+		
+		// an equal but distinct solution is a change
+		approximationSet.clear();
+		approximationSet.add(new Solution(new double[] { 0.0, 1.0 }));
+		approximationSet.add(new Solution(new double[] { 1.0, 0.0 }));
+		
+		Assert.assertEquals(2.0, tracker.evaluate(approximationSet), 0.0);
+		Assert.assertEquals(2, count[0]);
+	}
+
+}
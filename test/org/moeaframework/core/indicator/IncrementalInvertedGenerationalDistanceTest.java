@@ -0,0 +1,84 @@
+/* Copyright 2009-2020 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.indicator;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Problem;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.spi.ProblemFactory;
+
+/**
+ * Tests the {@link IncrementalInvertedGenerationalDistance} class.
+ */
+public class IncrementalInvertedGenerationalDistanceTest {
+
+	/**
+	 * Tests if the tracked value is identical to the inverted generational
+	 * distance computed from scratch as solutions are inserted into and
+	 * removed from the approximation set.
+	 */
+	@Test
+	public void testMatchesInvertedGenerationalDistance() {
+		for (String problemName : new String[] { "DTLZ2_2", "DTLZ2_3" }) {
+			ProblemFactory problemFactory = ProblemFactory.getInstance();
+			Problem problem = problemFactory.getProblem(problemName);
+			NondominatedPopulation referenceSet =
+					problemFactory.getReferenceSet(problemName);
+			
+			for (double d : new double[] { 1.0, 2.0 }) {
+				InvertedGenerationalDistance indicator =
+						new InvertedGenerationalDistance(problem, referenceSet,
+								d);
+				IncrementalIndicator tracker = IncrementalIndicator.of(
+						indicator);
+				NondominatedPopulation approximationSet =
+						new NondominatedPopulation();
+				
+				Assert.assertTrue(tracker instanceof
+						IncrementalInvertedGenerationalDistance);
+				Assert.assertEquals(Double.POSITIVE_INFINITY,
+						tracker.evaluate(approximationSet), 0.0);
+				
+				for (int i = 0; i < 200; i++) {
+					Solution solution = referenceSet.get(PRNG.nextInt(
+							referenceSet.size())).copy();
+					
+					for (int j = 0; j < solution.getNumberOfObjectives();
+							j++) {
+						solution.setObjective(j, solution.getObjective(j) *
+								PRNG.nextDouble(1.0, 1.3));
+					}
+					
+					approximationSet.add(solution);
+					
+					if ((i % 10 == 0) && (approximationSet.size() > 1)) {
+						approximationSet.remove(PRNG.nextInt(
+								approximationSet.size()));
+					}
+					
+					Assert.assertEquals(indicator.evaluate(approximationSet),
+							tracker.evaluate(approximationSet), 0.0);
+				}
+			}
+		}
+	}
+
+}
@@ -101,4 +101,26 @@ public class IndicatorUtilsTest {
 				Settings.EPS);
 	}
 	
+	/**
+	 * Tests if the distance to the nearest neighboring solution only uses the
+	 * objectives defined by the problem.
+	 */
+	@Test
+	public void testDistanceToNearestSolutionExtraObjectives() {
+		Problem problem = ProblemFactory.getInstance().getProblem("DTLZ2_2");
+		
+		NondominatedPopulation population = new NondominatedPopulation();
+		population.add(TestUtils.newSolution(0.0, 1.0, 5.0));
+		population.add(TestUtils.newSolution(1.0, 0.0, 5.0));
+		
+		Assert.assertEquals(0.0, IndicatorUtils.distanceToNearestSolution(
+				problem, TestUtils.newSolution(0.0, 1.0, 0.0), population),
+				Settings.EPS);
+		
+		Assert.assertEquals(Math.sqrt(0.5), 
+				IndicatorUtils.distanceToNearestSolution(problem, 
+						TestUtils.newSolution(0.5, 0.5, 0.0), population),
+				Settings.EPS);
+	}
+	
 }
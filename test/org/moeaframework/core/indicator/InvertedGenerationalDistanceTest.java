@@ -71,6 +71,40 @@ public class InvertedGenerationalDistanceTest extends IndicatorTest {
 				igd.evaluate(approximationSet), Settings.EPS);
 	}
 	
+	/**
+	 * Tests if indicators constructed from separately loaded copies of the
+	 * same reference set share the normalized reference set, and that
+	 * modifying the reference set is detected.
+	 */
+	@Test
+	public void testSharedReferenceSet() {
+		Problem problem = ProblemFactory.getInstance().getProblem("DTLZ2_2");
+		NondominatedPopulation referenceSet1 = ProblemFactory.getInstance()
+				.getReferenceSet("DTLZ2_2");
+		NondominatedPopulation referenceSet2 = ProblemFactory.getInstance()
+				.getReferenceSet("DTLZ2_2");
+
+		InvertedGenerationalDistance igd1 = new InvertedGenerationalDistance(
+				problem, referenceSet1);
+		InvertedGenerationalDistance igd2 = new InvertedGenerationalDistance(
+				problem, referenceSet2);
+		
+		Assert.assertSame(igd1.getNormalizedReferenceObjectives(),
+				igd2.getNormalizedReferenceObjectives());
+		Assert.assertSame(igd1.getNormalizedReferenceTree(),
+				igd2.getNormalizedReferenceTree());
+		
+		referenceSet2.remove(0);
+		
+		InvertedGenerationalDistance igd3 = new InvertedGenerationalDistance(
+				problem, referenceSet2);
+		
+		Assert.assertNotSame(igd1.getNormalizedReferenceObjectives(),
+				igd3.getNormalizedReferenceObjectives());
+		Assert.assertEquals(referenceSet2.size(),
+				igd3.getNormalizedReferenceObjectives().size());
+	}
+	
 	/**
 	 * Tests if infeasible solutions are properly ignored.
 	 */
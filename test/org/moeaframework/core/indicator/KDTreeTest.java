@@ -0,0 +1,131 @@
+/* Copyright 2009-2020 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.indicator;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.core.ObjectiveMatrix;
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Population;
+import org.moeaframework.core.Solution;
+
+/**
+ * Tests the {@link KDTree} class.
+ */
+public class KDTreeTest {
+
+	/**
+	 * Tests if an empty tree returns positive infinity.
+	 */
+	@Test
+	public void testEmpty() {
+		KDTree tree = new KDTree(new ObjectiveMatrix(new Population()));
+
+		Assert.assertEquals(0, tree.size());
+		Assert.assertEquals(Double.POSITIVE_INFINITY,
+				tree.distanceToNearest(new double[] { 0.5, 0.5 }), 0.0);
+		Assert.assertEquals(Double.POSITIVE_INFINITY,
+				tree.minimumEpsilon(new double[] { 0.5, 0.5 }, 0.0), 0.0);
+	}
+
+	/**
+	 * Tests if the nearest neighbor and minimum &epsilon; queries match a
+	 * linear scan for random points, including duplicate points, with two to
+	 * six objectives.
+	 */
+	@Test
+	public void testRandom() {
+		for (int numberOfObjectives = 2; numberOfObjectives <= 6;
+				numberOfObjectives++) {
+			for (int size : new int[] { 1, 7, 100, 2000 }) {
+				Population population = new Population();
+
+				for (int i = 0; i < size; i++) {
+					population.add(new Solution(newPoint(numberOfObjectives,
+							i % 2 == 0)));
+				}
+
+				ObjectiveMatrix matrix = new ObjectiveMatrix(population);
+				KDTree tree = new KDTree(matrix);
+
+				for (int i = 0; i < 100; i++) {
+					double[] point = newPoint(numberOfObjectives, i % 2 == 0);
+
+					Assert.assertEquals(matrix.distanceToNearest(point),
+							tree.distanceToNearest(point), 0.0);
+					Assert.assertEquals(minimumEpsilon(matrix, point),
+							tree.minimumEpsilon(point, -1.0), 0.0);
+
+					double threshold = PRNG.nextDouble(0.0, 0.5);
+					double epsilon = tree.minimumEpsilon(point, threshold);
+
+					if (epsilon > threshold) {
+						Assert.assertEquals(minimumEpsilon(matrix, point),
+								epsilon, 0.0);
+					} else {
+						Assert.assertTrue(minimumEpsilon(matrix, point) <=
+								threshold);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns a random point in the unit hypercube.
+	 *
+	 * @param numberOfObjectives the number of objectives
+	 * @param rounded if {@code true}, rounds the coordinates to create
+	 *        duplicate points
+	 * @return the random point
+	 */
+	private double[] newPoint(int numberOfObjectives, boolean rounded) {
+		double[] point = new double[numberOfObjectives];
+
+		for (int j = 0; j < numberOfObjectives; j++) {
+			point[j] = rounded ? PRNG.nextInt(5) / 4.0 : PRNG.nextDouble();
+		}
+
+		return point;
+	}
+
+	/**
+	 * Returns the minimum additive &epsilon; by a linear scan.
+	 *
+	 * @param matrix the points
+	 * @param point the point
+	 * @return the minimum additive &epsilon;
+	 */
+	private double minimumEpsilon(ObjectiveMatrix matrix, double[] point) {
+		double minimum = Double.POSITIVE_INFINITY;
+
+		for (int i = 0; i < matrix.size(); i++) {
+			double epsilon = 0.0;
+
+			for (int j = 0; j < point.length; j++) {
+				epsilon = Math.max(epsilon, matrix.getObjective(i, j) -
+						point[j]);
+			}
+
+			minimum = Math.min(minimum, epsilon);
+		}
+
+		return minimum;
+	}
+
+}
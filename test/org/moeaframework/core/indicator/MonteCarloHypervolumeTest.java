@@ -0,0 +1,219 @@
+/* Copyright 2009-2020 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.indicator;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.analysis.sensitivity.ProblemStub;
+import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Problem;
+import org.moeaframework.core.Settings;
+import org.moeaframework.core.Solution;
+
+/**
+ * Tests the {@link MonteCarloHypervolume} class.
+ */
+public class MonteCarloHypervolumeTest {
+
+	/**
+	 * Tests if a single point, which dominates the entire sampling box, has
+	 * an exact estimate.
+	 */
+	@Test
+	public void testSinglePoint() {
+		MonteCarloHypervolume estimator = new MonteCarloHypervolume(1000, 1);
+		MonteCarloHypervolume.Estimate estimate = estimator.estimate(
+				new double[][] { { 0.4, 0.5, 0.6 } }, 1, 3);
+
+		Assert.assertEquals(0.12, estimate.getValue(), Settings.EPS);
+		Assert.assertEquals(0.0, estimate.getStandardError(), Settings.EPS);
+		Assert.assertEquals(0.0, estimator.estimate(new double[0][], 0, 3)
+				.getValue(), Settings.EPS);
+	}
+
+	/**
+	 * Tests if the estimated hypervolume is close to the exact hypervolume
+	 * for random points with three, five, and eight objectives.
+	 */
+	@Test
+	public void testEstimate() {
+		MonteCarloHypervolume estimator = new MonteCarloHypervolume(100000, 1);
+
+		for (int numberOfObjectives : new int[] { 3, 5, 8 }) {
+			double[][] points = newPoints(20, numberOfObjectives);
+			double exact = WFGHypervolume.calculate(points, points.length,
+					numberOfObjectives);
+			MonteCarloHypervolume.Estimate estimate = estimator.estimate(
+					points, points.length, numberOfObjectives);
+
+			Assert.assertTrue(estimate.getStandardError() > 0.0);
+			Assert.assertTrue(estimate.getLowerBound() <= estimate.getValue());
+			Assert.assertTrue(estimate.getUpperBound() >= estimate.getValue());
+			Assert.assertEquals(exact, estimate.getValue(),
+					4.0 * estimate.getStandardError());
+		}
+	}
+
+	/**
+	 * Tests if estimators with the same seed produce the same estimates.
+	 */
+	@Test
+	public void testSeed() {
+		double[][] points = newPoints(20, 5);
+		MonteCarloHypervolume estimator1 = new MonteCarloHypervolume(50000,
+				42);
+		MonteCarloHypervolume estimator2 = new MonteCarloHypervolume(50000,
+				42);
+
+		for (int i = 0; i < 3; i++) {
+			Assert.assertEquals(
+					estimator1.estimate(points, points.length, 5).getValue(),
+					estimator2.estimate(points, points.length, 5).getValue(),
+					0.0);
+		}
+	}
+
+	/**
+	 * Tests if the estimated contributions are close to the exact
+	 * contributions, and that dominated and duplicate points have no
+	 * contribution.
+	 */
+	@Test
+	public void testContributions() {
+		MonteCarloHypervolume estimator = new MonteCarloHypervolume(200000, 1);
+
+		for (int numberOfObjectives : new int[] { 3, 5 }) {
+			double[][] points = newPoints(10, numberOfObjectives);
+			points[8] = points[0].clone();
+
+			for (int j = 0; j < numberOfObjectives; j++) {
+				points[9][j] = points[1][j] / 2.0;
+			}
+
+			HypervolumeContributions exact = new HypervolumeContributions(
+					points, points.length, numberOfObjectives);
+			MonteCarloHypervolume.Estimate[] estimates =
+					estimator.estimateContributions(points, points.length,
+							numberOfObjectives);
+
+			for (int i = 0; i < points.length; i++) {
+				Assert.assertEquals(exact.get(i), estimates[i].getValue(),
+						4.0 * estimates[i].getStandardError() + Settings.EPS);
+			}
+
+			Assert.assertEquals(0.0, estimates[0].getValue(), 0.0);
+			Assert.assertEquals(0.0, estimates[8].getValue(), 0.0);
+			Assert.assertEquals(0.0, estimates[9].getValue(), 0.0);
+		}
+	}
+
+	/**
+	 * Tests if estimators constructed without a seed are seeded by
+	 * {@link PRNG}, so two runs with the same seed produce identical
+	 * estimates.
+	 */
+	@Test
+	public void testSeededByPRNG() {
+		Problem problem = new ProblemStub(5);
+		NondominatedPopulation referenceSet = new NondominatedPopulation();
+		NondominatedPopulation approximationSet = new NondominatedPopulation();
+
+		for (double[] point : newPoints(50, 5)) {
+			referenceSet.add(new Solution(point));
+		}
+
+		for (double[] point : newPoints(20, 5)) {
+			approximationSet.add(new Solution(point));
+		}
+
+		double[][] points = newPoints(20, 5);
+		double[] values = new double[2];
+		double[] indicatorValues = new double[2];
+
+		for (int i = 0; i < 2; i++) {
+			PRNG.setSeed(1234);
+			values[i] = new MonteCarloHypervolume(50000).estimate(points,
+					points.length, 5).getValue();
+			indicatorValues[i] = new Hypervolume(problem, referenceSet, true)
+					.evaluate(approximationSet);
+		}
+
+		Assert.assertEquals(values[0], values[1], 0.0);
+		Assert.assertEquals(indicatorValues[0], indicatorValues[1], 0.0);
+	}
+
+	/**
+	 * Tests if the hypervolume indicator produces similar values when
+	 * estimating the hypervolume.
+	 */
+	@Test
+	public void testIndicator() {
+		Problem problem = new ProblemStub(4);
+		NondominatedPopulation referenceSet = new NondominatedPopulation();
+		NondominatedPopulation approximationSet = new NondominatedPopulation();
+
+		for (double[] point : newPoints(100, 4)) {
+			referenceSet.add(new Solution(point));
+		}
+
+		for (double[] point : newPoints(20, 4)) {
+			approximationSet.add(new Solution(point));
+		}
+
+		Hypervolume exact = new Hypervolume(problem, referenceSet, false);
+		Hypervolume estimated = new Hypervolume(problem, referenceSet, true);
+		MonteCarloHypervolume.Estimate estimate = estimated.estimate(
+				approximationSet);
+
+		Assert.assertEquals(exact.evaluate(approximationSet),
+				estimate.getValue(), 4.0 * estimate.getStandardError());
+		Assert.assertEquals(exact.evaluate(approximationSet),
+				estimated.evaluate(approximationSet), 0.01);
+		Assert.assertEquals(0.0, exact.estimate(approximationSet)
+				.getStandardError(), 0.0);
+	}
+
+	/**
+	 * Returns random points on the positive part of the unit sphere, which
+	 * are mutually non-dominated.
+	 *
+	 * @param count the number of points
+	 * @param numberOfObjectives the number of objectives
+	 * @return the random points
+	 */
+	private double[][] newPoints(int count, int numberOfObjectives) {
+		double[][] points = new double[count][numberOfObjectives];
+
+		for (int i = 0; i < count; i++) {
+			double norm = 0.0;
+
+			for (int j = 0; j < numberOfObjectives; j++) {
+				points[i][j] = PRNG.nextDouble();
+				norm += points[i][j] * points[i][j];
+			}
+
+			for (int j = 0; j < numberOfObjectives; j++) {
+				points[i][j] /= Math.sqrt(norm);
+			}
+		}
+
+		return points;
+	}
+
+}
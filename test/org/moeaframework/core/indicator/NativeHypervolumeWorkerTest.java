@@ -0,0 +1,401 @@
+/* Copyright 2009-2020 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.indicator;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.analysis.sensitivity.ProblemStub;
+import org.moeaframework.core.FrameworkException;
+import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Problem;
+import org.moeaframework.core.Settings;
+import org.moeaframework.core.Solution;
+
+/**
+ * Tests the {@link NativeHypervolumeWorker} class.  This class also serves as
+ * a worker implementing the protocol, using {@link WFGHypervolume}, when run
+ * as a program.
+ */
+public class NativeHypervolumeWorkerTest {
+
+	/**
+	 * Removes the hypervolume worker setting.
+	 */
+	@After
+	public void tearDown() {
+		Settings.PROPERTIES.remove(Settings.KEY_HYPERVOLUME_WORKER);
+	}
+
+	/**
+	 * Tests if requests sent concurrently from multiple threads over a socket
+	 * receive the correct responses.
+	 */
+	@Test
+	public void testPipelined() throws Exception {
+		final ServerSocket server = new ServerSocket(0);
+		FutureTask<Void> task = startServer(new Callable<Void>() {
+
+			@Override
+			public Void call() throws IOException {
+				Socket socket = server.accept();
+				serve(socket.getInputStream(), socket.getOutputStream());
+				socket.close();
+				return null;
+			}
+
+		});
+
+		final NativeHypervolumeWorker worker = new NativeHypervolumeWorker(
+				null, server.getLocalPort());
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+
+		try {
+			List<Future<Void>> futures = new ArrayList<Future<Void>>();
+
+			for (int i = 0; i < 8; i++) {
+				final double[][][] sets = new double[25][][];
+
+				for (int j = 0; j < sets.length; j++) {
+					sets[j] = newPoints(PRNG.nextInt(1, 20), 4);
+				}
+
+				futures.add(executor.submit(new Callable<Void>() {
+
+					@Override
+					public Void call() {
+						for (double[][] points : sets) {
+							Assert.assertEquals(WFGHypervolume.calculate(points,
+									points.length, 4), worker.calculate(points,
+									points.length, 4, new double[4]),
+									Settings.EPS);
+						}
+
+						return null;
+					}
+
+				}));
+			}
+
+			for (Future<Void> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+			worker.close();
+			server.close();
+		}
+
+		task.get();
+		Assert.assertTrue(worker.isClosed());
+	}
+
+	/**
+	 * Tests if closing a worker connected by a socket only shuts down the
+	 * output side of the socket, so a request still in flight receives its
+	 * response.
+	 */
+	@Test
+	public void testCloseWithRequestInFlight() throws Exception {
+		final ServerSocket server = new ServerSocket(0);
+		final CountDownLatch received = new CountDownLatch(1);
+		FutureTask<Void> task = startServer(new Callable<Void>() {
+
+			@Override
+			public Void call() throws IOException {
+				Socket socket = server.accept();
+				DataInputStream input = new DataInputStream(
+						socket.getInputStream());
+				DataOutputStream output = new DataOutputStream(
+						socket.getOutputStream());
+				int length = input.readInt();
+				int id = input.readInt();
+
+				input.readFully(new byte[length - 4]);
+				received.countDown();
+
+				// respond only after the client closed its side
+				Assert.assertEquals(-1, input.read());
+				output.writeInt(12);
+				output.writeInt(id);
+				output.writeDouble(0.25);
+				output.flush();
+				socket.close();
+				return null;
+			}
+
+		});
+
+		final NativeHypervolumeWorker worker = new NativeHypervolumeWorker(
+				null, server.getLocalPort());
+		FutureTask<Double> request = new FutureTask<Double>(
+				new Callable<Double>() {
+
+			@Override
+			public Double call() {
+				return worker.calculate(new double[][] { { 0.5, 0.5 } }, 1, 2,
+						new double[2]);
+			}
+
+		});
+
+		new Thread(request).start();
+
+		try {
+			received.await();
+			worker.close();
+
+			Assert.assertEquals(0.25, request.get(), 0.0);
+			Assert.assertTrue(worker.isClosed());
+		} finally {
+			server.close();
+		}
+
+		task.get();
+	}
+
+	/**
+	 * Tests if a request fails when the worker terminates without responding,
+	 * and that no further requests are permitted.
+	 */
+	@Test
+	public void testEndOfStream() throws Exception {
+		final ServerSocket server = new ServerSocket(0);
+		FutureTask<Void> task = startServer(new Callable<Void>() {
+
+			@Override
+			public Void call() throws IOException {
+				Socket socket = server.accept();
+				DataInputStream input = new DataInputStream(
+						socket.getInputStream());
+				input.readInt();
+				socket.close();
+				return null;
+			}
+
+		});
+
+		NativeHypervolumeWorker worker = new NativeHypervolumeWorker(null,
+				server.getLocalPort());
+
+		try {
+			worker.calculate(newPoints(5, 3), 5, 3, new double[3]);
+			Assert.fail("expected FrameworkException");
+		} catch (FrameworkException e) {
+			// expected
+		} finally {
+			task.get();
+			server.close();
+		}
+
+		Assert.assertTrue(worker.isClosed());
+
+		try {
+			worker.calculate(newPoints(5, 3), 5, 3, new double[3]);
+			Assert.fail("expected FrameworkException");
+		} catch (FrameworkException e) {
+			// expected
+		}
+	}
+
+	/**
+	 * Tests if the hypervolume indicator uses the worker process configured
+	 * in the settings, and produces the same value as the default
+	 * implementation.
+	 */
+	@Test
+	public void testSettings() {
+		Problem problem = new ProblemStub(3);
+		NondominatedPopulation referenceSet = new NondominatedPopulation();
+		NondominatedPopulation approximationSet = new NondominatedPopulation();
+
+		for (double[] point : newPoints(50, 3)) {
+			referenceSet.add(new Solution(point));
+		}
+
+		for (int i = 0; i < 10; i++) {
+			approximationSet.add(referenceSet.get(i));
+		}
+
+		Hypervolume hypervolume = new Hypervolume(problem, referenceSet);
+		double expected = hypervolume.evaluate(approximationSet);
+
+		Settings.PROPERTIES.setString(Settings.KEY_HYPERVOLUME_WORKER,
+				getWorkerCommand());
+
+		for (int i = 0; i < 3; i++) {
+			Assert.assertEquals(expected, hypervolume.evaluate(
+					approximationSet), Settings.EPS);
+		}
+	}
+
+	/**
+	 * Tests if the shared worker is replaced, and the previous worker closed,
+	 * when the worker setting changes.
+	 */
+	@Test
+	public void testSettingsChanged() {
+		Settings.PROPERTIES.setString(Settings.KEY_HYPERVOLUME_WORKER,
+				getWorkerCommand());
+
+		NativeHypervolumeWorker worker1 = Hypervolume.getWorker();
+		Assert.assertSame(worker1, Hypervolume.getWorker());
+
+		// the worker ignores its arguments
+		Settings.PROPERTIES.setString(Settings.KEY_HYPERVOLUME_WORKER,
+				getWorkerCommand() + " changed");
+
+		NativeHypervolumeWorker worker2 = Hypervolume.getWorker();
+		Assert.assertNotSame(worker1, worker2);
+		Assert.assertTrue(worker1.isClosed());
+		Assert.assertEquals(0.25, worker2.calculate(
+				new double[][] { { 0.5, 0.5 } }, 1, 2, new double[2]),
+				Settings.EPS);
+	}
+
+	/**
+	 * Returns the command running this class as a hypervolume worker.
+	 *
+	 * @return the command running this class as a hypervolume worker
+	 */
+	private static String getWorkerCommand() {
+		return "\"" + System.getProperty("java.home") + File.separator +
+				"bin" + File.separator + "java\" -cp \"" +
+				System.getProperty("java.class.path") + "\" " +
+				NativeHypervolumeWorkerTest.class.getName();
+	}
+
+	/**
+	 * Runs the server in a new thread.  Any failure is rethrown when calling
+	 * {@code get} on the returned task.
+	 *
+	 * @param server the server
+	 * @return the task running the server
+	 */
+	private static FutureTask<Void> startServer(Callable<Void> server) {
+		FutureTask<Void> task = new FutureTask<Void>(server);
+		new Thread(task).start();
+		return task;
+	}
+
+	/**
+	 * Returns random, mutually non-dominated points in the unit hypercube.
+	 *
+	 * @param count the number of points
+	 * @param numberOfObjectives the number of objectives
+	 * @return the random points
+	 */
+	private static double[][] newPoints(int count, int numberOfObjectives) {
+		double[][] points = new double[count][numberOfObjectives];
+
+		for (int i = 0; i < count; i++) {
+			double norm = 0.0;
+
+			for (int j = 0; j < numberOfObjectives; j++) {
+				points[i][j] = PRNG.nextDouble();
+				norm += points[i][j] * points[i][j];
+			}
+
+			for (int j = 0; j < numberOfObjectives; j++) {
+				points[i][j] /= Math.sqrt(norm);
+			}
+		}
+
+		return points;
+	}
+
+	/**
+	 * Answers hypervolume requests until the end of stream is reached.  The
+	 * hypervolume is measured from the reference point, so the points may be
+	 * minimized with a reference point of {@code (1, ..., 1)} or maximized
+	 * with a reference point at the origin.
+	 *
+	 * @param in the stream of requests
+	 * @param out the stream of responses
+	 * @throws IOException if an I/O error occurred
+	 */
+	static void serve(InputStream in, OutputStream out) throws IOException {
+		DataInputStream input = new DataInputStream(
+				new BufferedInputStream(in));
+		DataOutputStream output = new DataOutputStream(
+				new BufferedOutputStream(out));
+
+		while (true) {
+			try {
+				input.readInt();
+			} catch (EOFException e) {
+				break;
+			}
+
+			int id = input.readInt();
+			int numberOfObjectives = input.readInt();
+			int numberOfPoints = input.readInt();
+			double[] referencePoint = new double[numberOfObjectives];
+			double[][] points = new double[numberOfPoints][numberOfObjectives];
+
+			for (int j = 0; j < numberOfObjectives; j++) {
+				referencePoint[j] = input.readDouble();
+			}
+
+			for (int i = 0; i < numberOfPoints; i++) {
+				for (int j = 0; j < numberOfObjectives; j++) {
+					points[i][j] = Math.abs(input.readDouble() -
+							referencePoint[j]);
+				}
+			}
+
+			output.writeInt(12);
+			output.writeInt(id);
+			output.writeDouble(WFGHypervolume.calculate(points,
+					numberOfPoints, numberOfObjectives));
+			output.flush();
+		}
+	}
+
+	/**
+	 * Runs a hypervolume worker on the standard input and output streams.
+	 *
+	 * @param args the command line arguments, which are ignored
+	 * @throws IOException if an I/O error occurred
+	 */
+	public static void main(String[] args) throws IOException {
+		serve(System.in, System.out);
+	}
+
+}
@@ -22,7 +22,11 @@ import org.junit.Test;
 import org.moeaframework.TestUtils;
 import org.moeaframework.analysis.sensitivity.ProblemStub;
 import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.ObjectiveMatrix;
+import org.moeaframework.core.Population;
 import org.moeaframework.core.Settings;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.variable.RealVariable;
 
 /**
  * Tests the {@link Normalizer} class.
@@ -47,6 +51,42 @@ public class NormalizerTest {
 		Assert.assertFalse(population.contains(result.get(1)));
 	}
 	
+	/**
+	 * Tests if normalization skips the decision variables and infeasible
+	 * solutions, and if the matrix form matches the normalized solutions.
+	 */
+	@Test
+	public void testObjectivesOnly() {
+		Population population = new Population();
+		Solution solution = new Solution(1, 2, 0);
+		solution.setVariable(0, new RealVariable(0.5, 0.0, 1.0));
+		solution.setObjectives(new double[] { 0.0, 0.1 });
+		population.add(solution);
+		population.add(TestUtils.newSolution(10.0, -0.1));
+		
+		Solution infeasible = new Solution(0, 2, 1);
+		infeasible.setObjectives(new double[] { 5.0, 0.0 });
+		infeasible.setConstraint(0, 1.0);
+		population.add(infeasible);
+		
+		Normalizer normalizer = new Normalizer(new ProblemStub(2), population);
+		Population result = normalizer.normalize(population);
+		ObjectiveMatrix matrix = normalizer.normalize(
+				population.getObjectiveMatrix());
+		
+		Assert.assertEquals(2, result.size());
+		Assert.assertEquals(0, result.get(0).getNumberOfVariables());
+		Assert.assertEquals(2, matrix.size());
+		
+		for (int i = 0; i < result.size(); i++) {
+			Assert.assertArrayEquals(result.get(i).getObjectives(),
+					matrix.getRow(i), Settings.EPS);
+		}
+		
+		Assert.assertArrayEquals(new double[] { 1.0, 0.0 },
+				matrix.getRow(1), Settings.EPS);
+	}
+	
 	/**
 	 * Tests if a normalized population remains unchanged.
 	 */
@@ -18,10 +18,14 @@
 package org.moeaframework.core.indicator;
 
 import org.junit.After;
+import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.PRNG;
 import org.moeaframework.core.Problem;
+import org.moeaframework.core.Settings;
+import org.moeaframework.core.Solution;
 import org.moeaframework.core.spi.ProblemFactory;
 
 /**
@@ -87,5 +91,89 @@ public class QualityIndicatorTest {
 		qualityIndicator.getMaximumParetoFrontError();
 		qualityIndicator.getSpacing();
 	}
+	
+	@Test
+	public void testMatchesIndividualIndicators() {
+		Problem problem = qualityIndicator.getProblem();
+		NondominatedPopulation referenceSet =
+				qualityIndicator.getReferenceSet();
+		NondominatedPopulation approximationSet = new NondominatedPopulation();
+		
+		for (int i = 0; i < referenceSet.size(); i += 10) {
+			Solution solution = referenceSet.get(i).copy();
+			
+			for (int j = 0; j < solution.getNumberOfObjectives(); j++) {
+				solution.setObjective(j, solution.getObjective(j) *
+						(1.0 + 0.2 * PRNG.nextDouble()));
+			}
+			
+			approximationSet.add(solution);
+		}
+		
+		qualityIndicator.calculate(approximationSet);
+		
+		Assert.assertEquals(new Hypervolume(problem, referenceSet).evaluate(
+				approximationSet), qualityIndicator.getHypervolume(),
+				Settings.EPS);
+		Assert.assertEquals(new GenerationalDistance(problem, referenceSet)
+				.evaluate(approximationSet),
+				qualityIndicator.getGenerationalDistance(), Settings.EPS);
+		Assert.assertEquals(new InvertedGenerationalDistance(problem,
+				referenceSet).evaluate(approximationSet),
+				qualityIndicator.getInvertedGenerationalDistance(),
+				Settings.EPS);
+		Assert.assertEquals(new AdditiveEpsilonIndicator(problem,
+				referenceSet).evaluate(approximationSet),
+				qualityIndicator.getAdditiveEpsilonIndicator(), Settings.EPS);
+		Assert.assertEquals(new MaximumParetoFrontError(problem,
+				referenceSet).evaluate(approximationSet),
+				qualityIndicator.getMaximumParetoFrontError(), Settings.EPS);
+		Assert.assertEquals(new Spacing(problem).evaluate(approximationSet),
+				qualityIndicator.getSpacing(), Settings.EPS);
+	}
+	
+	@Test
+	public void testExtraObjectives() {
+		Problem problem = qualityIndicator.getProblem();
+		NondominatedPopulation referenceSet =
+				qualityIndicator.getReferenceSet();
+		NondominatedPopulation approximationSet = new NondominatedPopulation();
+		NondominatedPopulation extendedSet = new NondominatedPopulation();
+		
+		approximationSet.add(new Solution(new double[] { 0.1, 0.9 }));
+		approximationSet.add(new Solution(new double[] { 0.9, 0.1 }));
+		extendedSet.add(new Solution(new double[] { 0.1, 0.9, 5.0 }));
+		extendedSet.add(new Solution(new double[] { 0.9, 0.1, 5.0 }));
+		
+		Hypervolume hypervolume = new Hypervolume(problem, referenceSet);
+		InvertedGenerationalDistance igd = new InvertedGenerationalDistance(
+				problem, referenceSet);
+		AdditiveEpsilonIndicator epsilon = new AdditiveEpsilonIndicator(
+				problem, referenceSet);
+		
+		Assert.assertTrue(hypervolume.evaluate(approximationSet) > 0.0);
+		Assert.assertEquals(hypervolume.evaluate(approximationSet),
+				hypervolume.evaluate(extendedSet), Settings.EPS);
+		Assert.assertEquals(igd.evaluate(approximationSet),
+				igd.evaluate(extendedSet), Settings.EPS);
+		Assert.assertEquals(epsilon.evaluate(approximationSet),
+				epsilon.evaluate(extendedSet), Settings.EPS);
+		
+		qualityIndicator.calculate(extendedSet);
+		
+		Assert.assertEquals(hypervolume.evaluate(approximationSet),
+				qualityIndicator.getHypervolume(), Settings.EPS);
+		Assert.assertEquals(igd.evaluate(approximationSet),
+				qualityIndicator.getInvertedGenerationalDistance(),
+				Settings.EPS);
+		Assert.assertEquals(epsilon.evaluate(approximationSet),
+				qualityIndicator.getAdditiveEpsilonIndicator(), Settings.EPS);
+		Assert.assertEquals(new GenerationalDistance(problem, referenceSet)
+				.evaluate(approximationSet),
+				qualityIndicator.getGenerationalDistance(), Settings.EPS);
+		Assert.assertEquals(new MaximumParetoFrontError(problem,
+				referenceSet).evaluate(approximationSet),
+				qualityIndicator.getMaximumParetoFrontError(), Settings.EPS);
+	}
 
 }
@@ -0,0 +1,214 @@
+/* Copyright 2009-2020 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.indicator;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Settings;
+
+/**
+ * Tests the {@link WFGHypervolume} class.
+ */
+public class WFGHypervolumeTest {
+
+	/**
+	 * Tests simple cases with known hypervolumes.
+	 */
+	@Test
+	public void testSimple() {
+		Assert.assertEquals(0.0, WFGHypervolume.calculate(new double[0][],
+				0, 3), Settings.EPS);
+
+		Assert.assertEquals(0.24, WFGHypervolume.calculate(new double[][] {
+				{ 0.4, 0.5, 0.6, 2.0 } }, 1, 4), Settings.EPS);
+
+		Assert.assertEquals(0.625, WFGHypervolume.calculate(new double[][] {
+				{ 0.5, 1.0 }, { 1.0, 0.25 }, { 0.25, 0.25 } }, 3, 2),
+				Settings.EPS);
+
+		Assert.assertEquals(0.5, WFGHypervolume.calculate(new double[][] {
+				{ 1.0, 0.5, 0.5 }, { 0.5, 1.0, 0.5 }, { 0.5, 0.5, 1.0 } }, 3,
+				3), Settings.EPS);
+	}
+
+	/**
+	 * Tests if duplicate and dominated points do not change the hypervolume.
+	 */
+	@Test
+	public void testDuplicateAndDominated() {
+		double[][] points = new double[][] {
+				{ 0.9, 0.2, 0.3 },
+				{ 0.2, 0.8, 0.4 },
+				{ 0.9, 0.2, 0.3 },
+				{ 0.1, 0.1, 0.1 },
+				{ 0.2, 0.8, 0.4 } };
+
+		Assert.assertEquals(WFGHypervolume.calculate(points, 2, 3),
+				WFGHypervolume.calculate(points, 5, 3),
+				Settings.EPS);
+	}
+
+	/**
+	 * Tests if the hypervolume matches the inclusion-exclusion formula for
+	 * random points with two to six objectives.
+	 */
+	@Test
+	public void testRandom() {
+		for (int numberOfObjectives = 2; numberOfObjectives <= 6;
+				numberOfObjectives++) {
+			WFGHypervolume hypervolume = new WFGHypervolume(numberOfObjectives);
+
+			for (int i = 0; i < 50; i++) {
+				double[][] points = new double[PRNG.nextInt(1, 12)]
+						[numberOfObjectives];
+
+				for (int j = 0; j < points.length; j++) {
+					for (int k = 0; k < numberOfObjectives; k++) {
+						// round to create ties between the points
+						points[j][k] = PRNG.nextInt(11) / 10.0;
+					}
+				}
+
+				Assert.assertEquals(inclusionExclusion(points),
+						hypervolume.evaluate(points, points.length),
+						Settings.EPS);
+			}
+		}
+	}
+
+	/**
+	 * Tests if the three-objective sweep matches the sum of the
+	 * two-objective hypervolumes of each slice along the third objective.
+	 */
+	@Test
+	public void testSlices() {
+		for (int i = 0; i < 10; i++) {
+			double[][] points = new double[500][3];
+
+			for (int j = 0; j < points.length; j++) {
+				for (int k = 0; k < 3; k++) {
+					points[j][k] = (i % 2 == 0) ? PRNG.nextDouble() :
+						PRNG.nextInt(21) / 20.0;
+				}
+			}
+
+			Assert.assertEquals(slices(points),
+					WFGHypervolume.calculate(points, points.length, 3),
+					Settings.EPS);
+		}
+	}
+
+	/**
+	 * Tests if the points passed to the calculation are not modified.
+	 */
+	@Test
+	public void testUnmodified() {
+		double[][] points = new double[][] {
+				{ 0.5, 0.5, 0.5 },
+				{ 0.9, 0.2, 0.3 },
+				{ 0.2, 0.8, 0.4 } };
+		double[] first = points[0];
+
+		WFGHypervolume.calculate(points, 3, 3);
+
+		Assert.assertSame(first, points[0]);
+		Assert.assertArrayEquals(new double[] { 0.9, 0.2, 0.3 }, points[1],
+				0.0);
+	}
+
+	/**
+	 * Computes the hypervolume of three-objective points by summing the area
+	 * of each slice along the third objective times the height of the slice.
+	 *
+	 * @param points the points
+	 * @return the hypervolume of the points
+	 */
+	private double slices(double[][] points) {
+		double[] heights = new double[points.length];
+
+		for (int i = 0; i < points.length; i++) {
+			heights[i] = points[i][2];
+		}
+
+		Arrays.sort(heights);
+
+		double volume = 0.0;
+		double bottom = 0.0;
+
+		for (double top : heights) {
+			double[][] slice = new double[points.length][];
+			int size = 0;
+
+			for (double[] point : points) {
+				if (point[2] >= top) {
+					slice[size++] = point;
+				}
+			}
+
+			volume += (top - bottom) * WFGHypervolume.calculate(slice, size, 2);
+			bottom = top;
+		}
+
+		return volume;
+	}
+
+	/**
+	 * Computes the hypervolume using the inclusion-exclusion formula, summing
+	 * the volume of the intersection of every subset of the points.
+	 *
+	 * @param points the points
+	 * @return the hypervolume of the points
+	 */
+	private double inclusionExclusion(double[][] points) {
+		double volume = 0.0;
+
+		for (int subset = 1; subset < (1 << points.length); subset++) {
+			double[] intersection = null;
+			int count = 0;
+
+			for (int i = 0; i < points.length; i++) {
+				if ((subset & (1 << i)) != 0) {
+					count++;
+
+					if (intersection == null) {
+						intersection = points[i].clone();
+					} else {
+						for (int j = 0; j < intersection.length; j++) {
+							intersection[j] = Math.min(intersection[j],
+									points[i][j]);
+						}
+					}
+				}
+			}
+
+			double product = 1.0;
+
+			for (int j = 0; j < intersection.length; j++) {
+				product *= intersection[j];
+			}
+
+			volume += (count % 2 == 1) ? product : -product;
+		}
+
+		return volume;
+	}
+
+}
@@ -0,0 +1,250 @@
+/* Copyright 2009-2020 David Hadka
+ *
+ * This file is part of the MOEA Framework.
+ *
+ * The MOEA Framework is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * The MOEA Framework is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with the MOEA Framework.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.moeaframework.core.variable;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Settings;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.Variation;
+import org.moeaframework.core.operator.real.PM;
+import org.moeaframework.core.operator.real.SBX;
+
+/**
+ * Tests the {@link RealVectorSolution} class.
+ */
+public class RealVectorSolutionTest {
+
+	/**
+	 * The shared solution used by these tests.
+	 */
+	private RealVectorSolution solution;
+
+	/**
+	 * Constructs the shared solution used by these tests.
+	 */
+	@Before
+	public void setUp() {
+		solution = new RealVectorSolution(new double[] { 0.0, -1.0 },
+				new double[] { 1.0, 1.0 }, 2, 1);
+		solution.setValue(0, 0.5);
+		solution.setValue(1, -0.5);
+		solution.setObjective(0, 1.0);
+		solution.setObjective(1, 2.0);
+		solution.setConstraint(0, 3.0);
+	}
+
+	/**
+	 * Removes references to shared objects so they can be garbage collected.
+	 */
+	@After
+	public void tearDown() {
+		solution = null;
+	}
+
+	/**
+	 * Tests if the values are initially {@code NaN}.
+	 */
+	@Test
+	public void testEmptyConstructor() {
+		RealVectorSolution empty = new RealVectorSolution(new double[2],
+				new double[2], 1, 0);
+
+		Assert.assertEquals(2, empty.getNumberOfVariables());
+		Assert.assertTrue(Double.isNaN(empty.getValue(0)));
+		Assert.assertTrue(Double.isNaN(empty.getValue(1)));
+	}
+
+	/**
+	 * Tests if the views returned by {@code getVariable} read and write the
+	 * values stored in the solution.
+	 */
+	@Test
+	public void testViews() {
+		RealVariable variable = solution.getVariable(1);
+
+		Assert.assertSame(variable, solution.getVariable(1));
+		Assert.assertEquals(-0.5, variable.getValue(), Settings.EPS);
+		Assert.assertEquals(-1.0, variable.getLowerBound(), Settings.EPS);
+		Assert.assertEquals(1.0, variable.getUpperBound(), Settings.EPS);
+
+		variable.setValue(0.25);
+		Assert.assertEquals(0.25, solution.getValue(1), Settings.EPS);
+
+		solution.setValue(1, 0.75);
+		Assert.assertEquals(0.75, variable.getValue(), Settings.EPS);
+
+		RealVariable copy = variable.copy();
+		Assert.assertEquals(RealVariable.class, copy.getClass());
+		Assert.assertEquals(new RealVariable(0.75, -1.0, 1.0), copy);
+
+		// views are equal to plain variables with the same value and bounds
+		Assert.assertEquals(copy, variable);
+		Assert.assertEquals(variable, copy);
+		Assert.assertEquals(copy.hashCode(), variable.hashCode());
+		Assert.assertFalse(variable.equals(new RealVariable(0.75, -1.0,
+				2.0)));
+
+		variable.randomize();
+		Assert.assertEquals(0.75, copy.getValue(), Settings.EPS);
+		Assert.assertEquals(variable.getValue(), solution.getValue(1),
+				Settings.EPS);
+	}
+
+	/**
+	 * Tests if copies are independent of the original solution.
+	 */
+	@Test
+	public void testCopy() {
+		RealVectorSolution copy = solution.copy();
+
+		Assert.assertEquals(2, copy.getNumberOfVariables());
+		Assert.assertEquals(0.5, copy.getValue(0), Settings.EPS);
+		Assert.assertEquals(-0.5, copy.getValue(1), Settings.EPS);
+		Assert.assertEquals(2.0, copy.getObjective(1), Settings.EPS);
+		Assert.assertEquals(3.0, copy.getConstraint(0), Settings.EPS);
+
+		copy.setValue(0, 0.0);
+		copy.getVariable(1).setValue(0.0);
+		copy.setVariable(0, new RealVariable(2.0, 0.0, 10.0));
+
+		Assert.assertEquals(0.5, solution.getValue(0), Settings.EPS);
+		Assert.assertEquals(-0.5, solution.getValue(1), Settings.EPS);
+		Assert.assertEquals(1.0, solution.getUpperBound(0), Settings.EPS);
+		Assert.assertEquals(10.0, copy.getUpperBound(0), Settings.EPS);
+		Assert.assertEquals(2.0, copy.getVariable(0).getValue(),
+				Settings.EPS);
+	}
+
+	/**
+	 * Tests if a solution containing {@link RealVariable}s is converted
+	 * correctly.
+	 */
+	@Test
+	public void testConvert() {
+		Solution original = new Solution(2, 1, 1);
+		original.setVariable(0, new RealVariable(0.5, 0.0, 1.0));
+		original.setVariable(1, new RealVariable(5.0, 0.0, 10.0));
+		original.setObjective(0, 1.0);
+		original.setConstraint(0, 2.0);
+
+		Assert.assertTrue(RealVectorSolution.isRealVector(original));
+
+		RealVectorSolution converted = new RealVectorSolution(original);
+
+		Assert.assertEquals(original.getVariable(0),
+				converted.getVariable(0).copy());
+		Assert.assertEquals(original.getVariable(1),
+				converted.getVariable(1).copy());
+		Assert.assertEquals(1.0, converted.getObjective(0), Settings.EPS);
+		Assert.assertEquals(2.0, converted.getConstraint(0), Settings.EPS);
+	}
+
+	/**
+	 * Tests if solutions with other types of decision variables are
+	 * rejected.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testConvertNonReal() {
+		Solution original = new Solution(2, 1);
+		original.setVariable(0, new RealVariable(0.5, 0.0, 1.0));
+		original.setVariable(1, new BinaryVariable(2));
+
+		Assert.assertFalse(RealVectorSolution.isRealVector(original));
+
+		new RealVectorSolution(original);
+	}
+
+	/**
+	 * Tests if setting a value out of bounds throws an exception.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testSetValueOutOfBounds() {
+		solution.getVariable(0).setValue(1.5);
+	}
+
+	/**
+	 * Tests if {@link EncodingUtils} reads and writes the values directly.
+	 */
+	@Test
+	public void testEncodingUtils() {
+		Assert.assertArrayEquals(new double[] { 0.5, -0.5 },
+				EncodingUtils.getReal(solution), Settings.EPS);
+		Assert.assertArrayEquals(new double[] { -0.5 },
+				EncodingUtils.getReal(solution, 1, 2), Settings.EPS);
+
+		EncodingUtils.setReal(solution, new double[] { 0.25, 0.75 });
+		Assert.assertEquals(0.25, solution.getValue(0), Settings.EPS);
+		Assert.assertEquals(0.75, solution.getValue(1), Settings.EPS);
+	}
+
+	/**
+	 * Tests if {@link SBX} and {@link PM} produce the same offspring for
+	 * {@code RealVectorSolution}s and solutions storing {@link RealVariable}s.
+	 */
+	@Test
+	public void testOperators() {
+		Solution[] parents = new Solution[] { new Solution(10, 0),
+				new Solution(10, 0) };
+
+		for (int i = 0; i < 10; i++) {
+			parents[0].setVariable(i, new RealVariable(PRNG.nextDouble(),
+					0.0, 1.0));
+			parents[1].setVariable(i, new RealVariable(PRNG.nextDouble(),
+					0.0, 1.0));
+		}
+
+		Solution[] vectorParents = new Solution[] {
+				new RealVectorSolution(parents[0]),
+				new RealVectorSolution(parents[1]) };
+
+		assertSameOffspring(new SBX(1.0, 15.0), parents, vectorParents);
+		assertSameOffspring(new SBX(1.0, 15.0, true, true), parents,
+				vectorParents);
+		assertSameOffspring(new PM(0.5, 20.0), parents, vectorParents);
+	}
+
+	/**
+	 * Asserts that the operator produces the same offspring for both sets of
+	 * parents when started from the same random seed.
+	 *
+	 * @param variation the variation operator
+	 * @param parents the parents storing {@link RealVariable}s
+	 * @param vectorParents the parents stored as {@code RealVectorSolution}s
+	 */
+	private void assertSameOffspring(Variation variation, Solution[] parents,
+			Solution[] vectorParents) {
+		for (int i = 0; i < 10; i++) {
+			PRNG.setSeed(i);
+			Solution[] expected = variation.evolve(parents);
+
+			PRNG.setSeed(i);
+			Solution[] actual = variation.evolve(vectorParents);
+
+			for (int j = 0; j < expected.length; j++) {
+				Assert.assertTrue(actual[j] instanceof RealVectorSolution);
+				Assert.assertArrayEquals(EncodingUtils.getReal(expected[j]),
+						EncodingUtils.getReal(actual[j]), 0.0);
+			}
+		}
+	}
+
+}
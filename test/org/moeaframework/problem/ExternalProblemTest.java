@@ -141,6 +141,129 @@ public class ExternalProblemTest {
 		});
 	}
 	
+	@Test
+	public void testBatch() throws Exception {
+		final boolean[] isVerified = new boolean[1];
+		
+		Thread producerThread = new Thread() {
+			public void run() {
+				Solution[] solutions = new Solution[200];
+				
+				for (int i=0; i<solutions.length; i++) {
+					solutions[i] = problem.newSolution();
+				}
+				
+				problem.evaluateAll(solutions);
+				
+				for (int i=0; i<solutions.length; i++) {
+					Assert.assertEquals(i, solutions[i].getObjective(0), Settings.EPS);
+					Assert.assertEquals(0.8, solutions[i].getObjective(1), Settings.EPS);
+					Assert.assertEquals(0.5, solutions[i].getConstraint(0), Settings.EPS);
+				}
+				
+				isVerified[0] = true;
+				problem.close();
+			}
+		};
+		
+		// the pipes hold only 1024 bytes, so sending every solution before
+		// reading the responses would block both threads
+		run(producerThread, new Thread() {
+			public void run() {
+				BufferedReader reader = null;
+				PrintStream writer = null;
+				
+				try {
+					String line = null;
+					int count = 0;
+					reader = new BufferedReader(new InputStreamReader(i2));
+					writer = new PrintStream(o1);
+	
+					while ((line = reader.readLine()) != null) {
+						String[] tokens = line.split("\\s+");
+	
+						Assert.assertEquals(4, tokens.length);
+	
+						writer.println(count++ + " 0.8 0.5");
+						writer.flush();
+					}
+				} catch (IOException e) {
+					throw new RuntimeException(e);
+				} finally {
+					try {
+						if (reader != null) {
+							reader.close();
+						}
+						
+						if (writer != null) {
+							writer.close();
+						}
+					} catch (IOException e) {
+						throw new RuntimeException(e);
+					}
+				}
+			}
+		});
+		
+		Assert.assertTrue(isVerified[0]);
+	}
+	
+	@Test
+	public void testBatchWithOverriddenEvaluate() throws Exception {
+		final int[] count = new int[1];
+		
+		// the pipes are never used since evaluate does not call super
+		ExternalProblem problem = new ExternalProblem(i1, o2) {
+
+			@Override
+			public String getName() {
+				return "Test";
+			}
+
+			@Override
+			public int getNumberOfVariables() {
+				return 1;
+			}
+
+			@Override
+			public int getNumberOfObjectives() {
+				return 1;
+			}
+
+			@Override
+			public int getNumberOfConstraints() {
+				return 0;
+			}
+
+			@Override
+			public Solution newSolution() {
+				Solution solution = new Solution(1, 1);
+				solution.setVariable(0, new RealVariable(0.5, 0.0, 1.0));
+				return solution;
+			}
+			
+			@Override
+			public void evaluate(Solution solution) {
+				solution.setObjective(0, count[0]++);
+			}
+			
+		};
+		
+		Solution[] solutions = new Solution[10];
+		
+		for (int i=0; i<solutions.length; i++) {
+			solutions[i] = problem.newSolution();
+		}
+		
+		problem.evaluateAll(solutions);
+		
+		Assert.assertEquals(solutions.length, count[0]);
+		
+		for (int i=0; i<solutions.length; i++) {
+			Assert.assertEquals(i, solutions[i].getObjective(0), Settings.EPS);
+		}
+	}
+	
 	public void run(Thread consumerThread) throws Exception {
 		Thread producerThread = new Thread() {
 			public void run() {
@@ -156,6 +279,11 @@ public class ExternalProblemTest {
 			}
 		};
 		
+		run(producerThread, consumerThread);
+	}
+	
+	public void run(Thread producerThread, Thread consumerThread)
+			throws Exception {
 		producerThread.start();
 		consumerThread.start();
 		
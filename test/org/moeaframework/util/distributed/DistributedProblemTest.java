@@ -17,16 +17,22 @@
  */
 package org.moeaframework.util.distributed;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
 import org.junit.Assert;
 import org.junit.Test;
 import org.moeaframework.Executor;
+import org.moeaframework.core.BatchProblem;
 import org.moeaframework.core.NondominatedPopulation;
 import org.moeaframework.core.PRNG;
 import org.moeaframework.core.Population;
 import org.moeaframework.core.Problem;
+import org.moeaframework.core.Settings;
 import org.moeaframework.core.Solution;
 import org.moeaframework.problem.AbstractProblem;
 import org.moeaframework.problem.MockRealProblem;
@@ -181,6 +187,83 @@ public class DistributedProblemTest {
 				- (System.currentTimeMillis() - startTime)) < 1000);
 	}
 	
+	/**
+	 * Tests if a batch is evaluated by a single job when the problem is a
+	 * {@link BatchProblem}.
+	 */
+	@Test
+	public void testBatchProblem() {
+		final List<Integer> batchSizes =
+				Collections.synchronizedList(new ArrayList<Integer>());
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		
+		class TestBatchProblem extends AbstractProblem implements
+		BatchProblem {
+			
+			public TestBatchProblem() {
+				super(0, 1);
+			}
+
+			@Override
+			public void evaluate(Solution solution) {
+				Assert.fail("solutions should be evaluated in batches");
+			}
+
+			@Override
+			public void evaluateAll(Solution[] solutions) {
+				batchSizes.add(solutions.length);
+				
+				for (int i = 0; i < solutions.length; i++) {
+					solutions[i].setObjective(0, i);
+				}
+			}
+
+			@Override
+			public Solution newSolution() {
+				return new Solution(0, 1);
+			}
+			
+		}
+		
+		try {
+			DistributedProblem problem = new DistributedProblem(
+					new TestBatchProblem(), executor);
+			Solution[] solutions = new Solution[10];
+			
+			for (int i = 0; i < solutions.length; i++) {
+				solutions[i] = problem.newSolution();
+			}
+			
+			// without a batch size, one batch is sent to each worker
+			problem.evaluateAll(solutions);
+			
+			for (int i = 0; i < solutions.length; i++) {
+				Assert.assertEquals(i % 5, solutions[i].getObjective(0), 0.0);
+			}
+			
+			Assert.assertEquals(Arrays.asList(5, 5), batchSizes);
+			
+			// with a batch size, each batch is evaluated by a single job
+			Settings.PROPERTIES.setInt(Settings.KEY_BATCH_SIZE, 10);
+			batchSizes.clear();
+			
+			for (int i = 0; i < solutions.length; i++) {
+				solutions[i] = problem.newSolution();
+			}
+			
+			problem.evaluateAll(solutions);
+			
+			for (int i = 0; i < solutions.length; i++) {
+				Assert.assertEquals(i, solutions[i].getObjective(0), 0.0);
+			}
+			
+			Assert.assertEquals(Arrays.asList(10), batchSizes);
+		} finally {
+			Settings.PROPERTIES.remove(Settings.KEY_BATCH_SIZE);
+			executor.shutdown();
+		}
+	}
+	
 	@Test
 	public void testReplicabilityOfStochasticDistributedProblem() {		
 		double bestSingle = getResultFromStochasticRun(1);